@@ -0,0 +1,113 @@
+// Copyright 2025 Google LLC
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package com.google.ads.mediation.adapterbenchmark
+
+import java.io.File
+import java.util.concurrent.TimeUnit
+import java.util.regex.Pattern
+import org.junit.Assume.assumeTrue
+import org.openjdk.jmh.annotations.Mode
+import org.openjdk.jmh.profile.GCProfiler
+import org.openjdk.jmh.results.RunResult
+import org.openjdk.jmh.results.format.ResultFormatType
+import org.openjdk.jmh.runner.Runner
+import org.openjdk.jmh.runner.options.OptionsBuilder
+import org.openjdk.jmh.runner.options.TimeValue
+
+/**
+ * Runs an adapter's JMH benchmarks from a JVM unit test, and reports the latency and allocation of
+ * each benchmarked operation.
+ *
+ * Benchmarks drive adapter code against hand-written fakes of SDK wrappers and Android framework
+ * objects, such as [FakeContext], without Robolectric, so they measure the adapter code rather than
+ * the framework or a mocking library. They are slow, so they
+ * only run when the `ADAPTER_BENCHMARKS` environment variable is set, for example:
+ * ```
+ * ADAPTER_BENCHMARKS=1 ./gradlew :inmobi:testDebugUnitTest --tests '*BenchmarkTest'
+ * ```
+ *
+ * Set `ADAPTER_BENCHMARKS_OUTPUT` to a directory to also write the results as JSON, in a file per
+ * benchmark class, to compare them across adapter updates.
+ */
+object AdapterBenchmarkRunner {
+
+  /** Environment variable that enables benchmark runs. */
+  const val ENV_ENABLED = "ADAPTER_BENCHMARKS"
+
+  /** Environment variable with the directory that JSON results are written to. */
+  const val ENV_OUTPUT_DIR = "ADAPTER_BENCHMARKS_OUTPUT"
+
+  /** JMH's per-operation allocation metric, reported by [GCProfiler]. */
+  private const val ALLOCATION_METRIC = "gc.alloc.rate.norm"
+
+  /** Latency and allocation of one benchmarked operation. */
+  data class BenchmarkResult(
+    /** The benchmark method, as `Class.method`. */
+    val name: String,
+    /** The average time that an operation took, in nanoseconds. */
+    val nanosPerOp: Double,
+    /** The average number of bytes that an operation allocated, or NaN if it wasn't measured. */
+    val bytesPerOp: Double,
+  )
+
+  /** Returns whether benchmarks were enabled with [ENV_ENABLED]. */
+  @JvmStatic fun isEnabled(): Boolean = !System.getenv(ENV_ENABLED).isNullOrEmpty()
+
+  /**
+   * Runs the benchmarks declared in [benchmarkClass], prints their results and returns them. The
+   * calling test is skipped unless benchmarks were enabled with [ENV_ENABLED].
+   */
+  @JvmStatic
+  fun run(benchmarkClass: Class<*>): List<BenchmarkResult> {
+    assumeTrue("Set $ENV_ENABLED to run benchmarks.", isEnabled())
+
+    val optionsBuilder =
+      OptionsBuilder()
+        .include(Pattern.quote(benchmarkClass.name) + "\\.")
+        // Runs the benchmarks in a fresh JVM, on the unit test classpath, so that the JIT profile
+        // and heap left by other tests in the Gradle test JVM don't skew the results.
+        .forks(1)
+        .mode(Mode.AverageTime)
+        .warmupIterations(3)
+        .warmupTime(TimeValue.seconds(1))
+        .measurementIterations(5)
+        .measurementTime(TimeValue.seconds(1))
+        .timeUnit(TimeUnit.NANOSECONDS)
+        .addProfiler(GCProfiler::class.java)
+    System.getenv(ENV_OUTPUT_DIR)?.let { outputDir ->
+      File(outputDir).mkdirs()
+      optionsBuilder
+        .resultFormat(ResultFormatType.JSON)
+        .result(File(outputDir, "${benchmarkClass.simpleName}.json").path)
+    }
+
+    val results = Runner(optionsBuilder.build()).run().map(::toBenchmarkResult)
+    results.forEach {
+      println("%-70s %12.1f ns/op %12.1f B/op".format(it.name, it.nanosPerOp, it.bytesPerOp))
+    }
+    return results
+  }
+
+  private fun toBenchmarkResult(runResult: RunResult): BenchmarkResult {
+    val result = runResult.aggregatedResult
+    // Drops the package from the fully qualified benchmark method name.
+    val method = runResult.params.benchmark.split('.').takeLast(2).joinToString(".")
+    return BenchmarkResult(
+      name = method,
+      nanosPerOp = result.primaryResult.score,
+      bytesPerOp = result.secondaryResults[ALLOCATION_METRIC]?.score ?: Double.NaN,
+    )
+  }
+}
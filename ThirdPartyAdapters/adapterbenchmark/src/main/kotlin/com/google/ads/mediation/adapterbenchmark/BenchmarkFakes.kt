@@ -0,0 +1,164 @@
+// Copyright 2025 Google LLC
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package com.google.ads.mediation.adapterbenchmark
+
+import android.content.Context
+import android.content.ContextWrapper
+import android.content.SharedPreferences
+import android.content.res.Configuration
+import android.content.res.Resources
+import android.util.DisplayMetrics
+import com.google.android.gms.ads.AdError
+import com.google.android.gms.ads.mediation.rtb.SignalCallbacks
+
+/**
+ * A [Context] whose resources describe a display with the given density and size, and whose shared
+ * preferences are empty.
+ *
+ * Unit tests run against stubs of the Android framework, so benchmarks that don't use Robolectric
+ * pass this fake wherever adapter code reads the display or shared preferences. Only the framework
+ * objects' constructors and public fields are used, as stubbed methods can't be called.
+ */
+class FakeContext
+@JvmOverloads
+constructor(density: Float = 2.0f, screenWidthDp: Int = 360, screenHeightDp: Int = 640) :
+  ContextWrapper(null) {
+
+  private val fakeDisplayMetrics =
+    DisplayMetrics().apply {
+      this.density = density
+      densityDpi = (density * DisplayMetrics.DENSITY_DEFAULT).toInt()
+      widthPixels = (screenWidthDp * density).toInt()
+      heightPixels = (screenHeightDp * density).toInt()
+    }
+
+  private val fakeConfiguration =
+    Configuration().apply {
+      densityDpi = fakeDisplayMetrics.densityDpi
+      orientation = Configuration.ORIENTATION_PORTRAIT
+      this.screenWidthDp = screenWidthDp
+      this.screenHeightDp = screenHeightDp
+    }
+
+  @Suppress("DEPRECATION")
+  private val fakeResources =
+    object : Resources(null, fakeDisplayMetrics, fakeConfiguration) {
+      override fun getDisplayMetrics(): DisplayMetrics = fakeDisplayMetrics
+
+      override fun getConfiguration(): Configuration = fakeConfiguration
+    }
+
+  private val fakeSharedPreferences = FakeSharedPreferences()
+
+  override fun getApplicationContext(): Context = this
+
+  override fun getResources(): Resources = fakeResources
+
+  override fun getSharedPreferences(name: String?, mode: Int): SharedPreferences =
+    fakeSharedPreferences
+}
+
+/** [SharedPreferences] held in memory. Edits are applied right away and listeners aren't called. */
+class FakeSharedPreferences : SharedPreferences {
+
+  private val values = HashMap<String, Any?>()
+
+  override fun getAll(): Map<String, *> = HashMap(values)
+
+  override fun getString(key: String?, defValue: String?): String? =
+    values[key] as? String ?: defValue
+
+  @Suppress("UNCHECKED_CAST")
+  override fun getStringSet(key: String?, defValues: Set<String>?): Set<String>? =
+    values[key] as? Set<String> ?: defValues
+
+  override fun getInt(key: String?, defValue: Int): Int = values[key] as? Int ?: defValue
+
+  override fun getLong(key: String?, defValue: Long): Long = values[key] as? Long ?: defValue
+
+  override fun getFloat(key: String?, defValue: Float): Float = values[key] as? Float ?: defValue
+
+  override fun getBoolean(key: String?, defValue: Boolean): Boolean =
+    values[key] as? Boolean ?: defValue
+
+  override fun contains(key: String?): Boolean = values.containsKey(key)
+
+  override fun edit(): SharedPreferences.Editor = Editor()
+
+  override fun registerOnSharedPreferenceChangeListener(
+    listener: SharedPreferences.OnSharedPreferenceChangeListener?
+  ) {}
+
+  override fun unregisterOnSharedPreferenceChangeListener(
+    listener: SharedPreferences.OnSharedPreferenceChangeListener?
+  ) {}
+
+  private inner class Editor : SharedPreferences.Editor {
+
+    override fun putString(key: String, value: String?) = put(key, value)
+
+    override fun putStringSet(key: String, values: Set<String>?) = put(key, values?.toSet())
+
+    override fun putInt(key: String, value: Int) = put(key, value)
+
+    override fun putLong(key: String, value: Long) = put(key, value)
+
+    override fun putFloat(key: String, value: Float) = put(key, value)
+
+    override fun putBoolean(key: String, value: Boolean) = put(key, value)
+
+    override fun remove(key: String): SharedPreferences.Editor {
+      values.remove(key)
+      return this
+    }
+
+    override fun clear(): SharedPreferences.Editor {
+      values.clear()
+      return this
+    }
+
+    override fun commit(): Boolean = true
+
+    override fun apply() {}
+
+    private fun put(key: String, value: Any?): SharedPreferences.Editor {
+      if (value == null) values.remove(key) else values[key] = value
+      return this
+    }
+  }
+}
+
+/** [SignalCallbacks] that keep the last signals or error they received. */
+class FakeSignalCallbacks : SignalCallbacks {
+
+  /** The last signals that were collected, if any. */
+  var signals: String? = null
+    private set
+
+  /** The last error that signal collection failed with, if any. */
+  var error: AdError? = null
+    private set
+
+  override fun onSuccess(signals: String) {
+    this.signals = signals
+  }
+
+  override fun onFailure(adError: AdError) {
+    error = adError
+  }
+
+  @Deprecated("Deprecated in SignalCallbacks.")
+  override fun onFailure(errorMessage: String) {}
+}
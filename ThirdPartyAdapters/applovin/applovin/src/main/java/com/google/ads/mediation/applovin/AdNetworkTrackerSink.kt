@@ -0,0 +1,123 @@
+// Copyright 2025 Google LLC
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package com.google.ads.mediation.applovin
+
+import android.util.Log
+import com.astarsoftware.android.ads.AdNetworkTracker
+import com.astarsoftware.dependencies.DependencyInjector
+import com.google.ads.mediation.common.AdAttribution
+import com.google.ads.mediation.common.AdEventPipeline
+import java.util.TreeMap
+
+/**
+ * Forwards the load events of every adapter's [AdEventPipeline] to the app's [AdNetworkTracker],
+ * which is looked up through the app's [DependencyInjector] on each batch.
+ *
+ * The common module doesn't depend on the app's libraries, so this adapter, which already does,
+ * installs the sink at startup. The tracker is called on the pipeline's flush thread rather than on
+ * the thread that reported the load. The tracker only takes loads, so impression and click events
+ * are not forwarded.
+ *
+ * The tracker's data predates [AdAttribution], so each network's attribution is sent with the keys
+ * and conventions that network's adapter used before, rather than with [AdAttribution.toMap]'s
+ * shared keys. Moving the tracker to the shared keys requires migrating its stored data first.
+ */
+// astar
+object AdNetworkTrackerSink : AdEventPipeline.Sink {
+
+  private const val TAG = "AdNetworkTrackerSink"
+
+  /** The mediation platform that loaded the ad. */
+  private const val MEDIATOR_ADMOB = "admob"
+
+  private const val NETWORK_APPLOVIN = "applovin"
+  private const val NETWORK_DIGITAL_TURBINE = "digital_turbine"
+  private const val NETWORK_IRONSOURCE = "ironsource"
+  private const val NETWORK_LIFTOFF = "liftoff"
+
+  /** Installs this sink on the shared pipeline, unless the app installed a sink of its own. */
+  @JvmStatic
+  fun install() {
+    val pipeline = AdEventPipeline.getInstance()
+    synchronized(pipeline) {
+      if (pipeline.sink == null) {
+        pipeline.sink = this
+      }
+    }
+  }
+
+  override fun onEvents(events: List<AdEventPipeline.Event>) {
+    val tracker: AdNetworkTracker? =
+      DependencyInjector.getObjectWithClass(AdNetworkTracker::class.java)
+    if (tracker == null) {
+      // The tracker may not be registered yet early in app startup.
+      Log.w(TAG, "AdNetworkTracker isn't available. Dropped ${events.size} ad events.")
+      return
+    }
+    for (event in events) {
+      if (event.type == AdEventPipeline.EventType.LOAD) {
+        tracker.adDidLoadForNetwork(
+          event.network,
+          MEDIATOR_ADMOB,
+          event.format,
+          toTrackerMap(event.network, event.format, event.attribution),
+        )
+      }
+    }
+  }
+
+  /** Returns [attribution] keyed the way [network]'s adapter reported loads to the tracker. */
+  internal fun toTrackerMap(
+    network: String,
+    format: String,
+    attribution: AdAttribution,
+  ): Map<String, Any> =
+    when (network) {
+      NETWORK_APPLOVIN ->
+        // Only the app open ad is loaded through MAX.
+        if (format == AdEventPipeline.FORMAT_APP_OPEN) {
+          HashMap<String, Any>().apply {
+            attribution.creativeId?.let { put("creative_id", it) }
+            attribution.demandSourceName?.let { put("network_name", it) }
+          }
+        } else {
+          HashMap<String, Any>().apply {
+            attribution.advertiserDomain?.let { put("ad_domain", it) }
+            // The ad ID number was sent as a number.
+            attribution.creativeId?.let { put("ad_id_number", it.toLongOrNull() ?: it) }
+            attribution.demandSourceId?.let { put("dsp_id", it) }
+            attribution.demandSourceName?.let { put("dsp_name", it) }
+          }
+        }
+      NETWORK_DIGITAL_TURBINE ->
+        HashMap<String, Any>().apply {
+          attribution.creativeId?.let { put("creative_id", it) }
+          attribution.advertiserDomain?.let { put("advertiser_domain", it) }
+          attribution.campaignId?.let { put("campaign_id", it) }
+          attribution.impressionId?.let { put("impression_id", it) }
+          attribution.demandSourceName?.let { put("demand_source", it) }
+        }
+      // Missing fields were sent as empty strings.
+      NETWORK_IRONSOURCE -> hashMapOf("creative_id" to attribution.creativeId.orEmpty())
+      NETWORK_LIFTOFF ->
+        TreeMap<String, Any>().apply {
+          put("creative_id", attribution.creativeId.orEmpty())
+          put("placement_id", attribution.placementId.orEmpty())
+          put("event_id", attribution.impressionId.orEmpty())
+        }
+      // InMobi and any other network only report keys that match the shared ones.
+      else -> attribution.toMap()
+    }
+}
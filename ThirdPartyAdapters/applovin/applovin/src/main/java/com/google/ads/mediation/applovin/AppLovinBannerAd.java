@@ -19,6 +19,7 @@ import static com.google.ads.mediation.applovin.AppLovinMediationAdapter.ERROR_D
 import static com.google.ads.mediation.applovin.AppLovinMediationAdapter.ERROR_MISSING_SDK_KEY;
 import static com.google.ads.mediation.applovin.AppLovinMediationAdapter.ERROR_MSG_BANNER_SIZE_MISMATCH;
 import static com.google.ads.mediation.applovin.AppLovinMediationAdapter.ERROR_MSG_MISSING_SDK;
+import static com.google.ads.mediation.common.AdEventPipeline.FORMAT_BANNER;
 
 import android.content.Context;
 import android.os.Bundle;
@@ -27,11 +28,11 @@ import android.util.Log;
 import android.view.View;
 
 import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
 
 import com.applovin.adview.AppLovinAdView;
 import com.applovin.adview.AppLovinAdViewDisplayErrorCode;
 import com.applovin.adview.AppLovinAdViewEventListener;
-import com.applovin.impl.sdk.AppLovinAdBase;
 import com.applovin.mediation.AppLovinUtils;
 import com.applovin.mediation.AppLovinUtils.ServerParameterKeys;
 import com.applovin.sdk.AppLovinAd;
@@ -40,9 +41,9 @@ import com.applovin.sdk.AppLovinAdDisplayListener;
 import com.applovin.sdk.AppLovinAdLoadListener;
 import com.applovin.sdk.AppLovinAdSize;
 import com.applovin.sdk.AppLovinSdk;
-import com.astarsoftware.android.ads.AdNetworkTracker;
-import com.astarsoftware.dependencies.DependencyInjector;
 import com.google.ads.mediation.applovin.AppLovinInitializer.OnInitializeSuccessListener;
+import com.google.ads.mediation.common.AdAttribution;
+import com.google.ads.mediation.common.AdEventPipeline;
 import com.google.android.gms.ads.AdError;
 import com.google.android.gms.ads.AdSize;
 import com.google.android.gms.ads.mediation.MediationAdLoadCallback;
@@ -75,6 +76,9 @@ public class AppLovinBannerAd
       mediationAdLoadCallback;
   private MediationBannerAdCallback bannerAdCallback;
 
+  // astar
+  @Nullable private AdAttribution attribution;
+
   private static final String TAG = AppLovinBannerAd.class.getSimpleName();
 
   private AppLovinBannerAd(
@@ -167,12 +171,9 @@ public class AppLovinBannerAd
     appLovinAdViewWrapper.renderAd(ad);
 
 	  //astar
-	  if(ad instanceof AppLovinAdBase) {
-		  AppLovinAdBase adBase = (AppLovinAdBase)ad;
-		  AdNetworkTracker adTracker = DependencyInjector.getObjectWithClass(AdNetworkTracker.class);
-		  adTracker.adDidLoadForNetwork("applovin", "admob", "banner",
-			  AstarAppLovinUtils.getNetworkInfo(adBase));
-
+	  attribution = AstarAppLovinUtils.getAttribution(ad);
+	  if (attribution != null) {
+	    AdEventPipeline.getInstance().recordLoad("applovin", FORMAT_BANNER, attribution);
 	  }
 
     bannerAdCallback = mediationAdLoadCallback.onSuccess(this);
@@ -189,6 +190,7 @@ public class AppLovinBannerAd
   @Override
   public void adDisplayed(AppLovinAd ad) {
     Log.d(TAG, "Banner displayed.");
+    AdEventPipeline.getInstance().recordImpression("applovin", FORMAT_BANNER, attribution);
     if (bannerAdCallback != null) {
       bannerAdCallback.onAdOpened();
     }
@@ -203,6 +205,7 @@ public class AppLovinBannerAd
   @Override
   public void adClicked(AppLovinAd ad) {
     Log.d(TAG, "Banner clicked.");
+    AdEventPipeline.getInstance().recordClick("applovin", FORMAT_BANNER, attribution);
     if (bannerAdCallback != null) {
       bannerAdCallback.reportAdClicked();
     }
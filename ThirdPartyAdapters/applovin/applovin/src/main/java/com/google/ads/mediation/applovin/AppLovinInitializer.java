@@ -23,14 +23,35 @@ import com.applovin.sdk.AppLovinSdk;
 import com.applovin.sdk.AppLovinSdk.SdkInitializationListener;
 import com.applovin.sdk.AppLovinSdkConfiguration;
 import com.applovin.sdk.AppLovinSdkInitializationConfiguration;
+import com.google.ads.mediation.common.SdkInitializer;
+import com.google.android.gms.ads.AdError;
 
 public class AppLovinInitializer {
 
   private static final String TAG = AppLovinInitializer.class.getSimpleName();
 
-  private static AppLovinInitializer instance;
+  private static class Holder {
+
+    private static final AppLovinInitializer INSTANCE = new AppLovinInitializer();
+  }
+
   private final AppLovinSdkWrapper appLovinSdkWrapper;
 
+  private final SdkInitializer<OnInitializeSuccessListener> sdkInitializer =
+      new SdkInitializer<>(
+          new SdkInitializer.ListenerDispatcher<OnInitializeSuccessListener>() {
+            @Override
+            public void onInitializeSuccess(@NonNull OnInitializeSuccessListener listener) {
+              listener.onInitializeSuccess();
+            }
+
+            @Override
+            public void onInitializeError(
+                @NonNull OnInitializeSuccessListener listener, @NonNull AdError error) {
+              // AppLovin SDK does not report initialization failures.
+            }
+          });
+
   private AppLovinInitializer() {
     appLovinSdkWrapper = new AppLovinSdkWrapper();
   }
@@ -41,26 +62,30 @@ public class AppLovinInitializer {
   }
 
   public static AppLovinInitializer getInstance() {
-    if (instance == null) {
-      instance = new AppLovinInitializer();
-    }
-    return instance;
+    return Holder.INSTANCE;
   }
 
-  public void initialize(@NonNull Context context, @NonNull final String sdkKey,
+  public void initialize(@NonNull final Context context, @NonNull final String sdkKey,
       @NonNull OnInitializeSuccessListener onInitializeSuccessListener) {
-    AppLovinSdk sdk = appLovinSdkWrapper.getInstance(context);
-    AppLovinSdkInitializationConfiguration initConfig =
-        AppLovinSdkInitializationConfiguration.builder(sdkKey)
-            .setMediationProvider(AppLovinMediationProvider.ADMOB)
-            .setPluginVersion(BuildConfig.ADAPTER_VERSION)
-            .build();
-    sdk.initialize(
-        initConfig,
-        new SdkInitializationListener() {
+    sdkInitializer.initialize(
+        onInitializeSuccessListener,
+        new Runnable() {
           @Override
-          public void onSdkInitialized(AppLovinSdkConfiguration config) {
-            onInitializeSuccessListener.onInitializeSuccess();
+          public void run() {
+            AppLovinSdk sdk = appLovinSdkWrapper.getInstance(context);
+            AppLovinSdkInitializationConfiguration initConfig =
+                AppLovinSdkInitializationConfiguration.builder(sdkKey)
+                    .setMediationProvider(AppLovinMediationProvider.ADMOB)
+                    .setPluginVersion(BuildConfig.ADAPTER_VERSION)
+                    .build();
+            sdk.initialize(
+                initConfig,
+                new SdkInitializationListener() {
+                  @Override
+                  public void onSdkInitialized(AppLovinSdkConfiguration config) {
+                    sdkInitializer.onInitializationSucceeded();
+                  }
+                });
           }
         });
   }
@@ -14,21 +14,22 @@
 
 package com.google.ads.mediation.applovin;
 
+import static com.google.ads.mediation.common.AdEventPipeline.FORMAT_INTERSTITIAL;
+
 import android.os.Bundle;
 import android.util.Log;
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
 import androidx.annotation.VisibleForTesting;
 
-import com.applovin.impl.sdk.AppLovinAdBase;
 import com.applovin.mediation.AppLovinUtils;
 import com.applovin.sdk.AppLovinAd;
 import com.applovin.sdk.AppLovinAdClickListener;
 import com.applovin.sdk.AppLovinAdDisplayListener;
 import com.applovin.sdk.AppLovinAdLoadListener;
 import com.applovin.sdk.AppLovinAdVideoPlaybackListener;
-import com.astarsoftware.android.ads.AdNetworkTracker;
-import com.astarsoftware.dependencies.DependencyInjector;
+import com.google.ads.mediation.common.AdAttribution;
+import com.google.ads.mediation.common.AdEventPipeline;
 import com.google.android.gms.ads.AdError;
 import com.google.android.gms.ads.mediation.MediationAdLoadCallback;
 import com.google.android.gms.ads.mediation.MediationInterstitialAd;
@@ -69,6 +70,9 @@ public abstract class AppLovinInterstitialRenderer
 
   @Nullable protected Bundle networkExtras;
 
+  // astar
+  @Nullable private AdAttribution attribution;
+
   public AppLovinInterstitialRenderer(
       @NonNull
           MediationAdLoadCallback<MediationInterstitialAd, MediationInterstitialAdCallback>
@@ -88,12 +92,9 @@ public abstract class AppLovinInterstitialRenderer
     appLovinInterstitialAd = ad;
 
 	  //astar
-	  if(ad instanceof AppLovinAdBase) {
-		  AppLovinAdBase adBase = (AppLovinAdBase)ad;
-		  AdNetworkTracker adTracker = DependencyInjector.getObjectWithClass(AdNetworkTracker.class);
-		  adTracker.adDidLoadForNetwork("applovin", "admob", "interstitial",
-			  AstarAppLovinUtils.getNetworkInfo(adBase));
-
+	  attribution = AstarAppLovinUtils.getAttribution(ad);
+	  if (attribution != null) {
+	    AdEventPipeline.getInstance().recordLoad("applovin", FORMAT_INTERSTITIAL, attribution);
 	  }
 
     interstitialAdCallback = interstitialAdLoadCallback.onSuccess(this);
@@ -110,6 +111,7 @@ public abstract class AppLovinInterstitialRenderer
   @Override
   public void adDisplayed(AppLovinAd ad) {
     Log.d(TAG, "Interstitial displayed.");
+    AdEventPipeline.getInstance().recordImpression("applovin", FORMAT_INTERSTITIAL, attribution);
     interstitialAdCallback.onAdOpened();
   }
 
@@ -123,6 +125,7 @@ public abstract class AppLovinInterstitialRenderer
   @Override
   public void adClicked(AppLovinAd ad) {
     Log.d(TAG, "Interstitial clicked.");
+    AdEventPipeline.getInstance().recordClick("applovin", FORMAT_INTERSTITIAL, attribution);
     interstitialAdCallback.reportAdClicked();
     interstitialAdCallback.onAdLeftApplication();
   }
@@ -31,6 +31,7 @@ import com.applovin.mediation.rtb.AppLovinRtbRewardedRenderer;
 import com.applovin.sdk.AppLovinSdk;
 import com.applovin.sdk.AppLovinSdkSettings;
 import com.google.ads.mediation.applovin.AppLovinInitializer.OnInitializeSuccessListener;
+import com.google.ads.mediation.common.VersionInfoService;
 import com.google.android.gms.ads.AdError;
 import com.google.android.gms.ads.AdFormat;
 import com.google.android.gms.ads.VersionInfo;
@@ -106,7 +107,8 @@ public class AppLovinMediationAdapter extends RtbAdapter {
         ERROR_PRESENTATION_AD_NOT_READY,
         ERROR_AD_FORMAT_UNSUPPORTED,
         ERROR_MISSING_SDK_KEY,
-        ERROR_CHILD_USER
+        ERROR_CHILD_USER,
+        ERROR_QUEUED_LOAD_TIMED_OUT
       })
   public @interface AdapterError {}
 
@@ -154,6 +156,12 @@ public class AppLovinMediationAdapter extends RtbAdapter {
   /** Error code for missing ad unit ID. */
   public static final int ERROR_MISSING_AD_UNIT_ID = 113;
 
+  /**
+   * A load waited too long for another load of the same zone to finish. See {@link
+   * AppLovinZoneLoadCoordinator}.
+   */
+  public static final int ERROR_QUEUED_LOAD_TIMED_OUT = 114;
+
   static final String ERROR_MSG_MISSING_SDK = "Missing or invalid SDK Key.";
 
   @VisibleForTesting
@@ -194,6 +202,10 @@ public class AppLovinMediationAdapter extends RtbAdapter {
   public void initialize(@NonNull Context context,
       @NonNull final InitializationCompleteCallback initializationCompleteCallback,
       @NonNull List<MediationConfiguration> mediationConfigurations) {
+    // astar
+    // Forward every adapter's load events to the app's AdNetworkTracker.
+    AdNetworkTrackerSink.install();
+
     if (isChildUser()) {
       initializationCompleteCallback.onInitializationFailed(ERROR_MSG_CHILD_USER);
       return;
@@ -246,39 +258,13 @@ public class AppLovinMediationAdapter extends RtbAdapter {
   @NonNull
   @VisibleForTesting
   VersionInfo getVersionInfo(String versionString) {
-    String[] splits = versionString.split("\\.");
-
-    if (splits.length >= 4) {
-      int major = Integer.parseInt(splits[0]);
-      int minor = Integer.parseInt(splits[1]);
-      int micro = Integer.parseInt(splits[2]) * 100 + Integer.parseInt(splits[3]);
-      return new VersionInfo(major, minor, micro);
-    }
-
-    String logMessage = String.format(
-        "Unexpected adapter version format: %s. Returning 0.0.0 for adapter version.",
-        versionString);
-    Log.w(TAG, logMessage);
-    return new VersionInfo(0, 0, 0);
+    return VersionInfoService.getAdapterVersionInfo(versionString);
   }
 
   @Override
   @NonNull
   public VersionInfo getSDKVersionInfo() {
-    String versionString = appLovinSdkWrapper.getSdkVersion();
-    String[] splits = versionString.split("\\.");
-
-    if (splits.length >= 3) {
-      int major = Integer.parseInt(splits[0]);
-      int minor = Integer.parseInt(splits[1]);
-      int patch = Integer.parseInt(splits[2]);
-      return new VersionInfo(major, minor, patch);
-    }
-
-    String logMessage = String.format(
-        "Unexpected SDK version format: %s. Returning 0.0.0 for SDK version.", versionString);
-    Log.w(TAG, logMessage);
-    return new VersionInfo(0, 0, 0);
+    return VersionInfoService.getSdkVersionInfo(appLovinSdkWrapper.getSdkVersion());
   }
 
   @Override
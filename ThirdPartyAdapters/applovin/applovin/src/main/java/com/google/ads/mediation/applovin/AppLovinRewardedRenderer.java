@@ -14,6 +14,8 @@
 
 package com.google.ads.mediation.applovin;
 
+import static com.google.ads.mediation.common.AdEventPipeline.FORMAT_REWARDED;
+
 import android.os.Bundle;
 import android.util.Log;
 import androidx.annotation.NonNull;
@@ -28,6 +30,8 @@ import com.applovin.sdk.AppLovinAdLoadListener;
 import com.applovin.sdk.AppLovinAdRewardListener;
 import com.applovin.sdk.AppLovinAdVideoPlaybackListener;
 import com.applovin.sdk.AppLovinSdk;
+import com.google.ads.mediation.common.AdAttribution;
+import com.google.ads.mediation.common.AdEventPipeline;
 import com.google.android.gms.ads.AdError;
 import com.google.android.gms.ads.mediation.MediationAdLoadCallback;
 import com.google.android.gms.ads.mediation.MediationRewardedAd;
@@ -78,6 +82,9 @@ public abstract class AppLovinRewardedRenderer
   @Nullable
   protected AppLovinIncentivizedInterstitial incentivizedInterstitial;
 
+  // astar
+  @Nullable private AdAttribution attribution;
+
   protected AppLovinRewardedRenderer(
       @NonNull MediationAdLoadCallback<MediationRewardedAd, MediationRewardedAdCallback> callback,
       @NonNull AppLovinInitializer appLovinInitializer,
@@ -98,6 +105,11 @@ public abstract class AppLovinRewardedRenderer
   @Override
   public void adReceived(final @NonNull AppLovinAd appLovinAd) {
     Log.i(TAG, "Rewarded video did load ad.");
+    // astar
+    attribution = AstarAppLovinUtils.getAttribution(appLovinAd);
+    if (attribution != null) {
+      AdEventPipeline.getInstance().recordLoad("applovin", FORMAT_REWARDED, attribution);
+    }
     appLovinSdkUtilsWrapper.runOnUiThread(
         new Runnable() {
           @Override
@@ -125,6 +137,7 @@ public abstract class AppLovinRewardedRenderer
   @Override
   public void adDisplayed(@NonNull AppLovinAd ad) {
     Log.d(TAG, "Rewarded video displayed.");
+    AdEventPipeline.getInstance().recordImpression("applovin", FORMAT_REWARDED, attribution);
     if (rewardedAdCallback == null) {
       return;
     }
@@ -146,6 +159,7 @@ public abstract class AppLovinRewardedRenderer
   @Override
   public void adClicked(@NonNull AppLovinAd ad) {
     Log.d(TAG, "Rewarded video clicked.");
+    AdEventPipeline.getInstance().recordClick("applovin", FORMAT_REWARDED, attribution);
     if (rewardedAdCallback != null) {
       rewardedAdCallback.reportAdClicked();
     }
@@ -26,6 +26,9 @@ import com.google.ads.mediation.applovin.AppLovinMediationAdapter.ERROR_MISSING_
 import com.google.ads.mediation.applovin.AppLovinMediationAdapter.ERROR_MISSING_SDK_KEY
 import com.google.ads.mediation.applovin.AppLovinMediationAdapter.ERROR_MSG_MISSING_SDK
 import com.google.ads.mediation.applovin.AppLovinMediationAdapter.ERROR_PRESENTATION_AD_NOT_READY
+import com.google.ads.mediation.common.AdAttribution
+import com.google.ads.mediation.common.AdEventPipeline
+import com.google.ads.mediation.common.AdEventPipeline.Companion.FORMAT_APP_OPEN
 import com.google.android.gms.ads.AdError
 import com.google.android.gms.ads.mediation.MediationAdLoadCallback
 import com.google.android.gms.ads.mediation.MediationAppOpenAd
@@ -42,6 +45,9 @@ class AppLovinWaterfallAppOpenAd(
 
   private var appOpenAdCallback: MediationAppOpenAdCallback? = null
 
+  // astar
+  private var attribution: AdAttribution? = null
+
   fun loadAd(appOpenAdConfiguration: MediationAppOpenAdConfiguration) {
     val serverParameters: Bundle = appOpenAdConfiguration.serverParameters
 
@@ -85,6 +91,9 @@ class AppLovinWaterfallAppOpenAd(
   // region MaxAdListener implementation
 
   override fun onAdLoaded(ad: MaxAd) {
+    // astar
+    attribution = AstarAppLovinUtils.getAttribution(ad)
+    AdEventPipeline.getInstance().recordLoad("applovin", FORMAT_APP_OPEN, attribution)
     appOpenAdCallback = loadCallback.onSuccess(this)
   }
 
@@ -99,6 +108,7 @@ class AppLovinWaterfallAppOpenAd(
   }
 
   override fun onAdDisplayed(ad: MaxAd) {
+    AdEventPipeline.getInstance().recordImpression("applovin", FORMAT_APP_OPEN, attribution)
     appOpenAdCallback?.onAdOpened()
     appOpenAdCallback?.reportAdImpression()
   }
@@ -108,6 +118,7 @@ class AppLovinWaterfallAppOpenAd(
   }
 
   override fun onAdClicked(ad: MaxAd) {
+    AdEventPipeline.getInstance().recordClick("applovin", FORMAT_APP_OPEN, attribution)
     appOpenAdCallback?.reportAdClicked()
   }
 
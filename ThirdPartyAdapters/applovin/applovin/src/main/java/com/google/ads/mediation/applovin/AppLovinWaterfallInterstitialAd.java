@@ -38,8 +38,6 @@ import com.google.android.gms.ads.mediation.MediationAdLoadCallback;
 import com.google.android.gms.ads.mediation.MediationInterstitialAd;
 import com.google.android.gms.ads.mediation.MediationInterstitialAdCallback;
 import com.google.android.gms.ads.mediation.MediationInterstitialAdConfiguration;
-import java.lang.ref.WeakReference;
-import java.util.HashMap;
 
 /**
  * Used to load AppLovin interstitial ads and mediate callbacks between Google Mobile Ads SDK and
@@ -48,14 +46,30 @@ import java.util.HashMap;
 public class AppLovinWaterfallInterstitialAd extends AppLovinInterstitialRenderer
     implements MediationInterstitialAd {
 
+  /** Coordinates interstitial loads for the same zone. */
   @VisibleForTesting
-  protected static final HashMap<String, WeakReference<AppLovinWaterfallInterstitialAd>>
-      appLovinWaterfallInterstitialAds = new HashMap<>();
+  static final AppLovinZoneLoadCoordinator zoneLoadCoordinator = new AppLovinZoneLoadCoordinator();
+
+  private final AppLovinZoneLoadCoordinator.ZoneLoad zoneLoad =
+      new AppLovinZoneLoadCoordinator.ZoneLoad() {
+        @Override
+        public void start() {
+          Log.d(TAG, "Requesting interstitial for zone: " + zoneId);
+
+          if (!TextUtils.isEmpty(zoneId)) {
+            sdk.getAdService().loadNextAdForZoneId(zoneId, AppLovinWaterfallInterstitialAd.this);
+          } else {
+            sdk.getAdService().loadNextAd(INTERSTITIAL, AppLovinWaterfallInterstitialAd.this);
+          }
+        }
 
-  private AppLovinSdk sdk;
+        @Override
+        public void fail(@NonNull AdError error) {
+          interstitialAdLoadCallback.onFailure(error);
+        }
+      };
 
-  // Flag to let multiple loading of ads
-  private boolean enableMultipleAdLoading = false;
+  private AppLovinSdk sdk;
 
   public AppLovinWaterfallInterstitialAd(
       @NonNull
@@ -79,9 +93,6 @@ public class AppLovinWaterfallInterstitialAd extends AppLovinInterstitialRendere
       return;
     }
 
-    if (AppLovinUtils.isMultiAdsEnabled()) {
-      enableMultipleAdLoading = true;
-    }
     networkExtras = interstitialAdConfiguration.getMediationExtras();
 
     appLovinInitializer.initialize(
@@ -91,28 +102,15 @@ public class AppLovinWaterfallInterstitialAd extends AppLovinInterstitialRendere
           @Override
           public void onInitializeSuccess() {
             zoneId = AppLovinUtils.retrieveZoneId(serverParameters);
-            if (appLovinWaterfallInterstitialAds.containsKey(zoneId)
-                && appLovinWaterfallInterstitialAds.get(zoneId).get() != null) {
-              AdError error =
-                  new AdError(
-                      ERROR_AD_ALREADY_REQUESTED, ERROR_MSG_MULTIPLE_INTERSTITIAL_AD, ERROR_DOMAIN);
-              Log.e(TAG, error.getMessage());
-              interstitialAdLoadCallback.onFailure(error);
-              return;
-            }
-            appLovinWaterfallInterstitialAds.put(
-                zoneId, new WeakReference<>(AppLovinWaterfallInterstitialAd.this));
 
             // Store parent objects.
             sdk = appLovinInitializer.retrieveSdk(context);
 
-            Log.d(TAG, "Requesting interstitial for zone: " + zoneId);
-
-            if (!TextUtils.isEmpty(zoneId)) {
-              sdk.getAdService().loadNextAdForZoneId(zoneId, AppLovinWaterfallInterstitialAd.this);
-            } else {
-              sdk.getAdService().loadNextAd(INTERSTITIAL, AppLovinWaterfallInterstitialAd.this);
-            }
+            zoneLoadCoordinator.requestLoad(
+                zoneId,
+                zoneLoad,
+                new AdError(
+                    ERROR_AD_ALREADY_REQUESTED, ERROR_MSG_MULTIPLE_INTERSTITIAL_AD, ERROR_DOMAIN));
           }
         });
   }
@@ -148,15 +146,15 @@ public class AppLovinWaterfallInterstitialAd extends AppLovinInterstitialRendere
 
   @Override
   public void adReceived(AppLovinAd ad) {
-    if (enableMultipleAdLoading) {
-      unregister();
-    }
+    // Release the zone as soon as the ad loads, so that an ad that is never shown doesn't block
+    // other loads for the zone.
+    unregister();
     super.adReceived(ad);
   }
 
   @Override
   public void failedToReceiveAd(final int code) {
-    unregister();
+    zoneLoadCoordinator.onLoadFinished(zoneId, zoneLoad, AppLovinUtils.getAdError(code));
     super.failedToReceiveAd(code);
   }
 
@@ -167,10 +165,6 @@ public class AppLovinWaterfallInterstitialAd extends AppLovinInterstitialRendere
   }
 
   void unregister() {
-    if (!TextUtils.isEmpty(zoneId)
-        && appLovinWaterfallInterstitialAds.containsKey(zoneId)
-        && this.equals(appLovinWaterfallInterstitialAds.get(zoneId).get())) {
-      appLovinWaterfallInterstitialAds.remove(zoneId);
-    }
+    zoneLoadCoordinator.onLoadFinished(zoneId, zoneLoad, /* error= */ null);
   }
 }
@@ -36,8 +36,6 @@ import com.google.android.gms.ads.mediation.MediationAdLoadCallback;
 import com.google.android.gms.ads.mediation.MediationRewardedAd;
 import com.google.android.gms.ads.mediation.MediationRewardedAdCallback;
 import com.google.android.gms.ads.mediation.MediationRewardedAdConfiguration;
-import java.lang.ref.WeakReference;
-import java.util.HashMap;
 import java.util.Objects;
 
 /**
@@ -47,9 +45,9 @@ import java.util.Objects;
 public class AppLovinWaterfallRewardedRenderer extends AppLovinRewardedRenderer
     implements MediationRewardedAd {
 
+  /** Coordinates rewarded ad loads for the same zone. */
   @VisibleForTesting
-  protected static final HashMap<String, WeakReference<AppLovinWaterfallRewardedRenderer>>
-      incentivizedAdsMap = new HashMap<>();
+  static final AppLovinZoneLoadCoordinator zoneLoadCoordinator = new AppLovinZoneLoadCoordinator();
 
   /** AppLovin's default zone. */
   private static final String DEFAULT_ZONE = "";
@@ -57,8 +55,30 @@ public class AppLovinWaterfallRewardedRenderer extends AppLovinRewardedRenderer
   /** AppLovin rewarded ad zone ID. */
   private String zoneId;
 
-  // Flag to let multiple loading of ads
-  private boolean enableMultipleAdLoading = false;
+  private final AppLovinZoneLoadCoordinator.ZoneLoad zoneLoad =
+      new AppLovinZoneLoadCoordinator.ZoneLoad() {
+        @Override
+        public void start() {
+          String logMessage = String.format("Requesting rewarded video for zone '%s'", zoneId);
+          Log.d(TAG, logMessage);
+
+          // If this is a default Zone, create the incentivized ad normally.
+          if (Objects.equals(zoneId, DEFAULT_ZONE)) {
+            incentivizedInterstitial =
+                appLovinAdFactory.createIncentivizedInterstitial(appLovinSdk);
+          } else {
+            // Otherwise, use the Zones API.
+            incentivizedInterstitial =
+                appLovinAdFactory.createIncentivizedInterstitial(zoneId, appLovinSdk);
+          }
+          incentivizedInterstitial.preload(AppLovinWaterfallRewardedRenderer.this);
+        }
+
+        @Override
+        public void fail(@NonNull AdError error) {
+          adLoadCallback.onFailure(error);
+        }
+      };
 
   protected AppLovinWaterfallRewardedRenderer(
       @NonNull MediationAdLoadCallback<MediationRewardedAd, MediationRewardedAdCallback> callback,
@@ -81,9 +101,6 @@ public class AppLovinWaterfallRewardedRenderer extends AppLovinRewardedRenderer
       return;
     }
 
-    if (AppLovinUtils.isMultiAdsEnabled()) {
-      enableMultipleAdLoading = true;
-    }
     networkExtras = adConfiguration.getMediationExtras();
 
     appLovinInitializer.initialize(
@@ -95,37 +112,11 @@ public class AppLovinWaterfallRewardedRenderer extends AppLovinRewardedRenderer
             zoneId = AppLovinUtils.retrieveZoneId(serverParameters);
             appLovinSdk = appLovinInitializer.retrieveSdk(context);
 
-            String logMessage = String.format("Requesting rewarded video for zone '%s'", zoneId);
-            Log.d(TAG, logMessage);
-
-            // Check if incentivized ad for zone already exists.
-            boolean adAlreadyRequested = false;
-            if (incentivizedAdsMap.containsKey(zoneId)) {
-              adAlreadyRequested = true;
-            } else {
-              incentivizedAdsMap.put(
-                  zoneId, new WeakReference<>(AppLovinWaterfallRewardedRenderer.this));
-            }
-
-            if (adAlreadyRequested) {
-              AdError error =
-                  new AdError(
-                      ERROR_AD_ALREADY_REQUESTED, ERROR_MSG_MULTIPLE_REWARDED_AD, ERROR_DOMAIN);
-              Log.e(TAG, error.toString());
-              adLoadCallback.onFailure(error);
-              return;
-            }
-
-            // If this is a default Zone, create the incentivized ad normally.
-            if (Objects.equals(zoneId, DEFAULT_ZONE)) {
-              incentivizedInterstitial =
-                  appLovinAdFactory.createIncentivizedInterstitial(appLovinSdk);
-            } else {
-              // Otherwise, use the Zones API.
-              incentivizedInterstitial =
-                  appLovinAdFactory.createIncentivizedInterstitial(zoneId, appLovinSdk);
-            }
-            incentivizedInterstitial.preload(AppLovinWaterfallRewardedRenderer.this);
+            zoneLoadCoordinator.requestLoad(
+                zoneId,
+                zoneLoad,
+                new AdError(
+                    ERROR_AD_ALREADY_REQUESTED, ERROR_MSG_MULTIPLE_REWARDED_AD, ERROR_DOMAIN));
           }
         });
   }
@@ -152,16 +143,16 @@ public class AppLovinWaterfallRewardedRenderer extends AppLovinRewardedRenderer
 
   @Override
   public void adReceived(@NonNull AppLovinAd appLovinAd) {
-    if (enableMultipleAdLoading) {
-      incentivizedAdsMap.remove(zoneId);
-    }
+    // Release the zone as soon as the ad loads, so that an ad that is never shown doesn't block
+    // other loads for the zone.
+    zoneLoadCoordinator.onLoadFinished(zoneId, zoneLoad, /* error= */ null);
     super.adReceived(appLovinAd);
   }
 
   // region AppLovinAdLoadListener implementation
   @Override
   public void failedToReceiveAd(final int code) {
-    incentivizedAdsMap.remove(zoneId);
+    zoneLoadCoordinator.onLoadFinished(zoneId, zoneLoad, AppLovinUtils.getAdError(code));
     super.failedToReceiveAd(code);
   }
 
@@ -170,7 +161,7 @@ public class AppLovinWaterfallRewardedRenderer extends AppLovinRewardedRenderer
   // region AppLovinAdDisplayListener implementation.
   @Override
   public void adHidden(@NonNull AppLovinAd ad) {
-    incentivizedAdsMap.remove(zoneId);
+    zoneLoadCoordinator.onLoadFinished(zoneId, zoneLoad, /* error= */ null);
     super.adHidden(ad);
   }
   // endregion
@@ -0,0 +1,392 @@
+// Copyright 2025 Google LLC
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package com.google.ads.mediation.applovin;
+
+import static com.google.ads.mediation.applovin.AppLovinMediationAdapter.ERROR_DOMAIN;
+import static com.google.ads.mediation.applovin.AppLovinMediationAdapter.ERROR_QUEUED_LOAD_TIMED_OUT;
+
+import android.os.Handler;
+import android.os.Looper;
+import android.util.Log;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.annotation.VisibleForTesting;
+import com.google.ads.mediation.common.Clock;
+import com.google.android.gms.ads.AdError;
+import java.lang.ref.WeakReference;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Coordinates waterfall ad loads for AppLovin zones.
+ *
+ * <p>AppLovin can only load one ad per zone at a time. Loads requested while another load for the
+ * same zone is in flight are handled according to the {@link Mode}: they are either failed right
+ * away, or queued and started once the in-flight load finishes. Queued loads that wait longer
+ * than the queue timeout are failed with {@link
+ * AppLovinMediationAdapter#ERROR_QUEUED_LOAD_TIMED_OUT}.
+ *
+ * <p>The in-flight load of a zone is held weakly, so a zone is released if the ad that loads it is
+ * garbage collected without finishing its load.
+ */
+public final class AppLovinZoneLoadCoordinator {
+
+  private static final String TAG = AppLovinZoneLoadCoordinator.class.getSimpleName();
+
+  /** Default maximum number of loads that can wait on a single zone. */
+  static final int DEFAULT_MAX_QUEUE_DEPTH = 8;
+
+  /** Default time that a queued load waits for its zone before it is failed. */
+  static final long DEFAULT_QUEUE_TIMEOUT_MILLIS = 30_000L;
+
+  static final String ERROR_MSG_QUEUED_LOAD_TIMED_OUT =
+      "Timed out waiting for another ad load with the same Zone ID to finish.";
+
+  /** How loads requested for a zone that is already loading an ad are handled. */
+  public enum Mode {
+    /**
+     * Fail the load right away with {@link AppLovinMediationAdapter#ERROR_AD_ALREADY_REQUESTED}.
+     */
+    FAIL_FAST,
+
+    /** Queue the load and start it once the in-flight load for the zone finishes. */
+    QUEUE,
+
+    /**
+     * Queue the load behind the in-flight load and share its result. If the in-flight load fails,
+     * the queued loads fail with the same error instead of asking AppLovin again. If it succeeds,
+     * the queued loads are started in turn, since an AppLovin ad can only be shown once.
+     */
+    SHARE_FAILURE
+  }
+
+  /** A load of an ad for a zone. */
+  interface ZoneLoad {
+
+    /** Starts loading the ad. */
+    void start();
+
+    /** Fails the load without loading an ad. */
+    void fail(@NonNull AdError error);
+  }
+
+  /** Runs tasks after a delay. */
+  interface Scheduler {
+
+    /** Runs {@code task} after {@code delayMillis}. */
+    void schedule(long delayMillis, @NonNull Runnable task);
+  }
+
+  /** Queue depth and wait time metrics of a {@link AppLovinZoneLoadCoordinator}. */
+  public static final class Metrics {
+
+    private final long queuedLoadCount;
+    private final int maxQueueDepth;
+    private final long totalWaitMillis;
+    private final long maxWaitMillis;
+
+    Metrics(long queuedLoadCount, int maxQueueDepth, long totalWaitMillis, long maxWaitMillis) {
+      this.queuedLoadCount = queuedLoadCount;
+      this.maxQueueDepth = maxQueueDepth;
+      this.totalWaitMillis = totalWaitMillis;
+      this.maxWaitMillis = maxWaitMillis;
+    }
+
+    /** Returns the number of loads that had to wait for another load of their zone. */
+    public long getQueuedLoadCount() {
+      return queuedLoadCount;
+    }
+
+    /** Returns the largest number of loads that waited on a single zone at the same time. */
+    public int getMaxQueueDepth() {
+      return maxQueueDepth;
+    }
+
+    /** Returns the total time that queued loads waited before they were started or failed. */
+    public long getTotalWaitMillis() {
+      return totalWaitMillis;
+    }
+
+    /** Returns the longest time that a queued load waited before it was started or failed. */
+    public long getMaxWaitMillis() {
+      return maxWaitMillis;
+    }
+  }
+
+  private static volatile Mode defaultMode = Mode.QUEUE;
+
+  @Nullable private final Mode mode;
+
+  private final int maxQueueDepth;
+
+  private final long queueTimeoutMillis;
+
+  private final Clock clock;
+
+  private final Scheduler scheduler;
+
+  /** Zones that are loading an ad, keyed by zone ID. Guarded by this. */
+  private final Map<String, ZoneState> zoneStates = new HashMap<>();
+
+  // Metrics. Guarded by this.
+  private long queuedLoadCount;
+  private int maxObservedQueueDepth;
+  private long totalWaitMillis;
+  private long maxWaitMillis;
+
+  AppLovinZoneLoadCoordinator() {
+    this(
+        /* mode= */ null,
+        DEFAULT_MAX_QUEUE_DEPTH,
+        DEFAULT_QUEUE_TIMEOUT_MILLIS,
+        Clock.SYSTEM,
+        new MainThreadScheduler());
+  }
+
+  /**
+   * @param mode the mode used by this coordinator, or null to use the mode set through {@link
+   *     #setDefaultMode}.
+   */
+  @VisibleForTesting
+  AppLovinZoneLoadCoordinator(
+      @Nullable Mode mode,
+      int maxQueueDepth,
+      long queueTimeoutMillis,
+      @NonNull Clock clock,
+      @NonNull Scheduler scheduler) {
+    this.mode = mode;
+    this.maxQueueDepth = maxQueueDepth;
+    this.queueTimeoutMillis = queueTimeoutMillis;
+    this.clock = clock;
+    this.scheduler = scheduler;
+  }
+
+  /**
+   * Sets how AppLovin waterfall loads for a zone that is already loading an ad are handled. The
+   * default is {@link Mode#QUEUE}.
+   */
+  public static void setDefaultMode(@NonNull Mode mode) {
+    defaultMode = mode;
+  }
+
+  /**
+   * Requests {@code load} for {@code zoneId}. The load is started right away if no other load for
+   * the zone is in flight. Otherwise, it is queued or failed with {@code rejectionError}, depending
+   * on the mode.
+   */
+  void requestLoad(
+      @Nullable String zoneId, @NonNull ZoneLoad load, @NonNull AdError rejectionError) {
+    String key = toKey(zoneId);
+    ZoneLoad loadToStart = null;
+    PendingLoad queuedLoad = null;
+    synchronized (this) {
+      ZoneState zoneState = zoneStates.get(key);
+      if (zoneState != null && zoneState.activeLoad.get() == null) {
+        Log.w(
+            TAG,
+            String.format(
+                "In-flight load for zone '%s' was garbage collected. Releasing the zone.", key));
+        loadToStart = startNextPendingLoad(key, zoneState, clock.elapsedRealtimeMillis());
+        zoneState = zoneStates.get(key);
+      }
+
+      if (zoneState == null) {
+        zoneStates.put(key, new ZoneState(load));
+        loadToStart = load;
+      } else if (getMode() != Mode.FAIL_FAST && zoneState.pendingLoads.size() < maxQueueDepth) {
+        queuedLoad = new PendingLoad(load, clock.elapsedRealtimeMillis());
+        zoneState.pendingLoads.add(queuedLoad);
+        queuedLoadCount++;
+        maxObservedQueueDepth = Math.max(maxObservedQueueDepth, zoneState.pendingLoads.size());
+        Log.d(
+            TAG,
+            String.format(
+                "Queued load for zone '%s' behind %d other load(s).",
+                key, zoneState.pendingLoads.size()));
+      }
+    }
+
+    if (queuedLoad != null) {
+      final PendingLoad pendingLoad = queuedLoad;
+      scheduler.schedule(
+          queueTimeoutMillis,
+          new Runnable() {
+            @Override
+            public void run() {
+              onQueueTimeout(key, pendingLoad);
+            }
+          });
+    }
+    if (loadToStart != null) {
+      loadToStart.start();
+    }
+    if (loadToStart != load && queuedLoad == null) {
+      Log.e(TAG, rejectionError.getMessage());
+      load.fail(rejectionError);
+    }
+  }
+
+  /**
+   * Marks {@code load} as finished and starts the next load queued for {@code zoneId}. Does nothing
+   * if {@code load} isn't the in-flight load of the zone, so it is safe to call more than once.
+   *
+   * @param error the error the load failed with, or null if it succeeded.
+   */
+  void onLoadFinished(@Nullable String zoneId, @NonNull ZoneLoad load, @Nullable AdError error) {
+    String key = toKey(zoneId);
+    List<ZoneLoad> loadsToFail = new ArrayList<>();
+    ZoneLoad nextLoad = null;
+    synchronized (this) {
+      ZoneState zoneState = zoneStates.get(key);
+      if (zoneState == null || zoneState.activeLoad.get() != load) {
+        return;
+      }
+
+      long nowMillis = clock.elapsedRealtimeMillis();
+      if (error != null && getMode() == Mode.SHARE_FAILURE) {
+        for (PendingLoad pendingLoad : zoneState.pendingLoads) {
+          recordWait(pendingLoad, nowMillis);
+          loadsToFail.add(pendingLoad.load);
+        }
+        zoneState.pendingLoads.clear();
+      }
+
+      nextLoad = startNextPendingLoad(key, zoneState, nowMillis);
+    }
+
+    for (ZoneLoad loadToFail : loadsToFail) {
+      loadToFail.fail(error);
+    }
+    if (nextLoad != null) {
+      nextLoad.start();
+    }
+  }
+
+  /** Returns whether a load for {@code zoneId} is in flight. */
+  synchronized boolean isLoading(@Nullable String zoneId) {
+    return zoneStates.containsKey(toKey(zoneId));
+  }
+
+  /** Returns the number of loads waiting for the in-flight load of {@code zoneId}. */
+  public synchronized int getQueueDepth(@Nullable String zoneId) {
+    ZoneState zoneState = zoneStates.get(toKey(zoneId));
+    return zoneState == null ? 0 : zoneState.pendingLoads.size();
+  }
+
+  /** Returns a snapshot of the queue depth and wait time metrics. */
+  @NonNull
+  public synchronized Metrics getMetrics() {
+    return new Metrics(queuedLoadCount, maxObservedQueueDepth, totalWaitMillis, maxWaitMillis);
+  }
+
+  /** Drops all in-flight and queued loads without notifying them. */
+  @VisibleForTesting
+  synchronized void clear() {
+    zoneStates.clear();
+  }
+
+  /**
+   * Makes the next queued load of {@code zoneState} the in-flight load, or releases the zone if no
+   * load is queued. Must be called while holding the lock.
+   *
+   * @return the load to start, or null if the zone was released.
+   */
+  @Nullable
+  private ZoneLoad startNextPendingLoad(
+      @NonNull String key, @NonNull ZoneState zoneState, long nowMillis) {
+    PendingLoad pendingLoad = zoneState.pendingLoads.poll();
+    if (pendingLoad == null) {
+      zoneStates.remove(key);
+      return null;
+    }
+    recordWait(pendingLoad, nowMillis);
+    zoneState.activeLoad = new WeakReference<>(pendingLoad.load);
+    return pendingLoad.load;
+  }
+
+  /** Fails {@code pendingLoad} if it is still waiting for its zone. */
+  private void onQueueTimeout(@NonNull String key, @NonNull PendingLoad pendingLoad) {
+    synchronized (this) {
+      ZoneState zoneState = zoneStates.get(key);
+      if (zoneState == null || !zoneState.pendingLoads.remove(pendingLoad)) {
+        return;
+      }
+      recordWait(pendingLoad, clock.elapsedRealtimeMillis());
+    }
+
+    AdError error =
+        new AdError(ERROR_QUEUED_LOAD_TIMED_OUT, ERROR_MSG_QUEUED_LOAD_TIMED_OUT, ERROR_DOMAIN);
+    Log.e(TAG, String.format("%s Zone: '%s'.", error.getMessage(), key));
+    pendingLoad.load.fail(error);
+  }
+
+  @NonNull
+  private Mode getMode() {
+    return mode != null ? mode : defaultMode;
+  }
+
+  private void recordWait(@NonNull PendingLoad pendingLoad, long nowMillis) {
+    long waitMillis = nowMillis - pendingLoad.enqueuedAtMillis;
+    totalWaitMillis += waitMillis;
+    maxWaitMillis = Math.max(maxWaitMillis, waitMillis);
+    Log.d(TAG, String.format("Queued load waited %d ms for its zone.", waitMillis));
+  }
+
+  @NonNull
+  private static String toKey(@Nullable String zoneId) {
+    return zoneId == null ? "" : zoneId;
+  }
+
+  private static final class ZoneState {
+
+    /**
+     * The in-flight load. Held weakly, since the load belongs to an ad that may be dropped before
+     * AppLovin calls it back.
+     */
+    @NonNull WeakReference<ZoneLoad> activeLoad;
+
+    final ArrayDeque<PendingLoad> pendingLoads = new ArrayDeque<>();
+
+    ZoneState(@NonNull ZoneLoad activeLoad) {
+      this.activeLoad = new WeakReference<>(activeLoad);
+    }
+  }
+
+  private static final class PendingLoad {
+
+    final ZoneLoad load;
+
+    final long enqueuedAtMillis;
+
+    PendingLoad(@NonNull ZoneLoad load, long enqueuedAtMillis) {
+      this.load = load;
+      this.enqueuedAtMillis = enqueuedAtMillis;
+    }
+  }
+
+  /** Runs tasks on the main thread. */
+  private static final class MainThreadScheduler implements Scheduler {
+
+    private final Handler handler = new Handler(Looper.getMainLooper());
+
+    @Override
+    public void schedule(long delayMillis, @NonNull Runnable task) {
+      handler.postDelayed(task, delayMillis);
+    }
+  }
+}
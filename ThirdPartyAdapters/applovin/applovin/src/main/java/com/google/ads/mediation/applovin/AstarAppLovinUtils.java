@@ -2,26 +2,52 @@ package com.google.ads.mediation.applovin;
 
 import android.os.Bundle;
 
+import androidx.annotation.Nullable;
+
 import com.applovin.impl.sdk.AppLovinAdBase;
+import com.applovin.mediation.MaxAd;
+import com.applovin.sdk.AppLovinAd;
+import com.google.ads.mediation.common.AdAttribution;
+import com.google.ads.mediation.common.AttributionExtractor;
 
 import java.util.HashMap;
 import java.util.Map;
 
 public class AstarAppLovinUtils {
 
-	public static Map<String, Object> getNetworkInfo(AppLovinAdBase adBase) {
-		Map<String, Object> networkInfo = new HashMap<>();
-		if(adBase.getAdDomain() != null) {
-			networkInfo.put("ad_domain", adBase.getAdDomain());
-		}
-		networkInfo.put("ad_id_number", adBase.getAdIdNumber());
-		if(adBase.getDspId() != null) {
-			networkInfo.put("dsp_id", adBase.getDspId());
-		}
-		if(adBase.getDspName() != null) {
-			networkInfo.put("dsp_name", adBase.getDspName());
+	/** Fills an attribution from an AppLovin ad. */
+	public static final AttributionExtractor<AppLovinAdBase> AD_ATTRIBUTION_EXTRACTOR =
+			new AttributionExtractor<AppLovinAdBase>() {
+				@Override
+				public void extract(AppLovinAdBase adBase, AdAttribution attribution) {
+					attribution.setCreativeId(String.valueOf(adBase.getAdIdNumber()));
+					attribution.setAdvertiserDomain(adBase.getAdDomain());
+					attribution.setDemandSourceId(adBase.getDspId());
+					attribution.setDemandSourceName(adBase.getDspName());
+				}
+			};
+
+	/** Fills an attribution from an AppLovin MAX ad. */
+	public static final AttributionExtractor<MaxAd> MAX_AD_ATTRIBUTION_EXTRACTOR =
+			new AttributionExtractor<MaxAd>() {
+				@Override
+				public void extract(MaxAd ad, AdAttribution attribution) {
+					attribution.setCreativeId(ad.getCreativeId());
+					attribution.setDemandSourceName(ad.getNetworkName());
+				}
+			};
+
+	/** Returns the attribution of the given ad, or null if the SDK doesn't expose any. */
+	@Nullable
+	public static AdAttribution getAttribution(@Nullable AppLovinAd ad) {
+		if (ad instanceof AppLovinAdBase) {
+			return AdAttribution.of((AppLovinAdBase) ad, AD_ATTRIBUTION_EXTRACTOR);
 		}
-		return networkInfo;
+		return null;
+	}
+
+	public static AdAttribution getAttribution(MaxAd ad) {
+		return AdAttribution.of(ad, MAX_AD_ATTRIBUTION_EXTRACTOR);
 	}
 
 	public static Map<String, Object> bundleToSerializableMap(Bundle bundle) {
@@ -0,0 +1,24 @@
+package com.google.ads.mediation.applovin;
+
+import com.applovin.mediation.AppLovinUtils;
+import com.applovin.sdk.AppLovinErrorCodes;
+import com.google.android.gms.ads.AdError;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Benchmarks of the AppLovin adapter's hot paths, run by {@code AppLovinBenchmarkTest}.
+ *
+ * <p>This module's unit tests run against Android framework stubs that throw, so only the paths
+ * that don't call into the framework, such as {@code android.util.Log}, are benchmarked here. Signal
+ * collection and banner size mapping are covered by the InMobi and Pangle benchmarks.
+ */
+@State(Scope.Thread)
+public class AppLovinBenchmark {
+
+  @Benchmark
+  public AdError translateSdkError() {
+    return AppLovinUtils.getAdError(AppLovinErrorCodes.NO_FILL);
+  }
+}
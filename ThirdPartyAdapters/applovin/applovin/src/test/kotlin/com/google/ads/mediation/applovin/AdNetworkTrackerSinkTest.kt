@@ -0,0 +1,104 @@
+package com.google.ads.mediation.applovin
+
+import androidx.test.ext.junit.runners.AndroidJUnit4
+import com.google.ads.mediation.common.AdAttribution
+import com.google.ads.mediation.common.AdEventPipeline
+import com.google.common.truth.Truth.assertThat
+import org.junit.Test
+import org.junit.runner.RunWith
+
+@RunWith(AndroidJUnit4::class)
+class AdNetworkTrackerSinkTest {
+
+  @Test
+  fun toTrackerMap_appLovinAd_usesAppLovinKeys() {
+    val attribution =
+      AdAttribution().apply {
+        creativeId = "12345"
+        advertiserDomain = "example.com"
+        demandSourceId = "dsp_id"
+        demandSourceName = "dsp_name"
+      }
+
+    val map =
+      AdNetworkTrackerSink.toTrackerMap("applovin", AdEventPipeline.FORMAT_BANNER, attribution)
+
+    assertThat(map)
+      .containsExactly(
+        "ad_id_number",
+        12345L,
+        "ad_domain",
+        "example.com",
+        "dsp_id",
+        "dsp_id",
+        "dsp_name",
+        "dsp_name",
+      )
+  }
+
+  @Test
+  fun toTrackerMap_maxAd_usesMaxKeys() {
+    val attribution =
+      AdAttribution().apply {
+        creativeId = "creative"
+        demandSourceName = "network"
+      }
+
+    val map =
+      AdNetworkTrackerSink.toTrackerMap("applovin", AdEventPipeline.FORMAT_APP_OPEN, attribution)
+
+    assertThat(map).containsExactly("creative_id", "creative", "network_name", "network")
+  }
+
+  @Test
+  fun toTrackerMap_dtExchangeAd_sendsDemandSource() {
+    val attribution =
+      AdAttribution().apply {
+        creativeId = "creative"
+        demandSourceName = "dsp"
+      }
+
+    val map =
+      AdNetworkTrackerSink.toTrackerMap(
+        "digital_turbine",
+        AdEventPipeline.FORMAT_INTERSTITIAL,
+        attribution,
+      )
+
+    assertThat(map).containsExactly("creative_id", "creative", "demand_source", "dsp")
+  }
+
+  @Test
+  fun toTrackerMap_liftoffAd_sendsMissingFieldsAsEmptyStrings() {
+    val attribution = AdAttribution().apply { impressionId = "event" }
+
+    val map =
+      AdNetworkTrackerSink.toTrackerMap("liftoff", AdEventPipeline.FORMAT_BANNER, attribution)
+
+    assertThat(map)
+      .containsExactly("creative_id", "", "event_id", "event", "placement_id", "")
+      .inOrder()
+  }
+
+  @Test
+  fun toTrackerMap_ironSourceAdWithoutAttribution_sendsEmptyCreativeId() {
+    val map =
+      AdNetworkTrackerSink.toTrackerMap(
+        "ironsource",
+        AdEventPipeline.FORMAT_BANNER,
+        AdAttribution(),
+      )
+
+    assertThat(map).containsExactly("creative_id", "")
+  }
+
+  @Test
+  fun toTrackerMap_inMobiAd_usesSharedKeys() {
+    val attribution = AdAttribution().apply { creativeId = "creative" }
+
+    val map =
+      AdNetworkTrackerSink.toTrackerMap("inmobi", AdEventPipeline.FORMAT_NATIVE, attribution)
+
+    assertThat(map).containsExactly(AdAttribution.KEY_CREATIVE_ID, "creative")
+  }
+}
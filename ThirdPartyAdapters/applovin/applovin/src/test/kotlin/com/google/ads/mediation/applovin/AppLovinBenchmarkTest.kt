@@ -0,0 +1,13 @@
+package com.google.ads.mediation.applovin
+
+import com.google.ads.mediation.adapterbenchmark.AdapterBenchmarkRunner
+import org.junit.Test
+
+/** Runs [AppLovinBenchmark] when benchmarks are enabled. See [AdapterBenchmarkRunner]. */
+class AppLovinBenchmarkTest {
+
+  @Test
+  fun runBenchmarks() {
+    AdapterBenchmarkRunner.run(AppLovinBenchmark::class.java)
+  }
+}
@@ -163,8 +163,9 @@ class AppLovinMediationAdapterTest {
         .setTagForUnderAgeOfConsent(TAG_FOR_UNDER_AGE_OF_CONSENT_UNSPECIFIED)
         .build()
     )
-    AppLovinWaterfallInterstitialAd.appLovinWaterfallInterstitialAds.clear()
-    AppLovinWaterfallRewardedRenderer.incentivizedAdsMap.clear()
+    AppLovinWaterfallInterstitialAd.zoneLoadCoordinator.clear()
+    AppLovinWaterfallRewardedRenderer.zoneLoadCoordinator.clear()
+    AppLovinZoneLoadCoordinator.setDefaultMode(AppLovinZoneLoadCoordinator.Mode.QUEUE)
   }
 
   @Test
@@ -663,7 +664,31 @@ class AppLovinMediationAdapterTest {
   }
 
   @Test
-  fun loadInterstitialAd_multipleTimesWithSameZoneId_invokesOnFailure() {
+  fun loadInterstitialAd_multipleTimesWithSameZoneId_queuesSecondLoad() {
+    doAnswer { invocation ->
+        val args = invocation.arguments
+        (args[2] as OnInitializeSuccessListener).onInitializeSuccess()
+      }
+      .whenever(appLovinInitializer)
+      .initialize(any(), any(), any())
+    mediationInterstitialAdConfiguration = initializeInterstitialAd()
+
+    appLovinMediationAdapter.loadInterstitialAd(
+      mediationInterstitialAdConfiguration,
+      mediationInterstitialAdLoadCallback,
+    )
+    appLovinMediationAdapter.loadInterstitialAd(
+      mediationInterstitialAdConfiguration,
+      mediationInterstitialAdLoadCallback,
+    )
+
+    verify(mediationInterstitialAdLoadCallback, never()).onFailure(any<AdError>())
+    verify(appLovinAdService, times(1)).loadNextAdForZoneId(any(), any())
+  }
+
+  @Test
+  fun loadInterstitialAd_multipleTimesWithSameZoneIdInFailFastMode_invokesOnFailure() {
+    AppLovinZoneLoadCoordinator.setDefaultMode(AppLovinZoneLoadCoordinator.Mode.FAIL_FAST)
     doAnswer { invocation ->
         val args = invocation.arguments
         (args[2] as OnInitializeSuccessListener).onInitializeSuccess()
@@ -846,7 +871,31 @@ class AppLovinMediationAdapterTest {
   }
 
   @Test
-  fun loadRewardedAd_whenInitilizedMultipleTimesWithSameZoneId_invokesOnFailure() {
+  fun loadRewardedAd_whenInitilizedMultipleTimesWithSameZoneId_queuesSecondLoad() {
+    doAnswer { invocation ->
+        val args = invocation.arguments
+        (args[2] as OnInitializeSuccessListener).onInitializeSuccess()
+      }
+      .whenever(appLovinInitializer)
+      .initialize(any(), any(), any())
+    mediationRewardedAdConfiguration = initializeRewardedAd()
+
+    appLovinMediationAdapter.loadRewardedAd(
+      mediationRewardedAdConfiguration,
+      mediationRewardedAdLoadCallback,
+    )
+    appLovinMediationAdapter.loadRewardedAd(
+      mediationRewardedAdConfiguration,
+      mediationRewardedAdLoadCallback,
+    )
+
+    verify(mediationRewardedAdLoadCallback, never()).onFailure(any<AdError>())
+    verify(appLovinIncentivizedInterstitial, times(1)).preload(any())
+  }
+
+  @Test
+  fun loadRewardedAd_whenInitilizedMultipleTimesWithSameZoneIdInFailFastMode_invokesOnFailure() {
+    AppLovinZoneLoadCoordinator.setDefaultMode(AppLovinZoneLoadCoordinator.Mode.FAIL_FAST)
     doAnswer { invocation ->
         val args = invocation.arguments
         (args[2] as OnInitializeSuccessListener).onInitializeSuccess()
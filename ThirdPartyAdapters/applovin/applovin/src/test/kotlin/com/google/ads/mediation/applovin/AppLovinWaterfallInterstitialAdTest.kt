@@ -87,7 +87,7 @@ class AppLovinWaterfallInterstitialAdTest {
   @After
   fun tearDown() {
     appLovinMediationInterstitialAd.unregister()
-    AppLovinWaterfallInterstitialAd.appLovinWaterfallInterstitialAds.clear()
+    AppLovinWaterfallInterstitialAd.zoneLoadCoordinator.clear()
   }
 
   @Test
@@ -110,6 +110,30 @@ class AppLovinWaterfallInterstitialAdTest {
     verify(adService, times(2)).loadNextAdForZoneId(eq(TEST_ZONE_ID), any())
   }
 
+  @Test
+  fun adReceived_withoutShowingAd_letsAnotherAdLoadWithSameZoneId() {
+    doAnswer { invocation ->
+        val args = invocation.arguments
+        (args[2] as OnInitializeSuccessListener).onInitializeSuccess()
+      }
+      .whenever(appLovinInitializer)
+      .initialize(any(), any(), any())
+    val secondInterstitialAd =
+      AppLovinWaterfallInterstitialAd(
+        interstitialAdLoadCallback,
+        appLovinInitializer,
+        appLovinAdFactory,
+      )
+    appLovinMediationInterstitialAd.loadAd(interstitialAdConfiguration)
+    appLovinMediationInterstitialAd.adReceived(appLovinAd)
+
+    secondInterstitialAd.loadAd(interstitialAdConfiguration)
+
+    verify(interstitialAdLoadCallback, never()).onFailure(any<AdError>())
+    verify(adService).loadNextAdForZoneId(TEST_ZONE_ID, appLovinMediationInterstitialAd)
+    verify(adService).loadNextAdForZoneId(TEST_ZONE_ID, secondInterstitialAd)
+  }
+
   @Test
   fun adHidden_invokesUnregisterToLetAnotherAdLoadWithSameZoneId() {
     doAnswer { invocation ->
@@ -200,7 +224,7 @@ class AppLovinWaterfallInterstitialAdTest {
     appLovinMediationInterstitialAd.adReceived(appLovinAd)
 
     assertThat(
-        AppLovinWaterfallInterstitialAd.appLovinWaterfallInterstitialAds.containsKey(TEST_ZONE_ID)
+        AppLovinWaterfallInterstitialAd.zoneLoadCoordinator.isLoading(TEST_ZONE_ID)
       )
       .isFalse()
   }
@@ -97,7 +97,7 @@ class AppLovinWaterfallRewardedRendererTest {
 
   @After
   fun tearDown() {
-    AppLovinWaterfallRewardedRenderer.incentivizedAdsMap.clear()
+    AppLovinWaterfallRewardedRenderer.zoneLoadCoordinator.clear()
   }
 
   @Test
@@ -120,6 +120,31 @@ class AppLovinWaterfallRewardedRendererTest {
     verify(appLovinIncentivizedInterstitial, times(2)).preload(appLovinRewardedAd)
   }
 
+  @Test
+  fun adReceived_withoutShowingAd_letsAnotherAdLoadWithSameZoneId() {
+    doAnswer { invocation ->
+        val args = invocation.arguments
+        (args[2] as OnInitializeSuccessListener).onInitializeSuccess()
+      }
+      .whenever(appLovinInitializer)
+      .initialize(any(), any(), any())
+    val secondRewardedAd =
+      AppLovinWaterfallRewardedRenderer(
+        rewardedAdLoadCallback,
+        appLovinInitializer,
+        appLovinAdFactory,
+        appLovinSdkUtilsWrapper,
+      )
+    appLovinRewardedAd.loadAd(rewardedAdConfiguration)
+    appLovinRewardedAd.adReceived(appLovinAd)
+
+    secondRewardedAd.loadAd(rewardedAdConfiguration)
+
+    verify(rewardedAdLoadCallback, never()).onFailure(any<AdError>())
+    verify(appLovinIncentivizedInterstitial).preload(appLovinRewardedAd)
+    verify(appLovinIncentivizedInterstitial).preload(secondRewardedAd)
+  }
+
   @Test
   fun adHidden_invokesUnregisterToLetAnotherAdLoadWithSameZoneId() {
     doAnswer { invocation ->
@@ -197,7 +222,7 @@ class AppLovinWaterfallRewardedRendererTest {
 
     appLovinRewardedAd.adReceived(appLovinAd)
 
-    assertThat(AppLovinWaterfallRewardedRenderer.incentivizedAdsMap.containsKey(TEST_ZONE_ID))
+    assertThat(AppLovinWaterfallRewardedRenderer.zoneLoadCoordinator.isLoading(TEST_ZONE_ID))
       .isFalse()
   }
 
@@ -0,0 +1,264 @@
+package com.google.ads.mediation.applovin
+
+import androidx.test.ext.junit.runners.AndroidJUnit4
+import com.google.ads.mediation.applovin.AppLovinMediationAdapter.ERROR_DOMAIN
+import com.google.ads.mediation.applovin.AppLovinMediationAdapter.ERROR_QUEUED_LOAD_TIMED_OUT
+import com.google.ads.mediation.applovin.AppLovinZoneLoadCoordinator.DEFAULT_MAX_QUEUE_DEPTH
+import com.google.ads.mediation.applovin.AppLovinZoneLoadCoordinator.DEFAULT_QUEUE_TIMEOUT_MILLIS
+import com.google.ads.mediation.applovin.AppLovinZoneLoadCoordinator.Mode
+import com.google.ads.mediation.common.Clock
+import com.google.android.gms.ads.AdError
+import com.google.common.truth.Truth.assertThat
+import org.junit.Test
+import org.junit.runner.RunWith
+
+@RunWith(AndroidJUnit4::class)
+class AppLovinZoneLoadCoordinatorTest {
+
+  private var currentTimeMillis = 0L
+  private val clock = Clock { currentTimeMillis }
+  private val scheduledTasks = mutableListOf<Runnable>()
+  private val scheduler =
+    AppLovinZoneLoadCoordinator.Scheduler { delayMillis, task ->
+      assertThat(delayMillis).isEqualTo(DEFAULT_QUEUE_TIMEOUT_MILLIS)
+      scheduledTasks.add(task)
+    }
+
+  @Test
+  fun requestLoad_idleZone_startsLoad() {
+    val coordinator = createCoordinator(Mode.QUEUE)
+    val load = FakeZoneLoad()
+
+    coordinator.requestLoad(ZONE_ID, load, REJECTION_ERROR)
+
+    assertThat(load.startCount).isEqualTo(1)
+    assertThat(coordinator.isLoading(ZONE_ID)).isTrue()
+  }
+
+  @Test
+  fun requestLoad_busyZoneInFailFastMode_failsWithRejectionError() {
+    val coordinator = createCoordinator(Mode.FAIL_FAST)
+    val firstLoad = FakeZoneLoad()
+    val secondLoad = FakeZoneLoad()
+    coordinator.requestLoad(ZONE_ID, firstLoad, REJECTION_ERROR)
+
+    coordinator.requestLoad(ZONE_ID, secondLoad, REJECTION_ERROR)
+
+    assertThat(secondLoad.startCount).isEqualTo(0)
+    assertThat(secondLoad.errors).containsExactly(REJECTION_ERROR)
+  }
+
+  @Test
+  fun requestLoad_busyZoneInQueueMode_startsLoadOnceInFlightLoadFinishes() {
+    val coordinator = createCoordinator(Mode.QUEUE)
+    val firstLoad = FakeZoneLoad()
+    val secondLoad = FakeZoneLoad()
+    coordinator.requestLoad(ZONE_ID, firstLoad, REJECTION_ERROR)
+    coordinator.requestLoad(ZONE_ID, secondLoad, REJECTION_ERROR)
+
+    assertThat(secondLoad.startCount).isEqualTo(0)
+    assertThat(coordinator.getQueueDepth(ZONE_ID)).isEqualTo(1)
+
+    coordinator.onLoadFinished(ZONE_ID, firstLoad, LOAD_ERROR)
+
+    assertThat(secondLoad.startCount).isEqualTo(1)
+    assertThat(secondLoad.errors).isEmpty()
+    assertThat(coordinator.getQueueDepth(ZONE_ID)).isEqualTo(0)
+  }
+
+  @Test
+  fun requestLoad_differentZones_startsBothLoads() {
+    val coordinator = createCoordinator(Mode.FAIL_FAST)
+    val firstLoad = FakeZoneLoad()
+    val secondLoad = FakeZoneLoad()
+
+    coordinator.requestLoad(ZONE_ID, firstLoad, REJECTION_ERROR)
+    coordinator.requestLoad(OTHER_ZONE_ID, secondLoad, REJECTION_ERROR)
+
+    assertThat(firstLoad.startCount).isEqualTo(1)
+    assertThat(secondLoad.startCount).isEqualTo(1)
+  }
+
+  @Test
+  fun requestLoad_queueFull_failsWithRejectionError() {
+    val coordinator =
+      AppLovinZoneLoadCoordinator(
+        Mode.QUEUE,
+        /* maxQueueDepth= */ 1,
+        DEFAULT_QUEUE_TIMEOUT_MILLIS,
+        clock,
+        scheduler,
+      )
+    coordinator.requestLoad(ZONE_ID, FakeZoneLoad(), REJECTION_ERROR)
+    coordinator.requestLoad(ZONE_ID, FakeZoneLoad(), REJECTION_ERROR)
+    val rejectedLoad = FakeZoneLoad()
+
+    coordinator.requestLoad(ZONE_ID, rejectedLoad, REJECTION_ERROR)
+
+    assertThat(rejectedLoad.errors).containsExactly(REJECTION_ERROR)
+  }
+
+  @Test
+  fun onLoadFinished_failureInShareFailureMode_failsQueuedLoadsWithSameError() {
+    val coordinator = createCoordinator(Mode.SHARE_FAILURE)
+    val firstLoad = FakeZoneLoad()
+    val secondLoad = FakeZoneLoad()
+    val thirdLoad = FakeZoneLoad()
+    coordinator.requestLoad(ZONE_ID, firstLoad, REJECTION_ERROR)
+    coordinator.requestLoad(ZONE_ID, secondLoad, REJECTION_ERROR)
+    coordinator.requestLoad(ZONE_ID, thirdLoad, REJECTION_ERROR)
+
+    coordinator.onLoadFinished(ZONE_ID, firstLoad, LOAD_ERROR)
+
+    assertThat(secondLoad.errors).containsExactly(LOAD_ERROR)
+    assertThat(thirdLoad.errors).containsExactly(LOAD_ERROR)
+    assertThat(secondLoad.startCount).isEqualTo(0)
+    assertThat(coordinator.isLoading(ZONE_ID)).isFalse()
+  }
+
+  @Test
+  fun onLoadFinished_successInShareFailureMode_startsNextQueuedLoad() {
+    val coordinator = createCoordinator(Mode.SHARE_FAILURE)
+    val firstLoad = FakeZoneLoad()
+    val secondLoad = FakeZoneLoad()
+    coordinator.requestLoad(ZONE_ID, firstLoad, REJECTION_ERROR)
+    coordinator.requestLoad(ZONE_ID, secondLoad, REJECTION_ERROR)
+
+    coordinator.onLoadFinished(ZONE_ID, firstLoad, /* error= */ null)
+
+    assertThat(secondLoad.startCount).isEqualTo(1)
+    assertThat(secondLoad.errors).isEmpty()
+  }
+
+  @Test
+  fun onLoadFinished_loadNotInFlight_doesNothing() {
+    val coordinator = createCoordinator(Mode.QUEUE)
+    val firstLoad = FakeZoneLoad()
+    val secondLoad = FakeZoneLoad()
+    coordinator.requestLoad(ZONE_ID, firstLoad, REJECTION_ERROR)
+    coordinator.requestLoad(ZONE_ID, secondLoad, REJECTION_ERROR)
+
+    coordinator.onLoadFinished(ZONE_ID, secondLoad, /* error= */ null)
+
+    assertThat(secondLoad.startCount).isEqualTo(0)
+    assertThat(coordinator.getQueueDepth(ZONE_ID)).isEqualTo(1)
+  }
+
+  @Test
+  fun onLoadFinished_lastLoad_releasesZone() {
+    val coordinator = createCoordinator(Mode.QUEUE)
+    val load = FakeZoneLoad()
+    coordinator.requestLoad(ZONE_ID, load, REJECTION_ERROR)
+
+    coordinator.onLoadFinished(ZONE_ID, load, /* error= */ null)
+
+    assertThat(coordinator.isLoading(ZONE_ID)).isFalse()
+  }
+
+  @Test
+  fun queueTimeout_loadStillQueued_failsLoadWithTimeoutError() {
+    val coordinator = createCoordinator(Mode.QUEUE)
+    val firstLoad = FakeZoneLoad()
+    val secondLoad = FakeZoneLoad()
+    coordinator.requestLoad(ZONE_ID, firstLoad, REJECTION_ERROR)
+    coordinator.requestLoad(ZONE_ID, secondLoad, REJECTION_ERROR)
+    currentTimeMillis += DEFAULT_QUEUE_TIMEOUT_MILLIS
+
+    runScheduledTasks()
+
+    assertThat(secondLoad.startCount).isEqualTo(0)
+    assertThat(secondLoad.errors).hasSize(1)
+    assertThat(secondLoad.errors[0].code).isEqualTo(ERROR_QUEUED_LOAD_TIMED_OUT)
+    assertThat(secondLoad.errors[0].domain).isEqualTo(ERROR_DOMAIN)
+    assertThat(coordinator.getQueueDepth(ZONE_ID)).isEqualTo(0)
+    assertThat(coordinator.metrics.maxWaitMillis).isEqualTo(DEFAULT_QUEUE_TIMEOUT_MILLIS)
+  }
+
+  @Test
+  fun queueTimeout_thenInFlightLoadFinishes_releasesZone() {
+    val coordinator = createCoordinator(Mode.QUEUE)
+    val firstLoad = FakeZoneLoad()
+    val secondLoad = FakeZoneLoad()
+    coordinator.requestLoad(ZONE_ID, firstLoad, REJECTION_ERROR)
+    coordinator.requestLoad(ZONE_ID, secondLoad, REJECTION_ERROR)
+    runScheduledTasks()
+
+    coordinator.onLoadFinished(ZONE_ID, firstLoad, /* error= */ null)
+
+    assertThat(secondLoad.startCount).isEqualTo(0)
+    assertThat(coordinator.isLoading(ZONE_ID)).isFalse()
+  }
+
+  @Test
+  fun queueTimeout_loadAlreadyStarted_doesNothing() {
+    val coordinator = createCoordinator(Mode.QUEUE)
+    val firstLoad = FakeZoneLoad()
+    val secondLoad = FakeZoneLoad()
+    coordinator.requestLoad(ZONE_ID, firstLoad, REJECTION_ERROR)
+    coordinator.requestLoad(ZONE_ID, secondLoad, REJECTION_ERROR)
+    coordinator.onLoadFinished(ZONE_ID, firstLoad, /* error= */ null)
+
+    runScheduledTasks()
+
+    assertThat(secondLoad.startCount).isEqualTo(1)
+    assertThat(secondLoad.errors).isEmpty()
+    assertThat(coordinator.isLoading(ZONE_ID)).isTrue()
+  }
+
+  @Test
+  fun getMetrics_recordsQueueDepthAndWaitTime() {
+    val coordinator = createCoordinator(Mode.QUEUE)
+    val firstLoad = FakeZoneLoad()
+    val secondLoad = FakeZoneLoad()
+    coordinator.requestLoad(ZONE_ID, firstLoad, REJECTION_ERROR)
+    coordinator.requestLoad(ZONE_ID, secondLoad, REJECTION_ERROR)
+    coordinator.requestLoad(ZONE_ID, FakeZoneLoad(), REJECTION_ERROR)
+    currentTimeMillis += 250
+
+    coordinator.onLoadFinished(ZONE_ID, firstLoad, /* error= */ null)
+    currentTimeMillis += 100
+    coordinator.onLoadFinished(ZONE_ID, secondLoad, /* error= */ null)
+
+    val metrics = coordinator.metrics
+    assertThat(metrics.queuedLoadCount).isEqualTo(2)
+    assertThat(metrics.maxQueueDepth).isEqualTo(2)
+    assertThat(metrics.totalWaitMillis).isEqualTo(600)
+    assertThat(metrics.maxWaitMillis).isEqualTo(350)
+  }
+
+  private fun createCoordinator(mode: Mode) =
+    AppLovinZoneLoadCoordinator(
+      mode,
+      DEFAULT_MAX_QUEUE_DEPTH,
+      DEFAULT_QUEUE_TIMEOUT_MILLIS,
+      clock,
+      scheduler,
+    )
+
+  private fun runScheduledTasks() {
+    val tasks = scheduledTasks.toList()
+    scheduledTasks.clear()
+    tasks.forEach { it.run() }
+  }
+
+  private class FakeZoneLoad : AppLovinZoneLoadCoordinator.ZoneLoad {
+
+    var startCount = 0
+    val errors = mutableListOf<AdError>()
+
+    override fun start() {
+      startCount++
+    }
+
+    override fun fail(error: AdError) {
+      errors.add(error)
+    }
+  }
+
+  private companion object {
+    const val ZONE_ID = "zoneId"
+    const val OTHER_ZONE_ID = "otherZoneId"
+    val REJECTION_ERROR = AdError(105, "Already requested", "domain")
+    val LOAD_ERROR = AdError(204, "No fill", "domain")
+  }
+}
@@ -18,6 +18,7 @@ import android.content.Context
 import android.util.Log
 import androidx.annotation.VisibleForTesting
 import com.google.ads.mediation.bidmachine.BidMachineBannerAd.Companion.mapAdSizeToBidMachineBannerAdSize
+import com.google.ads.mediation.common.VersionInfoService
 import com.google.android.gms.ads.AdError
 import com.google.android.gms.ads.AdFormat
 import com.google.android.gms.ads.AdSize
@@ -61,49 +62,12 @@ class BidMachineMediationAdapter : RtbAdapter() {
   private lateinit var nativeAd: BidMachineNativeAd
 
   override fun getSDKVersionInfo(): VersionInfo =
-    bidMachineSdkVersionDelegate?.let { getSDKVersionInfo(it) }
-      ?: getSDKVersionInfo(BidMachine.VERSION)
-
-  private fun getSDKVersionInfo(sdkVersion: String): VersionInfo {
-    val splits = sdkVersion.split("\\.".toRegex()).dropLastWhile { it.isEmpty() }.toTypedArray()
-
-    if (splits.size >= 3) {
-      val major = splits[0].toInt()
-      val minor = splits[1].toInt()
-      val micro = splits[2].toInt()
-      return VersionInfo(major, minor, micro)
-    }
-
-    val logMessage =
-      String.format(
-        "Unexpected SDK version format: %s. Returning 0.0.0 for SDK version.",
-        sdkVersion,
-      )
-    Log.w(TAG, logMessage)
-    return VersionInfo(0, 0, 0)
-  }
+    VersionInfoService.getSdkVersionInfo(bidMachineSdkVersionDelegate ?: BidMachine.VERSION)
 
   override fun getVersionInfo(): VersionInfo =
-    adapterVersionDelegate?.let { getVersionInfo(it) }
-      ?: getVersionInfo(BuildConfig.ADAPTER_VERSION)
-
-  private fun getVersionInfo(versionString: String): VersionInfo {
-    val splits = versionString.split("\\.".toRegex()).dropLastWhile { it.isEmpty() }.toTypedArray()
-    if (splits.size >= 4) {
-      val major = splits[0].toInt()
-      val minor = splits[1].toInt()
-      val micro = splits[2].toInt() * 100 + splits[3].toInt()
-      return VersionInfo(major, minor, micro)
-    }
-
-    val logMessage =
-      String.format(
-        "Unexpected adapter version format: %s. Returning 0.0.0 for adapter version.",
-        versionString,
-      )
-    Log.w(TAG, logMessage)
-    return VersionInfo(0, 0, 0)
-  }
+    VersionInfoService.getAdapterVersionInfo(
+      adapterVersionDelegate ?: BuildConfig.ADAPTER_VERSION
+    )
 
   override fun initialize(
     context: Context,
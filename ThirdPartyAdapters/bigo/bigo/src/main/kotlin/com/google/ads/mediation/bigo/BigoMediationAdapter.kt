@@ -17,6 +17,8 @@ package com.google.ads.mediation.bigo
 import android.content.Context
 import android.util.Log
 import androidx.annotation.VisibleForTesting
+import com.google.ads.mediation.common.AdapterStartupCoordinator
+import com.google.ads.mediation.common.VersionInfoService
 import com.google.android.gms.ads.MobileAds
 import com.google.android.gms.ads.MobileAds.getRequestConfiguration
 import com.google.android.gms.ads.RequestConfiguration
@@ -66,51 +68,27 @@ class BigoMediationAdapter : RtbAdapter() {
   }
 
   override fun getSDKVersionInfo(): VersionInfo =
-    bigoSdkVersionDelegate?.let { getSDKVersionInfo(it) }
-      ?: getSDKVersionInfo(BigoAdSdk.getSDKVersionName())
-
-  private fun getSDKVersionInfo(sdkVersion: String): VersionInfo {
-    val splits = sdkVersion.split("\\.".toRegex()).dropLastWhile { it.isEmpty() }.toTypedArray()
-
-    if (splits.size >= 3) {
-      val major = splits[0].toInt()
-      val minor = splits[1].toInt()
-      val micro = splits[2].toInt()
-      return VersionInfo(major, minor, micro)
-    }
-
-    val logMessage =
-      String.format(
-        "Unexpected SDK version format: %s. Returning 0.0.0 for SDK version.",
-        sdkVersion,
-      )
-    Log.w(TAG, logMessage)
-    return VersionInfo(0, 0, 0)
-  }
+    VersionInfoService.getSdkVersionInfo(bigoSdkVersionDelegate ?: BigoAdSdk.getSDKVersionName())
 
   override fun getVersionInfo(): VersionInfo =
-    adapterVersionDelegate?.let { getVersionInfo(it) }
-      ?: getVersionInfo(BuildConfig.ADAPTER_VERSION)
-
-  private fun getVersionInfo(versionString: String): VersionInfo {
-    val splits = versionString.split("\\.".toRegex()).dropLastWhile { it.isEmpty() }.toTypedArray()
-    if (splits.size >= 4) {
-      val major = splits[0].toInt()
-      val minor = splits[1].toInt()
-      val micro = splits[2].toInt() * 100 + splits[3].toInt()
-      return VersionInfo(major, minor, micro)
-    }
+    VersionInfoService.getAdapterVersionInfo(
+      adapterVersionDelegate ?: BuildConfig.ADAPTER_VERSION
+    )
 
-    val logMessage =
-      String.format(
-        "Unexpected adapter version format: %s. Returning 0.0.0 for adapter version.",
-        versionString,
-      )
-    Log.w(TAG, logMessage)
-    return VersionInfo(0, 0, 0)
+  override fun initialize(
+    context: Context,
+    initializationCompleteCallback: InitializationCompleteCallback,
+    mediationConfigurations: List<MediationConfiguration>,
+  ) {
+    AdapterStartupCoordinator.getInstance().initialize(
+      BigoMediationAdapter::class.java.name,
+      initializationCompleteCallback,
+    ) { callback ->
+      initializeSdk(context, callback, mediationConfigurations)
+    }
   }
 
-  override fun initialize(
+  private fun initializeSdk(
     context: Context,
     initializationCompleteCallback: InitializationCompleteCallback,
     mediationConfigurations: List<MediationConfiguration>,
@@ -26,9 +26,9 @@ import com.chartboost.sdk.Chartboost;
 import com.chartboost.sdk.Mediation;
 import com.chartboost.sdk.ads.Banner;
 import com.chartboost.sdk.privacy.model.COPPA;
+import com.google.ads.mediation.common.PrivacySnapshotService;
 import com.google.android.gms.ads.AdSize;
 import com.google.android.gms.ads.MediationUtils;
-import com.google.android.gms.ads.RequestConfiguration;
 import java.util.ArrayList;
 
 /**
@@ -56,6 +56,11 @@ class ChartboostAdapterUtils {
    */
   static final String LOCATION_DEFAULT = "default";
 
+  /**
+   * The network name that privacy state is tracked under.
+   */
+  private static final String NETWORK_NAME = "chartboost";
+
   /**
    * Chartboost mediation object.
    */
@@ -169,18 +174,23 @@ class ChartboostAdapterUtils {
     return chartboostMediation;
   }
 
-  static void updateCoppaStatus(
-      Context context, @NonNull RequestConfiguration requestConfiguration) {
-    // Chartboost's SDK only supports updating a user's COPPA status with true and false values.
-    int tagForChildDirected = requestConfiguration.getTagForChildDirectedTreatment();
-    int tagForUnderAgeConsent = requestConfiguration.getTagForUnderAgeOfConsent();
-    if (tagForChildDirected == RequestConfiguration.TAG_FOR_CHILD_DIRECTED_TREATMENT_TRUE
-        || tagForUnderAgeConsent == RequestConfiguration.TAG_FOR_UNDER_AGE_OF_CONSENT_TRUE) {
-        Chartboost.addDataUseConsent(context, new COPPA(true));
-    } else if (tagForChildDirected == RequestConfiguration.TAG_FOR_CHILD_DIRECTED_TREATMENT_FALSE
-        || tagForUnderAgeConsent == RequestConfiguration.TAG_FOR_UNDER_AGE_OF_CONSENT_FALSE) {
-        Chartboost.addDataUseConsent(context, new COPPA(false));
-    }
+  /**
+   * Forwards the user's COPPA status to the Chartboost SDK, if it changed since it was last
+   * forwarded.
+   */
+  static void updateCoppaStatus(@NonNull Context context) {
+    PrivacySnapshotService.getInstance()
+        .applyIfChanged(
+            context,
+            NETWORK_NAME,
+            snapshot -> {
+              // Chartboost's SDK only supports updating a user's COPPA status with true and false
+              // values.
+              Boolean isAgeRestricted = snapshot.isAgeRestricted();
+              if (isAgeRestricted != null) {
+                Chartboost.addDataUseConsent(context, new COPPA(isAgeRestricted));
+              }
+            });
   }
 
   static String getAdapterVersion() {
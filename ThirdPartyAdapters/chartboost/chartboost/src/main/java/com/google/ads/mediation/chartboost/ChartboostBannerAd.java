@@ -17,6 +17,7 @@ package com.google.ads.mediation.chartboost;
 import static com.google.ads.mediation.chartboost.ChartboostConstants.ERROR_BANNER_SIZE_MISMATCH;
 import static com.google.ads.mediation.chartboost.ChartboostConstants.ERROR_INVALID_SERVER_PARAMETERS;
 import static com.google.ads.mediation.chartboost.ChartboostMediationAdapter.TAG;
+import static com.google.ads.mediation.common.AdEventPipeline.FORMAT_BANNER;
 
 import android.content.Context;
 import android.os.Bundle;
@@ -36,9 +37,9 @@ import com.chartboost.sdk.events.ExpirationEvent;
 import com.chartboost.sdk.events.ImpressionEvent;
 import com.chartboost.sdk.events.ShowError;
 import com.chartboost.sdk.events.ShowEvent;
+import com.google.ads.mediation.common.LoadLatencyTracker;
 import com.google.android.gms.ads.AdError;
 import com.google.android.gms.ads.AdSize;
-import com.google.android.gms.ads.MobileAds;
 import com.google.android.gms.ads.mediation.MediationAdLoadCallback;
 import com.google.android.gms.ads.mediation.MediationBannerAd;
 import com.google.android.gms.ads.mediation.MediationBannerAdCallback;
@@ -51,13 +52,15 @@ public class ChartboostBannerAd implements MediationBannerAd, BannerCallback {
 
   private final MediationAdLoadCallback<MediationBannerAd, MediationBannerAdCallback>
       mediationAdLoadCallback;
+  private final LoadLatencyTracker.LoadSpan loadSpan;
   private MediationBannerAdCallback bannerAdCallback;
 
   public ChartboostBannerAd(
       @NonNull
           MediationAdLoadCallback<MediationBannerAd, MediationBannerAdCallback>
               mediationAdLoadCallback) {
-    this.mediationAdLoadCallback = mediationAdLoadCallback;
+    loadSpan = LoadLatencyTracker.getInstance().startLoad("chartboost", FORMAT_BANNER);
+    this.mediationAdLoadCallback = loadSpan.wrap(mediationAdLoadCallback);
   }
 
   public void loadAd(MediationBannerAdConfiguration bannerAdConfiguration) {
@@ -91,7 +94,7 @@ public class ChartboostBannerAd implements MediationBannerAd, BannerCallback {
     }
 
     final String location = chartboostParams.getLocation();
-    ChartboostAdapterUtils.updateCoppaStatus(context, MobileAds.getRequestConfiguration());
+    ChartboostAdapterUtils.updateCoppaStatus(context);
     ChartboostInitializer.getInstance()
         .initialize(
             context,
@@ -99,6 +102,7 @@ public class ChartboostBannerAd implements MediationBannerAd, BannerCallback {
             new ChartboostInitializer.Listener() {
               @Override
               public void onInitializationSucceeded() {
+                loadSpan.markInitComplete();
                 createAndLoadBannerAd(context, location, supportedAdSize);
               }
 
@@ -136,6 +140,7 @@ public class ChartboostBannerAd implements MediationBannerAd, BannerCallback {
             ChartboostBannerAd.this,
             ChartboostAdapterUtils.getChartboostMediation());
     bannerContainer.addView(chartboostBannerAd, paramsLayout);
+    loadSpan.markSdkRequestSent();
     // Chartboost banner requires cache call to be loaded. It has to be done before show call.
     chartboostBannerAd.cache();
   }
@@ -169,6 +174,7 @@ public class ChartboostBannerAd implements MediationBannerAd, BannerCallback {
 
   @Override
   public void onAdLoaded(@NonNull CacheEvent cacheEvent, @Nullable CacheError cacheError) {
+    loadSpan.markSdkCallback();
     if (cacheError != null) {
       AdError error = ChartboostConstants.createSDKError(cacheError);
       Log.w(TAG, error.toString());
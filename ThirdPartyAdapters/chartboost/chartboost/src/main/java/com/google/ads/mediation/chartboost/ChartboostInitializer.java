@@ -24,64 +24,68 @@ import androidx.annotation.VisibleForTesting;
 import com.chartboost.sdk.Chartboost;
 import com.chartboost.sdk.callbacks.StartCallback;
 import com.chartboost.sdk.events.StartError;
+import com.google.ads.mediation.common.SdkInitializer;
 import com.google.android.gms.ads.AdError;
-import com.google.android.gms.ads.MobileAds;
-import java.util.ArrayList;
+import java.util.concurrent.atomic.AtomicReference;
 
 /**
  * The {@link ChartboostInitializer} class is used to handle initialization process.
  */
 public class ChartboostInitializer {
 
-  private static ChartboostInitializer instance;
+  private static final AtomicReference<ChartboostInitializer> instance =
+      new AtomicReference<>();
 
-  private boolean isInitializing = false;
-  private boolean isInitialized = false;
-  private final ArrayList<Listener> initListeners = new ArrayList<>();
+  private final SdkInitializer<Listener> sdkInitializer =
+      new SdkInitializer<>(
+          new SdkInitializer.ListenerDispatcher<Listener>() {
+            @Override
+            public void onInitializeSuccess(@NonNull Listener listener) {
+              listener.onInitializationSucceeded();
+            }
+
+            @Override
+            public void onInitializeError(@NonNull Listener listener, @NonNull AdError error) {
+              listener.onInitializationFailed(error);
+            }
+          });
 
   public static ChartboostInitializer getInstance() {
-    if (instance == null) {
-      instance = new ChartboostInitializer();
+    ChartboostInitializer initializer = instance.get();
+    if (initializer == null) {
+      instance.compareAndSet(null, new ChartboostInitializer());
+      initializer = instance.get();
     }
-    return instance;
+    return initializer;
   }
 
   public void initialize(@NonNull final Context context,
-      @NonNull ChartboostParams chartboostParams, @NonNull final Listener listener) {
-    if (isInitializing) {
-      initListeners.add(listener);
-      return;
-    }
-
-    if (isInitialized) {
-      listener.onInitializationSucceeded();
-      return;
-    }
-
-    isInitializing = true;
-    initListeners.add(listener);
+      @NonNull final ChartboostParams chartboostParams, @NonNull final Listener listener) {
+    sdkInitializer.initialize(
+        listener,
+        new Runnable() {
+          @Override
+          public void run() {
+            startChartboost(context, chartboostParams);
+          }
+        });
+  }
 
-    ChartboostAdapterUtils.updateCoppaStatus(context, MobileAds.getRequestConfiguration());
+  private void startChartboost(
+      @NonNull Context context, @NonNull ChartboostParams chartboostParams) {
+    ChartboostAdapterUtils.updateCoppaStatus(context);
     Chartboost.startWithAppId(context, chartboostParams.getAppId(),
         chartboostParams.getAppSignature(),
         new StartCallback() {
           @Override
           public void onStartCompleted(@Nullable StartError startError) {
-            isInitializing = false;
             if (startError == null) {
-              isInitialized = true;
               Log.d(TAG, "Chartboost SDK initialized.");
-              for (Listener initListener : initListeners) {
-                initListener.onInitializationSucceeded();
-              }
+              sdkInitializer.onInitializationSucceeded();
             } else {
-              isInitialized = false;
-              AdError initializationError = ChartboostConstants.createSDKError(startError);
-              for (Listener initListener : initListeners) {
-                initListener.onInitializationFailed(initializationError);
-              }
+              sdkInitializer.onInitializationFailed(
+                  ChartboostConstants.createSDKError(startError));
             }
-            initListeners.clear();
           }
         });
   }
@@ -103,6 +107,6 @@ public class ChartboostInitializer {
 
   @VisibleForTesting
   protected static void clearInstance() {
-    instance = null;
+    instance.set(null);
   }
 }
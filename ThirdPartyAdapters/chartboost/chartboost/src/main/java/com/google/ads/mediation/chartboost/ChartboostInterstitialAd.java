@@ -17,6 +17,7 @@ package com.google.ads.mediation.chartboost;
 import static com.google.ads.mediation.chartboost.ChartboostConstants.ERROR_AD_NOT_READY;
 import static com.google.ads.mediation.chartboost.ChartboostConstants.ERROR_INVALID_SERVER_PARAMETERS;
 import static com.google.ads.mediation.chartboost.ChartboostMediationAdapter.TAG;
+import static com.google.ads.mediation.common.AdEventPipeline.FORMAT_INTERSTITIAL;
 
 import android.content.Context;
 import android.os.Bundle;
@@ -35,8 +36,8 @@ import com.chartboost.sdk.events.ExpirationEvent;
 import com.chartboost.sdk.events.ImpressionEvent;
 import com.chartboost.sdk.events.ShowError;
 import com.chartboost.sdk.events.ShowEvent;
+import com.google.ads.mediation.common.LoadLatencyTracker;
 import com.google.android.gms.ads.AdError;
-import com.google.android.gms.ads.MobileAds;
 import com.google.android.gms.ads.mediation.MediationAdLoadCallback;
 import com.google.android.gms.ads.mediation.MediationInterstitialAd;
 import com.google.android.gms.ads.mediation.MediationInterstitialAdCallback;
@@ -47,13 +48,15 @@ public class ChartboostInterstitialAd implements MediationInterstitialAd, Inters
   private Interstitial chartboostInterstitialAd;
   private final MediationAdLoadCallback<MediationInterstitialAd, MediationInterstitialAdCallback>
       mediationAdLoadCallback;
+  private final LoadLatencyTracker.LoadSpan loadSpan;
   private MediationInterstitialAdCallback interstitialAdCallback;
 
   public ChartboostInterstitialAd(
       @NonNull
           MediationAdLoadCallback<MediationInterstitialAd, MediationInterstitialAdCallback>
               mediationAdLoadCallback) {
-    this.mediationAdLoadCallback = mediationAdLoadCallback;
+    loadSpan = LoadLatencyTracker.getInstance().startLoad("chartboost", FORMAT_INTERSTITIAL);
+    this.mediationAdLoadCallback = loadSpan.wrap(mediationAdLoadCallback);
   }
 
   public void loadAd(MediationInterstitialAdConfiguration interstitialAdConfiguration) {
@@ -75,7 +78,7 @@ public class ChartboostInterstitialAd implements MediationInterstitialAd, Inters
     }
 
     final String location = chartboostParams.getLocation();
-    ChartboostAdapterUtils.updateCoppaStatus(context, MobileAds.getRequestConfiguration());
+    ChartboostAdapterUtils.updateCoppaStatus(context);
     ChartboostInitializer.getInstance()
         .initialize(
             context,
@@ -83,6 +86,7 @@ public class ChartboostInterstitialAd implements MediationInterstitialAd, Inters
             new ChartboostInitializer.Listener() {
               @Override
               public void onInitializationSucceeded() {
+                loadSpan.markInitComplete();
                 createAndLoadInterstitialAd(location);
               }
 
@@ -123,6 +127,7 @@ public class ChartboostInterstitialAd implements MediationInterstitialAd, Inters
             location,
             ChartboostInterstitialAd.this,
             ChartboostAdapterUtils.getChartboostMediation());
+    loadSpan.markSdkRequestSent();
     chartboostInterstitialAd.cache();
   }
 
@@ -165,6 +170,7 @@ public class ChartboostInterstitialAd implements MediationInterstitialAd, Inters
 
   @Override
   public void onAdLoaded(@NonNull CacheEvent cacheEvent, @Nullable CacheError cacheError) {
+    loadSpan.markSdkCallback();
     if (cacheError == null) {
       Log.d(TAG, "Chartboost interstitial ad has been loaded.");
       if (mediationAdLoadCallback != null) {
@@ -17,6 +17,7 @@ package com.google.ads.mediation.chartboost;
 import static com.google.ads.mediation.chartboost.ChartboostConstants.ERROR_AD_NOT_READY;
 import static com.google.ads.mediation.chartboost.ChartboostConstants.ERROR_INVALID_SERVER_PARAMETERS;
 import static com.google.ads.mediation.chartboost.ChartboostMediationAdapter.TAG;
+import static com.google.ads.mediation.common.AdEventPipeline.FORMAT_REWARDED;
 
 import android.content.Context;
 import android.os.Bundle;
@@ -35,8 +36,8 @@ import com.chartboost.sdk.events.ImpressionEvent;
 import com.chartboost.sdk.events.RewardEvent;
 import com.chartboost.sdk.events.ShowError;
 import com.chartboost.sdk.events.ShowEvent;
+import com.google.ads.mediation.common.LoadLatencyTracker;
 import com.google.android.gms.ads.AdError;
-import com.google.android.gms.ads.MobileAds;
 import com.google.android.gms.ads.mediation.MediationAdLoadCallback;
 import com.google.android.gms.ads.mediation.MediationRewardedAd;
 import com.google.android.gms.ads.mediation.MediationRewardedAdCallback;
@@ -48,13 +49,15 @@ public class ChartboostRewardedAd implements MediationRewardedAd, RewardedCallba
 
   private final MediationAdLoadCallback<MediationRewardedAd, MediationRewardedAdCallback>
       mediationAdLoadCallback;
+  private final LoadLatencyTracker.LoadSpan loadSpan;
   private MediationRewardedAdCallback rewardedAdCallback;
 
   public ChartboostRewardedAd(
       @NonNull
           MediationAdLoadCallback<MediationRewardedAd, MediationRewardedAdCallback>
               mediationAdLoadCallback) {
-    this.mediationAdLoadCallback = mediationAdLoadCallback;
+    loadSpan = LoadLatencyTracker.getInstance().startLoad("chartboost", FORMAT_REWARDED);
+    this.mediationAdLoadCallback = loadSpan.wrap(mediationAdLoadCallback);
   }
 
   public void loadAd(MediationRewardedAdConfiguration rewardedAdConfiguration) {
@@ -75,7 +78,7 @@ public class ChartboostRewardedAd implements MediationRewardedAd, RewardedCallba
     }
 
     final String location = chartboostParams.getLocation();
-    ChartboostAdapterUtils.updateCoppaStatus(context, MobileAds.getRequestConfiguration());
+    ChartboostAdapterUtils.updateCoppaStatus(context);
     ChartboostInitializer.getInstance()
         .initialize(
             context,
@@ -83,11 +86,13 @@ public class ChartboostRewardedAd implements MediationRewardedAd, RewardedCallba
             new ChartboostInitializer.Listener() {
               @Override
               public void onInitializationSucceeded() {
+                loadSpan.markInitComplete();
                 chartboostRewardedAd =
                     new Rewarded(
                         location,
                         ChartboostRewardedAd.this,
                         ChartboostAdapterUtils.getChartboostMediation());
+                loadSpan.markSdkRequestSent();
                 chartboostRewardedAd.cache();
               }
 
@@ -160,6 +165,7 @@ public class ChartboostRewardedAd implements MediationRewardedAd, RewardedCallba
 
   @Override
   public void onAdLoaded(@NonNull CacheEvent cacheEvent, @Nullable CacheError cacheError) {
+    loadSpan.markSdkCallback();
     if (cacheError == null) {
       Log.d(TAG, "Chartboost rewarded ad has been loaded.");
       if (mediationAdLoadCallback != null) {
@@ -16,6 +16,7 @@ import com.google.ads.mediation.chartboost.ChartboostConstants.ERROR_INVALID_SER
 import com.google.ads.mediation.chartboost.ChartboostInitializer.getInstance
 import com.google.ads.mediation.chartboost.ChartboostMediationAdapter.ERROR_MESSAGE_INVALID_SERVER_PARAMETERS
 import com.google.ads.mediation.chartboost.ChartboostMediationAdapter.ERROR_MESSAGE_MISSING_OR_INVALID_APP_ID
+import com.google.ads.mediation.common.PrivacySnapshotService
 import com.google.android.gms.ads.MobileAds
 import com.google.android.gms.ads.RequestConfiguration
 import com.google.android.gms.ads.mediation.InitializationCompleteCallback
@@ -30,6 +31,7 @@ import org.mockito.kotlin.argumentCaptor
 import org.mockito.kotlin.doAnswer
 import org.mockito.kotlin.doReturn
 import org.mockito.kotlin.mock
+import org.mockito.kotlin.times
 import org.mockito.kotlin.verify
 import org.mockito.kotlin.whenever
 
@@ -56,6 +58,7 @@ class ChartboostMediationAdapterTest {
         .build()
     )
     ChartboostInitializer.clearInstance()
+    PrivacySnapshotService.getInstance().reset()
     adapter = ChartboostMediationAdapter()
   }
 
@@ -356,4 +359,18 @@ class ChartboostMediationAdapterTest {
       assertThat(coppaCaptor.firstValue.consent).isFalse()
     }
   }
+
+  @Test
+  fun updateCoppaStatus_unchangedCoppaAcrossLoads_updatesChartboostOnce() {
+    MobileAds.setRequestConfiguration(
+      RequestConfiguration.Builder()
+        .setTagForChildDirectedTreatment(RequestConfiguration.TAG_FOR_CHILD_DIRECTED_TREATMENT_TRUE)
+        .build()
+    )
+    mockStatic(Chartboost::class.java).use {
+      repeat(5) { ChartboostAdapterUtils.updateCoppaStatus(context) }
+
+      it.verify({ Chartboost.addDataUseConsent(any(), any<COPPA>()) }, times(1))
+    }
+  }
 }
@@ -0,0 +1,6 @@
+# Removes verbose and debug adapter logging, including the formatting of its messages.
+# Add this file to the proguardFiles of an app's release build type.
+-assumenosideeffects class com.google.ads.mediation.common.AdapterLogger {
+    public void v(...);
+    public void d(...);
+}
@@ -0,0 +1,219 @@
+// Copyright 2025 Google LLC
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package com.google.ads.mediation.common
+
+import java.util.Objects
+
+/**
+ * Attribution details of a served ad, with the same fields for every ad network so that events can
+ * be joined across networks.
+ *
+ * Adapters fill an attribution once per loaded ad through an [AttributionExtractor], and pass it
+ * along with each event they record. Fields that a network doesn't expose are left null.
+ */
+class AdAttribution {
+
+  /** The ID of the creative that was served. */
+  var creativeId: String? = null
+
+  /** The ID of the campaign that the creative belongs to. */
+  var campaignId: String? = null
+
+  /** The domain of the advertiser. */
+  var advertiserDomain: String? = null
+
+  /** The network's ID for the placement that served the ad. */
+  var placementId: String? = null
+
+  /** The network's ID for this particular impression or ad response. */
+  var impressionId: String? = null
+
+  /** The ID of the demand source, such as a DSP or a mediated network, that won the auction. */
+  var demandSourceId: String? = null
+
+  /** The name of the demand source that won the auction. */
+  var demandSourceName: String? = null
+
+  // Guarded by POOL. Links recycled instances together.
+  private var nextInPool: AdAttribution? = null
+
+  /** Returns whether none of the fields are set. */
+  fun isEmpty(): Boolean =
+    creativeId == null &&
+      campaignId == null &&
+      advertiserDomain == null &&
+      placementId == null &&
+      impressionId == null &&
+      demandSourceId == null &&
+      demandSourceName == null
+
+  /** Sets all fields to those of [other], or clears them if [other] is null. */
+  fun copyFrom(other: AdAttribution?) {
+    creativeId = other?.creativeId
+    campaignId = other?.campaignId
+    advertiserDomain = other?.advertiserDomain
+    placementId = other?.placementId
+    impressionId = other?.impressionId
+    demandSourceId = other?.demandSourceId
+    demandSourceName = other?.demandSourceName
+  }
+
+  /** Clears all fields. */
+  fun clear() {
+    copyFrom(null)
+  }
+
+  /** Returns the fields that are set, keyed by the `KEY_` constants. */
+  fun toMap(): Map<String, Any> {
+    val map = HashMap<String, Any>()
+    creativeId?.let { map[KEY_CREATIVE_ID] = it }
+    campaignId?.let { map[KEY_CAMPAIGN_ID] = it }
+    advertiserDomain?.let { map[KEY_ADVERTISER_DOMAIN] = it }
+    placementId?.let { map[KEY_PLACEMENT_ID] = it }
+    impressionId?.let { map[KEY_IMPRESSION_ID] = it }
+    demandSourceId?.let { map[KEY_DEMAND_SOURCE_ID] = it }
+    demandSourceName?.let { map[KEY_DEMAND_SOURCE_NAME] = it }
+    return map
+  }
+
+  /**
+   * Returns a compact encoding of this attribution, which can be restored with [decode].
+   *
+   * The fields are written in a fixed order and separated by [FIELD_SEPARATOR], so unset fields
+   * take no space beyond their separator.
+   */
+  fun encode(): String {
+    val fields =
+      arrayOf(
+        creativeId,
+        campaignId,
+        advertiserDomain,
+        placementId,
+        impressionId,
+        demandSourceId,
+        demandSourceName,
+      )
+    var fieldCount = fields.size
+    while (fieldCount > 0 && fields[fieldCount - 1] == null) {
+      fieldCount--
+    }
+    val builder = StringBuilder()
+    for (index in 0 until fieldCount) {
+      if (index > 0) {
+        builder.append(FIELD_SEPARATOR)
+      }
+      fields[index]?.let { builder.append(it.replace(FIELD_SEPARATOR.toString(), "")) }
+    }
+    return builder.toString()
+  }
+
+  override fun equals(other: Any?): Boolean =
+    other is AdAttribution &&
+      creativeId == other.creativeId &&
+      campaignId == other.campaignId &&
+      advertiserDomain == other.advertiserDomain &&
+      placementId == other.placementId &&
+      impressionId == other.impressionId &&
+      demandSourceId == other.demandSourceId &&
+      demandSourceName == other.demandSourceName
+
+  override fun hashCode(): Int =
+    Objects.hash(
+      creativeId,
+      campaignId,
+      advertiserDomain,
+      placementId,
+      impressionId,
+      demandSourceId,
+      demandSourceName,
+    )
+
+  override fun toString(): String = "AdAttribution${toMap()}"
+
+  companion object {
+
+    const val KEY_CREATIVE_ID = "creative_id"
+    const val KEY_CAMPAIGN_ID = "campaign_id"
+    const val KEY_ADVERTISER_DOMAIN = "advertiser_domain"
+    const val KEY_PLACEMENT_ID = "placement_id"
+    const val KEY_IMPRESSION_ID = "impression_id"
+    const val KEY_DEMAND_SOURCE_ID = "demand_source_id"
+    const val KEY_DEMAND_SOURCE_NAME = "demand_source_name"
+
+    /** Separates the fields in the [encode] form. */
+    const val FIELD_SEPARATOR = '\u001F'
+
+    private const val MAX_POOL_SIZE = 64
+
+    private val POOL = Any()
+
+    // Guarded by POOL.
+    private var poolHead: AdAttribution? = null
+    private var poolSize = 0
+
+    /** Returns an attribution filled from [source] by [extractor]. */
+    @JvmStatic
+    fun <T> of(source: T, extractor: AttributionExtractor<T>): AdAttribution =
+      AdAttribution().also { extractor.extract(source, it) }
+
+    /** Restores an attribution from its [encode] form. */
+    @JvmStatic
+    fun decode(encoded: String): AdAttribution {
+      val attribution = AdAttribution()
+      if (encoded.isEmpty()) {
+        return attribution
+      }
+      val fields = encoded.split(FIELD_SEPARATOR)
+      fun field(index: Int): String? = fields.getOrNull(index)?.takeIf { it.isNotEmpty() }
+      attribution.creativeId = field(0)
+      attribution.campaignId = field(1)
+      attribution.advertiserDomain = field(2)
+      attribution.placementId = field(3)
+      attribution.impressionId = field(4)
+      attribution.demandSourceId = field(5)
+      attribution.demandSourceName = field(6)
+      return attribution
+    }
+
+    /** Returns an empty attribution, reusing a recycled instance if one is available. */
+    @JvmStatic
+    fun obtain(): AdAttribution {
+      synchronized(POOL) {
+        val head = poolHead ?: return AdAttribution()
+        poolHead = head.nextInPool
+        head.nextInPool = null
+        poolSize--
+        return head
+      }
+    }
+
+    /**
+     * Clears [attribution] and returns it to the pool used by [obtain]. The caller must not use it
+     * afterwards.
+     */
+    @JvmStatic
+    fun recycle(attribution: AdAttribution) {
+      attribution.clear()
+      synchronized(POOL) {
+        if (poolSize >= MAX_POOL_SIZE) {
+          return
+        }
+        attribution.nextInPool = poolHead
+        poolHead = attribution
+        poolSize++
+      }
+    }
+  }
+}
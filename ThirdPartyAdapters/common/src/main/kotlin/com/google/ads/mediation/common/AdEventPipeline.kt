@@ -0,0 +1,220 @@
+// Copyright 2025 Google LLC
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package com.google.ads.mediation.common
+
+import android.util.Log
+import java.util.concurrent.Executor
+import java.util.concurrent.Executors
+import java.util.concurrent.atomic.AtomicBoolean
+
+/**
+ * Records ad events, such as loads, impressions and clicks, for attribution by the app.
+ *
+ * Recording an event only copies it, including its [AdAttribution], into a preallocated ring
+ * buffer, so it allocates nothing and is cheap enough to do inside network SDK callbacks. Buffered
+ * events are handed to the [sink] in batches on [flushExecutor], not on the thread that recorded
+ * them. If events are recorded faster than they are flushed, the oldest buffered events are
+ * dropped.
+ *
+ * This module doesn't depend on any app library, so the pipeline has no sink of its own. The app,
+ * or an adapter that depends on the app's tracker, installs one at startup. Events recorded while
+ * no sink is installed are discarded.
+ *
+ * @param sink receives the recorded events, or null to discard them until one is installed.
+ * @param capacity the number of events that can be buffered between flushes.
+ * @param flushExecutor the executor on which events are handed to the sink.
+ * @param clock the clock used to timestamp events.
+ */
+class AdEventPipeline
+@JvmOverloads
+constructor(
+  sink: Sink? = null,
+  capacity: Int = DEFAULT_CAPACITY,
+  private val flushExecutor: Executor = FlushExecutorHolder.EXECUTOR,
+  private val clock: Clock = Clock.SYSTEM,
+) {
+
+  /** The kind of an ad event. */
+  enum class EventType {
+    LOAD,
+    IMPRESSION,
+    CLICK,
+  }
+
+  /**
+   * An ad event.
+   *
+   * @property network the ad network that served the ad, e.g. "applovin".
+   * @property format the ad format, e.g. [FORMAT_BANNER].
+   * @property type what happened to the ad.
+   * @property attribution attribution details of the ad. Fields the network doesn't expose are
+   *   null.
+   * @property elapsedRealtimeMillis when the event was recorded.
+   */
+  class Event(
+    val network: String,
+    val format: String,
+    val type: EventType,
+    val attribution: AdAttribution,
+    val elapsedRealtimeMillis: Long,
+  )
+
+  /** Receives batches of recorded events. */
+  fun interface Sink {
+
+    /**
+     * Called on the flush executor, not on the thread that recorded the events, with the events
+     * recorded since the last batch, oldest first.
+     *
+     * The attributions of the events are pooled and reused once this returns, so sinks must copy
+     * anything they want to keep.
+     */
+    fun onEvents(events: List<Event>)
+  }
+
+  /** A reusable slot of the ring buffer. */
+  private class Slot {
+    var network = ""
+    var format = ""
+    var type = EventType.LOAD
+    val attribution = AdAttribution()
+    var elapsedRealtimeMillis = 0L
+  }
+
+  /** Receives the recorded events, or null to discard them. */
+  @Volatile var sink: Sink? = sink
+
+  private val slots = Array(capacity) { Slot() }
+
+  // Ring buffer state. Guarded by slots.
+  private var head = 0
+  private var size = 0
+  private var droppedCount = 0
+
+  private val isFlushScheduled = AtomicBoolean(false)
+
+  private val flushRunnable = Runnable { flush() }
+
+  init {
+    require(capacity > 0) { "capacity must be positive." }
+  }
+
+  /** Records that an ad was loaded. */
+  @JvmOverloads
+  fun recordLoad(network: String, format: String, attribution: AdAttribution? = null) {
+    record(network, format, EventType.LOAD, attribution)
+  }
+
+  /** Records that an ad impression was recorded. */
+  @JvmOverloads
+  fun recordImpression(network: String, format: String, attribution: AdAttribution? = null) {
+    record(network, format, EventType.IMPRESSION, attribution)
+  }
+
+  /** Records that an ad was clicked. */
+  @JvmOverloads
+  fun recordClick(network: String, format: String, attribution: AdAttribution? = null) {
+    record(network, format, EventType.CLICK, attribution)
+  }
+
+  /** Records an ad event and schedules a flush if none is pending. */
+  fun record(network: String, format: String, type: EventType, attribution: AdAttribution?) {
+    if (sink == null) {
+      return
+    }
+    val nowMillis = clock.elapsedRealtimeMillis()
+    synchronized(slots) {
+      if (size == slots.size) {
+        // Drop the oldest event to make room.
+        head = (head + 1) % slots.size
+        size--
+        droppedCount++
+      }
+      val slot = slots[(head + size) % slots.size]
+      slot.network = network
+      slot.format = format
+      slot.type = type
+      slot.attribution.copyFrom(attribution)
+      slot.elapsedRealtimeMillis = nowMillis
+      size++
+    }
+    if (isFlushScheduled.compareAndSet(false, true)) {
+      flushExecutor.execute(flushRunnable)
+    }
+  }
+
+  /** Hands all buffered events to the sink. Called on the flush executor. */
+  private fun flush() {
+    isFlushScheduled.set(false)
+    val events: List<Event>
+    val dropped: Int
+    synchronized(slots) {
+      if (size == 0) {
+        return
+      }
+      events =
+        List(size) { index ->
+          val slot = slots[(head + index) % slots.size]
+          val attribution = AdAttribution.obtain()
+          attribution.copyFrom(slot.attribution)
+          slot.attribution.clear()
+          Event(slot.network, slot.format, slot.type, attribution, slot.elapsedRealtimeMillis)
+        }
+      head = (head + size) % slots.size
+      size = 0
+      dropped = droppedCount
+      droppedCount = 0
+    }
+
+    if (dropped > 0) {
+      Log.w(TAG, "Dropped $dropped ad events that were recorded faster than they were flushed.")
+    }
+    try {
+      sink?.onEvents(events)
+    } catch (exception: RuntimeException) {
+      // A failing tracker must not take down the flush thread.
+      Log.w(TAG, "Failed to deliver ${events.size} ad events.", exception)
+    } finally {
+      for (event in events) {
+        AdAttribution.recycle(event.attribution)
+      }
+    }
+  }
+
+  private object FlushExecutorHolder {
+    val EXECUTOR: Executor = Executors.newSingleThreadExecutor { runnable ->
+      Thread(runnable, "AdEventPipeline").apply { isDaemon = true }
+    }
+  }
+
+  companion object {
+
+    private const val TAG = "AdEventPipeline"
+
+    /** Default number of events that can be buffered between flushes. */
+    const val DEFAULT_CAPACITY = 64
+
+    const val FORMAT_BANNER = "banner"
+    const val FORMAT_INTERSTITIAL = "interstitial"
+    const val FORMAT_REWARDED = "rewarded"
+    const val FORMAT_NATIVE = "native"
+    const val FORMAT_APP_OPEN = "app_open"
+
+    private val INSTANCE by lazy { AdEventPipeline() }
+
+    /** Returns the event pipeline shared by all adapters in the process. */
+    @JvmStatic fun getInstance(): AdEventPipeline = INSTANCE
+  }
+}
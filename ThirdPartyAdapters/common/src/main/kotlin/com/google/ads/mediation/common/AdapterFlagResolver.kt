@@ -0,0 +1,160 @@
+// Copyright 2025 Google LLC
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package com.google.ads.mediation.common
+
+import java.lang.reflect.InvocationTargetException
+import java.lang.reflect.Method
+import java.util.concurrent.ConcurrentHashMap
+
+/**
+ * Resolves flags that the Google Mobile Ads SDK sets for adapters, e.g.
+ * "adapter:<network>_android_<flag>".
+ *
+ * Flag values are cached and only read again from the Google Mobile Ads SDK once they are older
+ * than the refresh interval, or after [invalidate] is called. This keeps flag lookups cheap enough
+ * for latency sensitive paths such as signal collection.
+ *
+ * @param flagSource reads flag values from the Google Mobile Ads SDK.
+ * @param refreshIntervalMillis how long a resolved flag value is used for before it is read again.
+ * @param clock the clock used to expire resolved flag values.
+ */
+class AdapterFlagResolver
+@JvmOverloads
+constructor(
+  private val flagSource: FlagSource = AdapterSettingsFlagSource,
+  private val refreshIntervalMillis: Long = DEFAULT_REFRESH_INTERVAL_MILLIS,
+  private val clock: Clock = Clock.SYSTEM,
+) {
+
+  /** Reads flag values from the Google Mobile Ads SDK. */
+  fun interface FlagSource {
+
+    /** Returns the value of the flag [key], or [defaultValue] if the flag can't be read. */
+    fun getBoolean(key: String, defaultValue: Boolean): Boolean
+  }
+
+  private class ResolvedValue(val value: Boolean, val resolvedAtMillis: Long)
+
+  private val resolvedValues = ConcurrentHashMap<String, ResolvedValue>()
+
+  /** Returns the value of the flag [key], or [defaultValue] if the flag can't be read. */
+  fun getBoolean(key: String, defaultValue: Boolean): Boolean {
+    val nowMillis = clock.elapsedRealtimeMillis()
+    val resolvedValue = resolvedValues[key]
+    if (resolvedValue != null && !isStale(resolvedValue, nowMillis)) {
+      return resolvedValue.value
+    }
+
+    val value = flagSource.getBoolean(key, defaultValue)
+    resolvedValues[key] = ResolvedValue(value, nowMillis)
+    return value
+  }
+
+  private fun isStale(resolvedValue: ResolvedValue, nowMillis: Long) =
+    nowMillis - resolvedValue.resolvedAtMillis >= refreshIntervalMillis
+
+  /**
+   * Drops all resolved flag values so that they are read again on next use, e.g. after the server
+   * parameters that accompany them have changed.
+   */
+  fun invalidate() {
+    resolvedValues.clear()
+  }
+
+  /**
+   * Reads flags from the Google Mobile Ads SDK's internal adapter settings. The settings class and
+   * its methods are looked up once and the resulting handles are reused for every read.
+   */
+  private object AdapterSettingsFlagSource : FlagSource {
+
+    private const val ADAPTER_SETTINGS_CLASS_NAME =
+      "com.google.android.gms.ads.internal.adaptersettings.AdapterSettings"
+
+    private class Handles(val getInstanceMethod: Method, val getBooleanMethod: Method)
+
+    @Volatile private var handles: Handles? = null
+
+    /** Set once it is known that the adapter settings aren't available in this process. */
+    @Volatile private var isUnavailable = false
+
+    override fun getBoolean(key: String, defaultValue: Boolean): Boolean {
+      val handles = getHandles() ?: return defaultValue
+      // Default to the default value if there is an exception.
+      return try {
+        val settings = handles.getInstanceMethod.invoke(null) ?: return defaultValue
+        handles.getBooleanMethod.invoke(settings, key, defaultValue) as? Boolean ?: defaultValue
+      } catch (e: IllegalAccessException) {
+        defaultValue
+      } catch (e: IllegalArgumentException) {
+        defaultValue
+      } catch (e: InvocationTargetException) {
+        defaultValue
+      }
+    }
+
+    private fun getHandles(): Handles? {
+      handles?.let {
+        return it
+      }
+      if (isUnavailable) {
+        return null
+      }
+      return resolveHandles()?.also { handles = it }
+    }
+
+    private fun resolveHandles(): Handles? {
+      return try {
+        val adapterSettingsClass = Class.forName(ADAPTER_SETTINGS_CLASS_NAME)
+        val getInstanceMethod = adapterSettingsClass.getDeclaredMethod("getInstance")
+        getInstanceMethod.isAccessible = true
+        // The settings may not exist yet before the Google Mobile Ads SDK is initialized, so this
+        // is retried on the next read.
+        val settings = getInstanceMethod.invoke(null) ?: return null
+        val getBooleanMethod =
+          settings.javaClass.getDeclaredMethod(
+            "getBoolean",
+            String::class.java,
+            Boolean::class.javaPrimitiveType,
+          )
+        getBooleanMethod.isAccessible = true
+        Handles(getInstanceMethod, getBooleanMethod)
+      } catch (e: ClassNotFoundException) {
+        isUnavailable = true
+        null
+      } catch (e: NoSuchMethodException) {
+        isUnavailable = true
+        null
+      } catch (e: SecurityException) {
+        isUnavailable = true
+        null
+      } catch (e: IllegalAccessException) {
+        null
+      } catch (e: InvocationTargetException) {
+        null
+      }
+    }
+  }
+
+  companion object {
+
+    /** Default interval after which resolved flag values are read again. */
+    const val DEFAULT_REFRESH_INTERVAL_MILLIS = 60 * 1000L
+
+    private val INSTANCE by lazy { AdapterFlagResolver() }
+
+    /** Returns the flag resolver shared by all adapters in the process. */
+    @JvmStatic fun getInstance(): AdapterFlagResolver = INSTANCE
+  }
+}
@@ -0,0 +1,207 @@
+// Copyright 2025 Google LLC
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package com.google.ads.mediation.common
+
+import android.util.Log
+import java.util.concurrent.ConcurrentHashMap
+
+/**
+ * Logs an adapter's messages to logcat, and only formats a message if it passes the logger's
+ * level.
+ *
+ * Verbose, debug and info messages take either a format string with its arguments or a
+ * [MessageSupplier], so that nothing is formatted while the level is off. Verbose logging is off by
+ * default. Debug logging is on, like the adapters' direct calls to [Log.d] that it replaces. Apps can
+ * raise [defaultLevel], and release builds can remove verbose and debug calls entirely by adding
+ * `proguard-strip-debug-logs.pro` from this module to their ProGuard files.
+ *
+ * Loggers are shared per tag and obtained with [getLogger]. While [enableDiagnostics] is in effect,
+ * every logged message is also kept in an in-memory ring buffer, which [getDiagnostics] returns.
+ */
+class AdapterLogger private constructor(val tag: String) {
+
+  /** Builds a log message on demand. */
+  fun interface MessageSupplier {
+
+    /** Returns the message. */
+    fun get(): String
+  }
+
+  /**
+   * The lowest priority, such as [Log.DEBUG], that this logger logs, or null to use
+   * [defaultLevel].
+   */
+  @Volatile var level: Int? = null
+
+  /** Returns whether messages of [priority] are logged. */
+  fun isLoggable(priority: Int): Boolean = priority >= (level ?: defaultLevel)
+
+  fun v(message: String) = log(Log.VERBOSE, message)
+
+  fun v(format: String, arg: Any?) {
+    if (isLoggable(Log.VERBOSE)) {
+      log(Log.VERBOSE, String.format(format, arg))
+    }
+  }
+
+  fun v(format: String, arg1: Any?, arg2: Any?) {
+    if (isLoggable(Log.VERBOSE)) {
+      log(Log.VERBOSE, String.format(format, arg1, arg2))
+    }
+  }
+
+  fun v(message: MessageSupplier) {
+    if (isLoggable(Log.VERBOSE)) {
+      log(Log.VERBOSE, message.get())
+    }
+  }
+
+  fun d(message: String) = log(Log.DEBUG, message)
+
+  fun d(format: String, arg: Any?) {
+    if (isLoggable(Log.DEBUG)) {
+      log(Log.DEBUG, String.format(format, arg))
+    }
+  }
+
+  fun d(format: String, arg1: Any?, arg2: Any?) {
+    if (isLoggable(Log.DEBUG)) {
+      log(Log.DEBUG, String.format(format, arg1, arg2))
+    }
+  }
+
+  fun d(message: MessageSupplier) {
+    if (isLoggable(Log.DEBUG)) {
+      log(Log.DEBUG, message.get())
+    }
+  }
+
+  fun i(message: String) = log(Log.INFO, message)
+
+  fun i(format: String, arg: Any?) {
+    if (isLoggable(Log.INFO)) {
+      log(Log.INFO, String.format(format, arg))
+    }
+  }
+
+  fun i(format: String, arg1: Any?, arg2: Any?) {
+    if (isLoggable(Log.INFO)) {
+      log(Log.INFO, String.format(format, arg1, arg2))
+    }
+  }
+
+  fun i(message: MessageSupplier) {
+    if (isLoggable(Log.INFO)) {
+      log(Log.INFO, message.get())
+    }
+  }
+
+  @JvmOverloads
+  fun w(message: String, throwable: Throwable? = null) = log(Log.WARN, message, throwable)
+
+  @JvmOverloads
+  fun e(message: String, throwable: Throwable? = null) = log(Log.ERROR, message, throwable)
+
+  private fun log(priority: Int, message: String, throwable: Throwable? = null) {
+    if (!isLoggable(priority)) {
+      return
+    }
+    if (throwable == null) {
+      Log.println(priority, tag, message)
+    } else {
+      Log.println(priority, tag, message + '\n' + Log.getStackTraceString(throwable))
+    }
+    diagnostics?.add(priority, tag, message)
+  }
+
+  /** A ring buffer of the most recently logged messages. */
+  private class DiagnosticsBuffer(capacity: Int, private val clock: Clock) {
+
+    private val entries = arrayOfNulls<String>(capacity)
+
+    // Guarded by entries.
+    private var head = 0
+    private var size = 0
+
+    fun add(priority: Int, tag: String, message: String) {
+      val entry = "${clock.elapsedRealtimeMillis()} ${priorityLetter(priority)}/$tag: $message"
+      synchronized(entries) {
+        if (size == entries.size) {
+          // Overwrite the oldest entry.
+          entries[head] = entry
+          head = (head + 1) % entries.size
+        } else {
+          entries[(head + size) % entries.size] = entry
+          size++
+        }
+      }
+    }
+
+    fun snapshot(): List<String> =
+      synchronized(entries) { List(size) { index -> entries[(head + index) % entries.size]!! } }
+
+    private fun priorityLetter(priority: Int): Char =
+      when (priority) {
+        Log.VERBOSE -> 'V'
+        Log.DEBUG -> 'D'
+        Log.INFO -> 'I'
+        Log.WARN -> 'W'
+        else -> 'E'
+      }
+  }
+
+  companion object {
+
+    /** Default number of messages kept by [enableDiagnostics]. */
+    const val DEFAULT_DIAGNOSTICS_CAPACITY = 200
+
+    /** The lowest priority that loggers without a [level] of their own log. */
+    @JvmStatic @Volatile var defaultLevel = Log.DEBUG
+
+    private val LOGGERS = ConcurrentHashMap<String, AdapterLogger>()
+
+    @Volatile private var diagnostics: DiagnosticsBuffer? = null
+
+    /** Returns the logger for [tag], which is shared by all callers that use the same tag. */
+    @JvmStatic
+    fun getLogger(tag: String): AdapterLogger = LOGGERS.getOrPut(tag) { AdapterLogger(tag) }
+
+    /**
+     * Starts keeping the last [capacity] logged messages in memory, replacing any messages kept so
+     * far.
+     */
+    @JvmStatic
+    @JvmOverloads
+    fun enableDiagnostics(
+      capacity: Int = DEFAULT_DIAGNOSTICS_CAPACITY,
+      clock: Clock = Clock.SYSTEM,
+    ) {
+      require(capacity > 0) { "capacity must be positive." }
+      diagnostics = DiagnosticsBuffer(capacity, clock)
+    }
+
+    /** Stops keeping logged messages in memory and drops those kept so far. */
+    @JvmStatic
+    fun disableDiagnostics() {
+      diagnostics = null
+    }
+
+    /**
+     * Returns the messages kept since [enableDiagnostics], oldest first, each prefixed with its
+     * time, priority and tag. Returns an empty list if diagnostics are disabled.
+     */
+    @JvmStatic fun getDiagnostics(): List<String> = diagnostics?.snapshot() ?: emptyList()
+  }
+}
@@ -0,0 +1,280 @@
+// Copyright 2025 Google LLC
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package com.google.ads.mediation.common
+
+import android.os.Handler
+import android.os.Looper
+import android.util.Log
+import com.google.android.gms.ads.mediation.InitializationCompleteCallback
+import java.util.concurrent.ConcurrentHashMap
+import java.util.concurrent.Executor
+import java.util.concurrent.atomic.AtomicBoolean
+
+/**
+ * Schedules adapter SDK initializations at app startup and records how long each one takes.
+ *
+ * Adapters pass their SDK initialization to [initialize], keyed by the adapter's class name, which
+ * is also the key of the Google Mobile Ads SDK's adapter status map. By default it runs right away,
+ * exactly as if the adapter had run it itself. Apps can defer the initialization of less important
+ * adapters with [setDeferred], and start them with [releaseDeferred] once the first frame is drawn,
+ * or with [releaseDeferredWhenIdle] once the main thread goes idle. Deferred initializations start
+ * in descending order of [setPriority].
+ *
+ * Deferred adapters report their initialization to the Google Mobile Ads SDK late, so they aren't
+ * ready to serve ads until then. The coordinator doesn't hold back ad loads: a load that the Google
+ * Mobile Ads SDK sends to a deferred adapter before its initialization is released is handled by the
+ * adapter exactly as a load that arrives while its SDK is still initializing.
+ *
+ * @param clock the clock used to time initializations.
+ * @param releaseExecutor the executor on which deferred initializations are started.
+ */
+class AdapterStartupCoordinator
+@JvmOverloads
+constructor(
+  private val clock: Clock = Clock.SYSTEM,
+  private val releaseExecutor: Executor = MainThreadExecutor,
+) {
+
+  /** Initializes an adapter's SDK. */
+  fun interface StartupTask {
+
+    /**
+     * Starts initializing the SDK, and reports the result to [callback] once the SDK has
+     * initialized.
+     */
+    fun start(callback: InitializationCompleteCallback)
+  }
+
+  /**
+   * How long an adapter took to initialize.
+   *
+   * @property adapterName the class name of the adapter.
+   * @property wasDeferred whether the initialization was deferred until [releaseDeferred].
+   * @property queuedMillis how long the initialization waited before it was started.
+   * @property callerBlockedMillis how long starting the initialization blocked the calling thread.
+   * @property blockedMainThread whether the initialization was started on the main thread.
+   * @property totalMillis how long it took from starting the initialization until the SDK reported
+   *   its result.
+   * @property errorMessage the reported error, or null if the SDK initialized successfully.
+   */
+  class InitTiming(
+    val adapterName: String,
+    val wasDeferred: Boolean,
+    val queuedMillis: Long,
+    val callerBlockedMillis: Long,
+    val blockedMainThread: Boolean,
+    val totalMillis: Long,
+    val errorMessage: String?,
+  ) {
+
+    /** Returns whether the SDK initialized successfully. */
+    val isSuccess: Boolean
+      get() = errorMessage == null
+
+    override fun toString(): String =
+      "InitTiming($adapterName, deferred=$wasDeferred, queued=${queuedMillis}ms, " +
+        "blocked=${callerBlockedMillis}ms${if (blockedMainThread) " (main thread)" else ""}, " +
+        "total=${totalMillis}ms, error=$errorMessage)"
+  }
+
+  private class PendingInit(
+    val adapterName: String,
+    val callback: InitializationCompleteCallback,
+    val task: StartupTask,
+    val queuedAtMillis: Long,
+  )
+
+  private val priorities = ConcurrentHashMap<String, Int>()
+
+  private val deferredAdapters = ConcurrentHashMap<String, Boolean>()
+
+  @Volatile private var deferByDefault = false
+
+  // Guarded by pendingInits.
+  private val pendingInits = ArrayList<PendingInit>()
+  private var isReleased = false
+
+  private val timings = ArrayList<InitTiming>()
+
+  /** Sets the priority of an adapter among deferred initializations. Higher priorities go first. */
+  fun setPriority(adapterName: String, priority: Int) {
+    priorities[adapterName] = priority
+  }
+
+  /** Sets whether the initialization of an adapter is deferred until [releaseDeferred]. */
+  fun setDeferred(adapterName: String, deferred: Boolean) {
+    deferredAdapters[adapterName] = deferred
+  }
+
+  /** Sets whether adapters that [setDeferred] wasn't called for are deferred. Defaults to false. */
+  fun setDeferByDefault(deferred: Boolean) {
+    deferByDefault = deferred
+  }
+
+  /**
+   * Initializes an adapter's SDK by running [task], either right away or once deferred
+   * initializations are released. [callback] is notified once the SDK reports its result.
+   */
+  fun initialize(
+    adapterName: String,
+    callback: InitializationCompleteCallback,
+    task: StartupTask,
+  ) {
+    val pendingInit = PendingInit(adapterName, callback, task, clock.elapsedRealtimeMillis())
+    val isDeferred = deferredAdapters[adapterName] ?: deferByDefault
+    if (isDeferred) {
+      synchronized(pendingInits) {
+        if (!isReleased) {
+          pendingInits.add(pendingInit)
+          return
+        }
+      }
+    }
+    start(pendingInit, wasDeferred = false)
+  }
+
+  /**
+   * Starts all deferred initializations on the release executor, highest priority first. Adapters
+   * that initialize later are no longer deferred. If starting an initialization throws, that
+   * adapter's initialization fails with the exception's message and the others still start.
+   */
+  fun releaseDeferred() {
+    val released: List<PendingInit>
+    synchronized(pendingInits) {
+      if (isReleased) {
+        return
+      }
+      isReleased = true
+      released = pendingInits.sortedByDescending { priorities[it.adapterName] ?: 0 }
+      pendingInits.clear()
+    }
+    if (released.isEmpty()) {
+      return
+    }
+    releaseExecutor.execute {
+      for (pendingInit in released) {
+        startDeferred(pendingInit)
+      }
+    }
+  }
+
+  /** Calls [releaseDeferred] the next time the main thread's message queue is idle. */
+  fun releaseDeferredWhenIdle() {
+    MainThreadExecutor.execute {
+      Looper.myQueue().addIdleHandler {
+        releaseDeferred()
+        // Remove the idle handler.
+        false
+      }
+    }
+  }
+
+  /** Returns the timings of the initializations that have completed so far, in completion order. */
+  fun getInitTimings(): List<InitTiming> = synchronized(timings) { ArrayList(timings) }
+
+  private fun start(pendingInit: PendingInit, wasDeferred: Boolean) {
+    start(pendingInit, TimingCallback(pendingInit, wasDeferred))
+  }
+
+  /**
+   * Starts a deferred initialization. Unlike initializations that run right away, it isn't started
+   * by the adapter, so an exception it throws is reported as a failed initialization.
+   */
+  private fun startDeferred(pendingInit: PendingInit) {
+    val timingCallback = TimingCallback(pendingInit, wasDeferred = true)
+    try {
+      start(pendingInit, timingCallback)
+    } catch (exception: Exception) {
+      Log.w(TAG, "Failed to start the initialization of ${pendingInit.adapterName}.", exception)
+      timingCallback.onInitializationFailed(exception.message ?: exception.toString())
+    }
+  }
+
+  private fun start(pendingInit: PendingInit, timingCallback: TimingCallback) {
+    try {
+      pendingInit.task.start(timingCallback)
+    } finally {
+      timingCallback.callerBlockedMillis =
+        clock.elapsedRealtimeMillis() - timingCallback.startedAtMillis
+    }
+  }
+
+  /** Records the timing of an initialization once the SDK reports its result. */
+  private inner class TimingCallback(
+    private val pendingInit: PendingInit,
+    private val wasDeferred: Boolean,
+  ) : InitializationCompleteCallback {
+
+    val startedAtMillis = clock.elapsedRealtimeMillis()
+
+    private val isMainThread = Looper.myLooper() == Looper.getMainLooper()
+
+    /** Set once the task returns. SDKs that complete synchronously are timed up to then. */
+    @Volatile var callerBlockedMillis = -1L
+
+    private val isComplete = AtomicBoolean(false)
+
+    override fun onInitializationSucceeded() {
+      if (record(null)) {
+        pendingInit.callback.onInitializationSucceeded()
+      }
+    }
+
+    override fun onInitializationFailed(errorMessage: String) {
+      if (record(errorMessage)) {
+        pendingInit.callback.onInitializationFailed(errorMessage)
+      }
+    }
+
+    private fun record(errorMessage: String?): Boolean {
+      if (!isComplete.compareAndSet(false, true)) {
+        return false
+      }
+      val nowMillis = clock.elapsedRealtimeMillis()
+      val totalMillis = nowMillis - startedAtMillis
+      val timing =
+        InitTiming(
+          pendingInit.adapterName,
+          wasDeferred,
+          queuedMillis = startedAtMillis - pendingInit.queuedAtMillis,
+          callerBlockedMillis = if (callerBlockedMillis >= 0) callerBlockedMillis else totalMillis,
+          blockedMainThread = isMainThread,
+          totalMillis = totalMillis,
+          errorMessage = errorMessage,
+        )
+      synchronized(timings) { timings.add(timing) }
+      return true
+    }
+  }
+
+  private object MainThreadExecutor : Executor {
+
+    private val handler by lazy { Handler(Looper.getMainLooper()) }
+
+    override fun execute(command: Runnable) {
+      handler.post(command)
+    }
+  }
+
+  companion object {
+
+    private const val TAG = "AdapterStartupCoordinator"
+
+    private val INSTANCE by lazy { AdapterStartupCoordinator() }
+
+    /** Returns the coordinator shared by all adapters in the process. */
+    @JvmStatic fun getInstance(): AdapterStartupCoordinator = INSTANCE
+  }
+}
@@ -0,0 +1,98 @@
+// Copyright 2025 Google LLC
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package com.google.ads.mediation.common
+
+import android.content.Context
+import com.google.android.gms.ads.AdSize
+import com.google.android.gms.ads.MediationUtils
+import java.util.concurrent.ConcurrentHashMap
+
+/**
+ * Memoizes the banner size that a network supports for a requested [AdSize].
+ *
+ * Banners are refreshed every 30 to 60 seconds, and each refresh resolves the same requested size
+ * again. Results are cached per requested size and display configuration (density, orientation and
+ * screen size), since full width and adaptive sizes resolve differently on different displays.
+ *
+ * @param resolver resolves the supported size on a cache miss.
+ */
+class BannerSizeCache<T : Any>(private val resolver: SizeResolver<T>) {
+
+  /** Resolves the banner size that a network supports for a requested [AdSize]. */
+  fun interface SizeResolver<T : Any> {
+
+    /** Returns the supported size for [adSize], or null if the network supports none. */
+    fun resolve(context: Context, adSize: AdSize): T?
+  }
+
+  private data class Key(
+    val adSize: AdSize,
+    val densityDpi: Int,
+    val orientation: Int,
+    val screenWidthDp: Int,
+    val screenHeightDp: Int,
+  )
+
+  /** Wraps a resolved size so that sizes that can't be supported are cached as well. */
+  private class Resolution<T : Any>(val size: T?)
+
+  private val resolutions = ConcurrentHashMap<Key, Resolution<T>>()
+
+  /** Returns the supported size for [adSize], or null if the network supports none. */
+  fun get(context: Context, adSize: AdSize): T? {
+    val configuration = context.resources.configuration
+    val key =
+      Key(
+        adSize,
+        configuration.densityDpi,
+        configuration.orientation,
+        configuration.screenWidthDp,
+        configuration.screenHeightDp,
+      )
+    resolutions[key]?.let {
+      return it.size
+    }
+
+    val size = resolver.resolve(context, adSize)
+    if (resolutions.size >= MAX_CACHED_RESOLUTIONS) {
+      // Only a handful of sizes are requested in practice. Start over rather than tracking usage.
+      resolutions.clear()
+    }
+    resolutions[key] = Resolution(size)
+    return size
+  }
+
+  /** Drops all cached sizes. */
+  fun clear() {
+    resolutions.clear()
+  }
+
+  companion object {
+
+    private const val MAX_CACHED_RESOLUTIONS = 32
+
+    /**
+     * Returns a cache that resolves requested sizes to the closest of [candidates], as chosen by
+     * [MediationUtils.findClosestSize].
+     */
+    @JvmStatic
+    fun forCandidates(vararg candidates: AdSize): BannerSizeCache<AdSize> {
+      val candidateList = candidates.toList()
+      return BannerSizeCache { context, adSize ->
+        MediationUtils.findClosestSize(context, adSize, candidateList)
+      }
+    }
+  }
+}
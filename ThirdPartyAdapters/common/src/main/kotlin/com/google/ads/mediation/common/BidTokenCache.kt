@@ -0,0 +1,239 @@
+// Copyright 2025 Google LLC
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package com.google.ads.mediation.common
+
+import android.content.Context
+import android.util.Log
+import com.google.android.gms.ads.AdError
+import java.util.concurrent.ConcurrentHashMap
+import java.util.concurrent.Executor
+import java.util.concurrent.Executors
+import java.util.concurrent.atomic.AtomicInteger
+
+/**
+ * Caches bid tokens so that signal collection can answer without waiting on the network SDK.
+ *
+ * Tokens are cached per key, typically the ad format. A cached token is handed out at most once
+ * and never after its time-to-live has elapsed. Whenever a token is handed out, a replacement is
+ * fetched in the background so that the next auction can be answered from the cache.
+ *
+ * Tokens are only cached for networks that have a time-to-live, as set with [setTtlMillis]. Only
+ * networks that document how long their bid tokens stay valid should have one. For other networks
+ * every request fetches a fresh token from the SDK.
+ *
+ * Bid tokens encode the user's consent, so all cached tokens are dropped whenever the
+ * [PrivacySnapshotService] sees the consent strings or the child-directed and under-age tags
+ * change.
+ *
+ * @param network the ad network whose tokens are cached, e.g. "meta".
+ * @param refreshExecutor the executor on which tokens are prefetched and refreshed.
+ * @param clock the clock used to expire tokens.
+ * @param privacySnapshotService the service that reports privacy changes.
+ */
+class BidTokenCache
+@JvmOverloads
+constructor(
+  private val network: String,
+  private val refreshExecutor: Executor = DefaultRefreshExecutor,
+  private val clock: Clock = Clock.SYSTEM,
+  private val privacySnapshotService: PrivacySnapshotService = PrivacySnapshotService.getInstance(),
+) {
+
+  /** Fetches a bid token from the network SDK. */
+  fun interface TokenFetcher {
+
+    /**
+     * Fetches a bid token for [key] and reports it to [callback]. The callback may be invoked on
+     * any thread.
+     */
+    fun fetchToken(context: Context, key: String, callback: TokenCallback)
+  }
+
+  /** Receives a bid token. */
+  interface TokenCallback {
+
+    /** Called with the bid token. */
+    fun onTokenReady(token: String)
+
+    /** Called when the bid token could not be fetched. */
+    fun onTokenError(error: AdError)
+  }
+
+  private class CachedToken(val token: String, val expiresAtMillis: Long)
+
+  private val cachedTokens = ConcurrentHashMap<String, CachedToken>()
+
+  /** Keys for which a background fetch is in progress. */
+  private val refreshingKeys = ConcurrentHashMap.newKeySet<String>()
+
+  /** Incremented by [clear], so that fetches that were in progress don't cache stale tokens. */
+  private val generation = AtomicInteger()
+
+  init {
+    privacySnapshotService.addChangeListener { clear() }
+  }
+
+  /**
+   * Reports a bid token for [key] to [callback].
+   *
+   * A cached token is reported right away on the calling thread and removed from the cache.
+   * Otherwise, a token is fetched using [fetcher]. Either way, a replacement token is then fetched
+   * in the background.
+   */
+  fun getToken(context: Context, key: String, fetcher: TokenFetcher, callback: TokenCallback) {
+    val applicationContext = context.applicationContext ?: context
+    val cachedToken = if (isCachingEnabled(applicationContext)) cachedTokens.remove(key) else null
+    if (cachedToken != null && !isExpired(cachedToken)) {
+      callback.onTokenReady(cachedToken.token)
+      refresh(applicationContext, key, fetcher)
+      return
+    }
+
+    fetcher.fetchToken(
+      context,
+      key,
+      object : TokenCallback {
+        override fun onTokenReady(token: String) {
+          callback.onTokenReady(token)
+          refresh(applicationContext, key, fetcher)
+        }
+
+        override fun onTokenError(error: AdError) {
+          callback.onTokenError(error)
+        }
+      },
+    )
+  }
+
+  /**
+   * Fetches a token for [key] in the background using [fetcher], unless a valid one is already
+   * cached.
+   */
+  fun prefetch(context: Context, key: String, fetcher: TokenFetcher) {
+    val applicationContext = context.applicationContext ?: context
+    if (!isCachingEnabled(applicationContext)) {
+      return
+    }
+    val cachedToken = cachedTokens[key]
+    if (cachedToken != null && !isExpired(cachedToken)) {
+      return
+    }
+    refresh(applicationContext, key, fetcher)
+  }
+
+  /** Drops all cached tokens, e.g. when inputs that are encoded in the tokens change. */
+  fun clear() {
+    generation.incrementAndGet()
+    cachedTokens.clear()
+  }
+
+  /**
+   * Returns whether tokens are cached for the network. If so, first checks for privacy changes, so
+   * that tokens cached under the previous consent are dropped before they could be handed out.
+   */
+  private fun isCachingEnabled(context: Context): Boolean {
+    if (getTtlMillis(network) == null) {
+      return false
+    }
+    privacySnapshotService.getSnapshot(context)
+    return true
+  }
+
+  private fun refresh(context: Context, key: String, fetcher: TokenFetcher) {
+    if (getTtlMillis(network) == null || !refreshingKeys.add(key)) {
+      return
+    }
+    val fetchGeneration = generation.get()
+    refreshExecutor.execute {
+      try {
+        fetcher.fetchToken(
+          context,
+          key,
+          object : TokenCallback {
+            override fun onTokenReady(token: String) {
+              val ttlMillis = getTtlMillis(network)
+              if (token.isNotEmpty() && ttlMillis != null && generation.get() == fetchGeneration) {
+                val expiresAtMillis = clock.elapsedRealtimeMillis() + ttlMillis
+                cachedTokens[key] = CachedToken(token, expiresAtMillis)
+              }
+              refreshingKeys.remove(key)
+            }
+
+            override fun onTokenError(error: AdError) {
+              refreshingKeys.remove(key)
+            }
+          },
+        )
+      } catch (exception: RuntimeException) {
+        // A failed refresh only means that the next auction fetches its own token.
+        refreshingKeys.remove(key)
+        Log.w(TAG, "Failed to refresh the bid token for $key.", exception)
+      }
+    }
+  }
+
+  private fun isExpired(cachedToken: CachedToken) =
+    clock.elapsedRealtimeMillis() >= cachedToken.expiresAtMillis
+
+  private object BackgroundExecutorHolder {
+    val EXECUTOR: Executor = Executors.newSingleThreadExecutor { runnable ->
+      Thread(runnable, "BidTokenCache").apply { isDaemon = true }
+    }
+  }
+
+  /** Runs fetches on the executor set with [setDefaultRefreshExecutor], if any. */
+  private object DefaultRefreshExecutor : Executor {
+    override fun execute(command: Runnable) {
+      (refreshExecutorOverride ?: BackgroundExecutorHolder.EXECUTOR).execute(command)
+    }
+  }
+
+  companion object {
+
+    private const val TAG = "BidTokenCache"
+
+    private val ttlMillisByNetwork = ConcurrentHashMap<String, Long>()
+
+    @Volatile private var refreshExecutorOverride: Executor? = null
+
+    /**
+     * Caches the bid tokens of [network] for [ttlMillis] after they're fetched. Use the lifetime
+     * that the network documents for its tokens.
+     */
+    @JvmStatic
+    fun setTtlMillis(network: String, ttlMillis: Long) {
+      require(ttlMillis > 0) { "ttlMillis must be positive." }
+      ttlMillisByNetwork[network] = ttlMillis
+    }
+
+    /** Stops caching the bid tokens of [network]. Tokens that are already cached aren't used. */
+    @JvmStatic
+    fun removeTtlMillis(network: String) {
+      ttlMillisByNetwork.remove(network)
+    }
+
+    /** Returns how long the bid tokens of [network] are cached, or null if they aren't. */
+    @JvmStatic fun getTtlMillis(network: String): Long? = ttlMillisByNetwork[network]
+
+    /**
+     * Runs the background fetches of caches that were created without an executor on [executor], or
+     * on a shared background thread if it's null. Lets adapter tests control when tokens refresh.
+     */
+    @JvmStatic
+    fun setDefaultRefreshExecutor(executor: Executor?) {
+      refreshExecutorOverride = executor
+    }
+  }
+}
@@ -0,0 +1,33 @@
+// Copyright 2025 Google LLC
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package com.google.ads.mediation.common
+
+import android.os.SystemClock
+
+/** Source of monotonic time, which can be replaced by a fake clock in tests. */
+fun interface Clock {
+
+  /**
+   * Returns the current time in milliseconds. Only the difference between two values is
+   * meaningful.
+   */
+  fun elapsedRealtimeMillis(): Long
+
+  companion object {
+
+    /** A clock backed by [SystemClock.elapsedRealtime]. */
+    @JvmField val SYSTEM = Clock { SystemClock.elapsedRealtime() }
+  }
+}
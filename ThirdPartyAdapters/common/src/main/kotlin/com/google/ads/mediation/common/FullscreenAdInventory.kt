@@ -0,0 +1,211 @@
+// Copyright 2025 Google LLC
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package com.google.ads.mediation.common
+
+import android.os.Handler
+import android.os.Looper
+import java.util.concurrent.ConcurrentHashMap
+import java.util.concurrent.CopyOnWriteArraySet
+
+/**
+ * Tracks how long loaded fullscreen ads stay valid, so that stale ads are reported when they expire
+ * instead of failing when the app tries to show them.
+ *
+ * Interstitial, rewarded and app open ads hold creatives that networks only serve for a limited
+ * time after the load. Adapters [track] an ad once it loaded, check [TrackedAd.isExpired] when the
+ * ad is shown, and [TrackedAd.remove] it once it was shown, failed to show, was destroyed or was
+ * replaced by a new load. When a tracked ad's time-to-live elapses before that, the ad's own
+ * listener and all listeners added with [addExpiryListener] are notified, so that apps can load a
+ * fresh ad ahead of the next show. Expiry is not a show failure: adapters only report one if the
+ * app tries to show the expired ad.
+ *
+ * Each ad gets the time-to-live of its network when it's tracked, as set with [setTtlMillis]. Only
+ * networks that document how long their ads stay valid should have one. Ads from networks without
+ * a time-to-live never expire, so they aren't tracked at all.
+ *
+ * @param clock the clock used to time ads.
+ * @param scheduler runs expiry checks once ads' time-to-live elapses. By default, checks run on the
+ *   main thread.
+ */
+class FullscreenAdInventory
+@JvmOverloads
+constructor(
+  private val clock: Clock = Clock.SYSTEM,
+  private val scheduler: Scheduler = MainThreadScheduler,
+) {
+
+  /** Runs tasks after a delay. */
+  interface Scheduler {
+
+    /** Runs [task] once [delayMillis] have passed. */
+    fun schedule(delayMillis: Long, task: Runnable)
+
+    /** Cancels [task] if it hasn't run yet. */
+    fun cancel(task: Runnable)
+  }
+
+  /** Notified when a tracked ad expires before it was shown. */
+  fun interface ExpiryListener {
+
+    /** Called once [ad] expired. The ad is no longer tracked by then. */
+    fun onExpired(ad: TrackedAd)
+  }
+
+  /**
+   * A loaded fullscreen ad.
+   *
+   * @property network the ad network, e.g. "meta".
+   * @property format the ad format, e.g. [AdEventPipeline.FORMAT_INTERSTITIAL].
+   * @property loadedAtMillis when the ad was tracked, according to the inventory's clock.
+   * @property ttlMillis how long the ad stays valid after [loadedAtMillis].
+   */
+  inner class TrackedAd
+  internal constructor(
+    val network: String,
+    val format: String,
+    val loadedAtMillis: Long,
+    val ttlMillis: Long,
+    internal val listener: ExpiryListener?,
+  ) {
+
+    /** The pending expiry check of the ad, if any. */
+    @Volatile internal var expiryCheck: Runnable? = null
+
+    /** Returns how long the ad stays valid, or 0 once it expired. */
+    fun getRemainingTtlMillis(): Long =
+      (loadedAtMillis + ttlMillis - clock.elapsedRealtimeMillis()).coerceAtLeast(0L)
+
+    /** Returns whether the ad's time-to-live elapsed. */
+    fun isExpired(): Boolean = getRemainingTtlMillis() == 0L
+
+    /** Stops tracking the ad, once it was shown, failed to show, was destroyed or was replaced. */
+    fun remove() {
+      trackedAds.remove(this)
+      cancelExpiryCheck(this)
+    }
+  }
+
+  private val ttlMillisByNetwork = ConcurrentHashMap<String, Long>()
+  private val trackedAds: MutableSet<TrackedAd> = ConcurrentHashMap.newKeySet()
+  private val expiryListeners = CopyOnWriteArraySet<ExpiryListener>()
+
+  /** Sets the time-to-live of ads from [network] that are tracked from now on. */
+  fun setTtlMillis(network: String, ttlMillis: Long) {
+    require(ttlMillis > 0) { "ttlMillis must be positive." }
+    ttlMillisByNetwork[network] = ttlMillis
+  }
+
+  /** Stops timing ads from [network] that are tracked from now on. */
+  fun removeTtlMillis(network: String) {
+    ttlMillisByNetwork.remove(network)
+  }
+
+  /** Returns the time-to-live of ads from [network], or null if it has none. */
+  fun getTtlMillis(network: String): Long? = ttlMillisByNetwork[network]
+
+  /**
+   * Starts tracking a [format] ad from [network] that just loaded. [listener] is notified if the ad
+   * expires before it's removed.
+   *
+   * Returns null, without keeping any reference to the ad, if [network] has no time-to-live, since
+   * such ads never expire.
+   */
+  @JvmOverloads
+  fun track(network: String, format: String, listener: ExpiryListener? = null): TrackedAd? {
+    val ttlMillis = getTtlMillis(network) ?: return null
+    val ad = TrackedAd(network, format, clock.elapsedRealtimeMillis(), ttlMillis, listener)
+    trackedAds.add(ad)
+    scheduleExpiryCheck(ad)
+    return ad
+  }
+
+  /** Returns the ads that are tracked and haven't expired yet. */
+  fun getTrackedAds(): List<TrackedAd> = trackedAds.filterNot { it.isExpired() }
+
+  /** Notifies [listener] of every tracked ad that expires. */
+  fun addExpiryListener(listener: ExpiryListener) {
+    expiryListeners.add(listener)
+  }
+
+  /** Stops notifying [listener]. */
+  fun removeExpiryListener(listener: ExpiryListener) {
+    expiryListeners.remove(listener)
+  }
+
+  /**
+   * Reports the tracked ads that expired and stops tracking them. This runs on its own once an ad's
+   * time-to-live elapses, and only needs to be called directly if the scheduler may run late.
+   */
+  fun reportExpiredAds() {
+    trackedAds.filter { it.isExpired() }.forEach(::reportIfTracked)
+  }
+
+  /** Stops tracking all ads, without reporting them. */
+  fun clear() {
+    val ads = trackedAds.toList()
+    trackedAds.clear()
+    ads.forEach(::cancelExpiryCheck)
+  }
+
+  private fun scheduleExpiryCheck(ad: TrackedAd) {
+    val check = Runnable {
+      ad.expiryCheck = null
+      if (ad.isExpired()) {
+        reportIfTracked(ad)
+      } else if (ad in trackedAds) {
+        // The task ran before the ad expired according to the inventory's clock.
+        scheduleExpiryCheck(ad)
+      }
+    }
+    ad.expiryCheck = check
+    scheduler.schedule(ad.getRemainingTtlMillis(), check)
+  }
+
+  private fun cancelExpiryCheck(ad: TrackedAd) {
+    ad.expiryCheck?.let(scheduler::cancel)
+    ad.expiryCheck = null
+  }
+
+  private fun reportIfTracked(ad: TrackedAd) {
+    // Only the caller that removes the ad reports it, so that each expiry is reported once.
+    if (!trackedAds.remove(ad)) {
+      return
+    }
+    cancelExpiryCheck(ad)
+    ad.listener?.onExpired(ad)
+    expiryListeners.forEach { it.onExpired(ad) }
+  }
+
+  private object MainThreadScheduler : Scheduler {
+
+    private val handler by lazy { Handler(Looper.getMainLooper()) }
+
+    override fun schedule(delayMillis: Long, task: Runnable) {
+      handler.postDelayed(task, delayMillis)
+    }
+
+    override fun cancel(task: Runnable) {
+      handler.removeCallbacks(task)
+    }
+  }
+
+  companion object {
+
+    private val INSTANCE by lazy { FullscreenAdInventory() }
+
+    /** Returns the inventory shared by all adapters in the process. */
+    @JvmStatic fun getInstance(): FullscreenAdInventory = INSTANCE
+  }
+}
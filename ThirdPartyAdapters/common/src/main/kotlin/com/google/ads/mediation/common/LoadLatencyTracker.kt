@@ -0,0 +1,285 @@
+// Copyright 2025 Google LLC
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package com.google.ads.mediation.common
+
+import com.google.android.gms.ads.AdError
+import com.google.android.gms.ads.mediation.MediationAdLoadCallback
+import java.util.concurrent.atomic.AtomicBoolean
+import kotlin.math.ceil
+
+/**
+ * Times ad loads, from the moment an adapter is asked to load an ad until it reports the result to
+ * the Google Mobile Ads SDK, and aggregates the timings into histograms per network and format.
+ *
+ * Adapters call [startLoad] when a load starts, and mark the milestones of the returned [LoadSpan]
+ * as the load progresses: when the network SDK finished initializing, when the ad request was sent
+ * to the network SDK, and when the network SDK reported the result. Wrapping the load callback with
+ * [LoadSpan.wrap] ends the span when the result is reported to the Google Mobile Ads SDK. This
+ * splits the load time into the [Phase]s that waterfall timeouts need to account for, such as
+ * waiting for the SDK to initialize versus waiting for the network to respond.
+ *
+ * Apps query the aggregated timings with [getStats].
+ *
+ * @param clock the clock used to time loads.
+ */
+class LoadLatencyTracker @JvmOverloads constructor(private val clock: Clock = Clock.SYSTEM) {
+
+  /** A part of an ad load. */
+  enum class Phase {
+    /** From the start of the load until the network SDK finished initializing. */
+    INIT_WAIT,
+    /** From the end of initialization until the ad request was sent to the network SDK. */
+    REQUEST_PREPARATION,
+    /** From sending the ad request until the network SDK reported the result. */
+    SDK_LOAD,
+    /** From the network SDK's result until the result was reported to the Google Mobile Ads SDK. */
+    DELIVERY,
+    /** The whole load. */
+    TOTAL,
+  }
+
+  /**
+   * The milestones of one ad load.
+   *
+   * Milestones that an adapter doesn't mark, such as the end of initialization for networks that
+   * need none, or any milestone after a failure, are taken to coincide with the next milestone that
+   * was reached. Only the first mark of each milestone counts, and only the first [finish] is
+   * recorded.
+   */
+  inner class LoadSpan internal constructor(val network: String, val format: String) {
+
+    private val startMillis = clock.elapsedRealtimeMillis()
+    @Volatile private var initCompleteMillis = UNSET
+    @Volatile private var sdkRequestSentMillis = UNSET
+    @Volatile private var sdkCallbackMillis = UNSET
+    private val isFinished = AtomicBoolean(false)
+
+    /** Marks that the network SDK finished initializing. */
+    fun markInitComplete() {
+      if (initCompleteMillis == UNSET) {
+        initCompleteMillis = clock.elapsedRealtimeMillis()
+      }
+    }
+
+    /** Marks that the ad request was sent to the network SDK. */
+    fun markSdkRequestSent() {
+      if (sdkRequestSentMillis == UNSET) {
+        sdkRequestSentMillis = clock.elapsedRealtimeMillis()
+      }
+    }
+
+    /** Marks that the network SDK reported the result of the ad request. */
+    fun markSdkCallback() {
+      if (sdkCallbackMillis == UNSET) {
+        sdkCallbackMillis = clock.elapsedRealtimeMillis()
+      }
+    }
+
+    /** Ends the load, once its result was reported to the Google Mobile Ads SDK. */
+    fun finish(isSuccess: Boolean) {
+      if (!isFinished.compareAndSet(false, true)) {
+        return
+      }
+      val finishMillis = clock.elapsedRealtimeMillis()
+      val sdkCallback = sdkCallbackMillis.orElse(finishMillis)
+      val sdkRequestSent = sdkRequestSentMillis.orElse(sdkCallback)
+      val initComplete = initCompleteMillis.orElse(sdkRequestSent)
+      record(
+        network,
+        format,
+        isSuccess,
+        longArrayOf(
+          initComplete - startMillis,
+          sdkRequestSent - initComplete,
+          sdkCallback - sdkRequestSent,
+          finishMillis - sdkCallback,
+          finishMillis - startMillis,
+        ),
+      )
+    }
+
+    /** Returns a callback that ends this span and then forwards the result to [callback]. */
+    fun <AdT, AdCallbackT> wrap(
+      callback: MediationAdLoadCallback<AdT, AdCallbackT>
+    ): MediationAdLoadCallback<AdT, AdCallbackT> =
+      object : MediationAdLoadCallback<AdT, AdCallbackT> {
+        override fun onSuccess(mediationAd: AdT): AdCallbackT {
+          finish(isSuccess = true)
+          return callback.onSuccess(mediationAd)
+        }
+
+        override fun onFailure(adError: AdError) {
+          finish(isSuccess = false)
+          callback.onFailure(adError)
+        }
+
+        @Deprecated("Use onFailure(AdError) instead.")
+        override fun onFailure(errorMessage: String) {
+          finish(isSuccess = false)
+          @Suppress("DEPRECATION") callback.onFailure(errorMessage)
+        }
+      }
+
+    private fun Long.orElse(fallback: Long): Long = if (this == UNSET) fallback else this
+  }
+
+  /**
+   * The distribution of a phase's duration, in milliseconds.
+   *
+   * @property count the number of recorded durations.
+   * @property sumMillis the sum of the recorded durations.
+   * @property maxMillis the longest recorded duration.
+   * @property bucketCounts the number of durations in each bucket. Bucket `i` counts durations up
+   *   to [BUCKET_UPPER_BOUNDS_MILLIS]`[i]`, and the last bucket counts all longer durations.
+   */
+  class LatencyHistogram(
+    val count: Long,
+    val sumMillis: Long,
+    val maxMillis: Long,
+    val bucketCounts: List<Long>,
+  ) {
+
+    /** The average duration, or 0 if nothing was recorded. */
+    val meanMillis: Double
+      get() = if (count == 0L) 0.0 else sumMillis.toDouble() / count
+
+    /**
+     * Returns an upper bound of the duration that [percentile] percent of the recorded durations
+     * don't exceed: the upper bound of the bucket that contains it, or [maxMillis] if that's lower.
+     */
+    fun percentileMillis(percentile: Double): Long {
+      require(percentile in 0.0..100.0) { "percentile must be between 0 and 100." }
+      if (count == 0L) {
+        return 0L
+      }
+      val rank = ceil(count * percentile / 100).toLong().coerceAtLeast(1L)
+      var seen = 0L
+      for ((index, bucketCount) in bucketCounts.withIndex()) {
+        seen += bucketCount
+        if (seen >= rank) {
+          return BUCKET_UPPER_BOUNDS_MILLIS.getOrNull(index)?.coerceAtMost(maxMillis) ?: maxMillis
+        }
+      }
+      return maxMillis
+    }
+
+    override fun toString(): String =
+      "count=$count mean=${"%.1f".format(meanMillis)}ms p50=${percentileMillis(50.0)}ms " +
+        "p90=${percentileMillis(90.0)}ms max=${maxMillis}ms"
+  }
+
+  /**
+   * The load timings of one network and ad format.
+   *
+   * @property network the ad network, e.g. "pangle".
+   * @property format the ad format, e.g. [AdEventPipeline.FORMAT_BANNER].
+   * @property isSuccess whether these are the timings of successful or of failed loads.
+   * @property histograms the distribution of each phase's duration.
+   */
+  class LoadStats(
+    val network: String,
+    val format: String,
+    val isSuccess: Boolean,
+    val histograms: Map<Phase, LatencyHistogram>,
+  ) {
+
+    override fun toString(): String = buildString {
+      append(network).append(' ').append(format).append(if (isSuccess) " loaded" else " failed")
+      for ((phase, histogram) in histograms) {
+        append("\n  ").append(phase).append(": ").append(histogram)
+      }
+    }
+  }
+
+  private data class Key(val network: String, val format: String, val isSuccess: Boolean)
+
+  /** Mutable histogram of one phase. Guarded by [stats]. */
+  private class Histogram {
+    var count = 0L
+    var sumMillis = 0L
+    var maxMillis = 0L
+    val bucketCounts = LongArray(BUCKET_UPPER_BOUNDS_MILLIS.size + 1)
+
+    fun add(durationMillis: Long) {
+      count++
+      sumMillis += durationMillis
+      maxMillis = maxOf(maxMillis, durationMillis)
+      var bucket = BUCKET_UPPER_BOUNDS_MILLIS.binarySearch(durationMillis)
+      if (bucket < 0) {
+        bucket = -bucket - 1
+      }
+      bucketCounts[bucket]++
+    }
+
+    fun snapshot() = LatencyHistogram(count, sumMillis, maxMillis, bucketCounts.toList())
+  }
+
+  // Guarded by itself.
+  private val stats = HashMap<Key, Array<Histogram>>()
+
+  /** Starts timing a load of a [format] ad from [network]. */
+  fun startLoad(network: String, format: String): LoadSpan = LoadSpan(network, format)
+
+  /** Returns the timings recorded so far, for each network, format and outcome. */
+  fun getStats(): List<LoadStats> =
+    synchronized(stats) {
+      stats.map { (key, histograms) ->
+        LoadStats(
+          key.network,
+          key.format,
+          key.isSuccess,
+          Phase.values().associateWith { histograms[it.ordinal].snapshot() },
+        )
+      }
+    }
+
+  /** Drops all recorded timings. */
+  fun reset() {
+    synchronized(stats) { stats.clear() }
+  }
+
+  private fun record(
+    network: String,
+    format: String,
+    isSuccess: Boolean,
+    phaseDurationsMillis: LongArray,
+  ) {
+    synchronized(stats) {
+      val histograms =
+        stats.getOrPut(Key(network, format, isSuccess)) {
+          Array(Phase.values().size) { Histogram() }
+        }
+      for ((index, durationMillis) in phaseDurationsMillis.withIndex()) {
+        // The clock is monotonic, but guard against marks recorded out of order.
+        histograms[index].add(durationMillis.coerceAtLeast(0L))
+      }
+    }
+  }
+
+  companion object {
+
+    private const val UNSET = -1L
+
+    /** Upper bounds of the histogram buckets, in milliseconds. */
+    @JvmField
+    val BUCKET_UPPER_BOUNDS_MILLIS =
+      longArrayOf(10, 25, 50, 100, 250, 500, 1_000, 2_500, 5_000, 10_000, 30_000)
+
+    private val INSTANCE by lazy { LoadLatencyTracker() }
+
+    /** Returns the tracker shared by all adapters in the process. */
+    @JvmStatic fun getInstance(): LoadLatencyTracker = INSTANCE
+  }
+}
@@ -0,0 +1,156 @@
+// Copyright 2025 Google LLC
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package com.google.ads.mediation.common
+
+import android.content.ComponentCallbacks2
+import android.content.ComponentCallbacks2.TRIM_MEMORY_BACKGROUND
+import android.content.ComponentCallbacks2.TRIM_MEMORY_COMPLETE
+import android.content.ComponentCallbacks2.TRIM_MEMORY_RUNNING_CRITICAL
+import android.content.ComponentCallbacks2.TRIM_MEMORY_RUNNING_LOW
+import android.content.ComponentCallbacks2.TRIM_MEMORY_UI_HIDDEN
+import android.content.Context
+import android.content.res.Configuration
+import java.util.concurrent.ConcurrentHashMap
+import java.util.concurrent.atomic.AtomicBoolean
+
+/**
+ * Trims the caches and pools of all adapters when the system asks the app to release memory.
+ *
+ * Adapters [register] each cache or pool of objects they keep across ads, together with a
+ * [TrimPolicy] that decides how much of it to keep at each trim level, and call
+ * [registerForTrimMemory] once they have a context. When the system calls [onTrimMemory], every
+ * registered [Trimmable] is trimmed to the size its policy allows, so that ad memory is released in
+ * one place instead of each adapter listening for trim callbacks on its own.
+ *
+ * Objects that back ads returned to the Google Mobile Ads SDK, such as the images of a loaded
+ * native ad, must not be registered, since the ad may still be shown.
+ */
+class MemoryPressureCoordinator : ComponentCallbacks2 {
+
+  /** A cache or pool whose memory can be released. */
+  interface Trimmable {
+
+    /** Returns an estimate of the memory held, in bytes. */
+    fun getSizeInBytes(): Long
+
+    /** Releases entries until at most [maxSizeInBytes] are held. */
+    fun trimToSize(maxSizeInBytes: Long)
+  }
+
+  /** Decides how much memory a [Trimmable] may keep at each trim level. */
+  fun interface TrimPolicy {
+
+    /**
+     * Returns the number of bytes to keep at [level], one of the
+     * `ComponentCallbacks2.TRIM_MEMORY_*` levels, out of [sizeInBytes] currently held.
+     */
+    fun getMaxSizeInBytes(level: Int, sizeInBytes: Long): Long
+  }
+
+  private class Registration(val trimmable: Trimmable, val policy: TrimPolicy)
+
+  private val registrations = ConcurrentHashMap<String, Registration>()
+  private val isRegisteredForTrimMemory = AtomicBoolean()
+
+  /**
+   * Registers [trimmable] under [name], replacing whatever was registered under that name, and
+   * trims it according to [policy].
+   */
+  @JvmOverloads
+  fun register(name: String, trimmable: Trimmable, policy: TrimPolicy = DEFAULT_TRIM_POLICY) {
+    registrations[name] = Registration(trimmable, policy)
+  }
+
+  /** Unregisters what was registered under [name]. */
+  fun unregister(name: String) {
+    registrations.remove(name)
+  }
+
+  /**
+   * Registers for memory trim callbacks from the application of [context]. Calling it more than
+   * once has no effect.
+   */
+  fun registerForTrimMemory(context: Context) {
+    if (isRegisteredForTrimMemory.compareAndSet(false, true)) {
+      context.applicationContext.registerComponentCallbacks(this)
+    }
+  }
+
+  /** Returns the estimated memory held by all registered caches and pools, in bytes. */
+  fun getSizeInBytes(): Long = registrations.values.sumOf { it.trimmable.getSizeInBytes() }
+
+  /**
+   * Trims every registered cache and pool to the size its policy allows at [level], and returns the
+   * number of bytes released.
+   */
+  fun trim(level: Int): Long {
+    var releasedBytes = 0L
+    for (registration in registrations.values) {
+      val sizeInBytes = registration.trimmable.getSizeInBytes()
+      val maxSizeInBytes =
+        registration.policy.getMaxSizeInBytes(level, sizeInBytes).coerceAtLeast(0L)
+      // Trims to 0 even if the estimate is 0, since pools may hold objects of unknown size.
+      if (maxSizeInBytes < sizeInBytes || maxSizeInBytes == 0L) {
+        registration.trimmable.trimToSize(maxSizeInBytes)
+        releasedBytes += sizeInBytes - registration.trimmable.getSizeInBytes()
+      }
+    }
+    return releasedBytes
+  }
+
+  override fun onTrimMemory(level: Int) {
+    trim(level)
+  }
+
+  override fun onLowMemory() {
+    trim(TRIM_MEMORY_COMPLETE)
+  }
+
+  override fun onConfigurationChanged(newConfig: Configuration) {
+    // No-op.
+  }
+
+  companion object {
+
+    /**
+     * Keeps half of the memory while the device is running low or the app's UI is hidden, and
+     * releases everything when memory is critically low or the app is in the background.
+     */
+    @JvmField
+    val DEFAULT_TRIM_POLICY = TrimPolicy { level, sizeInBytes ->
+      when {
+        level >= TRIM_MEMORY_BACKGROUND -> 0L
+        level == TRIM_MEMORY_UI_HIDDEN -> sizeInBytes / 2
+        level >= TRIM_MEMORY_RUNNING_CRITICAL -> 0L
+        level >= TRIM_MEMORY_RUNNING_LOW -> sizeInBytes / 2
+        else -> sizeInBytes
+      }
+    }
+
+    /**
+     * Releases everything once the device is running low or the app's UI is hidden. Suits pools of
+     * objects that are cheap to recreate, such as banner views.
+     */
+    @JvmField
+    val RELEASE_ALL_POLICY = TrimPolicy { level, sizeInBytes ->
+      if (level >= TRIM_MEMORY_RUNNING_LOW) 0L else sizeInBytes
+    }
+
+    private val INSTANCE by lazy { MemoryPressureCoordinator() }
+
+    /** Returns the coordinator shared by all adapters in the process. */
+    @JvmStatic fun getInstance(): MemoryPressureCoordinator = INSTANCE
+  }
+}
@@ -14,10 +14,6 @@
 
 package com.google.ads.mediation.common
 
-import com.google.ads.mediation.common.VersionInfoCompareUtils.isVersionGreaterThanOrEqualTo
-import com.google.android.gms.ads.MobileAds
-import com.google.android.gms.ads.VersionInfo
-
 /** Contains helper functions for mediation adapters' native ad implementation. */
 object NativeAdHelper {
 
@@ -25,9 +21,9 @@ object NativeAdHelper {
    * Checks whether the runtime GMA SDK is a version of GMA SDK that listens to adapter-reported
    * native ad impressions.
    *
-   * GMA SDK versions >= 24.4.0 listen to adapter-reported native ad impressions.
+   * See [VersionInfoService.runtimeGmaSdkListensToAdapterReportedImpressions].
    */
   @JvmStatic
   fun runtimeGmaSdkListensToAdapterReportedImpressions() =
-    isVersionGreaterThanOrEqualTo(MobileAds.getVersion(), VersionInfo(24, 4, 0))
+    VersionInfoService.runtimeGmaSdkListensToAdapterReportedImpressions()
 }
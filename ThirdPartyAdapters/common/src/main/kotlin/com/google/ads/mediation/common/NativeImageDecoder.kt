@@ -0,0 +1,186 @@
+// Copyright 2025 Google LLC
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package com.google.ads.mediation.common
+
+import android.content.res.Resources
+import android.graphics.Bitmap
+import android.graphics.BitmapFactory
+import android.os.Build
+import java.io.InputStream
+import kotlin.math.max
+import kotlin.math.roundToInt
+
+/**
+ * Decodes native ad images at the size they are rendered at, instead of at the full size of the
+ * creative.
+ */
+object NativeImageDecoder {
+
+  /** Largest size, in dp, at which native ad templates render the ad icon. */
+  const val ICON_TARGET_SIZE_DP = 128
+
+  /** MIME types of formats that can't carry an alpha channel. */
+  private val OPAQUE_MIME_TYPES = setOf("image/jpeg", "image/jpg")
+
+  /**
+   * Options used to decode a native ad image.
+   *
+   * @property targetWidthPx the width at which the image is rendered.
+   * @property targetHeightPx the height at which the image is rendered.
+   * @property allowRgb565 whether opaque images may be decoded as [Bitmap.Config.RGB_565], which
+   *   uses half the memory of [Bitmap.Config.ARGB_8888].
+   * @property allowHardware whether images may be decoded as [Bitmap.Config.HARDWARE] bitmaps.
+   *   These only live in graphics memory but can't be drawn on a software canvas, so only enable
+   *   this when the image is only ever drawn by hardware accelerated views.
+   */
+  data class DecodeOptions
+  @JvmOverloads
+  constructor(
+    val targetWidthPx: Int,
+    val targetHeightPx: Int,
+    val allowRgb565: Boolean = false,
+    val allowHardware: Boolean = false,
+  )
+
+  /** Returns the options to decode an ad icon at the size native templates render it at. */
+  @JvmStatic
+  @JvmOverloads
+  fun iconDecodeOptions(resources: Resources, allowRgb565: Boolean = false): DecodeOptions {
+    val sizePx = (ICON_TARGET_SIZE_DP * resources.displayMetrics.density).roundToInt()
+    return DecodeOptions(sizePx, sizePx, allowRgb565)
+  }
+
+  /**
+   * Returns the options to decode an ad's main image. A media view is never larger than the
+   * screen, so the image is bounded by the screen size.
+   */
+  @JvmStatic
+  @JvmOverloads
+  fun mediaDecodeOptions(resources: Resources, allowRgb565: Boolean = false): DecodeOptions {
+    val metrics = resources.displayMetrics
+    val sizePx = max(metrics.widthPixels, metrics.heightPixels)
+    return DecodeOptions(sizePx, sizePx, allowRgb565)
+  }
+
+  /**
+   * Returns the largest power of two sample size that keeps the decoded image at least as large
+   * as the target size in both dimensions.
+   */
+  @JvmStatic
+  fun calculateInSampleSize(width: Int, height: Int, targetWidth: Int, targetHeight: Int): Int {
+    if (width <= 0 || height <= 0 || targetWidth <= 0 || targetHeight <= 0) {
+      return 1
+    }
+    var inSampleSize = 1
+    while (
+      width / (inSampleSize * 2) >= targetWidth && height / (inSampleSize * 2) >= targetHeight
+    ) {
+      inSampleSize *= 2
+    }
+    return inSampleSize
+  }
+
+  /**
+   * Decodes the image read from [inputStream]. The image bounds are read first so that the image
+   * can be subsampled down to the target size while decoding.
+   *
+   * @return the decoded bitmap, or null if the image could not be decoded.
+   */
+  @JvmStatic
+  fun decode(inputStream: InputStream, options: DecodeOptions): Bitmap? =
+    decode(inputStream.readBytes(), options)
+
+  /**
+   * Decodes the image in [data], subsampled down to the target size.
+   *
+   * @return the decoded bitmap, or null if the image could not be decoded.
+   */
+  @JvmStatic
+  fun decode(data: ByteArray, options: DecodeOptions): Bitmap? =
+    decodeSampled(options) { bitmapOptions ->
+      BitmapFactory.decodeByteArray(data, 0, data.size, bitmapOptions)
+    }
+
+  /**
+   * Decodes the image file at [path], subsampled down to the target size. This reads from disk, so
+   * don't call it on the main thread.
+   *
+   * @return the decoded bitmap, or null if the image could not be read or decoded.
+   */
+  @JvmStatic
+  fun decodeFile(path: String, options: DecodeOptions): Bitmap? =
+    decodeSampled(options) { bitmapOptions -> BitmapFactory.decodeFile(path, bitmapOptions) }
+
+  private inline fun decodeSampled(
+    options: DecodeOptions,
+    decodeBitmap: (BitmapFactory.Options) -> Bitmap?,
+  ): Bitmap? {
+    val bitmapOptions = BitmapFactory.Options()
+    bitmapOptions.inJustDecodeBounds = true
+    decodeBitmap(bitmapOptions)
+    if (bitmapOptions.outWidth <= 0 || bitmapOptions.outHeight <= 0) {
+      return null
+    }
+
+    bitmapOptions.inSampleSize =
+      calculateInSampleSize(
+        bitmapOptions.outWidth,
+        bitmapOptions.outHeight,
+        options.targetWidthPx,
+        options.targetHeightPx,
+      )
+    bitmapOptions.inPreferredConfig = preferredConfig(bitmapOptions.outMimeType, options)
+    bitmapOptions.inJustDecodeBounds = false
+    return decodeBitmap(bitmapOptions)
+  }
+
+  /**
+   * Scales down an already decoded [bitmap] so that it fits within the target size. Returns the
+   * bitmap itself if it is already small enough.
+   */
+  @JvmStatic
+  fun scaleDown(bitmap: Bitmap, options: DecodeOptions): Bitmap {
+    val width = bitmap.width
+    val height = bitmap.height
+    if (
+      width <= 0 ||
+        height <= 0 ||
+        options.targetWidthPx <= 0 ||
+        options.targetHeightPx <= 0 ||
+        (width <= options.targetWidthPx && height <= options.targetHeightPx)
+    ) {
+      return bitmap
+    }
+
+    val scale =
+      minOf(
+        options.targetWidthPx.toFloat() / width,
+        options.targetHeightPx.toFloat() / height,
+      )
+    val scaledWidth = max(1, (width * scale).roundToInt())
+    val scaledHeight = max(1, (height * scale).roundToInt())
+    return Bitmap.createScaledBitmap(bitmap, scaledWidth, scaledHeight, /* filter= */ true)
+  }
+
+  private fun preferredConfig(mimeType: String?, options: DecodeOptions): Bitmap.Config {
+    if (options.allowHardware && Build.VERSION.SDK_INT >= Build.VERSION_CODES.O) {
+      return Bitmap.Config.HARDWARE
+    }
+    if (options.allowRgb565 && mimeType != null && mimeType in OPAQUE_MIME_TYPES) {
+      return Bitmap.Config.RGB_565
+    }
+    return Bitmap.Config.ARGB_8888
+  }
+}
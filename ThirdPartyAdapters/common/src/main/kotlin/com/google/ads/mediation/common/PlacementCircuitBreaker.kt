@@ -0,0 +1,165 @@
+// Copyright 2025 Google LLC
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package com.google.ads.mediation.common
+
+import com.google.android.gms.ads.AdError
+
+/**
+ * Stops loading ads from placements that keep failing, so that waterfalls don't spend their latency
+ * budget on a network round trip that is bound to fail.
+ *
+ * Adapters ask [checkLoad] before loading an ad, and report the outcome with [recordSuccess] or
+ * [recordFailure]. Only failures that are certain to repeat, such as a misconfigured or disabled
+ * placement, should be reported as failures. No fill depends on demand at the time of the request,
+ * and transient errors such as timeouts go away on their own, so both should be reported as
+ * neither.
+ *
+ * After [failureThreshold] consecutive failures, the placement's circuit opens and loads fail
+ * immediately for [openDurationMillis]. The next load after that is let through as a trial: if it
+ * succeeds the circuit closes, and if it fails the circuit opens again. Trials that report neither
+ * outcome let another trial through after [openDurationMillis].
+ *
+ * @param failureThreshold the number of consecutive failures that open a circuit.
+ * @param openDurationMillis how long loads fail immediately once a circuit opened.
+ * @param clock the clock used to time open circuits.
+ */
+class PlacementCircuitBreaker
+@JvmOverloads
+constructor(
+  failureThreshold: Int = DEFAULT_FAILURE_THRESHOLD,
+  openDurationMillis: Long = DEFAULT_OPEN_DURATION_MILLIS,
+  private val clock: Clock = Clock.SYSTEM,
+) {
+
+  /** The state of a placement's circuit. */
+  enum class State {
+    /** Loads go through. */
+    CLOSED,
+    /** Loads fail immediately. */
+    OPEN,
+    /** A trial load went through, and further loads fail until it reports its outcome. */
+    HALF_OPEN,
+  }
+
+  /** The number of consecutive failures that open a circuit. */
+  @Volatile
+  var failureThreshold: Int = failureThreshold
+    set(value) {
+      require(value > 0) { "failureThreshold must be positive." }
+      field = value
+    }
+
+  /** How long loads fail immediately once a circuit opened. */
+  @Volatile
+  var openDurationMillis: Long = openDurationMillis
+    set(value) {
+      require(value >= 0) { "openDurationMillis must not be negative." }
+      field = value
+    }
+
+  init {
+    // Validates the constructor arguments.
+    this.failureThreshold = failureThreshold
+    this.openDurationMillis = openDurationMillis
+  }
+
+  private data class Key(val network: String, val placementId: String)
+
+  private class Circuit {
+    var state = State.CLOSED
+    var consecutiveFailures = 0
+    // When the circuit last opened, or when the last trial went through.
+    var sinceMillis = 0L
+  }
+
+  // Guarded by itself. Only placements that failed since their last success have a circuit.
+  private val circuits = HashMap<Key, Circuit>()
+
+  /**
+   * Returns null if an ad can be loaded from [placementId] of [network]. If the placement's circuit
+   * is open, returns the error to fail the load with, which has the adapter's documented
+   * [errorCode] and [errorDomain].
+   */
+  fun checkLoad(
+    network: String,
+    placementId: String,
+    errorCode: Int,
+    errorDomain: String,
+  ): AdError? {
+    val nowMillis = clock.elapsedRealtimeMillis()
+    synchronized(circuits) {
+      val circuit = circuits[Key(network, placementId)] ?: return null
+      if (circuit.state == State.CLOSED) {
+        return null
+      }
+      val remainingMillis = circuit.sinceMillis + openDurationMillis - nowMillis
+      if (remainingMillis <= 0) {
+        circuit.state = State.HALF_OPEN
+        circuit.sinceMillis = nowMillis
+        return null
+      }
+      return AdError(
+        errorCode,
+        "Loads from $network placement $placementId are paused for ${remainingMillis}ms after " +
+          "${circuit.consecutiveFailures} consecutive failures.",
+        errorDomain,
+      )
+    }
+  }
+
+  /** Records that an ad loaded from [placementId] of [network], which closes its circuit. */
+  fun recordSuccess(network: String, placementId: String) {
+    synchronized(circuits) { circuits.remove(Key(network, placementId)) }
+  }
+
+  /**
+   * Records that loading an ad from [placementId] of [network] failed in a way that is likely to
+   * repeat.
+   */
+  fun recordFailure(network: String, placementId: String) {
+    val nowMillis = clock.elapsedRealtimeMillis()
+    synchronized(circuits) {
+      val circuit = circuits.getOrPut(Key(network, placementId)) { Circuit() }
+      circuit.consecutiveFailures++
+      if (circuit.state == State.HALF_OPEN || circuit.consecutiveFailures >= failureThreshold) {
+        circuit.state = State.OPEN
+        circuit.sinceMillis = nowMillis
+      }
+    }
+  }
+
+  /** Returns the state of the circuit of [placementId] of [network]. */
+  fun getState(network: String, placementId: String): State =
+    synchronized(circuits) { circuits[Key(network, placementId)]?.state ?: State.CLOSED }
+
+  /** Closes all circuits. */
+  fun reset() {
+    synchronized(circuits) { circuits.clear() }
+  }
+
+  companion object {
+
+    /** The default number of consecutive failures that open a circuit. */
+    const val DEFAULT_FAILURE_THRESHOLD = 3
+
+    /** The default time that loads fail immediately once a circuit opened. */
+    const val DEFAULT_OPEN_DURATION_MILLIS = 60_000L
+
+    private val INSTANCE by lazy { PlacementCircuitBreaker() }
+
+    /** Returns the circuit breaker shared by all adapters in the process. */
+    @JvmStatic fun getInstance(): PlacementCircuitBreaker = INSTANCE
+  }
+}
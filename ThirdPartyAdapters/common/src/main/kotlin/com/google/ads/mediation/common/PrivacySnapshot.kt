@@ -0,0 +1,59 @@
+// Copyright 2025 Google LLC
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package com.google.ads.mediation.common
+
+import com.google.android.gms.ads.RequestConfiguration
+
+/**
+ * The privacy and consent state that adapters forward to network SDKs, captured at one point in
+ * time.
+ *
+ * Snapshots are immutable and compare equal when all of their fields are equal, so an adapter can
+ * tell whether the state changed since it last forwarded it. See [PrivacySnapshotService].
+ *
+ * @property tcfString the IAB TCF consent string, if any.
+ * @property gppString the IAB GPP consent string, if any.
+ * @property usPrivacyString the IAB U.S. Privacy string, if any.
+ * @property tagForChildDirectedTreatment the publisher's child-directed treatment tag, one of the
+ *   `RequestConfiguration.TAG_FOR_CHILD_DIRECTED_TREATMENT_*` values.
+ * @property tagForUnderAgeOfConsent the publisher's under-age-of-consent tag, one of the
+ *   `RequestConfiguration.TAG_FOR_UNDER_AGE_OF_CONSENT_*` values.
+ */
+data class PrivacySnapshot(
+  val tcfString: String?,
+  val gppString: String?,
+  val usPrivacyString: String?,
+  val tagForChildDirectedTreatment: Int,
+  val tagForUnderAgeOfConsent: Int,
+) {
+
+  /**
+   * Whether ads should be restricted to those suitable for children: true if the publisher tagged
+   * the request as child-directed or under the age of consent, false if they tagged it as neither,
+   * and null if they didn't specify either.
+   */
+  val isAgeRestricted: Boolean?
+    get() =
+      when {
+        tagForChildDirectedTreatment ==
+          RequestConfiguration.TAG_FOR_CHILD_DIRECTED_TREATMENT_TRUE ||
+          tagForUnderAgeOfConsent == RequestConfiguration.TAG_FOR_UNDER_AGE_OF_CONSENT_TRUE -> true
+        tagForChildDirectedTreatment ==
+          RequestConfiguration.TAG_FOR_CHILD_DIRECTED_TREATMENT_FALSE ||
+          tagForUnderAgeOfConsent == RequestConfiguration.TAG_FOR_UNDER_AGE_OF_CONSENT_FALSE ->
+          false
+        else -> null
+      }
+}
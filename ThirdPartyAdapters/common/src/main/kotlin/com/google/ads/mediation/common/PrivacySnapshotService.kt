@@ -0,0 +1,200 @@
+// Copyright 2025 Google LLC
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package com.google.ads.mediation.common
+
+import android.content.Context
+import android.content.SharedPreferences
+import com.google.android.gms.ads.MobileAds
+import java.util.concurrent.CopyOnWriteArraySet
+
+/**
+ * Keeps a [PrivacySnapshot] of the current privacy and consent state, so that adapters forward it
+ * to their network SDKs only when it changes instead of on every ad load.
+ *
+ * The consent strings are read from the IAB keys of a SharedPreferences file, by default the app's
+ * default SharedPreferences, and the child-directed and under-age tags from the Google Mobile Ads
+ * SDK's request configuration. A snapshot is recomputed only after the SharedPreferences file
+ * changed or the request configuration's tags differ from the snapshot's.
+ *
+ * Adapters call [applyIfChanged] before loading an ad, with a [PrivacyApplier] that forwards the
+ * snapshot to their SDK. The applier runs only when the snapshot differs from the one last applied
+ * for that network. State derived from the privacy inputs, such as cached bid tokens, is dropped
+ * from a [ChangeListener].
+ */
+class PrivacySnapshotService {
+
+  /** Forwards a privacy snapshot to a network SDK. */
+  fun interface PrivacyApplier {
+
+    /** Forwards [snapshot] to the network SDK. */
+    fun apply(snapshot: PrivacySnapshot)
+  }
+
+  /** Notified when a recomputed snapshot differs from the previous one. */
+  fun interface ChangeListener {
+
+    /**
+     * Called with the new [snapshot], on the thread that noticed the change, before the snapshot is
+     * returned to that thread's caller.
+     */
+    fun onSnapshotChanged(snapshot: PrivacySnapshot)
+  }
+
+  /** The cached snapshot of one SharedPreferences file. */
+  private class Entry(val preferences: SharedPreferences) :
+    SharedPreferences.OnSharedPreferenceChangeListener {
+
+    // Guarded by this.
+    var snapshot: PrivacySnapshot? = null
+
+    // Guarded by this. Whether the SharedPreferences file changed since the snapshot was taken.
+    var isStale = false
+
+    override fun onSharedPreferenceChanged(preferences: SharedPreferences?, key: String?) {
+      synchronized(this) { isStale = true }
+    }
+  }
+
+  // Guarded by itself. SharedPreferences only keeps weak references to its listeners, so the
+  // entries are kept here for as long as the service lives.
+  private val entries = HashMap<String, Entry>()
+
+  // Guarded by itself.
+  private val appliedSnapshots = HashMap<String, PrivacySnapshot>()
+
+  private val changeListeners = CopyOnWriteArraySet<ChangeListener>()
+
+  /** Returns the current snapshot, with consent strings from the default SharedPreferences. */
+  fun getSnapshot(context: Context): PrivacySnapshot =
+    getSnapshot(context, getDefaultPreferencesName(context))
+
+  /** Returns the current snapshot, with consent strings from the [preferencesName] file. */
+  fun getSnapshot(context: Context, preferencesName: String): PrivacySnapshot {
+    val entry =
+      synchronized(entries) {
+        entries.getOrPut(preferencesName) {
+          val preferences =
+            context.applicationContext.getSharedPreferences(preferencesName, Context.MODE_PRIVATE)
+          Entry(preferences).also { preferences.registerOnSharedPreferenceChangeListener(it) }
+        }
+      }
+    val requestConfiguration = MobileAds.getRequestConfiguration()
+    val previous: PrivacySnapshot?
+    val snapshot: PrivacySnapshot
+    synchronized(entry) {
+      previous = entry.snapshot
+      if (
+        previous != null &&
+          !entry.isStale &&
+          previous.tagForChildDirectedTreatment ==
+            requestConfiguration.tagForChildDirectedTreatment &&
+          previous.tagForUnderAgeOfConsent == requestConfiguration.tagForUnderAgeOfConsent
+      ) {
+        return previous
+      }
+      val values = entry.preferences.all
+      val recomputed =
+        PrivacySnapshot(
+          tcfString = values[KEY_TCF_STRING] as? String,
+          gppString = values[KEY_GPP_STRING] as? String,
+          usPrivacyString = values[KEY_US_PRIVACY_STRING] as? String,
+          tagForChildDirectedTreatment = requestConfiguration.tagForChildDirectedTreatment,
+          tagForUnderAgeOfConsent = requestConfiguration.tagForUnderAgeOfConsent,
+        )
+      // Keep the previous instance if only unrelated preferences changed.
+      snapshot = if (recomputed == previous) previous else recomputed
+      entry.snapshot = snapshot
+      entry.isStale = false
+    }
+    if (previous != null && snapshot !== previous) {
+      for (listener in changeListeners) {
+        listener.onSnapshotChanged(snapshot)
+      }
+    }
+    return snapshot
+  }
+
+  /** Notifies [listener] whenever a snapshot changes. */
+  fun addChangeListener(listener: ChangeListener) {
+    changeListeners.add(listener)
+  }
+
+  /** Stops notifying [listener]. */
+  fun removeChangeListener(listener: ChangeListener) {
+    changeListeners.remove(listener)
+  }
+
+  /**
+   * Forwards the current snapshot, with consent strings from the default SharedPreferences, to
+   * [network]'s SDK through [applier] if it changed since it was last applied for [network].
+   *
+   * @return whether [applier] was invoked.
+   */
+  fun applyIfChanged(context: Context, network: String, applier: PrivacyApplier): Boolean =
+    applyIfChanged(context, network, getDefaultPreferencesName(context), applier)
+
+  /**
+   * Forwards the current snapshot, with consent strings from the [preferencesName] file, to
+   * [network]'s SDK through [applier] if it changed since it was last applied for [network].
+   *
+   * @return whether [applier] was invoked.
+   */
+  fun applyIfChanged(
+    context: Context,
+    network: String,
+    preferencesName: String,
+    applier: PrivacyApplier,
+  ): Boolean {
+    val snapshot = getSnapshot(context, preferencesName)
+    synchronized(appliedSnapshots) {
+      if (appliedSnapshots[network] == snapshot) {
+        return false
+      }
+      applier.apply(snapshot)
+      appliedSnapshots[network] = snapshot
+      return true
+    }
+  }
+
+  /** Drops the cached snapshots and forgets what was applied, so that the next apply runs. */
+  fun reset() {
+    synchronized(entries) {
+      for (entry in entries.values) {
+        entry.preferences.unregisterOnSharedPreferenceChangeListener(entry)
+      }
+      entries.clear()
+    }
+    synchronized(appliedSnapshots) { appliedSnapshots.clear() }
+  }
+
+  companion object {
+
+    /** The SharedPreferences key of the IAB TCF consent string. */
+    const val KEY_TCF_STRING = "IABTCF_TCString"
+
+    /** The SharedPreferences key of the IAB GPP consent string. */
+    const val KEY_GPP_STRING = "IABGPP_HDR_GppString"
+
+    /** The SharedPreferences key of the IAB U.S. Privacy string. */
+    const val KEY_US_PRIVACY_STRING = "IABUSPrivacy_String"
+
+    private val INSTANCE by lazy { PrivacySnapshotService() }
+
+    /** Returns the service shared by all adapters in the process. */
+    @JvmStatic fun getInstance(): PrivacySnapshotService = INSTANCE
+
+    private fun getDefaultPreferencesName(context: Context) = context.packageName + "_preferences"
+  }
+}
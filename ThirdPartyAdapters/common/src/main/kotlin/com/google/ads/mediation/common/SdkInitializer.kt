@@ -0,0 +1,208 @@
+// Copyright 2025 Google LLC
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package com.google.ads.mediation.common
+
+import com.google.android.gms.ads.AdError
+import java.util.concurrent.ConcurrentLinkedQueue
+import java.util.concurrent.Executor
+import java.util.concurrent.atomic.AtomicBoolean
+import java.util.concurrent.atomic.AtomicReference
+
+/**
+ * Coordinates the initialization of a third-party SDK that must only be initialized once.
+ *
+ * Calls to [initialize] made while an initialization is in flight are attached to that
+ * initialization instead of starting another one, and every attached listener is notified exactly
+ * once when it completes. State transitions are atomic, so [initialize] and the completion methods
+ * can be called from any thread.
+ *
+ * @param L the type of the adapter's initialization listener.
+ * @param dispatcher notifies the adapter's listeners of the initialization result.
+ * @param callbackExecutor the executor on which listeners are notified. By default, listeners are
+ *   notified on the thread that completes the initialization.
+ */
+class SdkInitializer<L : Any>
+@JvmOverloads
+constructor(
+  private val dispatcher: ListenerDispatcher<L>,
+  private val callbackExecutor: Executor = DIRECT_EXECUTOR,
+) {
+
+  /** Initialization state of the SDK. */
+  enum class State {
+    UNINITIALIZED,
+    INITIALIZING,
+    INITIALIZED,
+  }
+
+  /** Notifies an adapter's initialization listener of the initialization result. */
+  interface ListenerDispatcher<L> {
+
+    /** Notifies [listener] that the SDK initialized successfully. */
+    fun onInitializeSuccess(listener: L)
+
+    /** Notifies [listener] that the SDK failed to initialize. */
+    fun onInitializeError(listener: L, error: AdError)
+  }
+
+  private val isInitialized = AtomicBoolean(false)
+
+  private val inFlightInitialization = AtomicReference<Initialization?>(null)
+
+  /** Returns the current initialization state of the SDK. */
+  val state: State
+    get() =
+      when {
+        isInitialized.get() -> State.INITIALIZED
+        inFlightInitialization.get() != null -> State.INITIALIZING
+        else -> State.UNINITIALIZED
+      }
+
+  /**
+   * Notifies [listener] once the SDK is initialized.
+   *
+   * If the SDK is already initialized, [listener] is notified right away. If an initialization is
+   * in flight, [listener] is attached to it. Otherwise, [startInitialization] is run to initialize
+   * the SDK, which must eventually lead to a call to [onInitializationSucceeded] or
+   * [onInitializationFailed]. If [startInitialization] throws, the initialization fails with
+   * [ERROR_CODE_INITIALIZATION_EXCEPTION] and the exception is rethrown.
+   */
+  fun initialize(listener: L, startInitialization: Runnable) {
+    if (isInitialized.get()) {
+      dispatchSuccess(listener)
+      return
+    }
+
+    while (true) {
+      val currentInitialization = inFlightInitialization.get()
+      if (currentInitialization != null) {
+        currentInitialization.addListener(listener)
+        return
+      }
+
+      val initialization = Initialization()
+      if (!inFlightInitialization.compareAndSet(null, initialization)) {
+        // Another caller started initializing the SDK first. Attach to its initialization.
+        continue
+      }
+      initialization.addListener(listener)
+
+      if (isInitialized.get()) {
+        // A previous initialization completed after the check above. Don't initialize again.
+        if (inFlightInitialization.compareAndSet(initialization, null)) {
+          initialization.complete(null)
+        }
+        return
+      }
+
+      try {
+        startInitialization.run()
+      } catch (exception: RuntimeException) {
+        // Fail the listeners attached so far rather than leaving them waiting for a completion
+        // that will never come.
+        if (inFlightInitialization.compareAndSet(initialization, null)) {
+          initialization.complete(
+            AdError(
+              ERROR_CODE_INITIALIZATION_EXCEPTION,
+              "Failed to start initializing the SDK: $exception",
+              ERROR_DOMAIN,
+            )
+          )
+        }
+        throw exception
+      }
+      return
+    }
+  }
+
+  /** Marks the SDK as initialized and notifies all listeners attached to the initialization. */
+  fun onInitializationSucceeded() {
+    isInitialized.set(true)
+    inFlightInitialization.getAndSet(null)?.complete(null)
+  }
+
+  /**
+   * Marks the SDK as uninitialized and notifies all listeners attached to the initialization of
+   * [error]. The next call to [initialize] starts a new initialization.
+   */
+  fun onInitializationFailed(error: AdError) {
+    isInitialized.set(false)
+    inFlightInitialization.getAndSet(null)?.complete(error)
+  }
+
+  /**
+   * Marks the SDK as no longer initialized, for SDKs that report their own initialization state.
+   * An in-flight initialization is not affected.
+   */
+  fun invalidate() {
+    isInitialized.set(false)
+  }
+
+  private fun dispatchSuccess(listener: L) {
+    callbackExecutor.execute { dispatcher.onInitializeSuccess(listener) }
+  }
+
+  private fun dispatchError(listener: L, error: AdError) {
+    callbackExecutor.execute { dispatcher.onInitializeError(listener, error) }
+  }
+
+  /** A single initialization of the SDK that any number of listeners can be attached to. */
+  private inner class Initialization {
+
+    private val listeners = ConcurrentLinkedQueue<L>()
+
+    @Volatile private var isComplete = false
+
+    @Volatile private var error: AdError? = null
+
+    fun addListener(listener: L) {
+      listeners.add(listener)
+      if (isComplete) {
+        // The initialization completed while the listener was being added.
+        notifyListeners()
+      }
+    }
+
+    fun complete(error: AdError?) {
+      this.error = error
+      isComplete = true
+      notifyListeners()
+    }
+
+    private fun notifyListeners() {
+      val initializationError = error
+      while (true) {
+        // Each listener is polled exactly once, so it is notified exactly once.
+        val listener = listeners.poll() ?: return
+        if (initializationError == null) {
+          dispatchSuccess(listener)
+        } else {
+          dispatchError(listener, initializationError)
+        }
+      }
+    }
+  }
+
+  companion object {
+
+    /** Error domain of the errors reported by [SdkInitializer]. */
+    const val ERROR_DOMAIN = "com.google.ads.mediation.common"
+
+    /** Starting the initialization threw an exception. */
+    const val ERROR_CODE_INITIALIZATION_EXCEPTION = 101
+
+    private val DIRECT_EXECUTOR = Executor { command -> command.run() }
+  }
+}
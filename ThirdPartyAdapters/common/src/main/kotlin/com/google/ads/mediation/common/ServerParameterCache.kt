@@ -0,0 +1,95 @@
+// Copyright 2025 Google LLC
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package com.google.ads.mediation.common
+
+import android.os.Bundle
+import com.google.android.gms.ads.AdError
+import java.util.concurrent.ConcurrentHashMap
+
+/**
+ * Memoizes the parsing of one of an adapter's server parameters into a typed value.
+ *
+ * Banner refreshes and waterfalls that mediate the same placement repeatedly load ads with the same
+ * server parameters. Results are cached per raw value of [key], so each distinct value is parsed
+ * and validated once, and lookups of a cached value allocate nothing. Invalid values are cached
+ * too, together with the [AdError] to fail loads with.
+ *
+ * @param key the server parameter that [parser] reads.
+ * @param parser parses the value of [key] on a cache miss.
+ */
+class ServerParameterCache<T : Any>(private val key: String, private val parser: Parser<T>) {
+
+  /** Parses a server parameter value into a typed value. */
+  fun interface Parser<T : Any> {
+
+    /** Parses [value], the value of the cache's key, or null if the key is missing. */
+    fun parse(value: String?): Result<T>
+  }
+
+  /**
+   * The result of parsing server parameters: either a [value] or the [error] that the parameters
+   * are invalid with.
+   */
+  class Result<T : Any> private constructor(val value: T?, val error: AdError?) {
+
+    /** Whether the server parameters are valid. */
+    val isValid: Boolean
+      get() = error == null
+
+    companion object {
+
+      /** Returns the result of parsing valid server parameters into [value]. */
+      @JvmStatic fun <T : Any> valid(value: T): Result<T> = Result(value, null)
+
+      /** Returns the result of parsing server parameters that are invalid with [error]. */
+      @JvmStatic fun <T : Any> invalid(error: AdError): Result<T> = Result(null, error)
+    }
+  }
+
+  private val results = ConcurrentHashMap<String, Result<T>>()
+
+  /** The result for a missing value, which [results] can't hold as it has no null keys. */
+  @Volatile private var missingValueResult: Result<T>? = null
+
+  /** Returns the parsed [serverParameters]. */
+  fun get(serverParameters: Bundle): Result<T> {
+    val value = serverParameters.getString(key) ?: return getForMissingValue()
+    results[value]?.let {
+      return it
+    }
+
+    val result = parser.parse(value)
+    if (results.size >= MAX_CACHED_RESULTS) {
+      // Only a handful of configurations are mediated in practice. Start over rather than tracking
+      // usage.
+      results.clear()
+    }
+    results[value] = result
+    return result
+  }
+
+  /** Drops all cached results. */
+  fun clear() {
+    results.clear()
+    missingValueResult = null
+  }
+
+  private fun getForMissingValue(): Result<T> =
+    missingValueResult ?: parser.parse(null).also { missingValueResult = it }
+
+  private companion object {
+    const val MAX_CACHED_RESULTS = 64
+  }
+}
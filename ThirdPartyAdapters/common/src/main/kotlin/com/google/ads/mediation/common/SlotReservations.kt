@@ -0,0 +1,75 @@
+// Copyright 2025 Google LLC
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package com.google.ads.mediation.common
+
+import java.lang.ref.WeakReference
+import java.util.concurrent.ConcurrentMap
+
+/**
+ * Reserves ad slots, e.g. network placements that can only load one ad at a time, for the ad that
+ * loads into them.
+ *
+ * A slot is held through a weak reference to its ad, so a slot whose ad has been garbage collected
+ * is free again. Reserving a slot is atomic: of several ads that try to reserve the same free slot
+ * concurrently, exactly one succeeds.
+ */
+object SlotReservations {
+
+  /**
+   * Reserves the slot [key] in [slots] for [owner].
+   *
+   * @return true if the slot was free or already held by [owner], false if another ad holds it.
+   */
+  @JvmStatic
+  fun <K : Any, T : Any> tryReserve(
+    slots: ConcurrentMap<K, WeakReference<T>>,
+    key: K,
+    owner: T,
+  ): Boolean {
+    val reference = WeakReference(owner)
+    while (true) {
+      val current = slots.putIfAbsent(key, reference) ?: return true
+      val holder = current.get()
+      if (holder === owner) {
+        return true
+      }
+      if (holder != null) {
+        return false
+      }
+      // The previous ad is gone. Take over its slot unless another ad got there first.
+      if (slots.replace(key, current, reference)) {
+        return true
+      }
+    }
+  }
+
+  /** Returns whether the slot [key] in [slots] is held by an ad. */
+  @JvmStatic
+  fun <K : Any, T : Any> isReserved(slots: ConcurrentMap<K, WeakReference<T>>, key: K): Boolean =
+    slots[key]?.get() != null
+
+  /**
+   * Frees the slot [key] in [slots] if it is held by [owner]. A slot held by another ad is left
+   * untouched, so an ad that finishes late can't free the slot of the ad that replaced it.
+   */
+  @JvmStatic
+  fun <K : Any, T : Any> release(slots: ConcurrentMap<K, WeakReference<T>>, key: K, owner: T) {
+    val current = slots[key] ?: return
+    val holder = current.get()
+    if (holder == null || holder === owner) {
+      slots.remove(key, current)
+    }
+  }
+}
@@ -0,0 +1,182 @@
+// Copyright 2025 Google LLC
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package com.google.ads.mediation.common
+
+import com.google.ads.mediation.common.VersionInfoCompareUtils.isVersionGreaterThanOrEqualTo
+import com.google.ads.mediation.common.VersionInfoCompareUtils.isVersionLowerThan
+import com.google.android.gms.ads.MobileAds
+import com.google.android.gms.ads.VersionInfo
+import java.util.concurrent.ConcurrentHashMap
+
+/**
+ * Parses adapter, SDK and Google Mobile Ads SDK versions, and caches the results.
+ *
+ * Adapters report their versions on every ad request, so each distinct version string is only
+ * split and parsed the first time it's seen. Feature gates that depend on the runtime Google Mobile
+ * Ads SDK version are likewise only evaluated again when that version changes.
+ */
+object VersionInfoService {
+
+  private val logger = AdapterLogger.getLogger("VersionInfoService")
+
+  private val ZERO_VERSION = VersionInfo(0, 0, 0)
+
+  /** NextGen versions of the GMA SDK in this range listen to adapter-reported impressions. */
+  private val NEXT_GEN_IMPRESSIONS_MIN_VERSION = VersionInfo(0, 18, 0)
+  private val NEXT_GEN_IMPRESSIONS_MAX_VERSION = VersionInfo(6, 5, 0)
+
+  /** GMA SDK versions from this one on listen to adapter-reported impressions. */
+  private val IMPRESSIONS_MIN_VERSION = VersionInfo(24, 4, 0)
+
+  /** Converts a version string of one format into a [VersionInfo]. */
+  fun interface VersionFormat {
+
+    /**
+     * Returns the [VersionInfo] for [versionString], or null if it doesn't have the expected
+     * number of components.
+     */
+    fun toVersionInfo(versionString: String): VersionInfo?
+  }
+
+  /**
+   * Parses version strings of one format, and caches the result for each distinct string.
+   *
+   * Version strings that don't match the format are logged once and parsed as 0.0.0.
+   *
+   * @param versionName how the parsed version is referred to in log messages, such as "SDK
+   *   version".
+   * @param format the format of the version strings.
+   */
+  class VersionParser(private val versionName: String, private val format: VersionFormat) {
+
+    private val versions = ConcurrentHashMap<String, VersionInfo>()
+
+    /** Returns the [VersionInfo] for [versionString]. */
+    fun parse(versionString: String): VersionInfo {
+      versions[versionString]?.let {
+        return it
+      }
+      val versionInfo =
+        format.toVersionInfo(versionString)
+          ?: ZERO_VERSION.also {
+            logger.w(
+              "Unexpected $versionName format: $versionString. Returning 0.0.0 for $versionName."
+            )
+          }
+      return versions.putIfAbsent(versionString, versionInfo) ?: versionInfo
+    }
+  }
+
+  /**
+   * Parses adapter versions, which have the form "major.minor.micro.patch". The patch version is
+   * folded into the micro version as `micro * 100 + patch`.
+   */
+  @JvmField
+  val ADAPTER_VERSION_PARSER =
+    VersionParser("adapter version") { versionString ->
+      val splits = splitVersion(versionString)
+      if (splits.size >= 4) {
+        val micro = splits[2].toInt() * 100 + splits[3].toInt()
+        VersionInfo(splits[0].toInt(), splits[1].toInt(), micro)
+      } else {
+        null
+      }
+    }
+
+  /** Parses SDK versions, which have the form "major.minor.micro" followed by anything else. */
+  @JvmField
+  val SDK_VERSION_PARSER =
+    VersionParser("SDK version") { versionString -> parseMajorMinorMicro(versionString) }
+
+  /** Returns the [VersionInfo] of an adapter version, such as `BuildConfig.ADAPTER_VERSION`. */
+  @JvmStatic
+  fun getAdapterVersionInfo(adapterVersion: String): VersionInfo =
+    ADAPTER_VERSION_PARSER.parse(adapterVersion)
+
+  /** Returns the [VersionInfo] of a third-party SDK version. */
+  @JvmStatic
+  fun getSdkVersionInfo(sdkVersion: String): VersionInfo = SDK_VERSION_PARSER.parse(sdkVersion)
+
+  /**
+   * Returns the major, minor and micro versions from the first three dot-separated components of
+   * [versionString], or null if it has fewer than three. For use by custom [VersionFormat]s.
+   */
+  @JvmStatic
+  fun parseMajorMinorMicro(versionString: String): VersionInfo? {
+    val splits = splitVersion(versionString)
+    return if (splits.size >= 3) {
+      VersionInfo(splits[0].toInt(), splits[1].toInt(), splits[2].toInt())
+    } else {
+      null
+    }
+  }
+
+  /** Splits [versionString] at dots, dropping trailing empty components like `String.split`. */
+  private fun splitVersion(versionString: String): List<String> =
+    versionString.split('.').dropLastWhile { it.isEmpty() }
+
+  /** The feature gates evaluated for one GMA SDK version. */
+  private class CachedGates(gmaSdkVersion: VersionInfo) {
+
+    private val majorVersion = gmaSdkVersion.majorVersion
+    private val minorVersion = gmaSdkVersion.minorVersion
+    private val microVersion = gmaSdkVersion.microVersion
+
+    val listensToImpressions = isVersionGreaterThanOrEqualTo(gmaSdkVersion, IMPRESSIONS_MIN_VERSION)
+
+    val nextGenListensToImpressions =
+      isVersionGreaterThanOrEqualTo(gmaSdkVersion, NEXT_GEN_IMPRESSIONS_MIN_VERSION) &&
+        isVersionLowerThan(gmaSdkVersion, NEXT_GEN_IMPRESSIONS_MAX_VERSION)
+
+    fun matches(version: VersionInfo): Boolean =
+      version.majorVersion == majorVersion &&
+        version.minorVersion == minorVersion &&
+        version.microVersion == microVersion
+  }
+
+  @Volatile private var gates: CachedGates? = null
+
+  private fun getGates(): CachedGates {
+    val gmaSdkVersion = MobileAds.getVersion()
+    gates?.let {
+      if (it.matches(gmaSdkVersion)) {
+        return it
+      }
+    }
+    return CachedGates(gmaSdkVersion).also { gates = it }
+  }
+
+  /**
+   * Checks whether the runtime GMA SDK is a version of GMA SDK that listens to adapter-reported
+   * native ad impressions.
+   *
+   * GMA SDK versions >= 24.4.0 listen to adapter-reported native ad impressions.
+   */
+  @JvmStatic
+  fun runtimeGmaSdkListensToAdapterReportedImpressions(): Boolean = getGates().listensToImpressions
+
+  /**
+   * Like [runtimeGmaSdkListensToAdapterReportedImpressions], but also accepts NextGen versions of
+   * GMA SDK.
+   *
+   * GMA SDK versions >= 24.4.0, and NextGen GMA SDK versions >= 0.18.0 and < 6.5.0, listen to
+   * adapter-reported native ad impressions.
+   */
+  @JvmStatic
+  fun runtimeGmaSdkOrNextGenListensToAdapterReportedImpressions(): Boolean {
+    val gates = getGates()
+    return gates.listensToImpressions || gates.nextGenListensToImpressions
+  }
+}
@@ -0,0 +1,79 @@
+package com.google.ads.mediation.common
+
+import androidx.test.ext.junit.runners.AndroidJUnit4
+import com.google.common.truth.Truth.assertThat
+import org.junit.Test
+import org.junit.runner.RunWith
+
+@RunWith(AndroidJUnit4::class)
+class AdAttributionTest {
+
+  @Test
+  fun of_fillsFieldsWithExtractor() {
+    val attribution =
+      AdAttribution.of("creative") { source: String, target -> target.creativeId = source }
+
+    assertThat(attribution.creativeId).isEqualTo("creative")
+    assertThat(attribution.campaignId).isNull()
+  }
+
+  @Test
+  fun toMap_omitsUnsetFields() {
+    val attribution =
+      AdAttribution().apply {
+        creativeId = "creative"
+        demandSourceName = "dsp"
+      }
+
+    assertThat(attribution.toMap())
+      .containsExactly(
+        AdAttribution.KEY_CREATIVE_ID,
+        "creative",
+        AdAttribution.KEY_DEMAND_SOURCE_NAME,
+        "dsp",
+      )
+  }
+
+  @Test
+  fun encode_decode_roundTripsAllFields() {
+    val attribution =
+      AdAttribution().apply {
+        creativeId = "creative"
+        campaignId = "campaign"
+        advertiserDomain = "example.com"
+        placementId = "placement"
+        impressionId = "impression"
+        demandSourceId = "42"
+        demandSourceName = "dsp"
+      }
+
+    assertThat(AdAttribution.decode(attribution.encode())).isEqualTo(attribution)
+  }
+
+  @Test
+  fun encode_decode_roundTripsUnsetFields() {
+    val attribution = AdAttribution().apply { campaignId = "campaign" }
+
+    val encoded = attribution.encode()
+
+    assertThat(encoded).isEqualTo("${AdAttribution.FIELD_SEPARATOR}campaign")
+    assertThat(AdAttribution.decode(encoded)).isEqualTo(attribution)
+  }
+
+  @Test
+  fun encode_emptyAttribution_isEmpty() {
+    assertThat(AdAttribution().encode()).isEmpty()
+    assertThat(AdAttribution.decode("").isEmpty()).isTrue()
+  }
+
+  @Test
+  fun recycle_clearsAndReusesInstance() {
+    val attribution = AdAttribution.obtain().apply { creativeId = "creative" }
+
+    AdAttribution.recycle(attribution)
+    val obtained = AdAttribution.obtain()
+
+    assertThat(obtained).isSameInstanceAs(attribution)
+    assertThat(obtained.isEmpty()).isTrue()
+  }
+}
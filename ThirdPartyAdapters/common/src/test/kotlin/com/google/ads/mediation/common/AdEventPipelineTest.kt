@@ -0,0 +1,163 @@
+package com.google.ads.mediation.common
+
+import androidx.test.ext.junit.runners.AndroidJUnit4
+import com.google.ads.mediation.common.AdEventPipeline.EventType
+import com.google.common.truth.Truth.assertThat
+import org.junit.Test
+import org.junit.runner.RunWith
+
+@RunWith(AndroidJUnit4::class)
+class AdEventPipelineTest {
+
+  private val pendingFlushes = ArrayDeque<Runnable>()
+  private val batches = mutableListOf<List<RecordedEvent>>()
+  private var nowMillis = 0L
+  private val attribution = AdAttribution().apply { creativeId = CREATIVE_ID }
+  private val adEventPipeline =
+    AdEventPipeline(
+      sink = { events -> batches.add(events.map(::RecordedEvent)) },
+      capacity = CAPACITY,
+      flushExecutor = { runnable -> pendingFlushes.addLast(runnable) },
+      clock = { nowMillis },
+    )
+
+  @Test
+  fun record_doesNotDeliverUntilFlushed() {
+    adEventPipeline.recordLoad(NETWORK, AdEventPipeline.FORMAT_BANNER)
+
+    assertThat(batches).isEmpty()
+    assertThat(pendingFlushes).hasSize(1)
+  }
+
+  @Test
+  fun record_eventsBeforeFlush_deliveredInOneBatch() {
+    nowMillis = 100L
+    adEventPipeline.recordLoad(NETWORK, AdEventPipeline.FORMAT_REWARDED, attribution)
+    nowMillis = 200L
+    adEventPipeline.recordImpression(NETWORK, AdEventPipeline.FORMAT_REWARDED, attribution)
+    adEventPipeline.recordClick(NETWORK, AdEventPipeline.FORMAT_REWARDED)
+
+    runPendingFlushes()
+
+    assertThat(batches).hasSize(1)
+    val events = batches[0]
+    assertThat(events.map { it.type })
+      .containsExactly(EventType.LOAD, EventType.IMPRESSION, EventType.CLICK)
+      .inOrder()
+    assertThat(events[0].network).isEqualTo(NETWORK)
+    assertThat(events[0].format).isEqualTo(AdEventPipeline.FORMAT_REWARDED)
+    assertThat(events[0].creativeId).isEqualTo(CREATIVE_ID)
+    assertThat(events[0].elapsedRealtimeMillis).isEqualTo(100L)
+    assertThat(events[1].elapsedRealtimeMillis).isEqualTo(200L)
+    assertThat(events[2].creativeId).isNull()
+  }
+
+  @Test
+  fun record_attributionChangedBeforeFlush_deliversRecordedAttribution() {
+    adEventPipeline.recordLoad(NETWORK, AdEventPipeline.FORMAT_BANNER, attribution)
+
+    attribution.creativeId = "other_creative"
+    runPendingFlushes()
+
+    assertThat(batches.single().single().creativeId).isEqualTo(CREATIVE_ID)
+  }
+
+  @Test
+  fun record_whileFlushPending_schedulesOneFlush() {
+    adEventPipeline.recordLoad(NETWORK, AdEventPipeline.FORMAT_BANNER)
+    adEventPipeline.recordLoad(NETWORK, AdEventPipeline.FORMAT_BANNER)
+
+    assertThat(pendingFlushes).hasSize(1)
+  }
+
+  @Test
+  fun record_afterFlush_schedulesNewFlush() {
+    adEventPipeline.recordLoad(NETWORK, AdEventPipeline.FORMAT_BANNER)
+    runPendingFlushes()
+
+    adEventPipeline.recordLoad(NETWORK, AdEventPipeline.FORMAT_NATIVE)
+    runPendingFlushes()
+
+    assertThat(batches).hasSize(2)
+    assertThat(batches[1].single().format).isEqualTo(AdEventPipeline.FORMAT_NATIVE)
+  }
+
+  @Test
+  fun record_bufferFull_dropsOldestEvents() {
+    repeat(CAPACITY + 2) { index ->
+      nowMillis = index.toLong()
+      adEventPipeline.recordLoad(NETWORK, AdEventPipeline.FORMAT_INTERSTITIAL)
+    }
+
+    runPendingFlushes()
+
+    assertThat(batches.single().map { it.elapsedRealtimeMillis })
+      .containsExactly(2L, 3L, 4L, 5L)
+      .inOrder()
+  }
+
+  @Test
+  fun record_sinkThrows_keepsDeliveringLaterBatches() {
+    var shouldThrow = true
+    val deliveredEvents = mutableListOf<RecordedEvent>()
+    val failingPipeline =
+      AdEventPipeline(
+        sink = { events ->
+          if (shouldThrow) {
+            shouldThrow = false
+            throw IllegalStateException("Tracker failed.")
+          }
+          deliveredEvents.addAll(events.map(::RecordedEvent))
+        },
+        capacity = CAPACITY,
+        flushExecutor = { runnable -> pendingFlushes.addLast(runnable) },
+        clock = { nowMillis },
+      )
+    failingPipeline.recordLoad(NETWORK, AdEventPipeline.FORMAT_BANNER)
+    runPendingFlushes()
+
+    failingPipeline.recordLoad(NETWORK, AdEventPipeline.FORMAT_APP_OPEN)
+    runPendingFlushes()
+
+    assertThat(deliveredEvents.single().format).isEqualTo(AdEventPipeline.FORMAT_APP_OPEN)
+  }
+
+  @Test
+  fun record_noSink_discardsEventsUntilSinkInstalled() {
+    val pipeline =
+      AdEventPipeline(
+        capacity = CAPACITY,
+        flushExecutor = { runnable -> pendingFlushes.addLast(runnable) },
+        clock = { nowMillis },
+      )
+    pipeline.recordLoad(NETWORK, AdEventPipeline.FORMAT_BANNER)
+    assertThat(pendingFlushes).isEmpty()
+
+    pipeline.sink = AdEventPipeline.Sink { events -> batches.add(events.map(::RecordedEvent)) }
+    pipeline.recordLoad(NETWORK, AdEventPipeline.FORMAT_NATIVE)
+    runPendingFlushes()
+
+    assertThat(batches.single().single().format).isEqualTo(AdEventPipeline.FORMAT_NATIVE)
+  }
+
+  private fun runPendingFlushes() {
+    while (pendingFlushes.isNotEmpty()) {
+      pendingFlushes.removeFirst().run()
+    }
+  }
+
+  /** A copy of an event, since the attributions of delivered events are reused. */
+  private class RecordedEvent(event: AdEventPipeline.Event) {
+    val network = event.network
+    val format = event.format
+    val type = event.type
+    val creativeId = event.attribution.creativeId
+    val elapsedRealtimeMillis = event.elapsedRealtimeMillis
+  }
+
+  private companion object {
+    const val CAPACITY = 4
+    const val NETWORK = "network"
+    const val CREATIVE_ID = "creative"
+  }
+}
@@ -0,0 +1,73 @@
+package com.google.ads.mediation.common
+
+import com.google.common.truth.Truth.assertThat
+import org.junit.Test
+import org.junit.runner.RunWith
+import org.junit.runners.JUnit4
+
+@RunWith(JUnit4::class)
+class AdapterFlagResolverTest {
+
+  private var currentTimeMillis = 0L
+  private val clock = Clock { currentTimeMillis }
+  private var flagValue = true
+  private var readCount = 0
+  private val flagSource =
+    AdapterFlagResolver.FlagSource { _, _ ->
+      readCount++
+      flagValue
+    }
+
+  private val flagResolver = AdapterFlagResolver(flagSource, REFRESH_INTERVAL_MILLIS, clock)
+
+  @Test
+  fun getBoolean_firstRead_readsFlagSource() {
+    assertThat(flagResolver.getBoolean(KEY, false)).isTrue()
+    assertThat(readCount).isEqualTo(1)
+  }
+
+  @Test
+  fun getBoolean_withinRefreshInterval_returnsResolvedValue() {
+    flagResolver.getBoolean(KEY, false)
+    flagValue = false
+    currentTimeMillis += REFRESH_INTERVAL_MILLIS - 1
+
+    assertThat(flagResolver.getBoolean(KEY, false)).isTrue()
+    assertThat(readCount).isEqualTo(1)
+  }
+
+  @Test
+  fun getBoolean_afterRefreshInterval_readsFlagSourceAgain() {
+    flagResolver.getBoolean(KEY, false)
+    flagValue = false
+    currentTimeMillis += REFRESH_INTERVAL_MILLIS
+
+    assertThat(flagResolver.getBoolean(KEY, false)).isFalse()
+    assertThat(readCount).isEqualTo(2)
+  }
+
+  @Test
+  fun getBoolean_resolvesFlagsPerKey() {
+    flagResolver.getBoolean(KEY, false)
+    flagResolver.getBoolean(OTHER_KEY, false)
+
+    assertThat(readCount).isEqualTo(2)
+  }
+
+  @Test
+  fun invalidate_readsFlagSourceAgain() {
+    flagResolver.getBoolean(KEY, false)
+    flagValue = false
+
+    flagResolver.invalidate()
+
+    assertThat(flagResolver.getBoolean(KEY, false)).isFalse()
+    assertThat(readCount).isEqualTo(2)
+  }
+
+  private companion object {
+    const val KEY = "adapter:network_android_flag"
+    const val OTHER_KEY = "adapter:network_android_other_flag"
+    const val REFRESH_INTERVAL_MILLIS = 60_000L
+  }
+}
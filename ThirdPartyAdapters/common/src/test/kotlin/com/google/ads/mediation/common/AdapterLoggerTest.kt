@@ -0,0 +1,134 @@
+package com.google.ads.mediation.common
+
+import android.util.Log
+import androidx.test.ext.junit.runners.AndroidJUnit4
+import com.google.common.truth.Truth.assertThat
+import org.junit.After
+import org.junit.Before
+import org.junit.Test
+import org.junit.runner.RunWith
+import org.robolectric.shadows.ShadowLog
+
+@RunWith(AndroidJUnit4::class)
+class AdapterLoggerTest {
+
+  private val logger = AdapterLogger.getLogger(TAG)
+  private var nowMillis = 0L
+
+  @Before
+  fun setUp() {
+    ShadowLog.clear()
+  }
+
+  @After
+  fun tearDown() {
+    logger.level = null
+    AdapterLogger.defaultLevel = Log.DEBUG
+    AdapterLogger.disableDiagnostics()
+  }
+
+  @Test
+  fun getLogger_sameTag_returnsSameLogger() {
+    assertThat(AdapterLogger.getLogger(TAG)).isSameInstanceAs(logger)
+  }
+
+  @Test
+  fun v_belowDefaultLevel_doesNotBuildMessage() {
+    var supplierCalls = 0
+
+    logger.v {
+      supplierCalls++
+      "message"
+    }
+    logger.v("message %s", "arg")
+
+    assertThat(supplierCalls).isEqualTo(0)
+    assertThat(ShadowLog.getLogsForTag(TAG)).isEmpty()
+  }
+
+  @Test
+  fun d_defaultLevel_logsMessage() {
+    logger.d("message")
+
+    val log = ShadowLog.getLogsForTag(TAG).single()
+    assertThat(log.type).isEqualTo(Log.DEBUG)
+    assertThat(log.msg).isEqualTo("message")
+  }
+
+  @Test
+  fun d_belowDefaultLevel_doesNotBuildMessage() {
+    AdapterLogger.defaultLevel = Log.INFO
+    var supplierCalls = 0
+
+    logger.d {
+      supplierCalls++
+      "message"
+    }
+    logger.d("message %s", "arg")
+
+    assertThat(supplierCalls).isEqualTo(0)
+    assertThat(ShadowLog.getLogsForTag(TAG)).isEmpty()
+  }
+
+  @Test
+  fun d_loggerLevelDebug_logsFormattedMessage() {
+    logger.level = Log.DEBUG
+
+    logger.d("loaded %s for %s", "banner", "placement")
+
+    val log = ShadowLog.getLogsForTag(TAG).single()
+    assertThat(log.type).isEqualTo(Log.DEBUG)
+    assertThat(log.msg).isEqualTo("loaded banner for placement")
+  }
+
+  @Test
+  fun level_overridesDefaultLevel() {
+    AdapterLogger.defaultLevel = Log.VERBOSE
+    logger.level = Log.WARN
+
+    logger.i("message")
+    logger.w("warning")
+
+    assertThat(ShadowLog.getLogsForTag(TAG).map { it.msg }).containsExactly("warning")
+  }
+
+  @Test
+  fun getDiagnostics_diagnosticsDisabled_returnsEmptyList() {
+    logger.w("warning")
+
+    assertThat(AdapterLogger.getDiagnostics()).isEmpty()
+  }
+
+  @Test
+  fun getDiagnostics_returnsLoggedMessagesOldestFirst() {
+    AdapterLogger.enableDiagnostics(capacity = 2, clock = { nowMillis })
+    logger.level = Log.DEBUG
+
+    nowMillis = 1L
+    logger.d("first")
+    logger.v("filtered out")
+    nowMillis = 2L
+    logger.e("second")
+
+    assertThat(AdapterLogger.getDiagnostics())
+      .containsExactly("1 D/$TAG: first", "2 E/$TAG: second")
+      .inOrder()
+  }
+
+  @Test
+  fun getDiagnostics_bufferFull_dropsOldestMessages() {
+    AdapterLogger.enableDiagnostics(capacity = 2, clock = { nowMillis })
+
+    logger.i("first")
+    logger.i("second")
+    logger.i("third")
+
+    assertThat(AdapterLogger.getDiagnostics())
+      .containsExactly("0 I/$TAG: second", "0 I/$TAG: third")
+      .inOrder()
+  }
+
+  private companion object {
+    const val TAG = "AdapterLoggerTest"
+  }
+}
@@ -0,0 +1,158 @@
+package com.google.ads.mediation.common
+
+import androidx.test.ext.junit.runners.AndroidJUnit4
+import com.google.android.gms.ads.mediation.InitializationCompleteCallback
+import com.google.common.truth.Truth.assertThat
+import org.junit.Test
+import org.junit.runner.RunWith
+
+@RunWith(AndroidJUnit4::class)
+class AdapterStartupCoordinatorTest {
+
+  private var nowMillis = 0L
+  private val startedAdapters = mutableListOf<String>()
+  private val sdkCallbacks = mutableMapOf<String, InitializationCompleteCallback>()
+  private val results = mutableListOf<String>()
+  private val coordinator =
+    AdapterStartupCoordinator(clock = { nowMillis }, releaseExecutor = { it.run() })
+
+  @Test
+  fun initialize_notDeferred_startsRightAway() {
+    initialize(ADAPTER_A)
+
+    assertThat(startedAdapters).containsExactly(ADAPTER_A)
+  }
+
+  @Test
+  fun initialize_deferred_waitsForRelease() {
+    coordinator.setDeferred(ADAPTER_A, true)
+
+    initialize(ADAPTER_A)
+
+    assertThat(startedAdapters).isEmpty()
+  }
+
+  @Test
+  fun initialize_deferByDefault_defersUnlistedAdapters() {
+    coordinator.setDeferByDefault(true)
+    coordinator.setDeferred(ADAPTER_B, false)
+
+    initialize(ADAPTER_A)
+    initialize(ADAPTER_B)
+
+    assertThat(startedAdapters).containsExactly(ADAPTER_B)
+  }
+
+  @Test
+  fun releaseDeferred_startsDeferredAdaptersByPriority() {
+    coordinator.setDeferByDefault(true)
+    coordinator.setPriority(ADAPTER_B, 10)
+    coordinator.setPriority(ADAPTER_C, 5)
+    initialize(ADAPTER_A)
+    initialize(ADAPTER_B)
+    initialize(ADAPTER_C)
+
+    coordinator.releaseDeferred()
+
+    assertThat(startedAdapters).containsExactly(ADAPTER_B, ADAPTER_C, ADAPTER_A).inOrder()
+  }
+
+  @Test
+  fun releaseDeferred_startThrows_failsThatAdapterAndStartsTheOthers() {
+    coordinator.setDeferByDefault(true)
+    coordinator.setPriority(ADAPTER_A, 10)
+    coordinator.initialize(ADAPTER_A, callback(ADAPTER_A)) {
+      throw IllegalStateException("SDK crashed.")
+    }
+    initialize(ADAPTER_B)
+
+    coordinator.releaseDeferred()
+
+    assertThat(results).containsExactly("$ADAPTER_A failed: SDK crashed.")
+    assertThat(startedAdapters).containsExactly(ADAPTER_B)
+    assertThat(coordinator.getInitTimings().single().errorMessage).isEqualTo("SDK crashed.")
+  }
+
+  @Test
+  fun initialize_deferredAfterRelease_startsRightAway() {
+    coordinator.setDeferred(ADAPTER_A, true)
+    coordinator.releaseDeferred()
+
+    initialize(ADAPTER_A)
+
+    assertThat(startedAdapters).containsExactly(ADAPTER_A)
+  }
+
+  @Test
+  fun initialize_sdkCompletes_forwardsResultOnce() {
+    initialize(ADAPTER_A)
+
+    sdkCallbacks.getValue(ADAPTER_A).onInitializationFailed("error")
+    sdkCallbacks.getValue(ADAPTER_A).onInitializationSucceeded()
+
+    assertThat(results).containsExactly("$ADAPTER_A failed: error")
+  }
+
+  @Test
+  fun getInitTimings_recordsQueuedBlockedAndTotalTime() {
+    coordinator.setDeferred(ADAPTER_A, true)
+    initialize(ADAPTER_A, blockMillis = 30L)
+    nowMillis = 100L
+    coordinator.releaseDeferred()
+
+    nowMillis = 500L
+    sdkCallbacks.getValue(ADAPTER_A).onInitializationSucceeded()
+
+    val timing = coordinator.getInitTimings().single()
+    assertThat(timing.adapterName).isEqualTo(ADAPTER_A)
+    assertThat(timing.wasDeferred).isTrue()
+    assertThat(timing.queuedMillis).isEqualTo(100L)
+    assertThat(timing.callerBlockedMillis).isEqualTo(30L)
+    assertThat(timing.totalMillis).isEqualTo(400L)
+    assertThat(timing.isSuccess).isTrue()
+  }
+
+  @Test
+  fun getInitTimings_sdkCompletesSynchronously_countsWholeInitAsBlocking() {
+    coordinator.initialize(ADAPTER_A, callback(ADAPTER_A)) { sdkCallback ->
+      nowMillis += 40L
+      sdkCallback.onInitializationSucceeded()
+    }
+
+    val timing = coordinator.getInitTimings().single()
+    assertThat(timing.callerBlockedMillis).isEqualTo(40L)
+    assertThat(timing.totalMillis).isEqualTo(40L)
+  }
+
+  @Test
+  fun getInitTimings_initNotComplete_isEmpty() {
+    initialize(ADAPTER_A)
+
+    assertThat(coordinator.getInitTimings()).isEmpty()
+  }
+
+  private fun initialize(adapterName: String, blockMillis: Long = 0L) {
+    coordinator.initialize(adapterName, callback(adapterName)) { sdkCallback ->
+      startedAdapters.add(adapterName)
+      sdkCallbacks[adapterName] = sdkCallback
+      nowMillis += blockMillis
+    }
+  }
+
+  private fun callback(adapterName: String) =
+    object : InitializationCompleteCallback {
+      override fun onInitializationSucceeded() {
+        results.add("$adapterName succeeded")
+      }
+
+      override fun onInitializationFailed(errorMessage: String) {
+        results.add("$adapterName failed: $errorMessage")
+      }
+    }
+
+  private companion object {
+    const val ADAPTER_A = "com.example.AdapterA"
+    const val ADAPTER_B = "com.example.AdapterB"
+    const val ADAPTER_C = "com.example.AdapterC"
+  }
+}
@@ -0,0 +1,85 @@
+package com.google.ads.mediation.common
+
+import android.content.Context
+import android.content.res.Configuration
+import androidx.test.core.app.ApplicationProvider
+import androidx.test.ext.junit.runners.AndroidJUnit4
+import com.google.android.gms.ads.AdSize
+import com.google.common.truth.Truth.assertThat
+import org.junit.Test
+import org.junit.runner.RunWith
+
+@RunWith(AndroidJUnit4::class)
+class BannerSizeCacheTest {
+
+  private val context = ApplicationProvider.getApplicationContext<Context>()
+  private var resolveCount = 0
+  private val bannerSizeCache =
+    BannerSizeCache { _, adSize ->
+      resolveCount++
+      if (adSize == AdSize.BANNER) "banner" else null
+    }
+
+  @Test
+  fun get_returnsResolvedSize() {
+    assertThat(bannerSizeCache.get(context, AdSize.BANNER)).isEqualTo("banner")
+  }
+
+  @Test
+  fun get_sameSizeTwice_resolvesOnce() {
+    bannerSizeCache.get(context, AdSize.BANNER)
+    bannerSizeCache.get(context, AdSize.BANNER)
+
+    assertThat(resolveCount).isEqualTo(1)
+  }
+
+  @Test
+  fun get_unsupportedSize_cachesNull() {
+    assertThat(bannerSizeCache.get(context, AdSize.LEADERBOARD)).isNull()
+    assertThat(bannerSizeCache.get(context, AdSize.LEADERBOARD)).isNull()
+
+    assertThat(resolveCount).isEqualTo(1)
+  }
+
+  @Test
+  fun get_differentSizes_resolvesEach() {
+    bannerSizeCache.get(context, AdSize.BANNER)
+    bannerSizeCache.get(context, AdSize.LEADERBOARD)
+
+    assertThat(resolveCount).isEqualTo(2)
+  }
+
+  @Test
+  fun get_differentOrientation_resolvesAgain() {
+    bannerSizeCache.get(context, AdSize.BANNER)
+    val configuration = Configuration(context.resources.configuration)
+    configuration.orientation =
+      if (configuration.orientation == Configuration.ORIENTATION_LANDSCAPE) {
+        Configuration.ORIENTATION_PORTRAIT
+      } else {
+        Configuration.ORIENTATION_LANDSCAPE
+      }
+    val rotatedContext = context.createConfigurationContext(configuration)
+
+    bannerSizeCache.get(rotatedContext, AdSize.BANNER)
+
+    assertThat(resolveCount).isEqualTo(2)
+  }
+
+  @Test
+  fun clear_dropsCachedSizes() {
+    bannerSizeCache.get(context, AdSize.BANNER)
+
+    bannerSizeCache.clear()
+    bannerSizeCache.get(context, AdSize.BANNER)
+
+    assertThat(resolveCount).isEqualTo(2)
+  }
+
+  @Test
+  fun forCandidates_returnsClosestCandidate() {
+    val closestSizeCache = BannerSizeCache.forCandidates(AdSize.BANNER, AdSize.MEDIUM_RECTANGLE)
+
+    assertThat(closestSizeCache.get(context, AdSize(300, 250))).isEqualTo(AdSize.MEDIUM_RECTANGLE)
+  }
+}
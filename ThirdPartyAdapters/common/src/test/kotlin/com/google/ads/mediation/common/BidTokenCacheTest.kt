@@ -0,0 +1,220 @@
+package com.google.ads.mediation.common
+
+import android.content.Context
+import androidx.test.core.app.ApplicationProvider
+import androidx.test.ext.junit.runners.AndroidJUnit4
+import com.google.android.gms.ads.AdError
+import com.google.common.truth.Truth.assertThat
+import java.util.concurrent.Executor
+import org.junit.After
+import org.junit.Before
+import org.junit.Test
+import org.junit.runner.RunWith
+
+@RunWith(AndroidJUnit4::class)
+class BidTokenCacheTest {
+
+  private val context = ApplicationProvider.getApplicationContext<Context>()
+  private var currentTimeMillis = 0L
+  private val clock = Clock { currentTimeMillis }
+  private val pendingRefreshes = ArrayDeque<Runnable>()
+  private val refreshExecutor = Executor { command -> pendingRefreshes.addLast(command) }
+  private var fetchCount = 0
+  private var fetchError: AdError? = null
+  private val fetcher =
+    BidTokenCache.TokenFetcher { _, key, callback ->
+      fetchCount++
+      val error = fetchError
+      if (error != null) {
+        callback.onTokenError(error)
+      } else {
+        callback.onTokenReady("$key-$fetchCount")
+      }
+    }
+  private val tokens = mutableListOf<String>()
+  private val errors = mutableListOf<AdError>()
+  private val callback =
+    object : BidTokenCache.TokenCallback {
+      override fun onTokenReady(token: String) {
+        tokens.add(token)
+      }
+
+      override fun onTokenError(error: AdError) {
+        errors.add(error)
+      }
+    }
+
+  private val preferences =
+    context.getSharedPreferences(context.packageName + "_preferences", Context.MODE_PRIVATE)
+  private val privacySnapshotService = PrivacySnapshotService()
+  private val bidTokenCache = BidTokenCache(NETWORK, refreshExecutor, clock, privacySnapshotService)
+
+  @Before
+  fun setUp() {
+    BidTokenCache.setTtlMillis(NETWORK, TTL_MILLIS)
+  }
+
+  @After
+  fun tearDown() {
+    BidTokenCache.removeTtlMillis(NETWORK)
+    privacySnapshotService.reset()
+    preferences.edit().clear().commit()
+  }
+
+  @Test
+  fun getToken_cacheMiss_fetchesTokenAndSchedulesRefresh() {
+    bidTokenCache.getToken(context, KEY, fetcher, callback)
+
+    assertThat(tokens).containsExactly("$KEY-1")
+    assertThat(pendingRefreshes).hasSize(1)
+  }
+
+  @Test
+  fun getToken_afterRefresh_servesCachedTokenWithoutFetching() {
+    bidTokenCache.getToken(context, KEY, fetcher, callback)
+    runPendingRefreshes()
+
+    bidTokenCache.getToken(context, KEY, fetcher, callback)
+
+    assertThat(tokens).containsExactly("$KEY-1", "$KEY-2").inOrder()
+    assertThat(fetchCount).isEqualTo(2)
+  }
+
+  @Test
+  fun getToken_neverServesTheSameCachedTokenTwice() {
+    bidTokenCache.prefetch(context, KEY, fetcher)
+    runPendingRefreshes()
+
+    bidTokenCache.getToken(context, KEY, fetcher, callback)
+    bidTokenCache.getToken(context, KEY, fetcher, callback)
+
+    assertThat(tokens).containsExactly("$KEY-1", "$KEY-2").inOrder()
+  }
+
+  @Test
+  fun getToken_expiredToken_fetchesNewToken() {
+    bidTokenCache.prefetch(context, KEY, fetcher)
+    runPendingRefreshes()
+    currentTimeMillis += TTL_MILLIS
+
+    bidTokenCache.getToken(context, KEY, fetcher, callback)
+
+    assertThat(tokens).containsExactly("$KEY-2")
+  }
+
+  @Test
+  fun getToken_cachesTokensPerKey() {
+    bidTokenCache.prefetch(context, KEY, fetcher)
+    runPendingRefreshes()
+
+    bidTokenCache.getToken(context, OTHER_KEY, fetcher, callback)
+
+    assertThat(tokens).containsExactly("$OTHER_KEY-2")
+  }
+
+  @Test
+  fun getToken_fetchError_reportsErrorAndDoesNotRefresh() {
+    fetchError = AdError(1, "error", "domain")
+
+    bidTokenCache.getToken(context, KEY, fetcher, callback)
+
+    assertThat(errors).containsExactly(fetchError)
+    assertThat(pendingRefreshes).isEmpty()
+  }
+
+  @Test
+  fun prefetch_refreshAlreadyInProgress_doesNotScheduleAnotherRefresh() {
+    bidTokenCache.prefetch(context, KEY, fetcher)
+    bidTokenCache.prefetch(context, KEY, fetcher)
+
+    assertThat(pendingRefreshes).hasSize(1)
+  }
+
+  @Test
+  fun prefetch_validTokenCached_doesNotRefresh() {
+    bidTokenCache.prefetch(context, KEY, fetcher)
+    runPendingRefreshes()
+
+    bidTokenCache.prefetch(context, KEY, fetcher)
+
+    assertThat(pendingRefreshes).isEmpty()
+    assertThat(fetchCount).isEqualTo(1)
+  }
+
+  @Test
+  fun clear_dropsCachedTokens() {
+    bidTokenCache.prefetch(context, KEY, fetcher)
+    runPendingRefreshes()
+
+    bidTokenCache.clear()
+    bidTokenCache.getToken(context, KEY, fetcher, callback)
+
+    assertThat(tokens).containsExactly("$KEY-2")
+  }
+
+  @Test
+  fun getToken_consentChanged_fetchesNewToken() {
+    bidTokenCache.prefetch(context, KEY, fetcher)
+    runPendingRefreshes()
+
+    preferences.edit().putString(PrivacySnapshotService.KEY_TCF_STRING, "tcf").commit()
+    bidTokenCache.getToken(context, KEY, fetcher, callback)
+
+    assertThat(tokens).containsExactly("$KEY-2")
+  }
+
+  @Test
+  fun getToken_consentChangedDuringRefresh_doesNotCacheRefreshedToken() {
+    bidTokenCache.prefetch(context, KEY, fetcher)
+
+    preferences.edit().putString(PrivacySnapshotService.KEY_US_PRIVACY_STRING, "1YNN").commit()
+    bidTokenCache.getToken(context, KEY, fetcher, callback)
+    // The prefetch started under the previous consent, so its token is dropped.
+    runPendingRefreshes()
+    bidTokenCache.getToken(context, KEY, fetcher, callback)
+
+    assertThat(tokens).containsExactly("$KEY-1", "$KEY-3").inOrder()
+  }
+
+  @Test
+  fun networkWithoutTtl_doesNotCacheTokens() {
+    BidTokenCache.removeTtlMillis(NETWORK)
+
+    bidTokenCache.prefetch(context, KEY, fetcher)
+    bidTokenCache.getToken(context, KEY, fetcher, callback)
+    bidTokenCache.getToken(context, KEY, fetcher, callback)
+
+    assertThat(pendingRefreshes).isEmpty()
+    assertThat(tokens).containsExactly("$KEY-1", "$KEY-2").inOrder()
+  }
+
+  @Test
+  fun setTtlMillis_usesNetworkTtl() {
+    BidTokenCache.setTtlMillis(NETWORK, TTL_MILLIS / 2)
+    bidTokenCache.prefetch(context, KEY, fetcher)
+    runPendingRefreshes()
+    currentTimeMillis += TTL_MILLIS / 2
+
+    bidTokenCache.getToken(context, KEY, fetcher, callback)
+
+    assertThat(tokens).containsExactly("$KEY-2")
+  }
+
+  @Test(expected = IllegalArgumentException::class)
+  fun setTtlMillis_zero_throws() {
+    BidTokenCache.setTtlMillis(NETWORK, 0L)
+  }
+
+  private fun runPendingRefreshes() {
+    while (pendingRefreshes.isNotEmpty()) {
+      pendingRefreshes.removeFirst().run()
+    }
+  }
+
+  private companion object {
+    const val NETWORK = "network"
+    const val KEY = "banner"
+    const val OTHER_KEY = "interstitial"
+    const val TTL_MILLIS = 60_000L
+  }
+}
@@ -0,0 +1,186 @@
+package com.google.ads.mediation.common
+
+import androidx.test.ext.junit.runners.AndroidJUnit4
+import com.google.ads.mediation.common.FullscreenAdInventory.TrackedAd
+import com.google.common.truth.Truth.assertThat
+import org.junit.Test
+import org.junit.runner.RunWith
+
+@RunWith(AndroidJUnit4::class)
+class FullscreenAdInventoryTest {
+
+  private var nowMillis = 0L
+  private val scheduledTasks = mutableListOf<Pair<Long, Runnable>>()
+  private val inventory =
+    FullscreenAdInventory(
+      { nowMillis },
+      object : FullscreenAdInventory.Scheduler {
+        override fun schedule(delayMillis: Long, task: Runnable) {
+          scheduledTasks.add(nowMillis + delayMillis to task)
+        }
+
+        override fun cancel(task: Runnable) {
+          scheduledTasks.removeAll { it.second === task }
+        }
+      },
+    )
+
+  @Test
+  fun track_networkWithoutTtl_doesNotTrackAd() {
+    val expiredAds = mutableListOf<TrackedAd>()
+
+    val ad = inventory.track(NETWORK, FORMAT) { expiredAds.add(it) }
+    nowMillis = Long.MAX_VALUE / 2
+    runDueTasks()
+
+    assertThat(ad).isNull()
+    assertThat(inventory.getTrackedAds()).isEmpty()
+    assertThat(scheduledTasks).isEmpty()
+    assertThat(expiredAds).isEmpty()
+  }
+
+  @Test
+  fun track_usesNetworkTtl() {
+    inventory.setTtlMillis(NETWORK, TTL_MILLIS)
+
+    assertThat(inventory.track(NETWORK, FORMAT)!!.ttlMillis).isEqualTo(TTL_MILLIS)
+    assertThat(inventory.track(OTHER_NETWORK, FORMAT)).isNull()
+  }
+
+  @Test
+  fun removeTtlMillis_stopsTrackingNewAds() {
+    inventory.setTtlMillis(NETWORK, TTL_MILLIS)
+
+    inventory.removeTtlMillis(NETWORK)
+
+    assertThat(inventory.track(NETWORK, FORMAT)).isNull()
+  }
+
+  @Test
+  fun getRemainingTtlMillis_countsDownToExpiry() {
+    inventory.setTtlMillis(NETWORK, TTL_MILLIS)
+    val ad = inventory.track(NETWORK, FORMAT)!!
+
+    nowMillis = TTL_MILLIS - 1
+    assertThat(ad.getRemainingTtlMillis()).isEqualTo(1L)
+    assertThat(ad.isExpired()).isFalse()
+
+    nowMillis = TTL_MILLIS + 1
+    assertThat(ad.getRemainingTtlMillis()).isEqualTo(0L)
+    assertThat(ad.isExpired()).isTrue()
+  }
+
+  @Test
+  fun scheduledCheck_afterTtl_notifiesListeners() {
+    inventory.setTtlMillis(NETWORK, TTL_MILLIS)
+    val expiredAds = mutableListOf<TrackedAd>()
+    val globallyExpiredAds = mutableListOf<TrackedAd>()
+    inventory.addExpiryListener { globallyExpiredAds.add(it) }
+    val ad = inventory.track(NETWORK, FORMAT) { expiredAds.add(it) }!!
+
+    nowMillis = TTL_MILLIS
+    runDueTasks()
+
+    assertThat(expiredAds).containsExactly(ad)
+    assertThat(globallyExpiredAds).containsExactly(ad)
+    assertThat(inventory.getTrackedAds()).isEmpty()
+  }
+
+  @Test
+  fun scheduledCheck_adRemoved_doesNotNotify() {
+    inventory.setTtlMillis(NETWORK, TTL_MILLIS)
+    val expiredAds = mutableListOf<TrackedAd>()
+    val ad = inventory.track(NETWORK, FORMAT) { expiredAds.add(it) }!!
+
+    ad.remove()
+
+    assertThat(scheduledTasks).isEmpty()
+    nowMillis = TTL_MILLIS
+    runDueTasks()
+    assertThat(expiredAds).isEmpty()
+  }
+
+  @Test
+  fun scheduledCheck_runsEarly_reschedulesCheck() {
+    inventory.setTtlMillis(NETWORK, TTL_MILLIS)
+    val expiredAds = mutableListOf<TrackedAd>()
+    inventory.track(NETWORK, FORMAT) { expiredAds.add(it) }
+
+    nowMillis = TTL_MILLIS - 100
+    scheduledTasks.removeAt(0).second.run()
+
+    assertThat(expiredAds).isEmpty()
+    assertThat(scheduledTasks.single().first).isEqualTo(TTL_MILLIS)
+    nowMillis = TTL_MILLIS
+    runDueTasks()
+    assertThat(expiredAds).hasSize(1)
+  }
+
+  @Test
+  fun reportExpiredAds_reportsEachAdOnce() {
+    inventory.setTtlMillis(NETWORK, TTL_MILLIS)
+    inventory.setTtlMillis(OTHER_NETWORK, 2 * TTL_MILLIS)
+    val expiredAds = mutableListOf<TrackedAd>()
+    inventory.addExpiryListener { expiredAds.add(it) }
+    val ad = inventory.track(NETWORK, FORMAT)!!
+    val otherAd = inventory.track(OTHER_NETWORK, FORMAT)!!
+
+    nowMillis = TTL_MILLIS
+    inventory.reportExpiredAds()
+    runDueTasks()
+
+    assertThat(expiredAds).containsExactly(ad)
+    assertThat(inventory.getTrackedAds()).containsExactly(otherAd)
+  }
+
+  @Test
+  fun removeExpiryListener_stopsNotifying() {
+    inventory.setTtlMillis(NETWORK, TTL_MILLIS)
+    val expiredAds = mutableListOf<TrackedAd>()
+    val listener = FullscreenAdInventory.ExpiryListener { expiredAds.add(it) }
+    inventory.addExpiryListener(listener)
+    inventory.track(NETWORK, FORMAT)
+
+    inventory.removeExpiryListener(listener)
+    nowMillis = TTL_MILLIS
+    runDueTasks()
+
+    assertThat(expiredAds).isEmpty()
+  }
+
+  @Test
+  fun clear_stopsTrackingWithoutNotifying() {
+    inventory.setTtlMillis(NETWORK, TTL_MILLIS)
+    val expiredAds = mutableListOf<TrackedAd>()
+    inventory.track(NETWORK, FORMAT) { expiredAds.add(it) }
+
+    inventory.clear()
+    nowMillis = TTL_MILLIS
+    runDueTasks()
+
+    assertThat(inventory.getTrackedAds()).isEmpty()
+    assertThat(scheduledTasks).isEmpty()
+    assertThat(expiredAds).isEmpty()
+  }
+
+  @Test(expected = IllegalArgumentException::class)
+  fun setTtlMillis_zero_throws() {
+    inventory.setTtlMillis(NETWORK, 0L)
+  }
+
+  /** Runs the scheduled tasks that are due, including the ones they schedule. */
+  private fun runDueTasks() {
+    while (true) {
+      val task = scheduledTasks.firstOrNull { it.first <= nowMillis } ?: return
+      scheduledTasks.remove(task)
+      task.second.run()
+    }
+  }
+
+  private companion object {
+    const val TTL_MILLIS = 30_000L
+    const val NETWORK = "network"
+    const val OTHER_NETWORK = "other_network"
+    const val FORMAT = AdEventPipeline.FORMAT_INTERSTITIAL
+  }
+}
@@ -0,0 +1,135 @@
+package com.google.ads.mediation.common
+
+import androidx.test.ext.junit.runners.AndroidJUnit4
+import com.google.ads.mediation.common.LoadLatencyTracker.Phase
+import com.google.android.gms.ads.AdError
+import com.google.android.gms.ads.mediation.MediationAdLoadCallback
+import com.google.common.truth.Truth.assertThat
+import org.junit.Test
+import org.junit.runner.RunWith
+import org.mockito.kotlin.doReturn
+import org.mockito.kotlin.mock
+import org.mockito.kotlin.verify
+
+@RunWith(AndroidJUnit4::class)
+class LoadLatencyTrackerTest {
+
+  private var nowMillis = 0L
+  private val tracker = LoadLatencyTracker { nowMillis }
+
+  @Test
+  fun finish_allMilestonesMarked_recordsEachPhase() {
+    val span = tracker.startLoad(NETWORK, FORMAT)
+    nowMillis = 300L
+    span.markInitComplete()
+    nowMillis = 320L
+    span.markSdkRequestSent()
+    nowMillis = 820L
+    span.markSdkCallback()
+    nowMillis = 825L
+
+    span.finish(isSuccess = true)
+
+    val stats = tracker.getStats().single()
+    assertThat(stats.network).isEqualTo(NETWORK)
+    assertThat(stats.format).isEqualTo(FORMAT)
+    assertThat(stats.isSuccess).isTrue()
+    assertThat(stats.histograms.getValue(Phase.INIT_WAIT).sumMillis).isEqualTo(300L)
+    assertThat(stats.histograms.getValue(Phase.REQUEST_PREPARATION).sumMillis).isEqualTo(20L)
+    assertThat(stats.histograms.getValue(Phase.SDK_LOAD).sumMillis).isEqualTo(500L)
+    assertThat(stats.histograms.getValue(Phase.DELIVERY).sumMillis).isEqualTo(5L)
+    assertThat(stats.histograms.getValue(Phase.TOTAL).sumMillis).isEqualTo(825L)
+  }
+
+  @Test
+  fun finish_initFailed_attributesLoadToInitWait() {
+    val span = tracker.startLoad(NETWORK, FORMAT)
+    nowMillis = 400L
+
+    span.finish(isSuccess = false)
+
+    val stats = tracker.getStats().single()
+    assertThat(stats.isSuccess).isFalse()
+    assertThat(stats.histograms.getValue(Phase.INIT_WAIT).sumMillis).isEqualTo(400L)
+    assertThat(stats.histograms.getValue(Phase.SDK_LOAD).sumMillis).isEqualTo(0L)
+  }
+
+  @Test
+  fun finish_calledTwice_recordsOnce() {
+    val span = tracker.startLoad(NETWORK, FORMAT)
+
+    span.finish(isSuccess = true)
+    span.finish(isSuccess = false)
+
+    val stats = tracker.getStats().single()
+    assertThat(stats.isSuccess).isTrue()
+    assertThat(stats.histograms.getValue(Phase.TOTAL).count).isEqualTo(1L)
+  }
+
+  @Test
+  fun wrap_onSuccess_finishesSpanAndForwardsResult() {
+    val ad = Any()
+    val adCallback = Any()
+    val callback =
+      mock<MediationAdLoadCallback<Any, Any>> { on { onSuccess(ad) } doReturn adCallback }
+    val span = tracker.startLoad(NETWORK, FORMAT)
+    nowMillis = 50L
+
+    val result = span.wrap(callback).onSuccess(ad)
+
+    assertThat(result).isSameInstanceAs(adCallback)
+    assertThat(tracker.getStats().single().histograms.getValue(Phase.TOTAL).sumMillis)
+      .isEqualTo(50L)
+  }
+
+  @Test
+  fun wrap_onFailure_recordsFailureAndForwardsError() {
+    val callback = mock<MediationAdLoadCallback<Any, Any>>()
+    val error = AdError(1, "error", "domain")
+
+    tracker.startLoad(NETWORK, FORMAT).wrap(callback).onFailure(error)
+
+    verify(callback).onFailure(error)
+    assertThat(tracker.getStats().single().isSuccess).isFalse()
+  }
+
+  @Test
+  fun getStats_groupsByNetworkAndFormat() {
+    tracker.startLoad(NETWORK, FORMAT).finish(isSuccess = true)
+    tracker.startLoad(NETWORK, FORMAT).finish(isSuccess = true)
+    tracker.startLoad(NETWORK, OTHER_FORMAT).finish(isSuccess = true)
+
+    val counts =
+      tracker.getStats().associate { it.format to it.histograms.getValue(Phase.TOTAL).count }
+    assertThat(counts).containsExactly(FORMAT, 2L, OTHER_FORMAT, 1L)
+  }
+
+  @Test
+  fun percentileMillis_returnsBucketUpperBound() {
+    for (durationMillis in listOf(5L, 40L, 40L, 700L)) {
+      val span = tracker.startLoad(NETWORK, FORMAT)
+      nowMillis += durationMillis
+      span.finish(isSuccess = true)
+    }
+
+    val histogram = tracker.getStats().single().histograms.getValue(Phase.TOTAL)
+    assertThat(histogram.percentileMillis(50.0)).isEqualTo(50L)
+    assertThat(histogram.percentileMillis(100.0)).isEqualTo(700L)
+    assertThat(histogram.maxMillis).isEqualTo(700L)
+  }
+
+  @Test
+  fun reset_dropsStats() {
+    tracker.startLoad(NETWORK, FORMAT).finish(isSuccess = true)
+
+    tracker.reset()
+
+    assertThat(tracker.getStats()).isEmpty()
+  }
+
+  private companion object {
+    const val NETWORK = "network"
+    const val FORMAT = AdEventPipeline.FORMAT_BANNER
+    const val OTHER_FORMAT = AdEventPipeline.FORMAT_INTERSTITIAL
+  }
+}
@@ -0,0 +1,133 @@
+package com.google.ads.mediation.common
+
+import android.content.ComponentCallbacks2
+import androidx.test.ext.junit.runners.AndroidJUnit4
+import com.google.common.truth.Truth.assertThat
+import org.junit.Test
+import org.junit.runner.RunWith
+
+@RunWith(AndroidJUnit4::class)
+class MemoryPressureCoordinatorTest {
+
+  private val coordinator = MemoryPressureCoordinator()
+  private val cache = FakeTrimmable(bytes = 1_000L)
+  private val pool = FakeTrimmable(bytes = 600L)
+
+  @Test
+  fun trim_runningModerate_releasesNothing() {
+    coordinator.register(CACHE, cache)
+
+    val releasedBytes = coordinator.trim(ComponentCallbacks2.TRIM_MEMORY_RUNNING_MODERATE)
+
+    assertThat(releasedBytes).isEqualTo(0L)
+    assertThat(cache.bytes).isEqualTo(1_000L)
+  }
+
+  @Test
+  fun trim_runningLow_releasesExpectedBytes() {
+    coordinator.register(CACHE, cache)
+    coordinator.register(POOL, pool, MemoryPressureCoordinator.RELEASE_ALL_POLICY)
+
+    val releasedBytes = coordinator.trim(ComponentCallbacks2.TRIM_MEMORY_RUNNING_LOW)
+
+    assertThat(releasedBytes).isEqualTo(1_100L)
+    assertThat(cache.bytes).isEqualTo(500L)
+    assertThat(pool.bytes).isEqualTo(0L)
+  }
+
+  @Test
+  fun trim_uiHidden_releasesExpectedBytes() {
+    coordinator.register(CACHE, cache)
+    coordinator.register(POOL, pool, MemoryPressureCoordinator.RELEASE_ALL_POLICY)
+
+    val releasedBytes = coordinator.trim(ComponentCallbacks2.TRIM_MEMORY_UI_HIDDEN)
+
+    assertThat(releasedBytes).isEqualTo(1_100L)
+    assertThat(coordinator.getSizeInBytes()).isEqualTo(500L)
+  }
+
+  @Test
+  fun trim_runningCritical_releasesEverything() {
+    coordinator.register(CACHE, cache)
+
+    val releasedBytes = coordinator.trim(ComponentCallbacks2.TRIM_MEMORY_RUNNING_CRITICAL)
+
+    assertThat(releasedBytes).isEqualTo(1_000L)
+    assertThat(cache.bytes).isEqualTo(0L)
+  }
+
+  @Test
+  fun trim_background_releasesEverything() {
+    coordinator.register(CACHE, cache)
+    coordinator.register(POOL, pool)
+
+    val releasedBytes = coordinator.trim(ComponentCallbacks2.TRIM_MEMORY_BACKGROUND)
+
+    assertThat(releasedBytes).isEqualTo(1_600L)
+    assertThat(coordinator.getSizeInBytes()).isEqualTo(0L)
+  }
+
+  @Test
+  fun trim_customPolicy_keepsPolicySize() {
+    coordinator.register(CACHE, cache) { _, _ -> 300L }
+
+    val releasedBytes = coordinator.trim(ComponentCallbacks2.TRIM_MEMORY_RUNNING_LOW)
+
+    assertThat(releasedBytes).isEqualTo(700L)
+    assertThat(cache.bytes).isEqualTo(300L)
+  }
+
+  @Test
+  fun trim_emptyPool_stillTrimsToZero() {
+    val emptyPool = FakeTrimmable(bytes = 0L)
+    coordinator.register(POOL, emptyPool, MemoryPressureCoordinator.RELEASE_ALL_POLICY)
+
+    coordinator.trim(ComponentCallbacks2.TRIM_MEMORY_UI_HIDDEN)
+
+    assertThat(emptyPool.trimmedSizes).containsExactly(0L)
+  }
+
+  @Test
+  fun register_sameName_replacesRegistration() {
+    coordinator.register(CACHE, cache)
+    coordinator.register(CACHE, pool)
+
+    assertThat(coordinator.getSizeInBytes()).isEqualTo(600L)
+  }
+
+  @Test
+  fun unregister_stopsTrimming() {
+    coordinator.register(CACHE, cache)
+
+    coordinator.unregister(CACHE)
+    coordinator.trim(ComponentCallbacks2.TRIM_MEMORY_COMPLETE)
+
+    assertThat(cache.bytes).isEqualTo(1_000L)
+  }
+
+  @Test
+  fun onLowMemory_releasesEverything() {
+    coordinator.register(CACHE, cache)
+
+    coordinator.onLowMemory()
+
+    assertThat(cache.bytes).isEqualTo(0L)
+  }
+
+  private class FakeTrimmable(var bytes: Long) : MemoryPressureCoordinator.Trimmable {
+
+    val trimmedSizes = mutableListOf<Long>()
+
+    override fun getSizeInBytes(): Long = bytes
+
+    override fun trimToSize(maxSizeInBytes: Long) {
+      trimmedSizes.add(maxSizeInBytes)
+      bytes = minOf(bytes, maxSizeInBytes)
+    }
+  }
+
+  private companion object {
+    const val CACHE = "cache"
+    const val POOL = "pool"
+  }
+}
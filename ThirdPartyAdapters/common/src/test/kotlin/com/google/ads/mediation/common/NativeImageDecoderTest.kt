@@ -0,0 +1,59 @@
+package com.google.ads.mediation.common
+
+import android.graphics.Bitmap
+import androidx.test.ext.junit.runners.AndroidJUnit4
+import com.google.ads.mediation.common.NativeImageDecoder.DecodeOptions
+import com.google.common.truth.Truth.assertThat
+import org.junit.Test
+import org.junit.runner.RunWith
+
+@RunWith(AndroidJUnit4::class)
+class NativeImageDecoderTest {
+
+  @Test
+  fun calculateInSampleSize_imageSmallerThanTarget_returnsOne() {
+    assertThat(NativeImageDecoder.calculateInSampleSize(100, 100, 200, 200)).isEqualTo(1)
+  }
+
+  @Test
+  fun calculateInSampleSize_imageLargerThanTarget_returnsLargestPowerOfTwoKeepingTargetSize() {
+    // 1000 / 4 = 250 is still larger than the target, but 1000 / 8 = 125 is not.
+    assertThat(NativeImageDecoder.calculateInSampleSize(1000, 1000, 200, 200)).isEqualTo(4)
+  }
+
+  @Test
+  fun calculateInSampleSize_boundedBySmallestDimension() {
+    // Halving the height would make it smaller than the target height.
+    assertThat(NativeImageDecoder.calculateInSampleSize(2000, 300, 200, 200)).isEqualTo(1)
+  }
+
+  @Test
+  fun calculateInSampleSize_invalidSize_returnsOne() {
+    assertThat(NativeImageDecoder.calculateInSampleSize(0, 1000, 200, 200)).isEqualTo(1)
+    assertThat(NativeImageDecoder.calculateInSampleSize(1000, 1000, 0, 200)).isEqualTo(1)
+  }
+
+  @Test
+  fun scaleDown_bitmapWithinTarget_returnsSameBitmap() {
+    val bitmap = Bitmap.createBitmap(100, 50, Bitmap.Config.ARGB_8888)
+
+    assertThat(NativeImageDecoder.scaleDown(bitmap, DecodeOptions(200, 200)))
+      .isSameInstanceAs(bitmap)
+  }
+
+  @Test
+  fun scaleDown_bitmapLargerThanTarget_scalesKeepingAspectRatio() {
+    val bitmap = Bitmap.createBitmap(800, 400, Bitmap.Config.ARGB_8888)
+
+    val scaledBitmap = NativeImageDecoder.scaleDown(bitmap, DecodeOptions(200, 200))
+
+    assertThat(scaledBitmap.width).isEqualTo(200)
+    assertThat(scaledBitmap.height).isEqualTo(100)
+  }
+
+  @Test
+  fun decodeFile_missingFile_returnsNull() {
+    assertThat(NativeImageDecoder.decodeFile("/does/not/exist.png", DecodeOptions(200, 200)))
+      .isNull()
+  }
+}
@@ -0,0 +1,137 @@
+package com.google.ads.mediation.common
+
+import androidx.test.ext.junit.runners.AndroidJUnit4
+import com.google.ads.mediation.common.PlacementCircuitBreaker.State
+import com.google.common.truth.Truth.assertThat
+import org.junit.Test
+import org.junit.runner.RunWith
+
+@RunWith(AndroidJUnit4::class)
+class PlacementCircuitBreakerTest {
+
+  private var nowMillis = 0L
+  private val circuitBreaker =
+    PlacementCircuitBreaker(
+      failureThreshold = 3,
+      openDurationMillis = OPEN_DURATION_MILLIS,
+      clock = { nowMillis },
+    )
+
+  @Test
+  fun checkLoad_noFailures_allowsLoad() {
+    assertThat(checkLoad(NETWORK, PLACEMENT)).isNull()
+    assertThat(circuitBreaker.getState(NETWORK, PLACEMENT)).isEqualTo(State.CLOSED)
+  }
+
+  @Test
+  fun checkLoad_failuresBelowThreshold_allowsLoad() {
+    repeat(2) { circuitBreaker.recordFailure(NETWORK, PLACEMENT) }
+
+    assertThat(checkLoad(NETWORK, PLACEMENT)).isNull()
+  }
+
+  @Test
+  fun checkLoad_failuresAtThreshold_failsLoad() {
+    repeat(3) { circuitBreaker.recordFailure(NETWORK, PLACEMENT) }
+
+    val error = checkLoad(NETWORK, PLACEMENT)
+
+    assertThat(error).isNotNull()
+    assertThat(error!!.code).isEqualTo(ERROR_CODE)
+    assertThat(error.domain).isEqualTo(ERROR_DOMAIN)
+    assertThat(circuitBreaker.getState(NETWORK, PLACEMENT)).isEqualTo(State.OPEN)
+  }
+
+  @Test
+  fun checkLoad_successResetsFailures_allowsLoad() {
+    repeat(2) { circuitBreaker.recordFailure(NETWORK, PLACEMENT) }
+    circuitBreaker.recordSuccess(NETWORK, PLACEMENT)
+    circuitBreaker.recordFailure(NETWORK, PLACEMENT)
+
+    assertThat(checkLoad(NETWORK, PLACEMENT)).isNull()
+  }
+
+  @Test
+  fun checkLoad_otherPlacement_allowsLoad() {
+    repeat(3) { circuitBreaker.recordFailure(NETWORK, PLACEMENT) }
+
+    assertThat(checkLoad(NETWORK, OTHER_PLACEMENT)).isNull()
+    assertThat(checkLoad(OTHER_NETWORK, PLACEMENT)).isNull()
+  }
+
+  @Test
+  fun checkLoad_openDurationElapsed_allowsOneTrial() {
+    repeat(3) { circuitBreaker.recordFailure(NETWORK, PLACEMENT) }
+    nowMillis = OPEN_DURATION_MILLIS - 1
+    assertThat(checkLoad(NETWORK, PLACEMENT)).isNotNull()
+
+    nowMillis = OPEN_DURATION_MILLIS
+
+    assertThat(checkLoad(NETWORK, PLACEMENT)).isNull()
+    assertThat(circuitBreaker.getState(NETWORK, PLACEMENT)).isEqualTo(State.HALF_OPEN)
+    assertThat(checkLoad(NETWORK, PLACEMENT)).isNotNull()
+  }
+
+  @Test
+  fun recordSuccess_afterTrial_closesCircuit() {
+    repeat(3) { circuitBreaker.recordFailure(NETWORK, PLACEMENT) }
+    nowMillis = OPEN_DURATION_MILLIS
+    checkLoad(NETWORK, PLACEMENT)
+
+    circuitBreaker.recordSuccess(NETWORK, PLACEMENT)
+
+    assertThat(circuitBreaker.getState(NETWORK, PLACEMENT)).isEqualTo(State.CLOSED)
+    assertThat(checkLoad(NETWORK, PLACEMENT)).isNull()
+  }
+
+  @Test
+  fun recordFailure_afterTrial_reopensCircuit() {
+    repeat(3) { circuitBreaker.recordFailure(NETWORK, PLACEMENT) }
+    nowMillis = OPEN_DURATION_MILLIS
+    checkLoad(NETWORK, PLACEMENT)
+
+    circuitBreaker.recordFailure(NETWORK, PLACEMENT)
+
+    assertThat(circuitBreaker.getState(NETWORK, PLACEMENT)).isEqualTo(State.OPEN)
+    nowMillis += OPEN_DURATION_MILLIS - 1
+    assertThat(checkLoad(NETWORK, PLACEMENT)).isNotNull()
+  }
+
+  @Test
+  fun checkLoad_trialReportedNoOutcome_allowsAnotherTrialAfterOpenDuration() {
+    repeat(3) { circuitBreaker.recordFailure(NETWORK, PLACEMENT) }
+    nowMillis = OPEN_DURATION_MILLIS
+    checkLoad(NETWORK, PLACEMENT)
+
+    nowMillis += OPEN_DURATION_MILLIS
+
+    assertThat(checkLoad(NETWORK, PLACEMENT)).isNull()
+  }
+
+  @Test
+  fun reset_closesAllCircuits() {
+    repeat(3) { circuitBreaker.recordFailure(NETWORK, PLACEMENT) }
+
+    circuitBreaker.reset()
+
+    assertThat(checkLoad(NETWORK, PLACEMENT)).isNull()
+  }
+
+  @Test(expected = IllegalArgumentException::class)
+  fun setFailureThreshold_zero_throws() {
+    circuitBreaker.failureThreshold = 0
+  }
+
+  private fun checkLoad(network: String, placementId: String) =
+    circuitBreaker.checkLoad(network, placementId, ERROR_CODE, ERROR_DOMAIN)
+
+  private companion object {
+    const val OPEN_DURATION_MILLIS = 30_000L
+    const val ERROR_CODE = 109
+    const val ERROR_DOMAIN = "com.google.ads.mediation.network"
+    const val NETWORK = "network"
+    const val OTHER_NETWORK = "other_network"
+    const val PLACEMENT = "placement"
+    const val OTHER_PLACEMENT = "other_placement"
+  }
+}
@@ -0,0 +1,194 @@
+package com.google.ads.mediation.common
+
+import android.content.Context
+import androidx.test.core.app.ApplicationProvider
+import androidx.test.ext.junit.runners.AndroidJUnit4
+import com.google.android.gms.ads.MobileAds
+import com.google.android.gms.ads.RequestConfiguration
+import com.google.common.truth.Truth.assertThat
+import org.junit.After
+import org.junit.Test
+import org.junit.runner.RunWith
+
+@RunWith(AndroidJUnit4::class)
+class PrivacySnapshotServiceTest {
+
+  private val context = ApplicationProvider.getApplicationContext<Context>()
+  private val preferences =
+    context.getSharedPreferences(context.packageName + "_preferences", Context.MODE_PRIVATE)
+  private val service = PrivacySnapshotService()
+  private val appliedSnapshots = mutableListOf<Pair<String, PrivacySnapshot>>()
+
+  @After
+  fun tearDown() {
+    service.reset()
+    preferences.edit().clear().commit()
+    MobileAds.setRequestConfiguration(RequestConfiguration.Builder().build())
+  }
+
+  @Test
+  fun applyIfChanged_unchangedConsent_appliesOncePerNetwork() {
+    preferences.edit().putString(PrivacySnapshotService.KEY_US_PRIVACY_STRING, "1YNN").commit()
+
+    repeat(LOAD_COUNT) {
+      load(NETWORK)
+      load(OTHER_NETWORK)
+    }
+
+    assertThat(appliedSnapshots.map { it.first }).containsExactly(NETWORK, OTHER_NETWORK)
+  }
+
+  @Test
+  fun applyIfChanged_consentStringChanged_appliesAgain() {
+    preferences.edit().putString(PrivacySnapshotService.KEY_TCF_STRING, "first").commit()
+    repeat(LOAD_COUNT) { load(NETWORK) }
+
+    preferences.edit().putString(PrivacySnapshotService.KEY_TCF_STRING, "second").commit()
+    repeat(LOAD_COUNT) { load(NETWORK) }
+
+    assertThat(appliedSnapshots.map { it.second.tcfString }).containsExactly("first", "second")
+  }
+
+  @Test
+  fun applyIfChanged_childDirectedTagChanged_appliesAgain() {
+    repeat(LOAD_COUNT) { load(NETWORK) }
+
+    setTagForChildDirectedTreatment(RequestConfiguration.TAG_FOR_CHILD_DIRECTED_TREATMENT_TRUE)
+    repeat(LOAD_COUNT) { load(NETWORK) }
+
+    assertThat(appliedSnapshots.map { it.second.isAgeRestricted })
+      .containsExactly(null, true)
+      .inOrder()
+  }
+
+  @Test
+  fun applyIfChanged_unrelatedPreferenceChanged_doesNotApplyAgain() {
+    load(NETWORK)
+
+    preferences.edit().putString("unrelated", "value").commit()
+    load(NETWORK)
+
+    assertThat(appliedSnapshots).hasSize(1)
+  }
+
+  @Test
+  fun getSnapshot_readsIabKeysFromPreferences() {
+    preferences
+      .edit()
+      .putString(PrivacySnapshotService.KEY_TCF_STRING, "tcf")
+      .putString(PrivacySnapshotService.KEY_GPP_STRING, "gpp")
+      .putInt(PrivacySnapshotService.KEY_US_PRIVACY_STRING, 1)
+      .commit()
+
+    val snapshot = service.getSnapshot(context)
+
+    assertThat(snapshot.tcfString).isEqualTo("tcf")
+    assertThat(snapshot.gppString).isEqualTo("gpp")
+    assertThat(snapshot.usPrivacyString).isNull()
+  }
+
+  @Test
+  fun getSnapshot_unchangedInputs_returnsSameInstance() {
+    assertThat(service.getSnapshot(context)).isSameInstanceAs(service.getSnapshot(context))
+  }
+
+  @Test
+  fun getSnapshot_customPreferencesFile_readsThatFile() {
+    val customPreferences = context.getSharedPreferences(CUSTOM_PREFERENCES, Context.MODE_PRIVATE)
+    customPreferences
+      .edit()
+      .putString(PrivacySnapshotService.KEY_US_PRIVACY_STRING, "1YYN")
+      .commit()
+
+    val snapshot = service.getSnapshot(context, CUSTOM_PREFERENCES)
+
+    assertThat(snapshot.usPrivacyString).isEqualTo("1YYN")
+    customPreferences.edit().clear().commit()
+  }
+
+  @Test
+  fun addChangeListener_consentStringChanged_notifiesWithNewSnapshot() {
+    val changedSnapshots = mutableListOf<PrivacySnapshot>()
+    service.addChangeListener { changedSnapshots += it }
+    service.getSnapshot(context)
+
+    preferences.edit().putString(PrivacySnapshotService.KEY_GPP_STRING, "gpp").commit()
+    repeat(LOAD_COUNT) { service.getSnapshot(context) }
+
+    assertThat(changedSnapshots.map { it.gppString }).containsExactly("gpp")
+  }
+
+  @Test
+  fun addChangeListener_underAgeTagChanged_notifies() {
+    val changedSnapshots = mutableListOf<PrivacySnapshot>()
+    service.addChangeListener { changedSnapshots += it }
+    service.getSnapshot(context)
+
+    MobileAds.setRequestConfiguration(
+      MobileAds.getRequestConfiguration()
+        .toBuilder()
+        .setTagForUnderAgeOfConsent(RequestConfiguration.TAG_FOR_UNDER_AGE_OF_CONSENT_TRUE)
+        .build()
+    )
+    service.getSnapshot(context)
+
+    assertThat(changedSnapshots.single().isAgeRestricted).isTrue()
+  }
+
+  @Test
+  fun addChangeListener_firstSnapshotOrUnrelatedPreferenceChanged_doesNotNotify() {
+    val changedSnapshots = mutableListOf<PrivacySnapshot>()
+    service.addChangeListener { changedSnapshots += it }
+
+    service.getSnapshot(context)
+    preferences.edit().putString("unrelated", "value").commit()
+    service.getSnapshot(context)
+
+    assertThat(changedSnapshots).isEmpty()
+  }
+
+  @Test
+  fun removeChangeListener_stopsNotifying() {
+    val changedSnapshots = mutableListOf<PrivacySnapshot>()
+    val listener = PrivacySnapshotService.ChangeListener { changedSnapshots += it }
+    service.addChangeListener(listener)
+    service.getSnapshot(context)
+
+    service.removeChangeListener(listener)
+    preferences.edit().putString(PrivacySnapshotService.KEY_TCF_STRING, "tcf").commit()
+    service.getSnapshot(context)
+
+    assertThat(changedSnapshots).isEmpty()
+  }
+
+  @Test
+  fun isAgeRestricted_underAgeOfConsentTrue_returnsTrue() {
+    val snapshot =
+      PrivacySnapshot(
+        tcfString = null,
+        gppString = null,
+        usPrivacyString = null,
+        tagForChildDirectedTreatment = RequestConfiguration.TAG_FOR_CHILD_DIRECTED_TREATMENT_FALSE,
+        tagForUnderAgeOfConsent = RequestConfiguration.TAG_FOR_UNDER_AGE_OF_CONSENT_TRUE,
+      )
+
+    assertThat(snapshot.isAgeRestricted).isTrue()
+  }
+
+  private fun load(network: String) {
+    service.applyIfChanged(context, network) { appliedSnapshots += network to it }
+  }
+
+  private fun setTagForChildDirectedTreatment(tag: Int) {
+    MobileAds.setRequestConfiguration(
+      MobileAds.getRequestConfiguration().toBuilder().setTagForChildDirectedTreatment(tag).build()
+    )
+  }
+
+  private companion object {
+    const val LOAD_COUNT = 10
+    const val NETWORK = "network"
+    const val OTHER_NETWORK = "other_network"
+    const val CUSTOM_PREFERENCES = "custom_preferences"
+  }
+}
@@ -0,0 +1,167 @@
+package com.google.ads.mediation.common
+
+import com.google.ads.mediation.common.SdkInitializer.State
+import com.google.android.gms.ads.AdError
+import com.google.common.truth.Truth.assertThat
+import java.util.concurrent.CountDownLatch
+import java.util.concurrent.Executor
+import java.util.concurrent.Executors
+import java.util.concurrent.TimeUnit
+import java.util.concurrent.atomic.AtomicInteger
+import org.junit.Test
+import org.junit.runner.RunWith
+import org.junit.runners.JUnit4
+
+@RunWith(JUnit4::class)
+class SdkInitializerTest {
+
+  private val successes = AtomicInteger()
+  private val errors = AtomicInteger()
+  private val dispatcher =
+    object : SdkInitializer.ListenerDispatcher<String> {
+      override fun onInitializeSuccess(listener: String) {
+        successes.incrementAndGet()
+      }
+
+      override fun onInitializeError(listener: String, error: AdError) {
+        errors.incrementAndGet()
+      }
+    }
+  private val startCount = AtomicInteger()
+  private val startInitialization = Runnable { startCount.incrementAndGet() }
+
+  private val sdkInitializer = SdkInitializer(dispatcher)
+
+  @Test
+  fun initialize_uninitialized_startsInitialization() {
+    sdkInitializer.initialize(LISTENER, startInitialization)
+
+    assertThat(startCount.get()).isEqualTo(1)
+    assertThat(sdkInitializer.state).isEqualTo(State.INITIALIZING)
+    assertThat(successes.get()).isEqualTo(0)
+  }
+
+  @Test
+  fun initialize_initializing_attachesToInFlightInitialization() {
+    sdkInitializer.initialize(LISTENER, startInitialization)
+    sdkInitializer.initialize(LISTENER, startInitialization)
+
+    sdkInitializer.onInitializationSucceeded()
+
+    assertThat(startCount.get()).isEqualTo(1)
+    assertThat(successes.get()).isEqualTo(2)
+    assertThat(sdkInitializer.state).isEqualTo(State.INITIALIZED)
+  }
+
+  @Test
+  fun initialize_initialized_notifiesSuccessWithoutStartingInitialization() {
+    sdkInitializer.initialize(LISTENER, startInitialization)
+    sdkInitializer.onInitializationSucceeded()
+
+    sdkInitializer.initialize(LISTENER, startInitialization)
+
+    assertThat(startCount.get()).isEqualTo(1)
+    assertThat(successes.get()).isEqualTo(2)
+  }
+
+  @Test
+  fun onInitializationFailed_notifiesAllListenersAndAllowsRetry() {
+    sdkInitializer.initialize(LISTENER, startInitialization)
+    sdkInitializer.initialize(LISTENER, startInitialization)
+
+    sdkInitializer.onInitializationFailed(AdError(0, "error", "domain"))
+
+    assertThat(errors.get()).isEqualTo(2)
+    assertThat(sdkInitializer.state).isEqualTo(State.UNINITIALIZED)
+    sdkInitializer.initialize(LISTENER, startInitialization)
+    assertThat(startCount.get()).isEqualTo(2)
+  }
+
+  @Test
+  fun initialize_startInitializationThrows_notifiesErrorAndAllowsRetry() {
+    val errorCodes = mutableListOf<Int>()
+    val sdkInitializer =
+      SdkInitializer(
+        object : SdkInitializer.ListenerDispatcher<String> {
+          override fun onInitializeSuccess(listener: String) {}
+
+          override fun onInitializeError(listener: String, error: AdError) {
+            errorCodes += error.code
+          }
+        }
+      )
+
+    val result = runCatching {
+      sdkInitializer.initialize(LISTENER) { throw IllegalStateException("start failed") }
+    }
+
+    assertThat(result.exceptionOrNull()).hasMessageThat().isEqualTo("start failed")
+    assertThat(errorCodes).containsExactly(SdkInitializer.ERROR_CODE_INITIALIZATION_EXCEPTION)
+    assertThat(sdkInitializer.state).isEqualTo(State.UNINITIALIZED)
+    sdkInitializer.initialize(LISTENER, startInitialization)
+    assertThat(startCount.get()).isEqualTo(1)
+  }
+
+  @Test
+  fun onInitializationSucceeded_listenersNotifiedOnlyOnce() {
+    sdkInitializer.initialize(LISTENER, startInitialization)
+
+    sdkInitializer.onInitializationSucceeded()
+    sdkInitializer.onInitializationSucceeded()
+
+    assertThat(successes.get()).isEqualTo(1)
+  }
+
+  @Test
+  fun invalidate_startsNewInitializationOnNextCall() {
+    sdkInitializer.initialize(LISTENER, startInitialization)
+    sdkInitializer.onInitializationSucceeded()
+
+    sdkInitializer.invalidate()
+    sdkInitializer.initialize(LISTENER, startInitialization)
+
+    assertThat(startCount.get()).isEqualTo(2)
+  }
+
+  @Test
+  fun initialize_withCallbackExecutor_dispatchesOnExecutor() {
+    val pendingCallbacks = mutableListOf<Runnable>()
+    val sdkInitializer = SdkInitializer(dispatcher, Executor { pendingCallbacks.add(it) })
+    sdkInitializer.initialize(LISTENER, startInitialization)
+
+    sdkInitializer.onInitializationSucceeded()
+
+    assertThat(successes.get()).isEqualTo(0)
+    pendingCallbacks.forEach { it.run() }
+    assertThat(successes.get()).isEqualTo(1)
+  }
+
+  @Test
+  fun initialize_calledConcurrently_startsInitializationOnceAndNotifiesEveryListener() {
+    val callerCount = 64
+    val threadPool = Executors.newFixedThreadPool(8)
+    val startLatch = CountDownLatch(1)
+    val doneLatch = CountDownLatch(callerCount)
+
+    repeat(callerCount) {
+      threadPool.execute {
+        startLatch.await()
+        sdkInitializer.initialize(LISTENER, startInitialization)
+        doneLatch.countDown()
+      }
+    }
+    startLatch.countDown()
+    // Complete the initialization while callers may still be attaching to it.
+    sdkInitializer.onInitializationSucceeded()
+    assertThat(doneLatch.await(5, TimeUnit.SECONDS)).isTrue()
+    threadPool.shutdown()
+    sdkInitializer.onInitializationSucceeded()
+
+    assertThat(startCount.get()).isAtMost(1)
+    assertThat(successes.get()).isEqualTo(callerCount)
+  }
+
+  private companion object {
+    const val LISTENER = "listener"
+  }
+}
@@ -0,0 +1,103 @@
+package com.google.ads.mediation.common
+
+import android.os.Bundle
+import androidx.test.ext.junit.runners.AndroidJUnit4
+import com.google.android.gms.ads.AdError
+import com.google.common.truth.Truth.assertThat
+import org.junit.Test
+import org.junit.runner.RunWith
+
+@RunWith(AndroidJUnit4::class)
+class ServerParameterCacheTest {
+
+  private var parseCount = 0
+  private val parsedValues = mutableListOf<String?>()
+  private val serverParameterCache =
+    ServerParameterCache(KEY_ID) { value ->
+      parseCount++
+      parsedValues += value
+      val id = value?.toLongOrNull()
+      if (id == null) ServerParameterCache.Result.invalid(INVALID_ID_ERROR)
+      else ServerParameterCache.Result.valid(id)
+    }
+
+  @Test
+  fun get_validParameters_returnsParsedValue() {
+    val result = serverParameterCache.get(bundle(KEY_ID to "123"))
+
+    assertThat(result.isValid).isTrue()
+    assertThat(result.value).isEqualTo(123L)
+    assertThat(result.error).isNull()
+  }
+
+  @Test
+  fun get_sameParametersRepeatedly_parsesOnce() {
+    repeat(10) { serverParameterCache.get(bundle(KEY_ID to "123")) }
+
+    assertThat(parseCount).isEqualTo(1)
+  }
+
+  @Test
+  fun get_differentParameters_parsesEach() {
+    serverParameterCache.get(bundle(KEY_ID to "1"))
+    serverParameterCache.get(bundle(KEY_ID to "2"))
+    serverParameterCache.get(bundle(KEY_ID to "3"))
+
+    assertThat(parseCount).isEqualTo(3)
+  }
+
+  @Test
+  fun get_unrelatedParameterChanged_doesNotParseAgain() {
+    serverParameterCache.get(bundle(KEY_ID to "1", "other" to "a"))
+    serverParameterCache.get(bundle(KEY_ID to "1", "other" to "b"))
+
+    assertThat(parseCount).isEqualTo(1)
+  }
+
+  @Test
+  fun get_invalidParametersRepeatedly_returnsCachedError() {
+    val first = serverParameterCache.get(bundle(KEY_ID to "invalid"))
+    val second = serverParameterCache.get(bundle(KEY_ID to "invalid"))
+
+    assertThat(first.isValid).isFalse()
+    assertThat(first.value).isNull()
+    assertThat(second.error).isSameInstanceAs(INVALID_ID_ERROR)
+    assertThat(parseCount).isEqualTo(1)
+  }
+
+  @Test
+  fun get_missingParameter_parsesNull() {
+    serverParameterCache.get(Bundle())
+
+    assertThat(parsedValues).containsExactly(null)
+  }
+
+  @Test
+  fun get_missingParameterRepeatedly_parsesOnce() {
+    val first = serverParameterCache.get(Bundle())
+    val second = serverParameterCache.get(bundle("other" to "a"))
+
+    assertThat(second).isSameInstanceAs(first)
+    assertThat(parseCount).isEqualTo(1)
+  }
+
+  @Test
+  fun clear_parsesAgain() {
+    serverParameterCache.get(bundle(KEY_ID to "1"))
+    serverParameterCache.get(Bundle())
+
+    serverParameterCache.clear()
+    serverParameterCache.get(bundle(KEY_ID to "1"))
+    serverParameterCache.get(Bundle())
+
+    assertThat(parseCount).isEqualTo(4)
+  }
+
+  private fun bundle(vararg parameters: Pair<String, String>) =
+    Bundle().apply { parameters.forEach { (key, value) -> putString(key, value) } }
+
+  private companion object {
+    const val KEY_ID = "id"
+    val INVALID_ID_ERROR = AdError(101, "Invalid ID.", "domain")
+  }
+}
@@ -0,0 +1,112 @@
+package com.google.ads.mediation.common
+
+import androidx.test.ext.junit.runners.AndroidJUnit4
+import com.google.common.truth.Truth.assertThat
+import java.lang.ref.WeakReference
+import java.util.concurrent.ConcurrentHashMap
+import java.util.concurrent.CountDownLatch
+import java.util.concurrent.Executors
+import java.util.concurrent.TimeUnit
+import java.util.concurrent.atomic.AtomicInteger
+import org.junit.Test
+import org.junit.runner.RunWith
+
+@RunWith(AndroidJUnit4::class)
+class SlotReservationsTest {
+
+  /** A dummy ad class for the tests. */
+  private class Ad
+
+  private val slots = ConcurrentHashMap<String, WeakReference<Ad>>()
+  private val ad = Ad()
+  private val otherAd = Ad()
+
+  @Test
+  fun tryReserve_freeSlot_reservesSlot() {
+    assertThat(SlotReservations.tryReserve(slots, SLOT, ad)).isTrue()
+
+    assertThat(slots[SLOT]?.get()).isSameInstanceAs(ad)
+  }
+
+  @Test
+  fun tryReserve_slotHeldBySameAd_returnsTrue() {
+    SlotReservations.tryReserve(slots, SLOT, ad)
+
+    assertThat(SlotReservations.tryReserve(slots, SLOT, ad)).isTrue()
+  }
+
+  @Test
+  fun tryReserve_slotHeldByOtherAd_returnsFalse() {
+    SlotReservations.tryReserve(slots, SLOT, otherAd)
+
+    assertThat(SlotReservations.tryReserve(slots, SLOT, ad)).isFalse()
+    assertThat(slots[SLOT]?.get()).isSameInstanceAs(otherAd)
+  }
+
+  @Test
+  fun tryReserve_slotHeldByCollectedAd_reservesSlot() {
+    val staleReference = WeakReference(otherAd)
+    slots[SLOT] = staleReference
+    // Simulate the other ad being garbage collected.
+    staleReference.clear()
+
+    assertThat(SlotReservations.tryReserve(slots, SLOT, ad)).isTrue()
+    assertThat(slots[SLOT]?.get()).isSameInstanceAs(ad)
+  }
+
+  @Test
+  fun tryReserve_concurrentReservations_onlyOneSucceeds() {
+    val executor = Executors.newFixedThreadPool(THREAD_COUNT)
+    val startLatch = CountDownLatch(1)
+    val doneLatch = CountDownLatch(THREAD_COUNT)
+    val successCount = AtomicInteger()
+    val ads = List(THREAD_COUNT) { Ad() }
+    for (threadAd in ads) {
+      executor.execute {
+        startLatch.await()
+        if (SlotReservations.tryReserve(slots, SLOT, threadAd)) {
+          successCount.incrementAndGet()
+        }
+        doneLatch.countDown()
+      }
+    }
+
+    startLatch.countDown()
+    doneLatch.await(5, TimeUnit.SECONDS)
+    executor.shutdown()
+
+    assertThat(successCount.get()).isEqualTo(1)
+  }
+
+  @Test
+  fun isReserved_reflectsSlotState() {
+    assertThat(SlotReservations.isReserved(slots, SLOT)).isFalse()
+
+    SlotReservations.tryReserve(slots, SLOT, ad)
+
+    assertThat(SlotReservations.isReserved(slots, SLOT)).isTrue()
+  }
+
+  @Test
+  fun release_slotHeldByOwner_freesSlot() {
+    SlotReservations.tryReserve(slots, SLOT, ad)
+
+    SlotReservations.release(slots, SLOT, ad)
+
+    assertThat(slots).doesNotContainKey(SLOT)
+  }
+
+  @Test
+  fun release_slotHeldByOtherAd_keepsReservation() {
+    SlotReservations.tryReserve(slots, SLOT, otherAd)
+
+    SlotReservations.release(slots, SLOT, ad)
+
+    assertThat(slots[SLOT]?.get()).isSameInstanceAs(otherAd)
+  }
+
+  private companion object {
+    const val SLOT = "slot"
+    const val THREAD_COUNT = 8
+  }
+}
@@ -0,0 +1,100 @@
+package com.google.ads.mediation.common
+
+import androidx.test.ext.junit.runners.AndroidJUnit4
+import com.google.ads.mediation.common.VersionInfoService.VersionParser
+import com.google.android.gms.ads.MobileAds
+import com.google.android.gms.ads.VersionInfo
+import com.google.common.truth.Truth.assertThat
+import org.junit.Test
+import org.junit.runner.RunWith
+import org.mockito.Mockito.mockStatic
+import org.mockito.kotlin.doReturn
+import org.mockito.kotlin.whenever
+
+@RunWith(AndroidJUnit4::class)
+class VersionInfoServiceTest {
+
+  @Test
+  fun getAdapterVersionInfo_foldsPatchIntoMicroVersion() {
+    val versionInfo = VersionInfoService.getAdapterVersionInfo("4.3.2.1")
+
+    assertThat(versionInfo.toString()).isEqualTo("4.3.201")
+  }
+
+  @Test
+  fun getAdapterVersionInfo_missingPatch_returnsZeros() {
+    val versionInfo = VersionInfoService.getAdapterVersionInfo("4.3.2")
+
+    assertThat(versionInfo.toString()).isEqualTo("0.0.0")
+  }
+
+  @Test
+  fun getSdkVersionInfo_ignoresExtraComponents() {
+    val versionInfo = VersionInfoService.getSdkVersionInfo("7.8.9.10")
+
+    assertThat(versionInfo.toString()).isEqualTo("7.8.9")
+  }
+
+  @Test
+  fun getSdkVersionInfo_sameVersionString_returnsCachedVersionInfo() {
+    val versionInfo = VersionInfoService.getSdkVersionInfo("7.8.9")
+
+    assertThat(VersionInfoService.getSdkVersionInfo("7.8.9")).isSameInstanceAs(versionInfo)
+  }
+
+  @Test
+  fun parse_customFormat_parsesEachVersionStringOnce() {
+    var parseCount = 0
+    val parser =
+      VersionParser("SDK version") { versionString ->
+        parseCount++
+        VersionInfoService.parseMajorMinorMicro(versionString.removePrefix("MAL_"))
+      }
+
+    parser.parse("MAL_16.9.1")
+    val versionInfo = parser.parse("MAL_16.9.1")
+
+    assertThat(versionInfo.toString()).isEqualTo("16.9.1")
+    assertThat(parseCount).isEqualTo(1)
+  }
+
+  @Test(expected = NumberFormatException::class)
+  fun getSdkVersionInfo_nonNumericComponent_throws() {
+    VersionInfoService.getSdkVersionInfo("INVALID-1.2.3")
+  }
+
+  @Test
+  fun runtimeGmaSdkListensToAdapterReportedImpressions_checksRuntimeGmaSdkVersion() {
+    mockStatic(MobileAds::class.java).use {
+      assertListensToImpressions(VersionInfo(24, 4, 0), expected = true)
+      assertListensToImpressions(VersionInfo(24, 3, 0), expected = false)
+      assertListensToImpressions(VersionInfo(6, 4, 0), expected = false)
+      assertListensToImpressions(VersionInfo(0, 18, 0), expected = false)
+    }
+  }
+
+  @Test
+  fun runtimeGmaSdkOrNextGenListensToAdapterReportedImpressions_checksRuntimeGmaSdkVersion() {
+    mockStatic(MobileAds::class.java).use {
+      assertOrNextGenListensToImpressions(VersionInfo(24, 4, 0), expected = true)
+      assertOrNextGenListensToImpressions(VersionInfo(24, 3, 0), expected = false)
+      assertOrNextGenListensToImpressions(VersionInfo(6, 4, 0), expected = true)
+      assertOrNextGenListensToImpressions(VersionInfo(6, 5, 0), expected = false)
+      assertOrNextGenListensToImpressions(VersionInfo(0, 17, 0), expected = false)
+    }
+  }
+
+  private fun assertListensToImpressions(gmaSdkVersion: VersionInfo, expected: Boolean) {
+    whenever(MobileAds.getVersion()) doReturn gmaSdkVersion
+
+    assertThat(VersionInfoService.runtimeGmaSdkListensToAdapterReportedImpressions())
+      .isEqualTo(expected)
+  }
+
+  private fun assertOrNextGenListensToImpressions(gmaSdkVersion: VersionInfo, expected: Boolean) {
+    whenever(MobileAds.getVersion()) doReturn gmaSdkVersion
+
+    assertThat(VersionInfoService.runtimeGmaSdkOrNextGenListensToAdapterReportedImpressions())
+      .isEqualTo(expected)
+  }
+}
@@ -3,30 +3,31 @@ package com.google.ads.mediation.fyber;
 import android.text.TextUtils;
 
 import com.fyber.inneractive.sdk.external.ImpressionData;
-
-import java.util.HashMap;
-import java.util.Map;
+import com.google.ads.mediation.common.AdAttribution;
+import com.google.ads.mediation.common.AttributionExtractor;
 
 public class AstarUtils {
 
 	// astar
-	public static Map<String, Object> getNetworkInfoFromImpressionData(ImpressionData impressionData) {
-		Map<String, Object> networkInfo = new HashMap<>();
-		if(!TextUtils.isEmpty(impressionData.getCreativeId())) {
-			networkInfo.put("creative_id",impressionData.getCreativeId());
-		}
-		if(!TextUtils.isEmpty(impressionData.getAdvertiserDomain())) {
-			networkInfo.put("advertiser_domain",impressionData.getAdvertiserDomain());
-		}
-		if(!TextUtils.isEmpty(impressionData.getCampaignId())) {
-			networkInfo.put("campaign_id",impressionData.getCampaignId());
-		}
-		if(!TextUtils.isEmpty(impressionData.getImpressionId())) {
-			networkInfo.put("impression_id",impressionData.getImpressionId());
-		}
-		if(!TextUtils.isEmpty(impressionData.getDemandSource())) {
-			networkInfo.put("demand_source",impressionData.getDemandSource());
-		}
-		return networkInfo;
+	/** Fills an attribution from the impression data of a shown DT Exchange ad. */
+	public static final AttributionExtractor<ImpressionData> ATTRIBUTION_EXTRACTOR =
+			new AttributionExtractor<ImpressionData>() {
+				@Override
+				public void extract(ImpressionData impressionData, AdAttribution attribution) {
+					attribution.setCreativeId(emptyToNull(impressionData.getCreativeId()));
+					attribution.setAdvertiserDomain(emptyToNull(impressionData.getAdvertiserDomain()));
+					attribution.setCampaignId(emptyToNull(impressionData.getCampaignId()));
+					attribution.setImpressionId(emptyToNull(impressionData.getImpressionId()));
+					attribution.setDemandSourceName(emptyToNull(impressionData.getDemandSource()));
+				}
+			};
+
+	// astar
+	public static AdAttribution getAttribution(ImpressionData impressionData) {
+		return AdAttribution.of(impressionData, ATTRIBUTION_EXTRACTOR);
+	}
+
+	private static String emptyToNull(String value) {
+		return TextUtils.isEmpty(value) ? null : value;
 	}
 }
@@ -3,8 +3,6 @@ package com.google.ads.mediation.fyber
 import android.util.Log
 import android.view.View
 import android.widget.RelativeLayout
-import com.astarsoftware.android.ads.AdNetworkTracker
-import com.astarsoftware.dependencies.DependencyInjector
 import com.fyber.inneractive.sdk.external.ImpressionData
 import com.fyber.inneractive.sdk.external.InneractiveAdManager
 import com.fyber.inneractive.sdk.external.InneractiveAdSpot
@@ -14,6 +12,9 @@ import com.fyber.inneractive.sdk.external.InneractiveAdViewEventsListenerWithImp
 import com.fyber.inneractive.sdk.external.InneractiveAdViewUnitController
 import com.fyber.inneractive.sdk.external.InneractiveErrorCode
 import com.fyber.inneractive.sdk.external.InneractiveUnitController
+import com.google.ads.mediation.common.AdAttribution
+import com.google.ads.mediation.common.AdEventPipeline
+import com.google.ads.mediation.common.AdEventPipeline.Companion.FORMAT_BANNER
 import com.google.android.gms.ads.AdError
 import com.google.android.gms.ads.MobileAds
 import com.google.android.gms.ads.mediation.MediationAdLoadCallback
@@ -33,6 +34,9 @@ class DTExchangeBannerAd(
   private lateinit var wrapperView: RelativeLayout
   private var bannerAdCallback: MediationBannerAdCallback? = null
 
+  // astar
+  private var attribution: AdAttribution? = null
+
   fun loadAd(mediationBannerAdConfiguration: MediationBannerAdConfiguration) {
     InneractiveAdManager.setMediationName(FyberMediationAdapter.MEDIATOR_NAME)
     InneractiveAdManager.setMediationVersion(MobileAds.getVersion().toString())
@@ -107,12 +111,13 @@ class DTExchangeBannerAd(
     bannerAdCallback?.reportAdImpression()
 
 	  // astar
-	  val adTracker: AdNetworkTracker = DependencyInjector.getObjectWithClass(AdNetworkTracker::class.java)
-	  val networkInfo: Map<String, Any> = AstarUtils.getNetworkInfoFromImpressionData(impressionData)
-	  adTracker.adDidLoadForNetwork("digital_turbine", "admob", "banner", networkInfo)
+	  attribution = AstarUtils.getAttribution(impressionData)
+	  AdEventPipeline.getInstance().recordLoad("digital_turbine", FORMAT_BANNER, attribution)
+	  AdEventPipeline.getInstance().recordImpression("digital_turbine", FORMAT_BANNER, attribution)
   }
 
   override fun onAdClicked(adSpot: InneractiveAdSpot?) {
+    AdEventPipeline.getInstance().recordClick("digital_turbine", FORMAT_BANNER, attribution)
     bannerAdCallback?.reportAdClicked()
   }
 
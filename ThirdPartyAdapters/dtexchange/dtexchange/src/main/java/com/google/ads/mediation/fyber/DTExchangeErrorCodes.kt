@@ -39,6 +39,12 @@ object DTExchangeErrorCodes {
   /** Context is not an activity instance. */
   const val ERROR_CONTEXT_NOT_ACTIVITY_INSTANCE = 107
 
+  /** Tried to show an ad that expired after it was loaded. */
+  const val ERROR_AD_EXPIRED = 108
+
+  /** Requests for the spot are paused because it kept failing with a spot configuration error. */
+  const val ERROR_SPOT_PAUSED = 109
+
   /**
    * Gets the specific AdError for the specified [FyberInitStatus].
    *
@@ -99,4 +105,20 @@ object DTExchangeErrorCodes {
       ERROR_DOMAIN,
     )
   }
+
+  /**
+   * Returns whether [inneractiveErrorCode] points at a misconfigured or disabled spot, which is
+   * certain to fail the next request for the same spot too. No fill isn't one, since the next
+   * request may well be filled.
+   */
+  @JvmStatic
+  fun isPlacementFailure(inneractiveErrorCode: InneractiveErrorCode): Boolean =
+    when (inneractiveErrorCode) {
+      InneractiveErrorCode.INVALID_INPUT,
+      InneractiveErrorCode.SPOT_DISABLED,
+      InneractiveErrorCode.UNSUPPORTED_SPOT,
+      InneractiveErrorCode.ERROR_CONFIGURATION_MISMATCH,
+      InneractiveErrorCode.ERROR_CONFIGURATION_NO_SUCH_SPOT -> true
+      else -> false
+    }
 }
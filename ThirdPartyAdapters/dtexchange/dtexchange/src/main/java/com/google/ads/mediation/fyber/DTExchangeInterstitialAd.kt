@@ -3,8 +3,6 @@ package com.google.ads.mediation.fyber
 import android.app.Activity
 import android.content.Context
 import android.util.Log
-import com.astarsoftware.android.ads.AdNetworkTracker
-import com.astarsoftware.dependencies.DependencyInjector
 import com.fyber.inneractive.sdk.external.ImpressionData
 import com.fyber.inneractive.sdk.external.InneractiveAdManager
 import com.fyber.inneractive.sdk.external.InneractiveAdSpot
@@ -14,6 +12,10 @@ import com.fyber.inneractive.sdk.external.InneractiveFullscreenAdEventsListener
 import com.fyber.inneractive.sdk.external.InneractiveFullscreenAdEventsListenerWithImpressionData
 import com.fyber.inneractive.sdk.external.InneractiveFullscreenUnitController
 import com.fyber.inneractive.sdk.external.InneractiveUnitController
+import com.google.ads.mediation.common.AdAttribution
+import com.google.ads.mediation.common.AdEventPipeline
+import com.google.ads.mediation.common.AdEventPipeline.Companion.FORMAT_INTERSTITIAL
+import com.google.ads.mediation.common.FullscreenAdInventory
 import com.google.android.gms.ads.AdError
 import com.google.android.gms.ads.MobileAds
 import com.google.android.gms.ads.mediation.MediationAdLoadCallback
@@ -35,6 +37,15 @@ class DTExchangeInterstitialAd(
   private lateinit var adSpot: InneractiveAdSpot
   private var interstitialAdCallback: MediationInterstitialAdCallback? = null
 
+  /**
+   * Tracks how long the loaded ad stays valid, until it's shown. DT Exchange ads are only tracked,
+   * and only expire, if a time-to-live is set for "digital_turbine" on the [FullscreenAdInventory].
+   */
+  private var trackedAd: FullscreenAdInventory.TrackedAd? = null
+
+  // astar
+  private var attribution: AdAttribution? = null
+
   fun loadAd(mediationInterstitialAdConfiguration: MediationInterstitialAdConfiguration) {
     InneractiveAdManager.setMediationName(FyberMediationAdapter.MEDIATOR_NAME)
     InneractiveAdManager.setMediationVersion(MobileAds.getVersion().toString())
@@ -50,6 +61,13 @@ class DTExchangeInterstitialAd(
   }
 
   override fun showAd(context: Context) {
+    // The ad is only shown once, so it stops being tracked whether or not the show succeeds.
+    val adExpired = trackedAd?.isExpired() == true
+    stopTrackingAd()
+    if (adExpired) {
+      reportAdExpired()
+      return
+    }
     val controller = adSpot.selectedUnitController as? InneractiveFullscreenUnitController
     if (controller == null) {
       Log.w(TAG, "showInterstitial called, but wrong spot has been used (should not happen).")
@@ -74,9 +92,29 @@ class DTExchangeInterstitialAd(
       adSpot.destroy()
       return
     }
+    stopTrackingAd()
+    trackedAd = FullscreenAdInventory.getInstance().track("digital_turbine", FORMAT_INTERSTITIAL)
     interstitialAdCallback = mediationAdLoadCallback.onSuccess(this)
   }
 
+  /** Stops tracking the loaded ad, if it's tracked. */
+  private fun stopTrackingAd() {
+    trackedAd?.remove()
+    trackedAd = null
+  }
+
+  /** Reports to the Google Mobile Ads SDK that the app tried to show an ad that expired. */
+  private fun reportAdExpired() {
+    val adError =
+      AdError(
+        DTExchangeErrorCodes.ERROR_AD_EXPIRED,
+        "DT Exchange's interstitial ad expired before it was shown.",
+        DTExchangeErrorCodes.ERROR_DOMAIN,
+      )
+    Log.w(TAG, adError.message)
+    interstitialAdCallback?.onAdFailedToShow(adError)
+  }
+
   override fun onInneractiveFailedAdRequest(
     iAdSpot: InneractiveAdSpot?,
     errorCode: InneractiveErrorCode,
@@ -94,12 +132,13 @@ class DTExchangeInterstitialAd(
     interstitialAdCallback?.reportAdImpression()
 
 	  // astar
-	  val adTracker: AdNetworkTracker = DependencyInjector.getObjectWithClass(AdNetworkTracker::class.java)
-	  val networkInfo: Map<String, Any> = AstarUtils.getNetworkInfoFromImpressionData(impressionData)
-	  adTracker.adDidLoadForNetwork("digital_turbine", "admob", "interstitial", networkInfo)
+	  attribution = AstarUtils.getAttribution(impressionData)
+	  AdEventPipeline.getInstance().recordLoad("digital_turbine", FORMAT_INTERSTITIAL, attribution)
+	  AdEventPipeline.getInstance().recordImpression("digital_turbine", FORMAT_INTERSTITIAL, attribution)
   }
 
   override fun onAdClicked(iAdSpot: InneractiveAdSpot?) {
+    AdEventPipeline.getInstance().recordClick("digital_turbine", FORMAT_INTERSTITIAL, attribution)
     interstitialAdCallback?.reportAdClicked()
   }
 
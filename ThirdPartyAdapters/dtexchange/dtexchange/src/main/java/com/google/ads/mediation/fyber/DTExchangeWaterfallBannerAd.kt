@@ -161,9 +161,12 @@ class DTExchangeWaterfallBannerAd(
     val fyberAdWidth = (controller.getAdContentWidth() / density).roundToInt()
     val fyberAdHeight = (controller.getAdContentHeight() / density).roundToInt()
 
-    val potentials = ArrayList<AdSize?>()
-    potentials.add(AdSize(fyberAdWidth, fyberAdHeight))
-    val supportedAdSize = MediationUtils.findClosestSize(context, requestedAdSize, potentials)
+    val supportedAdSize =
+      MediationUtils.findClosestSize(
+        context,
+        requestedAdSize,
+        listOf(AdSize(fyberAdWidth, fyberAdHeight)),
+      )
     if (supportedAdSize == null) {
       val requestedAdWidth = (requestedAdSize.getWidthInPixels(context) / density).roundToInt()
       val requestedAdHeight = (requestedAdSize.getHeightInPixels(context) / density).roundToInt()
@@ -14,6 +14,8 @@
 
 package com.google.ads.mediation.fyber;
 
+import static com.google.ads.mediation.common.AdEventPipeline.FORMAT_BANNER;
+import static com.google.ads.mediation.common.AdEventPipeline.FORMAT_INTERSTITIAL;
 import static com.google.android.gms.ads.RequestConfiguration.TAG_FOR_CHILD_DIRECTED_TREATMENT_TRUE;
 import static com.google.android.gms.ads.RequestConfiguration.TAG_FOR_UNDER_AGE_OF_CONSENT_TRUE;
 
@@ -29,8 +31,6 @@ import android.widget.RelativeLayout;
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
 
-import com.astarsoftware.android.ads.AdNetworkTracker;
-import com.astarsoftware.dependencies.DependencyInjector;
 import com.fyber.inneractive.sdk.external.BidTokenProvider;
 import com.fyber.inneractive.sdk.external.ImpressionData;
 import com.fyber.inneractive.sdk.external.InneractiveAdManager;
@@ -49,6 +49,10 @@ import com.fyber.inneractive.sdk.external.InneractiveFullscreenUnitController;
 import com.fyber.inneractive.sdk.external.InneractiveMediationName;
 import com.fyber.inneractive.sdk.external.InneractiveUnitController;
 import com.fyber.inneractive.sdk.external.OnFyberMarketplaceInitializedListener;
+import com.google.ads.mediation.common.AdAttribution;
+import com.google.ads.mediation.common.AdEventPipeline;
+import com.google.ads.mediation.common.AdapterStartupCoordinator;
+import com.google.ads.mediation.common.VersionInfoService;
 import com.google.android.gms.ads.AdError;
 import com.google.android.gms.ads.AdSize;
 import com.google.android.gms.ads.MediationUtils;
@@ -80,10 +84,9 @@ import com.google.android.gms.ads.mediation.rtb.RtbSignalData;
 import com.google.android.gms.ads.mediation.rtb.SignalCallbacks;
 
 import java.lang.ref.WeakReference;
-import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
-import java.util.Map;
 import java.util.Set;
 
 /**
@@ -189,6 +192,22 @@ public class FyberMediationAdapter extends RtbAdapter
 
   @Override
   public void initialize(
+      @NonNull Context context,
+      @NonNull InitializationCompleteCallback completionCallback,
+      @NonNull List<MediationConfiguration> mediationConfigurations) {
+    AdapterStartupCoordinator.getInstance()
+        .initialize(
+            FyberMediationAdapter.class.getName(),
+            completionCallback,
+            new AdapterStartupCoordinator.StartupTask() {
+              @Override
+              public void start(@NonNull InitializationCompleteCallback callback) {
+                initializeSdk(context, callback, mediationConfigurations);
+              }
+            });
+  }
+
+  private void initializeSdk(
       @NonNull Context context,
       @NonNull final InitializationCompleteCallback completionCallback,
       @NonNull List<MediationConfiguration> mediationConfigurations) {
@@ -259,41 +278,12 @@ public class FyberMediationAdapter extends RtbAdapter
 
   @NonNull
   public VersionInfo getVersionInfo() {
-    String versionString = FyberAdapterUtils.getAdapterVersion();
-    String[] splits = versionString.split("\\.");
-
-    if (splits.length >= 4) {
-      int major = Integer.parseInt(splits[0]);
-      int minor = Integer.parseInt(splits[1]);
-      int micro = Integer.parseInt(splits[2]) * 100 + Integer.parseInt(splits[3]);
-      return new VersionInfo(major, minor, micro);
-    }
-
-    String logMessage =
-        String.format(
-            "Unexpected adapter version format: %s. " + "Returning 0.0.0 for adapter version.",
-            versionString);
-    Log.w(TAG, logMessage);
-    return new VersionInfo(0, 0, 0);
+    return VersionInfoService.getAdapterVersionInfo(FyberAdapterUtils.getAdapterVersion());
   }
 
   @NonNull
   public VersionInfo getSDKVersionInfo() {
-    String sdkVersion = FyberAdapterUtils.getSdkVersion();
-    String[] splits = sdkVersion.split("\\.");
-
-    if (splits.length >= 3) {
-      int major = Integer.parseInt(splits[0]);
-      int minor = Integer.parseInt(splits[1]);
-      int micro = Integer.parseInt(splits[2]);
-      return new VersionInfo(major, minor, micro);
-    }
-
-    String logMessage =
-        String.format(
-            "Unexpected SDK version format: %s. " + "Returning 0.0.0 for SDK version.", sdkVersion);
-    Log.w(TAG, logMessage);
-    return new VersionInfo(0, 0, 0);
+    return VersionInfoService.getSdkVersionInfo(FyberAdapterUtils.getSdkVersion());
   }
 
   /** {@link MediationBannerAdapter} implementation. */
@@ -446,10 +436,11 @@ public class FyberMediationAdapter extends RtbAdapter
         int fyberAdWidth = Math.round(controller.getAdContentWidth() / density);
         int fyberAdHeight = Math.round(controller.getAdContentHeight() / density);
 
-        ArrayList<AdSize> potentials = new ArrayList<>();
-        potentials.add(new AdSize(fyberAdWidth, fyberAdHeight));
         AdSize supportedAdSize =
-            MediationUtils.findClosestSize(context, requestedAdSize, potentials);
+            MediationUtils.findClosestSize(
+                context,
+                requestedAdSize,
+                Collections.singletonList(new AdSize(fyberAdWidth, fyberAdHeight)));
         if (supportedAdSize == null) {
           int requestedAdWidth = Math.round(requestedAdSize.getWidthInPixels(context) / density);
           int requestedAdHeight = Math.round(requestedAdSize.getHeightInPixels(context) / density);
@@ -491,6 +482,9 @@ public class FyberMediationAdapter extends RtbAdapter
   @NonNull
   private InneractiveAdViewEventsListenerWithImpressionData createFyberAdViewListener() {
     class CustomInneractiveAdViewEventsListenerAdapter extends InneractiveAdViewEventsListenerAdapter implements InneractiveAdViewEventsListenerWithImpressionData {
+      // astar
+      private AdAttribution attribution;
+
       @Override
       public void onAdImpression(InneractiveAdSpot adSpot) {
         // Nothing to report back here.
@@ -499,13 +493,14 @@ public class FyberMediationAdapter extends RtbAdapter
 		@Override
 		public void onAdImpression(InneractiveAdSpot inneractiveAdSpot, ImpressionData impressionData) {
 			// astar
-			AdNetworkTracker adTracker = DependencyInjector.getObjectWithClass(AdNetworkTracker.class);
-			Map<String,Object> networkInfo = AstarUtils.getNetworkInfoFromImpressionData(impressionData);
-			adTracker.adDidLoadForNetwork("digital_turbine", "admob", "banner", networkInfo);
+			attribution = AstarUtils.getAttribution(impressionData);
+			AdEventPipeline.getInstance().recordLoad("digital_turbine", FORMAT_BANNER, attribution);
+			AdEventPipeline.getInstance().recordImpression("digital_turbine", FORMAT_BANNER, attribution);
 		}
 
 		@Override
       public void onAdClicked(InneractiveAdSpot adSpot) {
+        AdEventPipeline.getInstance().recordClick("digital_turbine", FORMAT_BANNER, attribution);
         mediationBannerListener.onAdClicked(FyberMediationAdapter.this);
         mediationBannerListener.onAdOpened(FyberMediationAdapter.this);
       }
@@ -690,6 +685,9 @@ public class FyberMediationAdapter extends RtbAdapter
   @NonNull
   private InneractiveFullscreenAdEventsListenerWithImpressionData createFyberInterstitialListener() {
 	  class CustomInneractiveFullscreenAdEventsListenerAdapter extends InneractiveFullscreenAdEventsListenerAdapter implements InneractiveFullscreenAdEventsListenerWithImpressionData {
+      // astar
+      private AdAttribution attribution;
+
       @Override
       public void onAdImpression(InneractiveAdSpot adSpot) {
       }
@@ -699,13 +697,14 @@ public class FyberMediationAdapter extends RtbAdapter
 			  mediationInterstitialListener.onAdOpened(FyberMediationAdapter.this);
 
 			  // astar
-			  AdNetworkTracker adTracker = DependencyInjector.getObjectWithClass(AdNetworkTracker.class);
-			  Map<String,Object> networkInfo = AstarUtils.getNetworkInfoFromImpressionData(impressionData);
-			  adTracker.adDidLoadForNetwork("digital_turbine", "admob", "interstitial", networkInfo);
+			  attribution = AstarUtils.getAttribution(impressionData);
+			  AdEventPipeline.getInstance().recordLoad("digital_turbine", FORMAT_INTERSTITIAL, attribution);
+			  AdEventPipeline.getInstance().recordImpression("digital_turbine", FORMAT_INTERSTITIAL, attribution);
 		  }
 
 		  @Override
       public void onAdClicked(InneractiveAdSpot adSpot) {
+        AdEventPipeline.getInstance().recordClick("digital_turbine", FORMAT_INTERSTITIAL, attribution);
         mediationInterstitialListener.onAdClicked(FyberMediationAdapter.this);
       }
 
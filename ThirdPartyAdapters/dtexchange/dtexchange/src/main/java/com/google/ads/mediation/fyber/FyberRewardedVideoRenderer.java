@@ -14,6 +14,7 @@
 
 package com.google.ads.mediation.fyber;
 
+import static com.google.ads.mediation.common.AdEventPipeline.FORMAT_REWARDED;
 import static com.google.ads.mediation.fyber.FyberMediationAdapter.TAG;
 
 import android.app.Activity;
@@ -21,15 +22,20 @@ import android.content.Context;
 import android.text.TextUtils;
 import android.util.Log;
 import androidx.annotation.NonNull;
+import com.fyber.inneractive.sdk.external.ImpressionData;
 import com.fyber.inneractive.sdk.external.InneractiveAdRequest;
 import com.fyber.inneractive.sdk.external.InneractiveAdSpot;
 import com.fyber.inneractive.sdk.external.InneractiveAdSpot.RequestListener;
 import com.fyber.inneractive.sdk.external.InneractiveErrorCode;
 import com.fyber.inneractive.sdk.external.InneractiveFullScreenAdRewardedListener;
-import com.fyber.inneractive.sdk.external.InneractiveFullscreenAdEventsListener;
+import com.fyber.inneractive.sdk.external.InneractiveFullscreenAdEventsListenerWithImpressionData;
 import com.fyber.inneractive.sdk.external.InneractiveFullscreenUnitController;
 import com.fyber.inneractive.sdk.external.InneractiveFullscreenVideoContentController;
 import com.fyber.inneractive.sdk.external.InneractiveUnitController.AdDisplayError;
+import com.google.ads.mediation.common.AdAttribution;
+import com.google.ads.mediation.common.AdEventPipeline;
+import com.google.ads.mediation.common.FullscreenAdInventory;
+import com.google.ads.mediation.common.PlacementCircuitBreaker;
 import com.google.android.gms.ads.AdError;
 import com.google.android.gms.ads.mediation.MediationAdLoadCallback;
 import com.google.android.gms.ads.mediation.MediationRewardedAd;
@@ -40,8 +46,11 @@ import com.google.android.gms.ads.mediation.MediationRewardedAdConfiguration;
 public class FyberRewardedVideoRenderer
     implements MediationRewardedAd,
         RequestListener,
-        InneractiveFullscreenAdEventsListener,
+        InneractiveFullscreenAdEventsListenerWithImpressionData,
         InneractiveFullScreenAdRewardedListener {
+
+  private static final String NETWORK_NAME = "digital_turbine";
+
   /** AdMob's callback object. */
   private final MediationAdLoadCallback<MediationRewardedAd, MediationRewardedAdCallback>
       adLoadCallback;
@@ -54,6 +63,19 @@ public class FyberRewardedVideoRenderer
 
   private InneractiveFullscreenUnitController unitController;
 
+  /**
+   * Tracks how long the loaded ad stays valid, until it's shown. DT Exchange ads are only tracked,
+   * and only expire, if a time-to-live is set for "digital_turbine" on the {@link
+   * FullscreenAdInventory}.
+   */
+  private FullscreenAdInventory.TrackedAd trackedAd;
+
+  // astar
+  private AdAttribution attribution;
+
+  /** The spot ID of a waterfall request, which the circuit breaker tracks. Null for bidding. */
+  private String waterfallSpotId;
+
   /**
    * Constructor.
    *
@@ -81,6 +103,21 @@ public class FyberRewardedVideoRenderer
       return;
     }
 
+    // Don't send requests that a spot has kept failing recently.
+    AdError circuitOpenError =
+        PlacementCircuitBreaker.getInstance()
+            .checkLoad(
+                NETWORK_NAME,
+                spotId,
+                DTExchangeErrorCodes.ERROR_SPOT_PAUSED,
+                DTExchangeErrorCodes.ERROR_DOMAIN);
+    if (circuitOpenError != null) {
+      Log.w(TAG, circuitOpenError.getMessage());
+      adLoadCallback.onFailure(circuitOpenError);
+      return;
+    }
+    waterfallSpotId = spotId;
+
     initializeFyberClasses(adConfiguration);
 
     InneractiveAdRequest request = new InneractiveAdRequest(spotId);
@@ -119,6 +156,10 @@ public class FyberRewardedVideoRenderer
 
   @Override
   public void showAd(@NonNull Context context) {
+    // The ad is only shown once, so it stops being tracked whether or not the show succeeds.
+    boolean adExpired = trackedAd != null && trackedAd.isExpired();
+    stopTrackingAd();
+
     // We need an activity context to show rewarded ads.
     if (!(context instanceof Activity)) {
       AdError error =
@@ -133,6 +174,11 @@ public class FyberRewardedVideoRenderer
       return;
     }
 
+    if (adExpired) {
+      reportAdExpired();
+      return;
+    }
+
     if (rewardedSpot != null && unitController != null && rewardedSpot.isReady()) {
       unitController.show((Activity) context);
     } else if (rewardedAdCallback != null) {
@@ -146,6 +192,27 @@ public class FyberRewardedVideoRenderer
     }
   }
 
+  /** Stops tracking the loaded ad, if it's tracked. */
+  private void stopTrackingAd() {
+    if (trackedAd != null) {
+      trackedAd.remove();
+      trackedAd = null;
+    }
+  }
+
+  /** Reports to the Google Mobile Ads SDK that the app tried to show an ad that expired. */
+  private void reportAdExpired() {
+    AdError error =
+        new AdError(
+            DTExchangeErrorCodes.ERROR_AD_EXPIRED,
+            "DT Exchange's rewarded ad expired before it was shown.",
+            DTExchangeErrorCodes.ERROR_DOMAIN);
+    Log.w(TAG, error.getMessage());
+    if (rewardedAdCallback != null) {
+      rewardedAdCallback.onAdFailedToShow(error);
+    }
+  }
+
   /**
    * Checks if the given unit controller, contains a video ad.
    *
@@ -162,6 +229,11 @@ public class FyberRewardedVideoRenderer
   // region Fyber's RequestListener implementation
   @Override
   public void onInneractiveSuccessfulAdRequest(@NonNull InneractiveAdSpot adSpot) {
+    if (waterfallSpotId != null) {
+      PlacementCircuitBreaker.getInstance().recordSuccess(NETWORK_NAME, waterfallSpotId);
+    }
+    stopTrackingAd();
+    trackedAd = FullscreenAdInventory.getInstance().track(NETWORK_NAME, FORMAT_REWARDED);
     // Report load success to AdMob, and cache the returned callback for a later use
     rewardedAdCallback = adLoadCallback.onSuccess(FyberRewardedVideoRenderer.this);
     registerFyberAdListeners();
@@ -170,6 +242,9 @@ public class FyberRewardedVideoRenderer
   @Override
   public void onInneractiveFailedAdRequest(
       @NonNull InneractiveAdSpot adSpot, @NonNull InneractiveErrorCode errorCode) {
+    if (waterfallSpotId != null && DTExchangeErrorCodes.isPlacementFailure(errorCode)) {
+      PlacementCircuitBreaker.getInstance().recordFailure(NETWORK_NAME, waterfallSpotId);
+    }
     AdError error = DTExchangeErrorCodes.getAdError(errorCode);
     Log.w(TAG, error.getMessage());
     adLoadCallback.onFailure(error);
@@ -190,8 +265,20 @@ public class FyberRewardedVideoRenderer
     rewardedAdCallback.reportAdImpression();
   }
 
+  @Override
+  public void onAdImpression(
+      @NonNull InneractiveAdSpot inneractiveAdSpot, @NonNull ImpressionData impressionData) {
+    onAdImpression(inneractiveAdSpot);
+
+    // astar
+    attribution = AstarUtils.getAttribution(impressionData);
+    AdEventPipeline.getInstance().recordLoad("digital_turbine", FORMAT_REWARDED, attribution);
+    AdEventPipeline.getInstance().recordImpression("digital_turbine", FORMAT_REWARDED, attribution);
+  }
+
   @Override
   public void onAdClicked(@NonNull InneractiveAdSpot inneractiveAdSpot) {
+    AdEventPipeline.getInstance().recordClick("digital_turbine", FORMAT_REWARDED, attribution);
     rewardedAdCallback.reportAdClicked();
   }
 
@@ -1,6 +1,7 @@
 package com.google.ads.mediation.fyber
 
 import android.app.Activity
+import android.os.Looper
 import androidx.test.ext.junit.runners.AndroidJUnit4
 import com.fyber.inneractive.sdk.external.InneractiveAdSpot
 import com.fyber.inneractive.sdk.external.InneractiveAdSpotManager
@@ -10,10 +11,13 @@ import com.fyber.inneractive.sdk.external.InneractiveFullscreenUnitController
 import com.google.ads.mediation.adaptertestkit.AdErrorMatcher
 import com.google.ads.mediation.adaptertestkit.AdapterTestKitConstants.TEST_BID_RESPONSE
 import com.google.ads.mediation.adaptertestkit.createMediationInterstitialAdConfiguration
+import com.google.ads.mediation.common.FullscreenAdInventory
 import com.google.android.gms.ads.AdError
 import com.google.android.gms.ads.mediation.MediationAdLoadCallback
 import com.google.android.gms.ads.mediation.MediationInterstitialAd
 import com.google.android.gms.ads.mediation.MediationInterstitialAdCallback
+import java.time.Duration
+import org.junit.After
 import org.junit.Before
 import org.junit.Test
 import org.junit.runner.RunWith
@@ -23,9 +27,11 @@ import org.mockito.kotlin.argThat
 import org.mockito.kotlin.doReturn
 import org.mockito.kotlin.eq
 import org.mockito.kotlin.mock
+import org.mockito.kotlin.never
 import org.mockito.kotlin.verify
 import org.mockito.kotlin.whenever
 import org.robolectric.Robolectric
+import org.robolectric.Shadows.shadowOf
 
 @RunWith(AndroidJUnit4::class)
 class DTExchangeInterstitialAdTest {
@@ -47,6 +53,12 @@ class DTExchangeInterstitialAdTest {
     dtExchangeInterstitialAd = DTExchangeInterstitialAd(mockAdLoadCallback)
   }
 
+  @After
+  fun tearDown() {
+    FullscreenAdInventory.getInstance().removeTtlMillis(NETWORK_NAME)
+    FullscreenAdInventory.getInstance().clear()
+  }
+
   @Test
   fun onInneractiveSuccessfulAdRequest_withAdSpotNotReady_invokesOnFailure() {
     mockStatic(InneractiveAdSpotManager::class.java).use {
@@ -149,6 +161,39 @@ class DTExchangeInterstitialAdTest {
     }
   }
 
+  @Test
+  fun showAd_afterAdExpired_invokesOnAdFailedToShowWithoutShowing() {
+    FullscreenAdInventory.getInstance().setTtlMillis(NETWORK_NAME, TEST_TTL_MILLIS)
+    mockStatic(InneractiveAdSpotManager::class.java).use {
+      val mockFullscreenController = mock<InneractiveFullscreenUnitController>()
+      val mockAdSpot =
+        mock<InneractiveAdSpot> {
+          on { isReady } doReturn true
+          on { selectedUnitController } doReturn mockFullscreenController
+        }
+      val mockInneractiveAdSpotManager =
+        mock<InneractiveAdSpotManager> { on { createSpot() } doReturn mockAdSpot }
+      whenever(InneractiveAdSpotManager.get()) doReturn mockInneractiveAdSpotManager
+      val expectedAdError =
+        AdError(
+          DTExchangeErrorCodes.ERROR_AD_EXPIRED,
+          "DT Exchange's interstitial ad expired before it was shown.",
+          DTExchangeErrorCodes.ERROR_DOMAIN,
+        )
+      dtExchangeInterstitialAd.loadAd(adConfiguration)
+      dtExchangeInterstitialAd.onInneractiveSuccessfulAdRequest(mock())
+
+      // The expiry alone isn't a show failure.
+      shadowOf(Looper.getMainLooper()).idleFor(Duration.ofMillis(TEST_TTL_MILLIS))
+      verify(mockInterstitialAdCallback, never()).onAdFailedToShow(any())
+
+      dtExchangeInterstitialAd.showAd(context)
+
+      verify(mockInterstitialAdCallback).onAdFailedToShow(argThat(AdErrorMatcher(expectedAdError)))
+      verify(mockFullscreenController, never()).show(any())
+    }
+  }
+
   @Test
   fun onAdImpression_invokesReportAdImpression() {
     mockStatic(InneractiveAdSpotManager::class.java).use {
@@ -221,4 +266,9 @@ class DTExchangeInterstitialAdTest {
   fun onAdWillCloseInternalBrowser_throwsNoException() {
     dtExchangeInterstitialAd.onAdWillCloseInternalBrowser(mock())
   }
+
+  private companion object {
+    const val NETWORK_NAME = "digital_turbine"
+    const val TEST_TTL_MILLIS = 60_000L
+  }
 }
@@ -16,6 +16,7 @@ package com.google.ads.mediation.fyber
 
 import android.app.Activity
 import android.app.Application
+import android.os.Looper
 import androidx.core.os.bundleOf
 import androidx.test.ext.junit.runners.AndroidJUnit4
 import com.fyber.inneractive.sdk.external.InneractiveAdSpot
@@ -25,11 +26,15 @@ import com.fyber.inneractive.sdk.external.InneractiveFullscreenVideoContentContr
 import com.fyber.inneractive.sdk.external.InneractiveUnitController.AdDisplayError
 import com.google.ads.mediation.adaptertestkit.AdapterTestKitConstants
 import com.google.ads.mediation.adaptertestkit.createMediationRewardedAdConfiguration
+import com.google.ads.mediation.common.FullscreenAdInventory
+import com.google.ads.mediation.common.PlacementCircuitBreaker
 import com.google.android.gms.ads.AdError
 import com.google.android.gms.ads.mediation.MediationAdLoadCallback
 import com.google.android.gms.ads.mediation.MediationRewardedAd
 import com.google.android.gms.ads.mediation.MediationRewardedAdCallback
 import com.google.common.truth.Truth.assertThat
+import java.time.Duration
+import org.junit.After
 import org.junit.Before
 import org.junit.Test
 import org.junit.runner.RunWith
@@ -38,10 +43,13 @@ import org.mockito.kotlin.any
 import org.mockito.kotlin.argumentCaptor
 import org.mockito.kotlin.doReturn
 import org.mockito.kotlin.mock
+import org.mockito.kotlin.never
+import org.mockito.kotlin.times
 import org.mockito.kotlin.verify
 import org.mockito.kotlin.verifyNoInteractions
 import org.mockito.kotlin.whenever
 import org.robolectric.Robolectric
+import org.robolectric.Shadows.shadowOf
 
 @RunWith(AndroidJUnit4::class)
 class FyberRewardedVideoRendererTest {
@@ -68,9 +76,16 @@ class FyberRewardedVideoRendererTest {
   // region Setup
   @Before
   fun setUp() {
+    PlacementCircuitBreaker.getInstance().reset()
     fyberRewardedAd = FyberRewardedVideoRenderer(mockAdLoadCallback)
   }
 
+  @After
+  fun tearDown() {
+    FullscreenAdInventory.getInstance().removeTtlMillis(NETWORK_NAME)
+    FullscreenAdInventory.getInstance().clear()
+  }
+
   // endregion
 
   // region Ad Load Tests
@@ -107,6 +122,48 @@ class FyberRewardedVideoRendererTest {
     }
   }
 
+  @Test
+  fun loadWaterfallAd_afterRepeatedConfigurationErrors_invokesOnAdFailedToLoadWithoutRequest() {
+    Mockito.mockStatic(FyberFactory::class.java).use {
+      whenever(FyberFactory.createRewardedAdSpot()).doReturn(mockRewardedAdSpot)
+      repeat(PlacementCircuitBreaker.DEFAULT_FAILURE_THRESHOLD) {
+        val rewardedAd = FyberRewardedVideoRenderer(mock())
+        rewardedAd.loadWaterfallAd(adConfiguration)
+        rewardedAd.onInneractiveFailedAdRequest(
+          mockRewardedAdSpot,
+          InneractiveErrorCode.ERROR_CONFIGURATION_NO_SUCH_SPOT,
+        )
+      }
+      val adErrorCaptor = argumentCaptor<AdError>()
+
+      fyberRewardedAd.loadWaterfallAd(adConfiguration)
+
+      verify(mockAdLoadCallback).onFailure(adErrorCaptor.capture())
+      assertThat(adErrorCaptor.firstValue.code).isEqualTo(DTExchangeErrorCodes.ERROR_SPOT_PAUSED)
+      assertThat(adErrorCaptor.firstValue.domain).isEqualTo(DTExchangeErrorCodes.ERROR_DOMAIN)
+      verify(mockRewardedAdSpot, Mockito.times(PlacementCircuitBreaker.DEFAULT_FAILURE_THRESHOLD))
+        .requestAd(any())
+    }
+  }
+
+  @Test
+  fun loadWaterfallAd_afterRepeatedNoFills_requestsFyberAd() {
+    Mockito.mockStatic(FyberFactory::class.java).use {
+      whenever(FyberFactory.createRewardedAdSpot()).doReturn(mockRewardedAdSpot)
+      repeat(PlacementCircuitBreaker.DEFAULT_FAILURE_THRESHOLD) {
+        val rewardedAd = FyberRewardedVideoRenderer(mock())
+        rewardedAd.loadWaterfallAd(adConfiguration)
+        rewardedAd.onInneractiveFailedAdRequest(mockRewardedAdSpot, InneractiveErrorCode.NO_FILL)
+      }
+
+      fyberRewardedAd.loadWaterfallAd(adConfiguration)
+
+      verify(mockAdLoadCallback, never()).onFailure(any<AdError>())
+      verify(mockRewardedAdSpot, times(PlacementCircuitBreaker.DEFAULT_FAILURE_THRESHOLD + 1))
+        .requestAd(any())
+    }
+  }
+
   @Test
   fun loadWaterfallAd_whenInvalidSpotId_invokesOnAdFailedToLoad() {
     val invalidServerParameters = bundleOf(FyberMediationAdapter.KEY_SPOT_ID to "")
@@ -183,6 +240,32 @@ class FyberRewardedVideoRendererTest {
     }
   }
 
+  @Test
+  fun showAd_afterAdExpired_invokesFailedToShowWithoutShowing() {
+    FullscreenAdInventory.getInstance().setTtlMillis(NETWORK_NAME, TEST_TTL_MILLIS)
+    Mockito.mockStatic(FyberFactory::class.java).use {
+      whenever(FyberFactory.createRewardedAdSpot()).doReturn(mockRewardedAdSpot)
+      whenever(FyberFactory.createInneractiveFullscreenUnitController())
+        .doReturn(mockUnitController)
+      whenever(mockRewardedAdSpot.isReady).doReturn(true)
+      loadAndRenderAdSuccessfully()
+      val adErrorCaptor = argumentCaptor<AdError>()
+
+      // The expiry alone isn't a show failure.
+      shadowOf(Looper.getMainLooper()).idleFor(Duration.ofMillis(TEST_TTL_MILLIS))
+      verify(mockRewardedAdCallback, never()).onAdFailedToShow(any<AdError>())
+      fyberRewardedAd.showAd(activity)
+
+      verify(mockRewardedAdCallback).onAdFailedToShow(adErrorCaptor.capture())
+      val capturedError = adErrorCaptor.firstValue
+      assertThat(capturedError.code).isEqualTo(DTExchangeErrorCodes.ERROR_AD_EXPIRED)
+      assertThat(capturedError.message)
+        .isEqualTo("DT Exchange's rewarded ad expired before it was shown.")
+      assertThat(capturedError.domain).isEqualTo(DTExchangeErrorCodes.ERROR_DOMAIN)
+      verify(mockUnitController, never()).show(any())
+    }
+  }
+
   @Test
   fun showAd_viaRtb_invokesShowAd() {
     Mockito.mockStatic(FyberFactory::class.java).use {
@@ -283,4 +366,9 @@ class FyberRewardedVideoRendererTest {
     fyberRewardedAd.onInneractiveSuccessfulAdRequest(mockRewardedAdSpot)
   }
   // endregion
+
+  private companion object {
+    const val NETWORK_NAME = "digital_turbine"
+    const val TEST_TTL_MILLIS = 60_000L
+  }
 }
@@ -16,6 +16,7 @@ package com.google.ads.mediation.imobile;
 
 import android.app.Activity;
 import android.content.Context;
+import android.content.res.Resources;
 import android.graphics.Bitmap;
 import android.graphics.drawable.BitmapDrawable;
 import android.graphics.drawable.Drawable;
@@ -25,6 +26,7 @@ import androidx.annotation.IntDef;
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
 import androidx.annotation.VisibleForTesting;
+import com.google.ads.mediation.common.NativeImageDecoder;
 import com.google.android.gms.ads.AdError;
 import com.google.android.gms.ads.VersionInfo;
 import com.google.android.gms.ads.mediation.Adapter;
@@ -216,7 +218,14 @@ public class IMobileMediationAdapter extends Adapter implements MediationNativeA
                 new ImobileSdkAdListener() {
                   @Override
                   public void onNativeAdImageReciveCompleted(Bitmap image) {
-                    Drawable drawable = new BitmapDrawable(activity.getResources(), image);
+                    // Keep the image no larger than the media view it is rendered in.
+                    Resources resources = activity.getResources();
+                    Bitmap scaledImage =
+                        image != null
+                            ? NativeImageDecoder.scaleDown(
+                                image, NativeImageDecoder.mediaDecodeOptions(resources))
+                            : null;
+                    Drawable drawable = new BitmapDrawable(resources, scaledImage);
                     mediationNativeListener.onAdLoaded(
                         IMobileMediationAdapter.this,
                         new IMobileUnifiedNativeAdMapper(adData, drawable));
@@ -1,17 +1,21 @@
 package com.google.ads.mediation.inmobi;
 
+import com.google.ads.mediation.common.AdAttribution;
+import com.google.ads.mediation.common.AttributionExtractor;
 import com.inmobi.ads.AdMetaInfo;
 
-import java.util.HashMap;
-import java.util.Map;
-
 public class AstarInMobiUtils {
 
-	public static Map<String, Object> getNetworkInfo(AdMetaInfo adMetaInfo) {
-		Map<String, Object> networkInfo = new HashMap<>();
-		if(adMetaInfo.getCreativeID() != null) {
-			networkInfo.put("creative_id", adMetaInfo.getCreativeID());
-		}
-		return networkInfo;
+	/** Fills an attribution from the meta info of a loaded InMobi ad. */
+	public static final AttributionExtractor<AdMetaInfo> ATTRIBUTION_EXTRACTOR =
+			new AttributionExtractor<AdMetaInfo>() {
+				@Override
+				public void extract(AdMetaInfo adMetaInfo, AdAttribution attribution) {
+					attribution.setCreativeId(adMetaInfo.getCreativeID());
+				}
+			};
+
+	public static AdAttribution getAttribution(AdMetaInfo adMetaInfo) {
+		return AdAttribution.of(adMetaInfo, ATTRIBUTION_EXTRACTOR);
 	}
 }
@@ -24,9 +24,11 @@ import android.util.Log;
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
 import androidx.annotation.VisibleForTesting;
+import com.google.ads.mediation.common.BannerSizeCache;
+import com.google.ads.mediation.common.PrivacySnapshotService;
+import com.google.ads.mediation.common.ServerParameterCache;
 import com.google.android.gms.ads.AdError;
 import com.google.android.gms.ads.AdSize;
-import com.google.android.gms.ads.MediationUtils;
 import com.google.android.gms.ads.MobileAds;
 import com.google.android.gms.ads.RequestConfiguration;
 import com.inmobi.ads.InMobiAdRequestStatus;
@@ -34,7 +36,6 @@ import com.inmobi.sdk.InMobiSdk;
 import com.inmobi.sdk.InMobiSdk.AgeGroup;
 import com.inmobi.sdk.InMobiSdk.Education;
 import com.inmobi.sdk.InMobiSdk.LogLevel;
-import java.util.ArrayList;
 import java.util.Objects;
 import java.util.Set;
 
@@ -52,20 +53,49 @@ public class InMobiAdapterUtils {
   public static final String THIRD_PARTY_VERSION = "tp-ver";
   public static final String COPPA = "coppa";
 
-  public static long getPlacementId(@NonNull Bundle serverParameters) {
-    String placementId = serverParameters.getString(KEY_PLACEMENT_ID);
+  /** The network name that privacy state is tracked under. */
+  private static final String NETWORK_NAME = "inmobi";
+
+  /** The SharedPreferences file that the U.S. Privacy String is read from. */
+  private static final String PRIVACY_PREFERENCES_NAME = "NonNullPackage";
+
+  /** Placement IDs parsed from server parameters. */
+  private static final ServerParameterCache<Long> PLACEMENT_IDS =
+      new ServerParameterCache<>(KEY_PLACEMENT_ID, InMobiAdapterUtils::parsePlacementId);
+
+  /** Banner sizes supported by InMobi. */
+  private static final BannerSizeCache<AdSize> BANNER_SIZES =
+      BannerSizeCache.forCandidates(new AdSize(320, 50), new AdSize(300, 250), new AdSize(728, 90));
+
+  /**
+   * Returns the placement ID in the given server parameters, or the error to fail the ad load with
+   * if it is missing or invalid.
+   */
+  @NonNull
+  public static ServerParameterCache.Result<Long> getPlacementId(
+      @NonNull Bundle serverParameters) {
+    ServerParameterCache.Result<Long> placementId = PLACEMENT_IDS.get(serverParameters);
+    if (!placementId.isValid()) {
+      Log.e(InMobiMediationAdapter.TAG, String.valueOf(placementId.getError()));
+    }
+    return placementId;
+  }
+
+  @NonNull
+  private static ServerParameterCache.Result<Long> parsePlacementId(@Nullable String placementId) {
     if (TextUtils.isEmpty(placementId)) {
-      Log.e(InMobiMediationAdapter.TAG, "Missing or invalid Placement ID.");
-      return 0L;
+      return ServerParameterCache.Result.invalid(
+          InMobiConstants.createAdapterError(
+              ERROR_INVALID_SERVER_PARAMETERS, "Missing or invalid Placement ID."));
     }
 
-    long placement = 0L;
     try {
-      placement = Long.parseLong(placementId);
+      return ServerParameterCache.Result.valid(Long.parseLong(placementId));
     } catch (NumberFormatException exception) {
-      Log.e(InMobiMediationAdapter.TAG, "Invalid Placement ID.", exception);
+      return ServerParameterCache.Result.invalid(
+          InMobiConstants.createAdapterError(
+              ERROR_INVALID_SERVER_PARAMETERS, "Invalid Placement ID."));
     }
-    return placement;
   }
 
   public static void configureGlobalTargeting(Bundle extras) {
@@ -156,8 +186,30 @@ public class InMobiAdapterUtils {
     }
   }
 
-  public static void setIsAgeRestricted() {
-    setIsAgeRestricted(new InMobiSdkWrapper());
+  /**
+   * Forwards the COPPA and U.S. Privacy state to the InMobi SDK, if it changed since it was last
+   * forwarded.
+   */
+  public static void applyPrivacySettings(@NonNull Context context) {
+    applyPrivacySettings(context, new InMobiSdkWrapper());
+  }
+
+  @VisibleForTesting
+  static void applyPrivacySettings(
+      @NonNull Context context, @NonNull InMobiSdkWrapper inMobiSdkWrapper) {
+    PrivacySnapshotService.getInstance()
+        .applyIfChanged(
+            context,
+            NETWORK_NAME,
+            PRIVACY_PREFERENCES_NAME,
+            snapshot -> {
+              setIsAgeRestricted(inMobiSdkWrapper);
+              // Forward U.S. Privacy String set in SharedPreferences to InMobi SDK.
+              String iabUSPrivacyString = snapshot.getUsPrivacyString();
+              if (iabUSPrivacyString != null) {
+                inMobiSdkWrapper.setUSPrivacyString(iabUSPrivacyString);
+              }
+            });
   }
 
   @VisibleForTesting
@@ -264,11 +316,7 @@ public class InMobiAdapterUtils {
 
   @Nullable
   public static AdSize findClosestBannerSize(@NonNull Context context, @NonNull AdSize adSize) {
-    ArrayList<AdSize> potentials = new ArrayList<>();
-    potentials.add(new AdSize(320, 50));
-    potentials.add(new AdSize(300, 250));
-    potentials.add(new AdSize(728, 90));
-    return MediationUtils.findClosestSize(context, adSize, potentials);
+    return BANNER_SIZES.get(context, adSize);
   }
 
   @Nullable
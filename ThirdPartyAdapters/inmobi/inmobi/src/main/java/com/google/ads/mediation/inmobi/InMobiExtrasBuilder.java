@@ -1,13 +1,11 @@
 package com.google.ads.mediation.inmobi;
 
 import android.content.Context;
-import android.content.SharedPreferences;
 import android.os.Bundle;
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
 import com.google.android.gms.ads.MobileAds;
 import com.google.android.gms.ads.RequestConfiguration;
-import com.inmobi.compliance.InMobiPrivacyCompliance;
 
 import java.util.HashMap;
 
@@ -31,14 +29,8 @@ public class InMobiExtrasBuilder {
       }
     }
 
-    // Forward U.S. Privacy String set in SharedPreferences to InMobi SDK.
-    SharedPreferences sharedPreferences =
-        context.getSharedPreferences("NonNullPackage", Context.MODE_PRIVATE);
-    String iabUSPrivacyString = sharedPreferences.getString(
-        InMobiNetworkKeys.IAB_US_PRIVACY_STRING, null);
-    if (iabUSPrivacyString != null) {
-      InMobiPrivacyCompliance.setUSPrivacyString(iabUSPrivacyString);
-    }
+    // Forward the privacy state to InMobi SDK, if it changed since the last request.
+    InMobiAdapterUtils.applyPrivacySettings(context);
 
     map.put(THIRD_PARTY_KEY, protocol);
     map.put(THIRD_PARTY_VERSION, MobileAds.getVersion().toString());
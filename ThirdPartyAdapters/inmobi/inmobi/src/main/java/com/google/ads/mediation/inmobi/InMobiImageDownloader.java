@@ -0,0 +1,350 @@
+// Copyright 2017 Google LLC
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package com.google.ads.mediation.inmobi;
+
+import static com.google.ads.mediation.inmobi.InMobiMediationAdapter.TAG;
+
+import android.content.res.Resources;
+import android.graphics.Bitmap;
+import android.graphics.drawable.BitmapDrawable;
+import android.graphics.drawable.Drawable;
+import android.os.Handler;
+import android.os.Looper;
+import android.util.DisplayMetrics;
+import android.util.Log;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.annotation.VisibleForTesting;
+import com.google.ads.mediation.common.NativeImageDecoder;
+import com.google.ads.mediation.common.NativeImageDecoder.DecodeOptions;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Loads images for InMobi native adapter.
+ *
+ * <p>Images are fetched on a small thread pool shared by all native ads, and concurrent downloads
+ * of the same URL share a single fetch. Fetched bitmaps are shared, but every download wraps its
+ * bitmap in a new drawable, so that no two ads share drawable state. Results are delivered on the
+ * main thread.
+ */
+class InMobiImageDownloader {
+
+  static final String KEY_IMAGE = "image_key";
+
+  static final String KEY_ICON = "icon_key";
+
+  private static final long DEFAULT_TIMEOUT_SECONDS = 10;
+
+  /** Maximum number of threads used to fetch images. */
+  private static final int MAX_FETCH_THREADS = 2;
+
+  /** Time after which idle fetch threads are released. */
+  private static final long FETCH_THREAD_KEEP_ALIVE_SECONDS = 30;
+
+  /** Fetches that are currently in progress, keyed by URL. */
+  private static final ConcurrentHashMap<String, ImageFetch> inFlightFetches =
+      new ConcurrentHashMap<>();
+
+  private final long drawableFutureTimeoutSeconds;
+
+  private final DrawableDownloadListener listener;
+
+  private final Executor executor;
+
+  private final Handler mainHandler = new Handler(Looper.getMainLooper());
+
+  @VisibleForTesting
+  final InMobiMemoryCache memoryCache = InMobiMemoryCache.getInstance();
+
+  /** Set once a result was delivered or the download was cancelled. */
+  private final AtomicBoolean isFinished = new AtomicBoolean();
+
+  /** The shared fetch this download is waiting on, if any. */
+  private final AtomicReference<ImageFetch> pendingFetch = new AtomicReference<>();
+
+  private final Runnable timeoutRunnable =
+      new Runnable() {
+        @Override
+        public void run() {
+          Log.w(TAG, "Timed out while downloading InMobi native ad image assets.");
+          finish(null);
+        }
+      };
+
+  public InMobiImageDownloader(DrawableDownloadListener listener) {
+    this(listener, ExecutorHolder.EXECUTOR);
+  }
+
+  InMobiImageDownloader(DrawableDownloadListener listener, @NonNull Executor executor) {
+    this(listener, DEFAULT_TIMEOUT_SECONDS, executor);
+  }
+
+  @VisibleForTesting
+  InMobiImageDownloader(
+      DrawableDownloadListener listener, long timeoutSeconds, @NonNull Executor executor) {
+    this.listener = listener;
+    this.drawableFutureTimeoutSeconds = timeoutSeconds;
+    this.executor = executor;
+  }
+
+  /**
+   * Starts downloading the images in {@code urlsMap}. The listener is notified on the main thread
+   * once the images are available, or if they could not be downloaded in time.
+   */
+  void download(@NonNull Map<String, URL> urlsMap) {
+    URL iconUrl = urlsMap.get(KEY_ICON);
+    if (iconUrl == null) {
+      postResult(null);
+      return;
+    }
+
+    String key = String.valueOf(iconUrl);
+    Bitmap cachedBitmap = memoryCache.get(key);
+    if (cachedBitmap != null) {
+      postResult(cachedBitmap);
+      return;
+    }
+
+    mainHandler.postDelayed(
+        timeoutRunnable, TimeUnit.SECONDS.toMillis(drawableFutureTimeoutSeconds));
+    while (true) {
+      ImageFetch newFetch = null;
+      ImageFetch fetch = inFlightFetches.get(key);
+      if (fetch == null) {
+        newFetch = new ImageFetch(key, iconUrl, memoryCache);
+        fetch = inFlightFetches.putIfAbsent(key, newFetch);
+        if (fetch == null) {
+          fetch = newFetch;
+        }
+      }
+
+      pendingFetch.set(fetch);
+      if (fetch.addWaiter(this)) {
+        if (fetch == newFetch) {
+          executor.execute(newFetch);
+        }
+        return;
+      }
+      // The fetch was cancelled by its last waiter after we looked it up. Start over.
+      inFlightFetches.remove(key, fetch);
+    }
+  }
+
+  /**
+   * Cancels this download. The listener will not be notified, and the underlying fetch is
+   * cancelled if no other download is waiting on it.
+   */
+  void cancel() {
+    if (isFinished.compareAndSet(false, true)) {
+      mainHandler.removeCallbacks(timeoutRunnable);
+      detachFromFetch();
+    }
+  }
+
+  private void onFetchComplete(@Nullable final Bitmap bitmap) {
+    postResult(bitmap);
+  }
+
+  private void postResult(@Nullable final Bitmap bitmap) {
+    mainHandler.post(
+        new Runnable() {
+          @Override
+          public void run() {
+            finish(bitmap);
+          }
+        });
+  }
+
+  private void finish(@Nullable Bitmap iconBitmap) {
+    if (!isFinished.compareAndSet(false, true)) {
+      return;
+    }
+    mainHandler.removeCallbacks(timeoutRunnable);
+    detachFromFetch();
+
+    if (iconBitmap != null) {
+      // Image download successful, send on success callback. The bitmap may be shared with other
+      // ads, so this ad gets a drawable of its own.
+      HashMap<String, Drawable> drawableHashMap = new HashMap<>();
+      drawableHashMap.put(KEY_ICON, new BitmapDrawable(Resources.getSystem(), iconBitmap));
+      listener.onDownloadSuccess(drawableHashMap);
+    } else {
+      listener.onDownloadFailure();
+    }
+  }
+
+  private void detachFromFetch() {
+    ImageFetch fetch = pendingFetch.getAndSet(null);
+    if (fetch != null) {
+      fetch.removeWaiter(this);
+    }
+  }
+
+  @NonNull
+  private static Bitmap fetchBitmap(@NonNull URL url) throws IOException {
+    // Icons are decoded at the size native templates render them at, rather than at the full size
+    // of the creative. Opaque icons are decoded as RGB_565 to halve their memory footprint.
+    DecodeOptions decodeOptions =
+        NativeImageDecoder.iconDecodeOptions(Resources.getSystem(), /* allowRgb565= */ true);
+    try (InputStream in = url.openStream()) {
+      Bitmap bitmap = NativeImageDecoder.decode(in, decodeOptions);
+      if (bitmap == null) {
+        throw new IOException("Failed to decode image from " + url);
+      }
+      // Defaulting to a scale of 1.
+      bitmap.setDensity(DisplayMetrics.DENSITY_DEFAULT);
+      return bitmap;
+    }
+  }
+
+  /** A fetch of a single image URL that any number of downloads can wait on. */
+  private static final class ImageFetch extends FutureTask<Bitmap> {
+
+    private final String key;
+
+    private final List<InMobiImageDownloader> waiters = new ArrayList<>();
+
+    ImageFetch(
+        @NonNull String key, @NonNull final URL url, @NonNull final InMobiMemoryCache memoryCache) {
+      super(
+          new Callable<Bitmap>() {
+            @Override
+            public Bitmap call() throws Exception {
+              Bitmap bitmap = fetchBitmap(url);
+              memoryCache.put(url.toString(), bitmap);
+              return bitmap;
+            }
+          });
+      this.key = key;
+    }
+
+    /**
+     * Adds a download waiting on this fetch. Returns false if the fetch has been cancelled and can
+     * no longer be waited on.
+     */
+    boolean addWaiter(@NonNull InMobiImageDownloader waiter) {
+      synchronized (this) {
+        if (isCancelled()) {
+          return false;
+        }
+        if (!isDone()) {
+          waiters.add(waiter);
+          return true;
+        }
+      }
+      // The fetch already completed, deliver its result right away.
+      waiter.onFetchComplete(getResult());
+      return true;
+    }
+
+    /** Removes a waiting download, cancelling the fetch if nothing else is waiting on it. */
+    void removeWaiter(@NonNull InMobiImageDownloader waiter) {
+      synchronized (this) {
+        waiters.remove(waiter);
+        if (waiters.isEmpty() && !isDone()) {
+          cancel(true);
+        }
+      }
+    }
+
+    @Override
+    protected void done() {
+      inFlightFetches.remove(key, this);
+      List<InMobiImageDownloader> waitersToNotify;
+      synchronized (this) {
+        waitersToNotify = new ArrayList<>(waiters);
+        waiters.clear();
+      }
+      if (waitersToNotify.isEmpty()) {
+        return;
+      }
+
+      Bitmap bitmap = getResult();
+      for (InMobiImageDownloader waiter : waitersToNotify) {
+        waiter.onFetchComplete(bitmap);
+      }
+    }
+
+    @Nullable
+    private Bitmap getResult() {
+      if (isCancelled()) {
+        return null;
+      }
+      try {
+        return get();
+      } catch (InterruptedException | ExecutionException exception) {
+        Log.w(TAG, "Failed to download InMobi native ad image: " + exception.getMessage());
+        return null;
+      }
+    }
+  }
+
+  /** Lazily creates the thread pool shared by all image downloads. */
+  private static class ExecutorHolder {
+
+    private static final ThreadPoolExecutor EXECUTOR = createExecutor();
+
+    private static ThreadPoolExecutor createExecutor() {
+      ThreadPoolExecutor executor =
+          new ThreadPoolExecutor(
+              MAX_FETCH_THREADS,
+              MAX_FETCH_THREADS,
+              FETCH_THREAD_KEEP_ALIVE_SECONDS,
+              TimeUnit.SECONDS,
+              new LinkedBlockingQueue<Runnable>(),
+              new ThreadFactory() {
+                private final AtomicInteger threadCount = new AtomicInteger();
+
+                @Override
+                public Thread newThread(Runnable runnable) {
+                  Thread thread =
+                      new Thread(
+                          runnable, "InMobiImageDownloader-" + threadCount.incrementAndGet());
+                  thread.setDaemon(true);
+                  return thread;
+                }
+              });
+      executor.allowCoreThreadTimeOut(true);
+      return executor;
+    }
+  }
+
+  interface DrawableDownloadListener {
+
+    // A success callback.
+    void onDownloadSuccess(HashMap<String, Drawable> drawableMap);
+
+    // A failure callback.
+    void onDownloadFailure();
+  }
+}
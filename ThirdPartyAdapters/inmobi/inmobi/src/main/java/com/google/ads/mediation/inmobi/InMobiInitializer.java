@@ -24,15 +24,18 @@ import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
 import androidx.annotation.Size;
 import androidx.annotation.VisibleForTesting;
+import com.google.ads.mediation.common.SdkInitializer;
 import com.google.android.gms.ads.AdError;
 import com.inmobi.sdk.SdkInitializationListener;
 import java.lang.annotation.Retention;
 import java.lang.annotation.RetentionPolicy;
-import java.util.ArrayList;
 
 public class InMobiInitializer implements SdkInitializationListener {
 
-  private static InMobiInitializer instance;
+  private static class Holder {
+
+    private static final InMobiInitializer INSTANCE = new InMobiInitializer();
+  }
 
   @Retention(RetentionPolicy.SOURCE)
   @IntDef(value = {
@@ -58,72 +61,72 @@ public class InMobiInitializer implements SdkInitializationListener {
    */
   public static final int INITIALIZED = 2;
 
-  @VisibleForTesting
-  @InitializationStatus
-  int initializationStatus;
+  private final SdkInitializer<Listener> sdkInitializer =
+      new SdkInitializer<>(
+          new SdkInitializer.ListenerDispatcher<Listener>() {
+            @Override
+            public void onInitializeSuccess(@NonNull Listener listener) {
+              listener.onInitializeSuccess();
+            }
 
-
-  @VisibleForTesting
-  final ArrayList<Listener> listeners = new ArrayList<>();
+            @Override
+            public void onInitializeError(@NonNull Listener listener, @NonNull AdError error) {
+              listener.onInitializeError(error);
+            }
+          });
 
   private final InMobiSdkWrapper inMobiSdkWrapper;
 
   private InMobiInitializer() {
-    this.initializationStatus = UNINITIALIZED;
     this.inMobiSdkWrapper = new InMobiSdkWrapper();
   }
 
   public static InMobiInitializer getInstance() {
-    if (instance == null) {
-      instance = new InMobiInitializer();
-    }
-    return instance;
+    return Holder.INSTANCE;
   }
 
   @VisibleForTesting
   InMobiInitializer(InMobiSdkWrapper inMobiSdkWrapper) {
-    this.initializationStatus = UNINITIALIZED;
     this.inMobiSdkWrapper = inMobiSdkWrapper;
   }
 
-  public void init(@NonNull final Context context,
-      @NonNull @Size(min = 32, max = 36) String accountID, @NonNull final Listener listener) {
-
-    if (initializationStatus == INITIALIZED) {
-      listener.onInitializeSuccess();
-      return;
-    }
-
-    listeners.add(listener);
-    if (initializationStatus == INITIALIZING) {
-      return;
+  @VisibleForTesting
+  @InitializationStatus
+  int getInitializationStatus() {
+    switch (sdkInitializer.getState()) {
+      case INITIALIZED:
+        return INITIALIZED;
+      case INITIALIZING:
+        return INITIALIZING;
+      default:
+        return UNINITIALIZED;
     }
+  }
 
-    initializationStatus = INITIALIZING;
-
-    inMobiSdkWrapper.init(context, accountID, InMobiConsent.getConsentObj(), this);
+  public void init(@NonNull final Context context,
+      @NonNull @Size(min = 32, max = 36) final String accountID, @NonNull final Listener listener) {
+    sdkInitializer.initialize(
+        listener,
+        new Runnable() {
+          @Override
+          public void run() {
+            inMobiSdkWrapper.init(
+                context, accountID, InMobiConsent.getConsentObj(), InMobiInitializer.this);
+          }
+        });
   }
 
   @Override
   public void onInitializationComplete(@Nullable Error error) {
     if (error == null) {
       Log.d(TAG, "InMobi SDK initialized.");
-
-      initializationStatus = INITIALIZED;
-      for (Listener initListener : listeners) {
-        initListener.onInitializeSuccess();
-      }
+      sdkInitializer.onInitializationSucceeded();
     } else {
-      initializationStatus = UNINITIALIZED;
-
       AdError initializationError =
           InMobiConstants.createAdapterError(
               ERROR_INMOBI_FAILED_INITIALIZATION, error.getLocalizedMessage());
-      for (Listener initListener : listeners) {
-        initListener.onInitializeError(initializationError);
-      }
+      sdkInitializer.onInitializationFailed(initializationError);
     }
-    listeners.clear();
   }
 
   public interface Listener {
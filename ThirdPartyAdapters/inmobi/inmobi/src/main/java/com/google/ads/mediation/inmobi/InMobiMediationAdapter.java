@@ -20,6 +20,7 @@ import android.text.TextUtils;
 import android.util.Log;
 import androidx.annotation.NonNull;
 import androidx.annotation.VisibleForTesting;
+import com.google.ads.mediation.common.MemoryPressureCoordinator;
 import com.google.ads.mediation.inmobi.InMobiInitializer.Listener;
 import com.google.ads.mediation.inmobi.rtb.InMobiRtbBannerAd;
 import com.google.ads.mediation.inmobi.rtb.InMobiRtbInterstitialAd;
@@ -158,6 +159,8 @@ public class InMobiMediationAdapter extends RtbAdapter {
   public void initialize(@NonNull Context context,
       final @NonNull InitializationCompleteCallback initializationCompleteCallback,
       @NonNull List<MediationConfiguration> mediationConfigurations) {
+    // Lets the native ad image cache be trimmed when the application is asked to release memory.
+    MemoryPressureCoordinator.getInstance().registerForTrimMemory(context);
 
     if (inMobiSdkWrapper.isSDKInitialized()) {
       initializationCompleteCallback.onInitializationSucceeded();
@@ -15,105 +15,93 @@
 package com.google.ads.mediation.inmobi;
 
 import android.graphics.Bitmap;
-import android.graphics.drawable.BitmapDrawable;
-import android.graphics.drawable.Drawable;
 import android.util.Log;
+import android.util.LruCache;
 import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
 import androidx.annotation.VisibleForTesting;
-import java.util.Collections;
-import java.util.Iterator;
-import java.util.LinkedHashMap;
-import java.util.Map;
+import com.google.ads.mediation.common.MemoryPressureCoordinator;
 
 /**
  * This class is used to cache images loaded/shown by InMobi adapter.
+ *
+ * <p>A single instance is shared by every native ad loaded in the process, so that icons which
+ * repeat across ads are only downloaded and decoded once. The cache holds decoded bitmaps rather
+ * than drawables, since drawables carry per-view state such as bounds and callbacks; each ad wraps
+ * the bitmap in a drawable of its own. Entries are evicted in least recently used order once the
+ * total bitmap size exceeds the cache limit, or once {@link MemoryPressureCoordinator} trims the
+ * cache because memory runs low.
  */
-public class InMobiMemoryCache {
+public class InMobiMemoryCache implements MemoryPressureCoordinator.Trimmable {
 
   private static final String TAG = "MemoryCache";
-  // Last argument true for LRU
-  private final Map<String, Drawable> cache = Collections.synchronizedMap(
-      new LinkedHashMap<String, Drawable>(10, 1.5f, true));
-  // ordering.
-  @VisibleForTesting
-  long size = 0; // Current allocated size.
-  private long limit = 1000000; // Max memory in bytes.
 
-  InMobiMemoryCache() {
-    // Use 25% of available heap size.
-    setLimit(Runtime.getRuntime().maxMemory() / 4);
+  /** Name under which the cache is registered with {@link MemoryPressureCoordinator}. */
+  private static final String TRIMMABLE_NAME = "inmobi_images";
+
+  /** Fraction of the maximum heap size the shared cache is allowed to use. */
+  private static final int HEAP_FRACTION = 8;
+
+  private final LruCache<String, Bitmap> cache;
+
+  private static class Holder {
+
+    private static final InMobiMemoryCache INSTANCE = createInstance();
+
+    private static InMobiMemoryCache createInstance() {
+      InMobiMemoryCache cache =
+          new InMobiMemoryCache(Runtime.getRuntime().maxMemory() / HEAP_FRACTION);
+      // Registered once, when the cache is first used, so that it is trimmed when the application
+      // is asked to release memory.
+      MemoryPressureCoordinator.getInstance().register(TRIMMABLE_NAME, cache);
+      return cache;
+    }
+  }
+
+  /** Returns the process-wide image cache. */
+  @NonNull
+  public static InMobiMemoryCache getInstance() {
+    return Holder.INSTANCE;
   }
 
   @VisibleForTesting
   InMobiMemoryCache(@NonNull Long limit) {
-    setLimit(limit);
+    // LruCache sizes are ints, so clamp very large heaps.
+    int maxSize = (int) Math.min(limit, Integer.MAX_VALUE);
+    cache =
+        new LruCache<String, Bitmap>(maxSize) {
+          @Override
+          protected int sizeOf(String key, Bitmap bitmap) {
+            return bitmap.getRowBytes() * bitmap.getHeight();
+          }
+        };
+    Log.i(TAG, "MemoryCache will use up to " + maxSize / 1024. / 1024. + "MB");
   }
 
-  private void setLimit(long new_limit) {
-    limit = new_limit;
-    Log.i(TAG, "MemoryCache will use up to " + limit / 1024. / 1024. + "MB");
+  @Nullable
+  public Bitmap get(String id) {
+    return cache.get(id);
   }
 
-  public Drawable get(String id) {
-    try {
-      if (!cache.containsKey(id)) {
-        return null;
-      }
-      // NullPointerException sometimes happen here
-      // http://code.google.com/p/osmdroid/issues/detail?id=78
-      return cache.get(id);
-    } catch (NullPointerException ex) {
-      ex.printStackTrace();
-      return null;
+  void put(String id, Bitmap bitmap) {
+    if (id == null || bitmap == null) {
+      return;
     }
+    cache.put(id, bitmap);
   }
 
-  void put(String id, Drawable drawable) {
-    try {
-      if (cache.containsKey(id)) {
-        size -= getSizeInBytes(((BitmapDrawable) cache.get(id)).getBitmap());
-      }
-      cache.put(id, drawable);
-      size += getSizeInBytes(((BitmapDrawable) drawable).getBitmap());
-      checkSize();
-      Log.d(TAG, "Drawable used from cache");
-    } catch (Throwable th) {
-      th.printStackTrace();
-    }
+  /** Returns the current allocated size of the cache, in bytes. */
+  @Override
+  public long getSizeInBytes() {
+    return cache.size();
   }
 
-  private void checkSize() {
-    Log.i(TAG, "cache size=" + size + " length=" + cache.size());
-    if (size > limit) {
-      Iterator<Map.Entry<String, Drawable>> iter = cache.entrySet().iterator();//least
-      // recently accessed item will be the first one iterated
-      while (iter.hasNext()) {
-        Map.Entry<String, Drawable> entry = iter.next();
-        size -= getSizeInBytes(((BitmapDrawable) entry.getValue()).getBitmap());
-        iter.remove();
-        if (size <= limit) {
-          break;
-        }
-      }
-      Log.i(TAG, "Clean cache. New size " + cache.size());
-    }
+  @Override
+  public void trimToSize(long maxSizeInBytes) {
+    cache.trimToSize((int) Math.min(maxSizeInBytes, Integer.MAX_VALUE));
   }
 
   public void clear() {
-    try {
-      // NullPointerException sometimes happen here
-      // http://code.google.com/p/osmdroid/issues/detail?id=78
-      cache.clear();
-      size = 0;
-    } catch (NullPointerException ex) {
-      ex.printStackTrace();
-    }
-  }
-
-  private long getSizeInBytes(Bitmap bitmap) {
-    if (bitmap == null) {
-      return 0;
-    }
-    return bitmap.getRowBytes() * bitmap.getHeight();
+    cache.evictAll();
   }
 }
@@ -2,6 +2,7 @@ package com.google.ads.mediation.inmobi;
 
 import android.content.Context;
 import androidx.annotation.NonNull;
+import com.inmobi.compliance.InMobiPrivacyCompliance;
 import com.inmobi.sdk.InMobiSdk;
 import com.inmobi.sdk.SdkInitializationListener;
 import java.util.Map;
@@ -29,6 +30,10 @@ public class InMobiSdkWrapper {
     InMobiSdk.setIsAgeRestricted(isAgeRestricted);
   }
 
+  public void setUSPrivacyString(String usPrivacyString) {
+    InMobiPrivacyCompliance.setUSPrivacyString(usPrivacyString);
+  }
+
   public void init(
       final Context context,
       final String accountId,
@@ -28,6 +28,8 @@ import android.view.View;
 import android.view.ViewGroup;
 import android.widget.ImageView;
 import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.annotation.VisibleForTesting;
 import com.google.ads.mediation.inmobi.renderers.InMobiNativeAd;
 import com.google.android.gms.ads.AdError;
 import com.google.android.gms.ads.formats.NativeAd;
@@ -44,6 +46,7 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Executor;
 
 public class InMobiUnifiedNativeAdMapper extends UnifiedNativeAdMapper {
 
@@ -66,6 +69,19 @@ public class InMobiUnifiedNativeAdMapper extends UnifiedNativeAdMapper {
 
   private final InMobiNativeAd inMobiNativeAd;
 
+  /**
+   * Downloader for the native ad image assets, if a download is in progress.
+   */
+  @Nullable
+  private InMobiImageDownloader imageDownloader;
+
+  /**
+   * Executor for the native ad image fetches, or null to use the downloader's shared thread pool.
+   */
+  @VisibleForTesting
+  @Nullable
+  Executor imageDownloadExecutor;
+
   public InMobiUnifiedNativeAdMapper(@NonNull InMobiNativeWrapper inMobiNativeWrapper, Boolean isOnlyURL,
       MediationAdLoadCallback<UnifiedNativeAdMapper, MediationNativeAdCallback>
           mediationAdLoadCallback, InMobiNativeAd inMobiNativeAd) {
@@ -122,7 +138,7 @@ public class InMobiUnifiedNativeAdMapper extends UnifiedNativeAdMapper {
       HashMap<String, URL> map = new HashMap<>();
 
       if (!this.isOnlyURL) {
-        map.put(ImageDownloaderAsyncTask.KEY_ICON, iconURL);
+        map.put(InMobiImageDownloader.KEY_ICON, iconURL);
       } else {
         setIcon(new InMobiNativeMappedImage(null, iconUri, iconScale));
         List<NativeAd.Image> imagesList = new ArrayList<>();
@@ -133,11 +149,11 @@ public class InMobiUnifiedNativeAdMapper extends UnifiedNativeAdMapper {
 
       // Download drawables.
       if (!this.isOnlyURL) {
-        new ImageDownloaderAsyncTask(
-                new ImageDownloaderAsyncTask.DrawableDownloadListener() {
+        InMobiImageDownloader.DrawableDownloadListener drawableDownloadListener =
+                new InMobiImageDownloader.DrawableDownloadListener() {
                   @Override
                   public void onDownloadSuccess(HashMap<String, Drawable> drawableMap) {
-                    Drawable iconDrawable = drawableMap.get(ImageDownloaderAsyncTask.KEY_ICON);
+                    Drawable iconDrawable = drawableMap.get(InMobiImageDownloader.KEY_ICON);
                     setIcon(new InMobiNativeMappedImage(iconDrawable, iconUri, iconScale));
 
                     List<NativeAd.Image> imagesList = new ArrayList<>();
@@ -150,6 +166,7 @@ public class InMobiUnifiedNativeAdMapper extends UnifiedNativeAdMapper {
                       inMobiNativeAd.mediationNativeAdCallback =
                           mediationAdLoadCallback.onSuccess(InMobiUnifiedNativeAdMapper.this);
                     } else {
+                      cancelImageDownload();
                       AdError error =
                           InMobiConstants.createAdapterError(
                               ERROR_NATIVE_ASSET_DOWNLOAD_FAILED,
@@ -161,6 +178,8 @@ public class InMobiUnifiedNativeAdMapper extends UnifiedNativeAdMapper {
 
                   @Override
                   public void onDownloadFailure() {
+                    // The download timed out or failed, so stop it along with its fetch.
+                    cancelImageDownload();
                     AdError error =
                         InMobiConstants.createAdapterError(
                             ERROR_NATIVE_ASSET_DOWNLOAD_FAILED,
@@ -168,8 +187,12 @@ public class InMobiUnifiedNativeAdMapper extends UnifiedNativeAdMapper {
                     Log.w(TAG, error.toString());
                     mediationAdLoadCallback.onFailure(error);
                   }
-                })
-            .execute(map);
+                };
+        imageDownloader =
+            imageDownloadExecutor != null
+                ? new InMobiImageDownloader(drawableDownloadListener, imageDownloadExecutor)
+                : new InMobiImageDownloader(drawableDownloadListener);
+        imageDownloader.download(map);
       } else {
         if (mediationAdLoadCallback != null) {
           inMobiNativeAd.mediationNativeAdCallback =
@@ -181,6 +204,23 @@ public class InMobiUnifiedNativeAdMapper extends UnifiedNativeAdMapper {
   }
 
 
+  /**
+   * Cancels the native ad image download, if any. The load callback will not be invoked for this
+   * ad once the download is cancelled.
+   */
+  public void cancelImageDownload() {
+    if (imageDownloader != null) {
+      imageDownloader.cancel();
+      imageDownloader = null;
+    }
+  }
+
+  @Override
+  public void destroy() {
+    super.destroy();
+    cancelImageDownload();
+  }
+
   @Override
   public void untrackView(View view) {
     inMobiNativeWrapper.unTrackViews();
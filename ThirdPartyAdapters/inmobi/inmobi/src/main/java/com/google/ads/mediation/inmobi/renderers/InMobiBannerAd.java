@@ -14,6 +14,7 @@
 
 package com.google.ads.mediation.inmobi.renderers;
 
+import static com.google.ads.mediation.common.AdEventPipeline.FORMAT_BANNER;
 import static com.google.ads.mediation.inmobi.InMobiConstants.WATERMARK_ALPHA;
 import static com.google.ads.mediation.inmobi.InMobiMediationAdapter.TAG;
 
@@ -26,8 +27,10 @@ import android.widget.FrameLayout;
 import android.widget.LinearLayout;
 import androidx.annotation.NonNull;
 
-import com.astarsoftware.android.ads.AdNetworkTracker;
-import com.astarsoftware.dependencies.DependencyInjector;
+import com.google.ads.mediation.common.AdAttribution;
+import com.google.ads.mediation.common.AdEventPipeline;
+import com.google.ads.mediation.common.LoadLatencyTracker;
+import com.google.ads.mediation.common.ServerParameterCache;
 import com.google.ads.mediation.inmobi.AstarInMobiUtils;
 import com.google.ads.mediation.inmobi.InMobiAdFactory;
 import com.google.ads.mediation.inmobi.InMobiAdViewHolder;
@@ -52,18 +55,23 @@ public abstract class InMobiBannerAd extends BannerAdEventListener implements Me
 
   protected final MediationAdLoadCallback<MediationBannerAd, MediationBannerAdCallback>
       mediationAdLoadCallback;
+  private final LoadLatencyTracker.LoadSpan loadSpan;
   protected InMobiInitializer inMobiInitializer;
   private MediationBannerAdCallback mediationBannerAdCallback;
   private InMobiAdViewHolder inMobiAdViewHolder;
   private InMobiAdFactory inMobiAdFactory;
 
+  // astar
+  private AdAttribution attribution;
+
   public InMobiBannerAd(
       @NonNull
           MediationAdLoadCallback<MediationBannerAd, MediationBannerAdCallback>
               mediationAdLoadCallback,
       @NonNull InMobiInitializer inMobiInitializer,
       @NonNull InMobiAdFactory inMobiAdFactory) {
-    this.mediationAdLoadCallback = mediationAdLoadCallback;
+    loadSpan = LoadLatencyTracker.getInstance().startLoad("inmobi", FORMAT_BANNER);
+    this.mediationAdLoadCallback = loadSpan.wrap(mediationAdLoadCallback);
     this.inMobiInitializer = inMobiInitializer;
     this.inMobiAdFactory = inMobiAdFactory;
   }
@@ -80,16 +88,22 @@ public abstract class InMobiBannerAd extends BannerAdEventListener implements Me
       @NonNull final Context context,
       @NonNull AdSize mediationBannerSize,
       @NonNull MediationBannerAdConfiguration mediationBannerAdConfiguration) {
-    // Set the COPPA value in inMobi SDK
-    InMobiAdapterUtils.setIsAgeRestricted();
+    loadSpan.markInitComplete();
+    // Set the COPPA value in InMobi SDK.
+    InMobiAdapterUtils.applyPrivacySettings(context);
 
     InMobiAdapterUtils.configureGlobalTargeting(
         mediationBannerAdConfiguration.getMediationExtras());
 
     final Bundle serverParameters = mediationBannerAdConfiguration.getServerParameters();
-    final long placementId = InMobiAdapterUtils.getPlacementId(serverParameters);
+    final ServerParameterCache.Result<Long> placementId =
+        InMobiAdapterUtils.getPlacementId(serverParameters);
+    if (!placementId.isValid()) {
+      mediationAdLoadCallback.onFailure(placementId.getError());
+      return;
+    }
     InMobiBannerWrapper inMobiBannerWrapper =
-        inMobiAdFactory.createInMobiBannerWrapper(context, placementId);
+        inMobiAdFactory.createInMobiBannerWrapper(context, placementId.getValue());
     // Turn off automatic refresh.
     inMobiBannerWrapper.setEnableAutoRefresh(false);
     // Turn off the animation.
@@ -118,6 +132,7 @@ public abstract class InMobiBannerAd extends BannerAdEventListener implements Me
             mediationBannerSize.getHeightInPixels(context)));
     inMobiAdViewHolder.addView(inMobiBannerWrapper);
 
+    loadSpan.markSdkRequestSent();
     internalLoadAd(inMobiBannerWrapper, mediationBannerAdConfiguration);
   }
 
@@ -140,17 +155,18 @@ public abstract class InMobiBannerAd extends BannerAdEventListener implements Me
   @Override
   public void onAdLoadSucceeded(
       @NonNull InMobiBanner inMobiBanner, @NonNull AdMetaInfo adMetaInfo) {
+    loadSpan.markSdkCallback();
     mediationBannerAdCallback = mediationAdLoadCallback.onSuccess(this);
 
 	  // astar
-	  AdNetworkTracker adTracker = DependencyInjector.getObjectWithClass(AdNetworkTracker.class);
-	  Map<String,Object> networkInfo = AstarInMobiUtils.getNetworkInfo(adMetaInfo);
-	  adTracker.adDidLoadForNetwork("inmobi", "admob", "banner", networkInfo);
+	  attribution = AstarInMobiUtils.getAttribution(adMetaInfo);
+	  AdEventPipeline.getInstance().recordLoad("inmobi", FORMAT_BANNER, attribution);
   }
 
   @Override
   public void onAdLoadFailed(@NonNull InMobiBanner inMobiBanner,
       @NonNull InMobiAdRequestStatus inMobiAdRequestStatus) {
+    loadSpan.markSdkCallback();
     AdError error = InMobiConstants.createSdkError(
         InMobiAdapterUtils.getMediationErrorCode(inMobiAdRequestStatus),
         inMobiAdRequestStatus.getMessage());
@@ -174,6 +190,7 @@ public abstract class InMobiBannerAd extends BannerAdEventListener implements Me
 
   @Override
   public void onAdClicked(@NonNull InMobiBanner inMobiBanner, Map<Object, Object> map) {
+    AdEventPipeline.getInstance().recordClick("inmobi", FORMAT_BANNER, attribution);
     if (mediationBannerAdCallback != null) {
       mediationBannerAdCallback.reportAdClicked();
     }
@@ -181,6 +198,7 @@ public abstract class InMobiBannerAd extends BannerAdEventListener implements Me
 
   @Override
   public void onAdImpression(@NonNull InMobiBanner inMobiBanner) {
+    AdEventPipeline.getInstance().recordImpression("inmobi", FORMAT_BANNER, attribution);
     if (mediationBannerAdCallback != null) {
       mediationBannerAdCallback.reportAdImpression();
     }
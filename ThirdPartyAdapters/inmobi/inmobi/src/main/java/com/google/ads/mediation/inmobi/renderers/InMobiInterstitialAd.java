@@ -14,6 +14,7 @@
 
 package com.google.ads.mediation.inmobi.renderers;
 
+import static com.google.ads.mediation.common.AdEventPipeline.FORMAT_INTERSTITIAL;
 import static com.google.ads.mediation.inmobi.InMobiConstants.ERROR_AD_DISPLAY_FAILED;
 import static com.google.ads.mediation.inmobi.InMobiConstants.ERROR_AD_NOT_READY;
 import static com.google.ads.mediation.inmobi.InMobiConstants.WATERMARK_ALPHA;
@@ -26,8 +27,10 @@ import android.util.Log;
 
 import androidx.annotation.NonNull;
 
-import com.astarsoftware.android.ads.AdNetworkTracker;
-import com.astarsoftware.dependencies.DependencyInjector;
+import com.google.ads.mediation.common.AdAttribution;
+import com.google.ads.mediation.common.AdEventPipeline;
+import com.google.ads.mediation.common.LoadLatencyTracker;
+import com.google.ads.mediation.common.ServerParameterCache;
 import com.google.ads.mediation.inmobi.AstarInMobiUtils;
 import com.google.ads.mediation.inmobi.InMobiAdFactory;
 import com.google.ads.mediation.inmobi.InMobiAdapterUtils;
@@ -53,17 +56,22 @@ public abstract class InMobiInterstitialAd extends InterstitialAdEventListener
   private InMobiInterstitialWrapper inMobiInterstitialWrapper;
   protected final MediationAdLoadCallback<MediationInterstitialAd, MediationInterstitialAdCallback>
       mediationAdLoadCallback;
+  private final LoadLatencyTracker.LoadSpan loadSpan;
   protected InMobiInitializer inMobiInitializer;
   private MediationInterstitialAdCallback interstitialAdCallback;
 
   private InMobiAdFactory inMobiAdFactory;
 
+  // astar
+  private AdAttribution attribution;
+
   public InMobiInterstitialAd(
       @NonNull MediationAdLoadCallback<MediationInterstitialAd, MediationInterstitialAdCallback>
           mediationAdLoadCallback,
       @NonNull InMobiInitializer inMobiInitializer,
       @NonNull InMobiAdFactory inMobiAdFactory) {
-    this.mediationAdLoadCallback = mediationAdLoadCallback;
+    loadSpan = LoadLatencyTracker.getInstance().startLoad("inmobi", FORMAT_INTERSTITIAL);
+    this.mediationAdLoadCallback = loadSpan.wrap(mediationAdLoadCallback);
     this.inMobiInitializer = inMobiInitializer;
     this.inMobiAdFactory = inMobiAdFactory;
   }
@@ -79,13 +87,19 @@ public abstract class InMobiInterstitialAd extends InterstitialAdEventListener
   protected void createAndLoadInterstitialAd(
       final Context context,
       @NonNull MediationInterstitialAdConfiguration mediationInterstitialAdConfiguration) {
+    loadSpan.markInitComplete();
     final Bundle serverParameters = mediationInterstitialAdConfiguration.getServerParameters();
-    final long placementId = InMobiAdapterUtils.getPlacementId(serverParameters);
+    final ServerParameterCache.Result<Long> placementId =
+        InMobiAdapterUtils.getPlacementId(serverParameters);
+    if (!placementId.isValid()) {
+      mediationAdLoadCallback.onFailure(placementId.getError());
+      return;
+    }
     inMobiInterstitialWrapper =
-        inMobiAdFactory.createInMobiInterstitialWrapper(context, placementId, this);
+        inMobiAdFactory.createInMobiInterstitialWrapper(context, placementId.getValue(), this);
 
     // Set the COPPA value in InMobi SDK.
-    InMobiAdapterUtils.setIsAgeRestricted();
+    InMobiAdapterUtils.applyPrivacySettings(context);
 
     InMobiAdapterUtils.configureGlobalTargeting(
         mediationInterstitialAdConfiguration.getMediationExtras());
@@ -95,6 +109,7 @@ public abstract class InMobiInterstitialAd extends InterstitialAdEventListener
       inMobiInterstitialWrapper.setWatermarkData(new WatermarkData(watermark, WATERMARK_ALPHA));
     }
 
+    loadSpan.markSdkRequestSent();
     internalLoadAd(inMobiInterstitialWrapper, mediationInterstitialAdConfiguration);
   }
 
@@ -147,20 +162,21 @@ public abstract class InMobiInterstitialAd extends InterstitialAdEventListener
   @Override
   public void onAdLoadSucceeded(@NonNull InMobiInterstitial inMobiInterstitial,
       @NonNull AdMetaInfo adMetaInfo) {
+    loadSpan.markSdkCallback();
     Log.d(TAG, "InMobi interstitial ad has been loaded.");
     if (mediationAdLoadCallback != null) {
       interstitialAdCallback = mediationAdLoadCallback.onSuccess(InMobiInterstitialAd.this);
     }
 
 	  // astar
-	  AdNetworkTracker adTracker = DependencyInjector.getObjectWithClass(AdNetworkTracker.class);
-	  Map<String,Object> networkInfo = AstarInMobiUtils.getNetworkInfo(adMetaInfo);
-	  adTracker.adDidLoadForNetwork("inmobi", "admob", "interstitial", networkInfo);
+	  attribution = AstarInMobiUtils.getAttribution(adMetaInfo);
+	  AdEventPipeline.getInstance().recordLoad("inmobi", FORMAT_INTERSTITIAL, attribution);
   }
 
   @Override
   public void onAdLoadFailed(@NonNull InMobiInterstitial inMobiInterstitial,
       @NonNull InMobiAdRequestStatus inMobiAdRequestStatus) {
+    loadSpan.markSdkCallback();
     AdError error = InMobiConstants.createSdkError(
         InMobiAdapterUtils.getMediationErrorCode(inMobiAdRequestStatus),
         inMobiAdRequestStatus.getMessage());
@@ -198,6 +214,7 @@ public abstract class InMobiInterstitialAd extends InterstitialAdEventListener
   public void onAdClicked(@NonNull InMobiInterstitial inMobiInterstitial,
       Map<Object, Object> clickParameters) {
     Log.d(TAG, "InMobi interstitial ad has been clicked.");
+    AdEventPipeline.getInstance().recordClick("inmobi", FORMAT_INTERSTITIAL, attribution);
     if (interstitialAdCallback != null) {
       interstitialAdCallback.reportAdClicked();
     }
@@ -206,6 +223,7 @@ public abstract class InMobiInterstitialAd extends InterstitialAdEventListener
   @Override
   public void onAdImpression(@NonNull InMobiInterstitial inMobiInterstitial) {
     Log.d(TAG, "InMobi interstitial ad has logged an impression.");
+    AdEventPipeline.getInstance().recordImpression("inmobi", FORMAT_INTERSTITIAL, attribution);
     if (interstitialAdCallback != null) {
       interstitialAdCallback.reportAdImpression();
     }
@@ -14,12 +14,17 @@
 
 package com.google.ads.mediation.inmobi.renderers;
 
+import static com.google.ads.mediation.common.AdEventPipeline.FORMAT_NATIVE;
 import static com.google.ads.mediation.inmobi.InMobiMediationAdapter.TAG;
 
 import android.content.Context;
 import android.util.Log;
 import androidx.annotation.NonNull;
 import androidx.annotation.VisibleForTesting;
+import com.google.ads.mediation.common.AdAttribution;
+import com.google.ads.mediation.common.AdEventPipeline;
+import com.google.ads.mediation.common.LoadLatencyTracker;
+import com.google.ads.mediation.inmobi.AstarInMobiUtils;
 import com.google.ads.mediation.inmobi.InMobiAdFactory;
 import com.google.ads.mediation.inmobi.InMobiAdapterUtils;
 import com.google.ads.mediation.inmobi.InMobiConstants;
@@ -43,11 +48,15 @@ public abstract class InMobiNativeAd extends NativeAdEventListener {
   protected final MediationNativeAdConfiguration mediationNativeAdConfiguration;
   protected final MediationAdLoadCallback<UnifiedNativeAdMapper, MediationNativeAdCallback>
       mediationAdLoadCallback;
+  private final LoadLatencyTracker.LoadSpan loadSpan;
   private InMobiNativeWrapper inMobiNativeWrapper;
   public MediationNativeAdCallback mediationNativeAdCallback;
   public InMobiInitializer inMobiInitializer;
   public InMobiAdFactory inMobiAdFactory;
 
+  // astar
+  private AdAttribution attribution;
+
   @VisibleForTesting
   public InMobiUnifiedNativeAdMapper inMobiUnifiedNativeAdMapper;
 
@@ -56,7 +65,8 @@ public abstract class InMobiNativeAd extends NativeAdEventListener {
       @NonNull InMobiInitializer inMobiInitializer,
       @NonNull InMobiAdFactory inMobiAdFactory) {
     this.mediationNativeAdConfiguration = mediationNativeAdConfiguration;
-    this.mediationAdLoadCallback = mediationAdLoadCallback;
+    loadSpan = LoadLatencyTracker.getInstance().startLoad("inmobi", FORMAT_NATIVE);
+    this.mediationAdLoadCallback = loadSpan.wrap(mediationAdLoadCallback);
     this.inMobiInitializer = inMobiInitializer;
     this.inMobiAdFactory =  inMobiAdFactory;
   }
@@ -67,6 +77,7 @@ public abstract class InMobiNativeAd extends NativeAdEventListener {
   public abstract void loadAd();
 
   protected void createAndLoadNativeAd(final Context context, long placementId) {
+    loadSpan.markInitComplete();
     inMobiNativeWrapper = inMobiAdFactory.createInMobiNativeWrapper
         (context, placementId, InMobiNativeAd.this);
 
@@ -88,18 +99,24 @@ public abstract class InMobiNativeAd extends NativeAdEventListener {
     });
 
     // Set the COPPA value in InMobi SDK.
-    InMobiAdapterUtils.setIsAgeRestricted();
+    InMobiAdapterUtils.applyPrivacySettings(context);
 
     InMobiAdapterUtils.configureGlobalTargeting(
         mediationNativeAdConfiguration.getMediationExtras());
+    loadSpan.markSdkRequestSent();
     internalLoadAd(inMobiNativeWrapper);
   }
 
   @Override
   public void onAdLoadSucceeded(@NonNull final InMobiNative imNativeAd,
       @NonNull AdMetaInfo adMetaInfo) {
+    loadSpan.markSdkCallback();
     Log.d(TAG, "InMobi native ad has been loaded.");
 
+	  // astar
+	  attribution = AstarInMobiUtils.getAttribution(adMetaInfo);
+	  AdEventPipeline.getInstance().recordLoad("inmobi", FORMAT_NATIVE, attribution);
+
     NativeAdOptions nativeAdOptions = mediationNativeAdConfiguration.getNativeAdOptions();
     boolean isOnlyUrl = false;
 
@@ -107,6 +124,11 @@ public abstract class InMobiNativeAd extends NativeAdEventListener {
       isOnlyUrl = nativeAdOptions.shouldReturnUrlsForImageAssets();
     }
 
+    if (inMobiUnifiedNativeAdMapper != null) {
+      // Stop downloading assets for a previously loaded ad that is being replaced.
+      inMobiUnifiedNativeAdMapper.cancelImageDownload();
+    }
+
     InMobiNativeWrapper wrappedInMobiNativeAd = inMobiAdFactory.createInMobiNativeWrapper(imNativeAd);
     inMobiUnifiedNativeAdMapper = new InMobiUnifiedNativeAdMapper(
         wrappedInMobiNativeAd, isOnlyUrl, mediationAdLoadCallback, this);
@@ -116,6 +138,7 @@ public abstract class InMobiNativeAd extends NativeAdEventListener {
   @Override
   public void onAdLoadFailed(@NonNull InMobiNative inMobiNative,
       @NonNull InMobiAdRequestStatus requestStatus) {
+    loadSpan.markSdkCallback();
     AdError error = InMobiConstants.createSdkError(
         InMobiAdapterUtils.getMediationErrorCode(requestStatus), requestStatus.getMessage());
     Log.w(TAG, error.toString());
@@ -149,6 +172,7 @@ public abstract class InMobiNativeAd extends NativeAdEventListener {
   @Override
   public void onAdClicked(@NonNull InMobiNative inMobiNative) {
     Log.d(TAG, "InMobi native ad has been clicked.");
+    AdEventPipeline.getInstance().recordClick("inmobi", FORMAT_NATIVE, attribution);
     if (mediationNativeAdCallback != null) {
       mediationNativeAdCallback.reportAdClicked();
     }
@@ -157,6 +181,7 @@ public abstract class InMobiNativeAd extends NativeAdEventListener {
   @Override
   public void onAdImpression(@NonNull InMobiNative inMobiNative) {
     Log.d(TAG, "InMobi native ad has logged an impression.");
+    AdEventPipeline.getInstance().recordImpression("inmobi", FORMAT_NATIVE, attribution);
     if (mediationNativeAdCallback != null) {
       mediationNativeAdCallback.reportAdImpression();
     }
@@ -14,6 +14,7 @@
 
 package com.google.ads.mediation.inmobi.renderers;
 
+import static com.google.ads.mediation.common.AdEventPipeline.FORMAT_REWARDED;
 import static com.google.ads.mediation.inmobi.InMobiConstants.ERROR_AD_DISPLAY_FAILED;
 import static com.google.ads.mediation.inmobi.InMobiConstants.ERROR_AD_NOT_READY;
 import static com.google.ads.mediation.inmobi.InMobiConstants.WATERMARK_ALPHA;
@@ -24,6 +25,11 @@ import android.os.Bundle;
 import android.text.TextUtils;
 import android.util.Log;
 import androidx.annotation.NonNull;
+import com.google.ads.mediation.common.AdAttribution;
+import com.google.ads.mediation.common.AdEventPipeline;
+import com.google.ads.mediation.common.LoadLatencyTracker;
+import com.google.ads.mediation.common.ServerParameterCache;
+import com.google.ads.mediation.inmobi.AstarInMobiUtils;
 import com.google.ads.mediation.inmobi.InMobiAdFactory;
 import com.google.ads.mediation.inmobi.InMobiAdapterUtils;
 import com.google.ads.mediation.inmobi.InMobiConstants;
@@ -48,16 +54,21 @@ public abstract class InMobiRewardedAd extends InterstitialAdEventListener
 
   protected final MediationAdLoadCallback<MediationRewardedAd, MediationRewardedAdCallback>
       mediationAdLoadCallback;
+  private final LoadLatencyTracker.LoadSpan loadSpan;
   protected InMobiInitializer inMobiInitializer;
   private MediationRewardedAdCallback rewardedAdCallback;
   private InMobiAdFactory inMobiAdFactory;
 
+  // astar
+  private AdAttribution attribution;
+
   public InMobiRewardedAd(
       @NonNull MediationAdLoadCallback<MediationRewardedAd,
           MediationRewardedAdCallback> mediationAdLoadCallback,
       @NonNull InMobiInitializer inMobiInitializer,
       @NonNull InMobiAdFactory inMobiAdFactory) {
-    this.mediationAdLoadCallback = mediationAdLoadCallback;
+    loadSpan = LoadLatencyTracker.getInstance().startLoad("inmobi", FORMAT_REWARDED);
+    this.mediationAdLoadCallback = loadSpan.wrap(mediationAdLoadCallback);
     this.inMobiInitializer = inMobiInitializer;
     this.inMobiAdFactory = inMobiAdFactory;
   }
@@ -93,12 +104,20 @@ public abstract class InMobiRewardedAd extends InterstitialAdEventListener
   protected void createAndLoadRewardAd(
       @NonNull Context context,
       @NonNull MediationRewardedAdConfiguration mediationRewardedAdConfiguration) {
+    loadSpan.markInitComplete();
     final Bundle serverParameters = mediationRewardedAdConfiguration.getServerParameters();
-    final long placementId = InMobiAdapterUtils.getPlacementId(serverParameters);
-    inMobiRewardedAdWrapper = inMobiAdFactory.createInMobiInterstitialWrapper(context, placementId, InMobiRewardedAd.this);
+    final ServerParameterCache.Result<Long> placementId =
+        InMobiAdapterUtils.getPlacementId(serverParameters);
+    if (!placementId.isValid()) {
+      mediationAdLoadCallback.onFailure(placementId.getError());
+      return;
+    }
+    inMobiRewardedAdWrapper =
+        inMobiAdFactory.createInMobiInterstitialWrapper(
+            context, placementId.getValue(), InMobiRewardedAd.this);
 
     // Set the COPPA value in InMobi SDK.
-    InMobiAdapterUtils.setIsAgeRestricted();
+    InMobiAdapterUtils.applyPrivacySettings(context);
 
     InMobiAdapterUtils.configureGlobalTargeting(
         mediationRewardedAdConfiguration.getMediationExtras());
@@ -108,6 +127,7 @@ public abstract class InMobiRewardedAd extends InterstitialAdEventListener
       inMobiRewardedAdWrapper.setWatermarkData(new WatermarkData(watermark, WATERMARK_ALPHA));
     }
 
+    loadSpan.markSdkRequestSent();
     internalLoadAd(inMobiRewardedAdWrapper, mediationRewardedAdConfiguration);
   }
   // endregion
@@ -164,6 +184,7 @@ public abstract class InMobiRewardedAd extends InterstitialAdEventListener
   public void onAdClicked(@NonNull InMobiInterstitial inMobiInterstitial,
       Map<Object, Object> parameters) {
     Log.d(TAG, "InMobi rewarded ad has been clicked.");
+    AdEventPipeline.getInstance().recordClick("inmobi", FORMAT_REWARDED, attribution);
     if (rewardedAdCallback != null) {
       rewardedAdCallback.reportAdClicked();
     }
@@ -172,6 +193,7 @@ public abstract class InMobiRewardedAd extends InterstitialAdEventListener
   @Override
   public void onAdImpression(@NonNull InMobiInterstitial inMobiInterstitial) {
     Log.d(TAG, "InMobi rewarded ad has logged an impression.");
+    AdEventPipeline.getInstance().recordImpression("inmobi", FORMAT_REWARDED, attribution);
     if (rewardedAdCallback != null) {
       rewardedAdCallback.reportAdImpression();
     }
@@ -197,6 +219,7 @@ public abstract class InMobiRewardedAd extends InterstitialAdEventListener
   @Override
   public void onAdLoadFailed(@NonNull InMobiInterstitial inMobiInterstitial,
       @NonNull InMobiAdRequestStatus inMobiAdRequestStatus) {
+    loadSpan.markSdkCallback();
     AdError error = InMobiConstants.createSdkError(
         InMobiAdapterUtils.getMediationErrorCode(inMobiAdRequestStatus),
         inMobiAdRequestStatus.getMessage());
@@ -209,10 +232,15 @@ public abstract class InMobiRewardedAd extends InterstitialAdEventListener
   @Override
   public void onAdLoadSucceeded(@NonNull InMobiInterstitial inMobiInterstitial,
       @NonNull AdMetaInfo adMetaInfo) {
+    loadSpan.markSdkCallback();
     Log.d(TAG, "InMobi rewarded ad has been loaded.");
     if (mediationAdLoadCallback != null) {
       rewardedAdCallback =
           mediationAdLoadCallback.onSuccess(InMobiRewardedAd.this);
     }
+
+	  // astar
+	  attribution = AstarInMobiUtils.getAttribution(adMetaInfo);
+	  AdEventPipeline.getInstance().recordLoad("inmobi", FORMAT_REWARDED, attribution);
   }
 }
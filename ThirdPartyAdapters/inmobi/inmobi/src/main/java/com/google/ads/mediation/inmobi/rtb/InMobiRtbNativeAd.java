@@ -3,6 +3,7 @@ package com.google.ads.mediation.inmobi.rtb;
 import android.content.Context;
 import android.os.Bundle;
 import androidx.annotation.NonNull;
+import com.google.ads.mediation.common.ServerParameterCache;
 import com.google.ads.mediation.inmobi.InMobiAdFactory;
 import com.google.ads.mediation.inmobi.InMobiAdapterUtils;
 import com.google.ads.mediation.inmobi.InMobiExtras;
@@ -36,9 +37,14 @@ public class InMobiRtbNativeAd extends InMobiNativeAd {
     final Context context = mediationNativeAdConfiguration.getContext();
     Bundle serverParameters = mediationNativeAdConfiguration.getServerParameters();
 
-    final long placementId = InMobiAdapterUtils.getPlacementId(serverParameters);
+    final ServerParameterCache.Result<Long> placementId =
+        InMobiAdapterUtils.getPlacementId(serverParameters);
+    if (!placementId.isValid()) {
+      mediationAdLoadCallback.onFailure(placementId.getError());
+      return;
+    }
 
-    createAndLoadNativeAd(context, placementId);
+    createAndLoadNativeAd(context, placementId.getValue());
   }
 
   @Override
@@ -7,6 +7,7 @@ import android.content.Context;
 import android.os.Bundle;
 import android.util.Log;
 import androidx.annotation.NonNull;
+import com.google.ads.mediation.common.ServerParameterCache;
 import com.google.ads.mediation.inmobi.InMobiAdFactory;
 import com.google.ads.mediation.inmobi.InMobiAdapterUtils;
 import com.google.ads.mediation.inmobi.InMobiBannerWrapper;
@@ -56,8 +57,14 @@ public class InMobiWaterfallBannerAd extends InMobiBannerAd {
 
     final Bundle serverParameters = mediationBannerAdConfiguration.getServerParameters();
     final String accountId = serverParameters.getString(InMobiAdapterUtils.KEY_ACCOUNT_ID);
-    final long placementId = InMobiAdapterUtils.getPlacementId(serverParameters);
-    AdError error = InMobiAdapterUtils.validateInMobiAdLoadParams(accountId, placementId);
+    final ServerParameterCache.Result<Long> placementId =
+        InMobiAdapterUtils.getPlacementId(serverParameters);
+    if (!placementId.isValid()) {
+      mediationAdLoadCallback.onFailure(placementId.getError());
+      return;
+    }
+    AdError error =
+        InMobiAdapterUtils.validateInMobiAdLoadParams(accountId, placementId.getValue());
     if (error != null) {
       mediationAdLoadCallback.onFailure(error);
       return;
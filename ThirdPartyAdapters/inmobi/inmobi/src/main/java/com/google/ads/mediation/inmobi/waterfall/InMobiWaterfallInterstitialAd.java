@@ -6,6 +6,7 @@ import android.content.Context;
 import android.os.Bundle;
 import android.util.Log;
 import androidx.annotation.NonNull;
+import com.google.ads.mediation.common.ServerParameterCache;
 import com.google.ads.mediation.inmobi.InMobiAdFactory;
 import com.google.ads.mediation.inmobi.InMobiAdapterUtils;
 import com.google.ads.mediation.inmobi.InMobiExtras;
@@ -40,8 +41,14 @@ public class InMobiWaterfallInterstitialAd extends InMobiInterstitialAd {
     final Bundle serverParameters = mediationInterstitialAdConfiguration.getServerParameters();
 
     final String accountID = serverParameters.getString(InMobiAdapterUtils.KEY_ACCOUNT_ID);
-    final long placementId = InMobiAdapterUtils.getPlacementId(serverParameters);
-    AdError error = InMobiAdapterUtils.validateInMobiAdLoadParams(accountID, placementId);
+    final ServerParameterCache.Result<Long> placementId =
+        InMobiAdapterUtils.getPlacementId(serverParameters);
+    if (!placementId.isValid()) {
+      mediationAdLoadCallback.onFailure(placementId.getError());
+      return;
+    }
+    AdError error =
+        InMobiAdapterUtils.validateInMobiAdLoadParams(accountID, placementId.getValue());
     if (error != null) {
       mediationAdLoadCallback.onFailure(error);
       return;
@@ -6,6 +6,7 @@ import android.content.Context;
 import android.os.Bundle;
 import android.util.Log;
 import androidx.annotation.NonNull;
+import com.google.ads.mediation.common.ServerParameterCache;
 import com.google.ads.mediation.inmobi.InMobiAdFactory;
 import com.google.ads.mediation.inmobi.InMobiAdapterUtils;
 import com.google.ads.mediation.inmobi.InMobiExtras;
@@ -41,8 +42,14 @@ public class InMobiWaterfallNativeAd extends InMobiNativeAd {
     Bundle serverParameters = mediationNativeAdConfiguration.getServerParameters();
 
     String accountID = serverParameters.getString(InMobiAdapterUtils.KEY_ACCOUNT_ID);
-    final long placementId = InMobiAdapterUtils.getPlacementId(serverParameters);
-    AdError error = InMobiAdapterUtils.validateInMobiAdLoadParams(accountID, placementId);
+    final ServerParameterCache.Result<Long> placementId =
+        InMobiAdapterUtils.getPlacementId(serverParameters);
+    if (!placementId.isValid()) {
+      mediationAdLoadCallback.onFailure(placementId.getError());
+      return;
+    }
+    AdError error =
+        InMobiAdapterUtils.validateInMobiAdLoadParams(accountID, placementId.getValue());
     if (error != null) {
       mediationAdLoadCallback.onFailure(error);
       return;
@@ -54,7 +61,7 @@ public class InMobiWaterfallNativeAd extends InMobiNativeAd {
         new InMobiInitializer.Listener() {
           @Override
           public void onInitializeSuccess() {
-            createAndLoadNativeAd(context, placementId);
+            createAndLoadNativeAd(context, placementId.getValue());
           }
 
           @Override
@@ -0,0 +1,76 @@
+package com.google.ads.mediation.inmobi;
+
+import android.content.Context;
+import android.os.Bundle;
+import com.google.ads.mediation.adapterbenchmark.FakeContext;
+import com.google.ads.mediation.adapterbenchmark.FakeSignalCallbacks;
+import com.google.ads.mediation.common.AdAttribution;
+import com.google.android.gms.ads.AdError;
+import com.google.android.gms.ads.AdSize;
+import com.google.android.gms.ads.mediation.rtb.RtbSignalData;
+import com.inmobi.ads.AdMetaInfo;
+import com.inmobi.ads.InMobiAdRequestStatus;
+import java.util.Collections;
+import java.util.Map;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/** Benchmarks of the InMobi adapter's hot paths, run by {@code InMobiBenchmarkTest}. */
+@State(Scope.Thread)
+public class InMobiBenchmark {
+
+  private Context context;
+  private InMobiMediationAdapter adapter;
+  private RtbSignalData signalData;
+  private FakeSignalCallbacks signalCallbacks;
+  private InMobiAdRequestStatus noFillStatus;
+  private AdMetaInfo adMetaInfo;
+
+  @Setup
+  public void setUp() {
+    context = new FakeContext();
+    InMobiSdkWrapper inMobiSdkWrapper = new FakeInMobiSdkWrapper();
+    adapter =
+        new InMobiMediationAdapter(
+            new InMobiInitializer(inMobiSdkWrapper), new InMobiAdFactory(), inMobiSdkWrapper);
+
+    signalData =
+        new RtbSignalData(context, Collections.emptyList(), new Bundle(), AdSize.BANNER);
+    signalCallbacks = new FakeSignalCallbacks();
+
+    noFillStatus = new InMobiAdRequestStatus(InMobiAdRequestStatus.StatusCode.NO_FILL);
+    adMetaInfo = new AdMetaInfo("creative", null);
+  }
+
+  @Benchmark
+  public void collectSignals() {
+    adapter.collectSignals(signalData, signalCallbacks);
+  }
+
+  @Benchmark
+  public AdSize findClosestBannerSize() {
+    return InMobiAdapterUtils.findClosestBannerSize(context, AdSize.MEDIUM_RECTANGLE);
+  }
+
+  @Benchmark
+  public AdError translateSdkError() {
+    return InMobiConstants.createSdkError(
+        InMobiAdapterUtils.getMediationErrorCode(noFillStatus), noFillStatus.getMessage());
+  }
+
+  @Benchmark
+  public AdAttribution extractAttribution() {
+    return AstarInMobiUtils.getAttribution(adMetaInfo);
+  }
+
+  /** Returns a bid token right away instead of asking the InMobi SDK. */
+  private static class FakeInMobiSdkWrapper extends InMobiSdkWrapper {
+
+    @Override
+    public String getToken(Map<String, String> extras, String keywords) {
+      return "token";
+    }
+  }
+}
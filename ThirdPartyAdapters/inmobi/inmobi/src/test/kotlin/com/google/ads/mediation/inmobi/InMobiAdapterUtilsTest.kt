@@ -1,7 +1,10 @@
 package com.google.ads.mediation.inmobi
 
+import android.content.Context
 import android.os.Bundle
+import androidx.test.core.app.ApplicationProvider
 import androidx.test.ext.junit.runners.AndroidJUnit4
+import com.google.ads.mediation.common.PrivacySnapshotService
 import com.google.android.gms.ads.MobileAds
 import com.google.android.gms.ads.RequestConfiguration
 import com.google.common.truth.Truth.assertThat
@@ -19,6 +22,7 @@ import org.mockito.kotlin.whenever
 @RunWith(AndroidJUnit4::class)
 class InMobiAdapterUtilsTest {
 
+  private val context = ApplicationProvider.getApplicationContext<Context>()
   private val inMobiNativeWrapper = mock<InMobiNativeWrapper>()
 
   private lateinit var serverParameters: Bundle
@@ -31,28 +35,34 @@ class InMobiAdapterUtilsTest {
   }
 
   @Test
-  fun getPlacementID_missingPlacementID_returnsZero() {
+  fun getPlacementID_missingPlacementID_returnsError() {
     serverParameters.remove(InMobiAdapterUtils.KEY_PLACEMENT_ID)
 
     val placementID = InMobiAdapterUtils.getPlacementId(serverParameters)
 
-    assertThat(placementID).isEqualTo(0L)
+    assertThat(placementID.isValid).isFalse()
+    assertThat(placementID.error?.code)
+      .isEqualTo(InMobiConstants.ERROR_INVALID_SERVER_PARAMETERS)
+    assertThat(placementID.error?.message).isEqualTo("Missing or invalid Placement ID.")
   }
 
   @Test
-  fun getPlacementID_invalidPlacementID_returnsZero() {
+  fun getPlacementID_invalidPlacementID_returnsError() {
     serverParameters.putString(InMobiAdapterUtils.KEY_PLACEMENT_ID, "inmobi")
 
     val placementID = InMobiAdapterUtils.getPlacementId(serverParameters)
 
-    assertThat(placementID).isEqualTo(0L)
+    assertThat(placementID.isValid).isFalse()
+    assertThat(placementID.error?.code)
+      .isEqualTo(InMobiConstants.ERROR_INVALID_SERVER_PARAMETERS)
+    assertThat(placementID.error?.message).isEqualTo("Invalid Placement ID.")
   }
 
   @Test
   fun getPlacementID_validPlacementID_returnsPlacementId() {
     val placementID = InMobiAdapterUtils.getPlacementId(serverParameters)
 
-    assertThat(placementID).isEqualTo(67890L)
+    assertThat(placementID.value).isEqualTo(67890L)
   }
 
   @Test
@@ -120,6 +130,26 @@ class InMobiAdapterUtilsTest {
     verify(inMobiSdkWrapper, never()).setIsAgeRestricted(any())
   }
 
+  @Test
+  fun applyPrivacySettings_unchangedConsentAcrossLoads_forwardsToInMobiSdkOnce() {
+    PrivacySnapshotService.getInstance().reset()
+    val inMobiSdkWrapper = mock<InMobiSdkWrapper>()
+    context
+      .getSharedPreferences("NonNullPackage", Context.MODE_PRIVATE)
+      .edit()
+      .putString(InMobiNetworkKeys.IAB_US_PRIVACY_STRING, "1YNN")
+      .commit()
+    setCOPPAAndUnderAgeOnMobileAdsRequestConfiguration(
+      RequestConfiguration.TAG_FOR_CHILD_DIRECTED_TREATMENT_TRUE,
+      RequestConfiguration.TAG_FOR_UNDER_AGE_OF_CONSENT_UNSPECIFIED,
+    )
+
+    repeat(5) { InMobiAdapterUtils.applyPrivacySettings(context, inMobiSdkWrapper) }
+
+    verify(inMobiSdkWrapper).setIsAgeRestricted(true)
+    verify(inMobiSdkWrapper).setUSPrivacyString("1YNN")
+  }
+
   @Test
   fun getAgeGroup_returnsCorrectAgeGroup() {
     invokeAndAssertGetAgeGroup(
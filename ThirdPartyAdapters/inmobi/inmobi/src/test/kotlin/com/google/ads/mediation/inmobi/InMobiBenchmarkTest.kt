@@ -0,0 +1,13 @@
+package com.google.ads.mediation.inmobi
+
+import com.google.ads.mediation.adapterbenchmark.AdapterBenchmarkRunner
+import org.junit.Test
+
+/** Runs [InMobiBenchmark] when benchmarks are enabled. See [AdapterBenchmarkRunner]. */
+class InMobiBenchmarkTest {
+
+  @Test
+  fun runBenchmarks() {
+    AdapterBenchmarkRunner.run(InMobiBenchmark::class.java)
+  }
+}
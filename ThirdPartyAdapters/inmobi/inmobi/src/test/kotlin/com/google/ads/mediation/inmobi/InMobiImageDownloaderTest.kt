@@ -0,0 +1,114 @@
+package com.google.ads.mediation.inmobi
+
+import android.graphics.Bitmap
+import android.graphics.drawable.BitmapDrawable
+import android.graphics.drawable.Drawable
+import android.os.Looper
+import androidx.test.ext.junit.runners.AndroidJUnit4
+import com.google.ads.mediation.inmobi.InMobiImageDownloader.DrawableDownloadListener
+import com.google.common.truth.Truth.assertThat
+import java.net.URL
+import java.util.concurrent.Executor
+import org.junit.Test
+import org.junit.runner.RunWith
+import org.mockito.kotlin.any
+import org.mockito.kotlin.argumentCaptor
+import org.mockito.kotlin.mock
+import org.mockito.kotlin.never
+import org.mockito.kotlin.times
+import org.mockito.kotlin.verify
+import org.robolectric.Shadows.shadowOf
+
+@RunWith(AndroidJUnit4::class)
+class InMobiImageDownloaderTest {
+
+  private val drawableDownloadListener = mock<DrawableDownloadListener>()
+  // An executor that never runs the fetch, so that downloads only complete from the cache or time
+  // out.
+  private val executor = mock<Executor>()
+  private val imageDownloader = InMobiImageDownloader(drawableDownloadListener, 0, executor)
+
+  @Test
+  fun onIconKeyFoundInCache_invokesOnDownloadSuccessCallback() {
+    // pre-populate the cache
+    imageDownloader.memoryCache.put(CACHED_URL, createBitmap())
+
+    imageDownloader.download(urlMap(CACHED_URL))
+    shadowOf(Looper.getMainLooper()).idle()
+
+    verify(drawableDownloadListener).onDownloadSuccess(any())
+    verify(executor, never()).execute(any())
+  }
+
+  @Test
+  fun download_cachedIconForTwoAds_givesEachAdItsOwnDrawable() {
+    val bitmap = createBitmap()
+    imageDownloader.memoryCache.put(CACHED_URL, bitmap)
+    val otherListener = mock<DrawableDownloadListener>()
+    val otherImageDownloader = InMobiImageDownloader(otherListener, 10, executor)
+
+    imageDownloader.download(urlMap(CACHED_URL))
+    otherImageDownloader.download(urlMap(CACHED_URL))
+    shadowOf(Looper.getMainLooper()).idle()
+
+    val drawableMapCaptor = argumentCaptor<HashMap<String, Drawable>>()
+    verify(drawableDownloadListener).onDownloadSuccess(drawableMapCaptor.capture())
+    verify(otherListener).onDownloadSuccess(drawableMapCaptor.capture())
+    val drawable = drawableMapCaptor.firstValue[InMobiImageDownloader.KEY_ICON] as BitmapDrawable
+    val otherDrawable =
+      drawableMapCaptor.secondValue[InMobiImageDownloader.KEY_ICON] as BitmapDrawable
+    assertThat(drawable).isNotSameInstanceAs(otherDrawable)
+    assertThat(drawable.bitmap).isSameInstanceAs(bitmap)
+    assertThat(otherDrawable.bitmap).isSameInstanceAs(bitmap)
+    imageDownloader.memoryCache.clear()
+  }
+
+  @Test
+  fun onIconKeyNotFound_downloadTimedOut_invokesOnDownloadFailureCallback() {
+    // on empty cache...
+    imageDownloader.memoryCache.clear()
+
+    // and download is started
+    imageDownloader.download(urlMap(TIMEOUT_URL))
+    shadowOf(Looper.getMainLooper()).idle()
+
+    // ...download timed out because of '0' timeout seconds
+    verify(drawableDownloadListener).onDownloadFailure()
+  }
+
+  @Test
+  fun download_sameUrlRequestedConcurrently_fetchesOnlyOnce() {
+    val otherListener = mock<DrawableDownloadListener>()
+    val otherImageDownloader = InMobiImageDownloader(otherListener, 10, executor)
+
+    imageDownloader.download(urlMap(SHARED_URL))
+    otherImageDownloader.download(urlMap(SHARED_URL))
+
+    verify(executor, times(1)).execute(any())
+    imageDownloader.cancel()
+    otherImageDownloader.cancel()
+  }
+
+  @Test
+  fun cancel_doesNotInvokeListener() {
+    val imageDownloader = InMobiImageDownloader(drawableDownloadListener, 10, executor)
+
+    imageDownloader.download(urlMap(CANCELLED_URL))
+    imageDownloader.cancel()
+    shadowOf(Looper.getMainLooper()).idle()
+
+    verify(drawableDownloadListener, never()).onDownloadSuccess(any())
+    verify(drawableDownloadListener, never()).onDownloadFailure()
+  }
+
+  companion object {
+    private const val CACHED_URL = "http://www.google.com"
+    private const val TIMEOUT_URL = "http://www.google.com/timeout"
+    private const val SHARED_URL = "http://www.google.com/shared"
+    private const val CANCELLED_URL = "http://www.google.com/cancelled"
+
+    private fun createBitmap() = Bitmap.createBitmap(10, 10, Bitmap.Config.ALPHA_8)
+
+    private fun urlMap(url: String) = hashMapOf(InMobiImageDownloader.KEY_ICON to URL(url))
+  }
+}
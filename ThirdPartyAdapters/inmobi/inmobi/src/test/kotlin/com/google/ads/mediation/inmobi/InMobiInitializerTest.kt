@@ -10,6 +10,9 @@ import com.google.ads.mediation.inmobi.InMobiInitializer.UNINITIALIZED
 import com.google.android.gms.ads.AdError
 import com.google.common.truth.Truth.assertThat
 import java.lang.Error
+import java.util.concurrent.CountDownLatch
+import java.util.concurrent.Executors
+import java.util.concurrent.TimeUnit
 import org.junit.Before
 import org.junit.Test
 import org.junit.runner.RunWith
@@ -73,7 +76,7 @@ class InMobiInitializerTest {
 
     // init() method is only invoked once on the InMobiSdkWrapper ie during the first call
     verify(inMobiSdkWrapper, times(1)).init(eq(context), eq(accountId), any(), any())
-    assertThat(inMobiInitializer.listeners).contains(initializationListener)
+    assertThat(inMobiInitializer.initializationStatus).isEqualTo(INITIALIZING)
   }
 
   @Test
@@ -130,6 +133,41 @@ class InMobiInitializerTest {
     assertThat(captor.firstValue.code).isEqualTo(ERROR_INMOBI_FAILED_INITIALIZATION)
   }
 
+  @Test
+  fun init_afterInitializationFailed_invokesInMobiSdkInitAgain() {
+    inMobiInitializer.init(context, accountId, initializationListener)
+    inMobiInitializer.onInitializationComplete(Error())
+
+    inMobiInitializer.init(context, accountId, initializationListener)
+
+    verify(inMobiSdkWrapper, times(2)).init(eq(context), eq(accountId), any(), any())
+    assertThat(inMobiInitializer.initializationStatus).isEqualTo(INITIALIZING)
+  }
+
+  @Test
+  fun init_calledConcurrently_invokesInMobiSdkInitOnceAndNotifiesAllListeners() {
+    val listenerCount = 16
+    val listeners = List(listenerCount) { mock<InMobiInitializer.Listener>() }
+    val startLatch = CountDownLatch(1)
+    val executor = Executors.newFixedThreadPool(4)
+
+    for (listener in listeners) {
+      executor.execute {
+        startLatch.await()
+        inMobiInitializer.init(context, accountId, listener)
+      }
+    }
+    startLatch.countDown()
+    executor.shutdown()
+    executor.awaitTermination(5, TimeUnit.SECONDS)
+    inMobiInitializer.onInitializationComplete(null)
+
+    verify(inMobiSdkWrapper, times(1)).init(eq(context), eq(accountId), any(), any())
+    for (listener in listeners) {
+      verify(listener).onInitializeSuccess()
+    }
+  }
+
   companion object {
     private const val accountId = "12345"
   }
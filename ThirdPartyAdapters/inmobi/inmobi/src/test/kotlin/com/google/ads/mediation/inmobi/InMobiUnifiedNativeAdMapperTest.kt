@@ -0,0 +1,83 @@
+package com.google.ads.mediation.inmobi
+
+import android.content.Context
+import android.os.Looper
+import androidx.test.core.app.ApplicationProvider
+import androidx.test.ext.junit.runners.AndroidJUnit4
+import com.google.ads.mediation.inmobi.renderers.InMobiNativeAd
+import com.google.android.gms.ads.AdError
+import com.google.android.gms.ads.mediation.MediationAdLoadCallback
+import com.google.android.gms.ads.mediation.MediationNativeAdCallback
+import com.google.android.gms.ads.mediation.UnifiedNativeAdMapper
+import com.google.common.truth.Truth.assertThat
+import java.time.Duration
+import java.util.concurrent.Executor
+import java.util.concurrent.FutureTask
+import org.junit.Test
+import org.junit.runner.RunWith
+import org.mockito.kotlin.any
+import org.mockito.kotlin.argumentCaptor
+import org.mockito.kotlin.doReturn
+import org.mockito.kotlin.mock
+import org.mockito.kotlin.never
+import org.mockito.kotlin.verify
+import org.robolectric.Shadows.shadowOf
+
+@RunWith(AndroidJUnit4::class)
+class InMobiUnifiedNativeAdMapperTest {
+
+  private val context = ApplicationProvider.getApplicationContext<Context>()
+  private val mediationAdLoadCallback =
+    mock<MediationAdLoadCallback<UnifiedNativeAdMapper, MediationNativeAdCallback>>()
+  // An executor that never runs the fetch, so that it stays pending until it is cancelled.
+  private val executor = mock<Executor>()
+
+  @Test
+  fun destroy_cancelsImageFetch() {
+    val mapper = createMapper(DESTROYED_ICON_URL)
+    mapper.mapUnifiedNativeAd(context)
+    val fetch = captureFetch()
+
+    mapper.destroy()
+    shadowOf(Looper.getMainLooper()).idle()
+
+    assertThat(fetch.isCancelled).isTrue()
+    verify(mediationAdLoadCallback, never()).onFailure(any<AdError>())
+  }
+
+  @Test
+  fun imageDownloadTimedOut_cancelsImageFetchAndInvokesOnFailure() {
+    val mapper = createMapper(TIMED_OUT_ICON_URL)
+    mapper.mapUnifiedNativeAd(context)
+    val fetch = captureFetch()
+
+    shadowOf(Looper.getMainLooper()).idleFor(Duration.ofSeconds(TIMEOUT_SECONDS))
+
+    assertThat(fetch.isCancelled).isTrue()
+    verify(mediationAdLoadCallback).onFailure(any<AdError>())
+  }
+
+  private fun createMapper(iconUrl: String): InMobiUnifiedNativeAdMapper {
+    val inMobiNativeWrapper = mock<InMobiNativeWrapper> { on { adIconUrl } doReturn iconUrl }
+    return InMobiUnifiedNativeAdMapper(
+        inMobiNativeWrapper,
+        /* isOnlyURL= */ false,
+        mediationAdLoadCallback,
+        mock<InMobiNativeAd>(),
+      )
+      .apply { imageDownloadExecutor = executor }
+  }
+
+  private fun captureFetch(): FutureTask<*> {
+    val fetchCaptor = argumentCaptor<Runnable>()
+    verify(executor).execute(fetchCaptor.capture())
+    return fetchCaptor.firstValue as FutureTask<*>
+  }
+
+  private companion object {
+    // Each test uses its own URL, so that it doesn't share an in-flight fetch with another test.
+    const val DESTROYED_ICON_URL = "http://www.example.com/destroyed.png"
+    const val TIMED_OUT_ICON_URL = "http://www.example.com/timed_out.png"
+    const val TIMEOUT_SECONDS = 10L
+  }
+}
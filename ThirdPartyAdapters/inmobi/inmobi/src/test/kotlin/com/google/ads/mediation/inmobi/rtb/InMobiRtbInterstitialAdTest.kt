@@ -91,6 +91,21 @@ class InMobiRtbInterstitialAdTest {
     verify(inMobiInterstitialWrapper, never()).show()
   }
 
+  @Test
+  fun loadAd_invalidPlacementId_invokesOnFailureWithoutLoading() {
+    whenever(interstitialAdConfiguration.serverParameters) doReturn
+      bundleOf(KEY_PLACEMENT_ID to "inmobi")
+
+    rtbInterstitialAd.loadAd(interstitialAdConfiguration)
+
+    val captor = argumentCaptor<AdError>()
+    verify(mediationAdLoadCallback).onFailure(captor.capture())
+    assertThat(captor.firstValue.code)
+      .isEqualTo(InMobiConstants.ERROR_INVALID_SERVER_PARAMETERS)
+    assertThat(captor.firstValue.message).isEqualTo("Invalid Placement ID.")
+    verify(inMobiAdFactory, never()).createInMobiInterstitialWrapper(any(), any(), any())
+  }
+
   @Test
   fun onUserLeftApplication_invokesOnAdLeftApplicationCallback() {
     // mimic an ad load
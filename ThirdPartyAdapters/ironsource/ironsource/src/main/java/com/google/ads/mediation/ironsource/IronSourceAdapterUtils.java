@@ -24,14 +24,16 @@ import android.content.Context;
 import android.text.TextUtils;
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
+import com.google.ads.mediation.common.AdAttribution;
+import com.google.ads.mediation.common.AttributionExtractor;
+import com.google.ads.mediation.common.BannerSizeCache;
+import com.google.ads.mediation.common.SlotReservations;
 import com.google.android.gms.ads.AdError;
 import com.google.android.gms.ads.AdSize;
-import com.google.android.gms.ads.MediationUtils;
 import com.google.android.gms.ads.MobileAds;
 import com.ironsource.mediationsdk.ISBannerSize;
+import com.unity3d.ironsourceads.AdInfo;
 import java.lang.ref.WeakReference;
-import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.concurrent.ConcurrentHashMap;
 
 /**
@@ -40,15 +42,19 @@ import java.util.concurrent.ConcurrentHashMap;
  */
 public class IronSourceAdapterUtils {
 
+  /** Banner sizes supported by IronSource demand-only banners. */
+  private static final BannerSizeCache<AdSize> BANNER_SIZES =
+      BannerSizeCache.forCandidates(AdSize.BANNER, AdSize.MEDIUM_RECTANGLE, AdSize.LARGE_BANNER);
+
+  /** Banner sizes supported by IronSource bidding banners. */
+  private static final BannerSizeCache<AdSize> RTB_BANNER_SIZES =
+      BannerSizeCache.forCandidates(
+          AdSize.BANNER, AdSize.MEDIUM_RECTANGLE, AdSize.LARGE_BANNER, AdSize.LEADERBOARD);
+
   @Nullable
   public static ISBannerSize getISBannerSizeFromGoogleAdSize(
       @NonNull Context context, @NonNull AdSize adSize) {
-    ArrayList<AdSize> potentials = new ArrayList<>();
-    potentials.add(AdSize.BANNER);
-    potentials.add(AdSize.MEDIUM_RECTANGLE);
-    potentials.add(AdSize.LARGE_BANNER);
-
-    AdSize closestSize = MediationUtils.findClosestSize(context, adSize, potentials);
+    AdSize closestSize = BANNER_SIZES.get(context, adSize);
     if (closestSize == null) {
       return null;
     }
@@ -69,12 +75,7 @@ public class IronSourceAdapterUtils {
   @NonNull
   public static com.unity3d.ironsourceads.AdSize getAdSizeFromGoogleAdSize(
       @NonNull Context context, @NonNull AdSize adSize) {
-    ArrayList<AdSize> potentials =
-        new ArrayList<>(
-            Arrays.asList(
-                AdSize.BANNER, AdSize.MEDIUM_RECTANGLE, AdSize.LARGE_BANNER, AdSize.LEADERBOARD));
-
-    AdSize closestSize = MediationUtils.findClosestSize(context, adSize, potentials);
+    AdSize closestSize = RTB_BANNER_SIZES.get(context, adSize);
     if (closestSize == null) {
       return com.unity3d.ironsourceads.AdSize.banner();
     }
@@ -129,8 +130,24 @@ public class IronSourceAdapterUtils {
   public static <T> boolean canLoadIronSourceAdInstance(
       @NonNull String instanceId,
       @NonNull ConcurrentHashMap<String, WeakReference<T>> instanceMap) {
-    WeakReference<T> adRef = instanceMap.get(instanceId);
-    return adRef == null || adRef.get() == null;
+    return !SlotReservations.isReserved(instanceMap, instanceId);
+  }
+
+  // astar
+  /** Fills an attribution from the info of a loaded ironSource ad. */
+  public static final AttributionExtractor<AdInfo> ATTRIBUTION_EXTRACTOR =
+      new AttributionExtractor<AdInfo>() {
+        @Override
+        public void extract(@NonNull AdInfo adInfo, @NonNull AdAttribution attribution) {
+          attribution.setCreativeId(adInfo.getAdId());
+        }
+      };
+
+  // astar
+  /** Returns the attribution of a loaded ironSource ad, or null if the SDK doesn't expose any. */
+  @Nullable
+  public static AdAttribution getAttribution(@Nullable AdInfo adInfo) {
+    return adInfo != null ? AdAttribution.of(adInfo, ATTRIBUTION_EXTRACTOR) : null;
   }
 
   public static String getAdapterVersion() {
@@ -29,6 +29,7 @@ import android.view.View;
 import android.widget.FrameLayout;
 import androidx.annotation.NonNull;
 import androidx.annotation.VisibleForTesting;
+import com.google.ads.mediation.common.SlotReservations;
 import com.google.android.gms.ads.AdError;
 import com.google.android.gms.ads.AdSize;
 import com.google.android.gms.ads.mediation.MediationAdLoadCallback;
@@ -126,7 +127,6 @@ public class IronSourceBannerAd implements MediationBannerAd {
     Context context = adConfiguration.getContext();
 
     Activity activity = (Activity) context;
-    availableBannerInstances.put(instanceID, new WeakReference<>(this));
     ironSourceAdView = new FrameLayout(context);
     ironSourceBannerLayout = IronSource.createBannerForDemandOnly(activity, bannerSizeIronSource);
     ironSourceBannerLayout.setBannerDemandOnlyListener(ironSourceBannerListener);
@@ -147,17 +147,6 @@ public class IronSourceBannerAd implements MediationBannerAd {
       return false;
     }
 
-    // Check that an Ad for this instance ID is not already loading.
-    if (!IronSourceAdapterUtils.canLoadIronSourceAdInstance(instanceID, availableBannerInstances)) {
-      AdError adError =
-          new AdError(
-              ERROR_AD_ALREADY_LOADED,
-              "An IronSource banner is already loaded for instance ID: " + instanceID,
-              ADAPTER_ERROR_DOMAIN);
-      onAdFailedToLoad(adError);
-      return false;
-    }
-
     AdSize adSize = adConfiguration.getAdSize();
     bannerSizeIronSource = IronSourceAdapterUtils.getISBannerSizeFromGoogleAdSize(context, adSize);
     if (bannerSizeIronSource == null) {
@@ -170,6 +159,17 @@ public class IronSourceBannerAd implements MediationBannerAd {
       return false;
     }
 
+    // Reserve the instance ID so that no other ad can load for it at the same time.
+    if (!SlotReservations.tryReserve(availableBannerInstances, instanceID, this)) {
+      AdError adError =
+          new AdError(
+              ERROR_AD_ALREADY_LOADED,
+              "An IronSource banner is already loaded for instance ID: " + instanceID,
+              ADAPTER_ERROR_DOMAIN);
+      onAdFailedToLoad(adError);
+      return false;
+    }
+
     return true;
   }
 
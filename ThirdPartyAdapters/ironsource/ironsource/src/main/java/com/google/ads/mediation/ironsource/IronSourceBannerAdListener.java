@@ -19,8 +19,8 @@ import static com.google.ads.mediation.ironsource.IronSourceMediationAdapter.IRO
 import static com.ironsource.mediationsdk.logger.IronSourceError.ERROR_DO_BN_LOAD_ALREADY_IN_PROGRESS;
 import static com.ironsource.mediationsdk.logger.IronSourceError.ERROR_DO_IS_LOAD_ALREADY_IN_PROGRESS;
 
-import android.util.Log;
 import androidx.annotation.NonNull;
+import com.google.ads.mediation.common.AdapterLogger;
 import com.google.android.gms.ads.AdError;
 import com.google.android.gms.ads.mediation.MediationAdLoadCallback;
 import com.google.android.gms.ads.mediation.MediationBannerAdCallback;
@@ -29,8 +29,10 @@ import com.ironsource.mediationsdk.logger.IronSourceError;
 
 public class IronSourceBannerAdListener implements ISDemandOnlyBannerListener {
 
+  private static final AdapterLogger logger = AdapterLogger.getLogger(TAG);
+
   public void onBannerAdLoaded(@NonNull String instanceId) {
-    Log.d(TAG, String.format("IronSource banner ad loaded for instance ID: %s", instanceId));
+    logger.d("IronSource banner ad loaded for instance ID: %s", instanceId);
     IronSourceBannerAd ironSourceBannerAd =
         IronSourceBannerAd.getFromAvailableInstances(instanceId);
 
@@ -55,7 +57,7 @@ public class IronSourceBannerAdListener implements ISDemandOnlyBannerListener {
             ironSourceError.getErrorCode(),
             ironSourceError.getErrorMessage(),
             IRONSOURCE_SDK_ERROR_DOMAIN);
-    Log.w(TAG, loadError.toString());
+    logger.w(loadError.toString());
     IronSourceBannerAd ironSourceBannerAd =
         IronSourceBannerAd.getFromAvailableInstances(instanceId);
 
@@ -77,7 +79,7 @@ public class IronSourceBannerAdListener implements ISDemandOnlyBannerListener {
   }
 
   public void onBannerAdShown(@NonNull String instanceId) {
-    Log.d(TAG, String.format("IronSource banner ad shown for instance ID: %s", instanceId));
+    logger.d("IronSource banner ad shown for instance ID: %s", instanceId);
     IronSourceBannerAd ironSourceBannerAd =
         IronSourceBannerAd.getFromAvailableInstances(instanceId);
     // The banner ad instance will be null if it fails to load or another banner ad is showing.
@@ -92,7 +94,7 @@ public class IronSourceBannerAdListener implements ISDemandOnlyBannerListener {
   }
 
   public void onBannerAdClicked(@NonNull String instanceId) {
-    Log.d(TAG, String.format("IronSource banner ad clicked for instance ID: %s", instanceId));
+    logger.d("IronSource banner ad clicked for instance ID: %s", instanceId);
     IronSourceBannerAd ironSourceBannerAd =
         IronSourceBannerAd.getFromAvailableInstances(instanceId);
 
@@ -106,11 +108,9 @@ public class IronSourceBannerAdListener implements ISDemandOnlyBannerListener {
   }
 
   public void onBannerAdLeftApplication(@NonNull String instanceId) {
-    Log.d(
-        TAG,
-        String.format(
-            "IronSource banner ad has caused user to leave the application for instance ID: %s",
-            instanceId));
+    logger.d(
+        "IronSource banner ad has caused user to leave the application for instance ID: %s",
+        instanceId);
     IronSourceBannerAd ironSourceBannerAd =
         IronSourceBannerAd.getFromAvailableInstances(instanceId);
 
@@ -26,6 +26,7 @@ import android.os.Bundle;
 import android.util.Log;
 import androidx.annotation.NonNull;
 import androidx.annotation.VisibleForTesting;
+import com.google.ads.mediation.common.SlotReservations;
 import com.google.android.gms.ads.AdError;
 import com.google.android.gms.ads.mediation.MediationAdLoadCallback;
 import com.google.android.gms.ads.mediation.MediationInterstitialAd;
@@ -106,7 +107,6 @@ public class IronSourceInterstitialAd implements MediationInterstitialAd {
       return false;
     }
 
-    availableInterstitialInstances.put(instanceID, new WeakReference<>(this));
     Log.d(
         TAG, String.format("Loading IronSource interstitial ad with instance ID: %s", instanceID));
     return true;
@@ -119,9 +119,8 @@ public class IronSourceInterstitialAd implements MediationInterstitialAd {
       return false;
     }
 
-    // Check that an Ad for this instance ID is not already loading.
-    if (!IronSourceAdapterUtils.canLoadIronSourceAdInstance(
-        instanceID, availableInterstitialInstances)) {
+    // Reserve the instance ID so that no other ad can load for it at the same time.
+    if (!SlotReservations.tryReserve(availableInterstitialInstances, instanceID, this)) {
       String errorMessage =
           String.format(
               "An IronSource interstitial ad is already loading for instance ID: %s", instanceID);
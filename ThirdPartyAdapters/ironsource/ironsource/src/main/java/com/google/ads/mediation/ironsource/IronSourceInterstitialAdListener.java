@@ -17,8 +17,8 @@ package com.google.ads.mediation.ironsource;
 import static com.google.ads.mediation.ironsource.IronSourceConstants.TAG;
 import static com.google.ads.mediation.ironsource.IronSourceMediationAdapter.IRONSOURCE_SDK_ERROR_DOMAIN;
 
-import android.util.Log;
 import androidx.annotation.NonNull;
+import com.google.ads.mediation.common.AdapterLogger;
 import com.google.android.gms.ads.AdError;
 import com.google.android.gms.ads.mediation.MediationInterstitialAdCallback;
 import com.ironsource.mediationsdk.demandOnly.ISDemandOnlyInterstitialListener;
@@ -26,10 +26,11 @@ import com.ironsource.mediationsdk.logger.IronSourceError;
 
 public class IronSourceInterstitialAdListener implements ISDemandOnlyInterstitialListener {
 
+  private static final AdapterLogger logger = AdapterLogger.getLogger(TAG);
+
   @Override
   public void onInterstitialAdReady(@NonNull String instanceId) {
-    Log.d(
-        TAG, String.format("IronSource interstitial ad is ready for instance ID: %s", instanceId));
+    logger.d("IronSource interstitial ad is ready for instance ID: %s", instanceId);
     IronSourceInterstitialAd ironSourceInterstitialAd =
         IronSourceInterstitialAd.getFromAvailableInstances(instanceId);
 
@@ -51,7 +52,7 @@ public class IronSourceInterstitialAdListener implements ISDemandOnlyInterstitia
             ironSourceError.getErrorCode(),
             ironSourceError.getErrorMessage(),
             IRONSOURCE_SDK_ERROR_DOMAIN);
-    Log.w(TAG, loadError.toString());
+    logger.w(loadError.toString());
     IronSourceInterstitialAd ironSourceInterstitialAd =
         IronSourceInterstitialAd.getFromAvailableInstances(instanceId);
 
@@ -66,7 +67,7 @@ public class IronSourceInterstitialAdListener implements ISDemandOnlyInterstitia
 
   @Override
   public void onInterstitialAdOpened(@NonNull String instanceId) {
-    Log.d(TAG, String.format("IronSource interstitial ad opened for instance ID: %s", instanceId));
+    logger.d("IronSource interstitial ad opened for instance ID: %s", instanceId);
     IronSourceInterstitialAd ironSourceInterstitialAd =
         IronSourceInterstitialAd.getFromAvailableInstances(instanceId);
 
@@ -82,7 +83,7 @@ public class IronSourceInterstitialAdListener implements ISDemandOnlyInterstitia
 
   @Override
   public void onInterstitialAdClosed(@NonNull String instanceId) {
-    Log.d(TAG, String.format("IronSource interstitial ad closed for instance ID: %s", instanceId));
+    logger.d("IronSource interstitial ad closed for instance ID: %s", instanceId);
     IronSourceInterstitialAd ironSourceInterstitialAd =
         IronSourceInterstitialAd.getFromAvailableInstances(instanceId);
 
@@ -105,7 +106,7 @@ public class IronSourceInterstitialAdListener implements ISDemandOnlyInterstitia
             ironSourceError.getErrorCode(),
             ironSourceError.getErrorMessage(),
             IRONSOURCE_SDK_ERROR_DOMAIN);
-    Log.w(TAG, showError.toString());
+    logger.w(showError.toString());
     IronSourceInterstitialAd ironSourceInterstitialAd =
         IronSourceInterstitialAd.getFromAvailableInstances(instanceId);
 
@@ -122,7 +123,7 @@ public class IronSourceInterstitialAdListener implements ISDemandOnlyInterstitia
 
   @Override
   public void onInterstitialAdClicked(@NonNull String instanceId) {
-    Log.d(TAG, String.format("IronSource interstitial ad clicked for instance ID: %s", instanceId));
+    logger.d("IronSource interstitial ad clicked for instance ID: %s", instanceId);
     IronSourceInterstitialAd ironSourceInterstitialAd =
         IronSourceInterstitialAd.getFromAvailableInstances(instanceId);
 
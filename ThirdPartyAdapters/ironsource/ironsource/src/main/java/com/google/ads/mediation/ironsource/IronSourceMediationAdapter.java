@@ -29,6 +29,7 @@ import android.util.Log;
 import androidx.annotation.IntDef;
 import androidx.annotation.NonNull;
 import androidx.annotation.VisibleForTesting;
+import com.google.ads.mediation.common.AdapterStartupCoordinator;
 import com.google.android.gms.ads.AdError;
 import com.google.android.gms.ads.MobileAds;
 import com.google.android.gms.ads.RequestConfiguration;
@@ -159,6 +160,22 @@ public class IronSourceMediationAdapter extends RtbAdapter {
 
   @Override
   public void initialize(
+      @NonNull Context context,
+      @NonNull InitializationCompleteCallback initializationCompleteCallback,
+      @NonNull List<MediationConfiguration> mediationConfigurations) {
+    AdapterStartupCoordinator.getInstance()
+        .initialize(
+            IronSourceMediationAdapter.class.getName(),
+            initializationCompleteCallback,
+            new AdapterStartupCoordinator.StartupTask() {
+              @Override
+              public void start(@NonNull InitializationCompleteCallback callback) {
+                initializeSdk(context, callback, mediationConfigurations);
+              }
+            });
+  }
+
+  private void initializeSdk(
       @NonNull Context context,
       @NonNull final InitializationCompleteCallback initializationCompleteCallback,
       @NonNull List<MediationConfiguration> mediationConfigurations) {
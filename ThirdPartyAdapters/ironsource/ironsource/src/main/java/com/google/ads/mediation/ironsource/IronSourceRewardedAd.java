@@ -26,6 +26,7 @@ import android.os.Bundle;
 import android.util.Log;
 import androidx.annotation.NonNull;
 import androidx.annotation.VisibleForTesting;
+import com.google.ads.mediation.common.SlotReservations;
 import com.google.android.gms.ads.AdError;
 import com.google.android.gms.ads.mediation.MediationAdLoadCallback;
 import com.google.android.gms.ads.mediation.MediationRewardedAd;
@@ -95,7 +96,6 @@ public class IronSourceRewardedAd implements MediationRewardedAd {
       return false;
     }
 
-    availableInstances.put(instanceID, new WeakReference<>(this));
     Log.d(TAG, String.format("Loading IronSource rewarded ad with instance ID: %s", instanceID));
     return true;
   }
@@ -117,8 +117,8 @@ public class IronSourceRewardedAd implements MediationRewardedAd {
       return false;
     }
 
-    // Check that an Ad for this instance ID is not already loading.
-    if (!IronSourceAdapterUtils.canLoadIronSourceAdInstance(instanceID, availableInstances)) {
+    // Reserve the instance ID so that no other ad can load for it at the same time.
+    if (!SlotReservations.tryReserve(availableInstances, instanceID, this)) {
       String errorMessage =
           String.format(
               "An IronSource Rewarded ad is already loading for instance ID: %s", instanceID);
@@ -17,8 +17,8 @@ package com.google.ads.mediation.ironsource;
 import static com.google.ads.mediation.ironsource.IronSourceConstants.TAG;
 import static com.google.ads.mediation.ironsource.IronSourceMediationAdapter.IRONSOURCE_SDK_ERROR_DOMAIN;
 
-import android.util.Log;
 import androidx.annotation.NonNull;
+import com.google.ads.mediation.common.AdapterLogger;
 import com.google.android.gms.ads.AdError;
 import com.google.android.gms.ads.mediation.MediationRewardedAdCallback;
 import com.ironsource.mediationsdk.demandOnly.ISDemandOnlyRewardedVideoListener;
@@ -26,9 +26,11 @@ import com.ironsource.mediationsdk.logger.IronSourceError;
 
 public class IronSourceRewardedAdListener implements ISDemandOnlyRewardedVideoListener {
 
+  private static final AdapterLogger logger = AdapterLogger.getLogger(TAG);
+
   @Override
   public void onRewardedVideoAdLoadSuccess(@NonNull String instanceId) {
-    Log.d(TAG, String.format("IronSource rewarded ad loaded for instance ID: %s", instanceId));
+    logger.d("IronSource rewarded ad loaded for instance ID: %s", instanceId);
     IronSourceRewardedAd ironSourceRewardedAd =
         IronSourceRewardedAd.getFromAvailableInstances(instanceId);
 
@@ -48,7 +50,7 @@ public class IronSourceRewardedAdListener implements ISDemandOnlyRewardedVideoLi
             ironSourceError.getErrorCode(),
             ironSourceError.getErrorMessage(),
             IRONSOURCE_SDK_ERROR_DOMAIN);
-    Log.e(TAG, loadError.toString());
+    logger.e(loadError.toString());
     IronSourceRewardedAd ironSourceRewardedAd =
         IronSourceRewardedAd.getFromAvailableInstances(instanceId);
 
@@ -63,7 +65,7 @@ public class IronSourceRewardedAdListener implements ISDemandOnlyRewardedVideoLi
 
   @Override
   public void onRewardedVideoAdOpened(@NonNull final String instanceId) {
-    Log.d(TAG, String.format("IronSource rewarded ad opened for instance ID: %s", instanceId));
+    logger.d("IronSource rewarded ad opened for instance ID: %s", instanceId);
     IronSourceRewardedAd ironSourceRewardedAd =
         IronSourceRewardedAd.getFromAvailableInstances(instanceId);
 
@@ -79,7 +81,7 @@ public class IronSourceRewardedAdListener implements ISDemandOnlyRewardedVideoLi
 
   @Override
   public void onRewardedVideoAdClosed(@NonNull String instanceId) {
-    Log.d(TAG, String.format("IronSource rewarded ad closed for instance ID: %s", instanceId));
+    logger.d("IronSource rewarded ad closed for instance ID: %s", instanceId);
     IronSourceRewardedAd ironSourceRewardedAd =
         IronSourceRewardedAd.getFromAvailableInstances(instanceId);
 
@@ -95,9 +97,7 @@ public class IronSourceRewardedAdListener implements ISDemandOnlyRewardedVideoLi
 
   @Override
   public void onRewardedVideoAdRewarded(@NonNull String instanceId) {
-    Log.d(
-        TAG,
-        String.format("IronSource rewarded ad received reward for instance ID: %s", instanceId));
+    logger.d("IronSource rewarded ad received reward for instance ID: %s", instanceId);
     IronSourceRewardedAd ironSourceRewardedAd =
         IronSourceRewardedAd.getFromAvailableInstances(instanceId);
 
@@ -118,7 +118,7 @@ public class IronSourceRewardedAdListener implements ISDemandOnlyRewardedVideoLi
             ironSourceError.getErrorCode(),
             ironSourceError.getErrorMessage(),
             IRONSOURCE_SDK_ERROR_DOMAIN);
-    Log.e(TAG, showError.toString());
+    logger.e(showError.toString());
     IronSourceRewardedAd ironSourceRewardedAd =
         IronSourceRewardedAd.getFromAvailableInstances(instanceId);
 
@@ -135,7 +135,7 @@ public class IronSourceRewardedAdListener implements ISDemandOnlyRewardedVideoLi
 
   @Override
   public void onRewardedVideoAdClicked(@NonNull String instanceId) {
-    Log.d(TAG, String.format("IronSource rewarded ad clicked for instance ID: %s", instanceId));
+    logger.d("IronSource rewarded ad clicked for instance ID: %s", instanceId);
     IronSourceRewardedAd ironSourceRewardedAd =
         IronSourceRewardedAd.getFromAvailableInstances(instanceId);
 
@@ -14,6 +14,7 @@
 
 package com.google.ads.mediation.ironsource;
 
+import static com.google.ads.mediation.common.AdEventPipeline.FORMAT_BANNER;
 import static com.google.ads.mediation.ironsource.IronSourceAdapterUtils.getAdSizeFromGoogleAdSize;
 import static com.google.ads.mediation.ironsource.IronSourceConstants.KEY_INSTANCE_ID;
 import static com.google.ads.mediation.ironsource.IronSourceConstants.WATERMARK;
@@ -28,8 +29,8 @@ import android.widget.FrameLayout;
 import androidx.annotation.NonNull;
 import androidx.annotation.VisibleForTesting;
 
-import com.astarsoftware.android.ads.AdNetworkTracker;
-import com.astarsoftware.dependencies.DependencyInjector;
+import com.google.ads.mediation.common.AdAttribution;
+import com.google.ads.mediation.common.AdEventPipeline;
 import com.google.android.gms.ads.AdError;
 import com.google.android.gms.ads.AdSize;
 import com.google.android.gms.ads.mediation.MediationAdLoadCallback;
@@ -43,8 +44,6 @@ import com.unity3d.ironsourceads.banner.BannerAdRequest;
 import com.unity3d.ironsourceads.banner.BannerAdView;
 import com.unity3d.ironsourceads.banner.BannerAdViewListener;
 
-import java.util.HashMap;
-import java.util.Map;
 
 /**
  * Used to load ironSource RTB Banner ads and mediate callbacks between Google Mobile Ads SDK and
@@ -58,6 +57,9 @@ public class IronSourceRtbBannerAd
   private final MediationAdLoadCallback<MediationBannerAd, MediationBannerAdCallback>
       adLoadCallback;
 
+  // astar
+  private AdAttribution attribution;
+
   private FrameLayout ironSourceAdView;
 
   public IronSourceRtbBannerAd(
@@ -110,11 +112,8 @@ public class IronSourceRtbBannerAd
     adLifecycleCallback = adLoadCallback.onSuccess(this);
 
 	  // astar
-	  AdNetworkTracker adTracker = DependencyInjector.getObjectWithClass(AdNetworkTracker.class);
-	  Map<String,Object> networkInfo = new HashMap<>();
-	  String creativeId = bannerAdView.getAdInfo().getAdId();
-	  networkInfo.put("creative_id", creativeId != null ? creativeId : "");
-	  adTracker.adDidLoadForNetwork("ironsource", "admob", "banner", networkInfo);
+	  attribution = IronSourceAdapterUtils.getAttribution(bannerAdView.getAdInfo());
+	  AdEventPipeline.getInstance().recordLoad("ironsource", FORMAT_BANNER, attribution);
   }
 
   @Override
@@ -132,6 +131,7 @@ public class IronSourceRtbBannerAd
 
   @Override
   public void onBannerAdClicked(@NonNull BannerAdView bannerAdView) {
+    AdEventPipeline.getInstance().recordClick("ironsource", FORMAT_BANNER, attribution);
     if (adLifecycleCallback == null) {
       return;
     }
@@ -141,6 +141,7 @@ public class IronSourceRtbBannerAd
 
   @Override
   public void onBannerAdShown(@NonNull BannerAdView bannerAdView) {
+    AdEventPipeline.getInstance().recordImpression("ironsource", FORMAT_BANNER, attribution);
     if (adLifecycleCallback != null) {
       adLifecycleCallback.reportAdImpression();
     }
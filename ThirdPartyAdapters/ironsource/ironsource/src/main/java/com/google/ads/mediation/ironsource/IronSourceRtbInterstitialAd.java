@@ -14,6 +14,7 @@
 
 package com.google.ads.mediation.ironsource;
 
+import static com.google.ads.mediation.common.AdEventPipeline.FORMAT_INTERSTITIAL;
 import static com.google.ads.mediation.ironsource.IronSourceConstants.KEY_INSTANCE_ID;
 import static com.google.ads.mediation.ironsource.IronSourceConstants.TAG;
 import static com.google.ads.mediation.ironsource.IronSourceConstants.WATERMARK;
@@ -29,8 +30,8 @@ import android.util.Log;
 import androidx.annotation.NonNull;
 import androidx.annotation.VisibleForTesting;
 
-import com.astarsoftware.android.ads.AdNetworkTracker;
-import com.astarsoftware.dependencies.DependencyInjector;
+import com.google.ads.mediation.common.AdAttribution;
+import com.google.ads.mediation.common.AdEventPipeline;
 import com.google.android.gms.ads.AdError;
 import com.google.android.gms.ads.mediation.MediationAdLoadCallback;
 import com.google.android.gms.ads.mediation.MediationInterstitialAd;
@@ -43,8 +44,6 @@ import com.unity3d.ironsourceads.interstitial.InterstitialAdLoader;
 import com.unity3d.ironsourceads.interstitial.InterstitialAdLoaderListener;
 import com.unity3d.ironsourceads.interstitial.InterstitialAdRequest;
 
-import java.util.HashMap;
-import java.util.Map;
 
 /**
  * Used to load ironSource RTB interstitial ads and mediate callbacks between Google Mobile Ads SDK
@@ -60,6 +59,9 @@ public class IronSourceRtbInterstitialAd
 
   private InterstitialAd ad = null;
 
+  // astar
+  private AdAttribution attribution;
+
   public IronSourceRtbInterstitialAd(
       @NonNull
           MediationAdLoadCallback<MediationInterstitialAd, MediationInterstitialAdCallback>
@@ -125,6 +127,7 @@ public class IronSourceRtbInterstitialAd
 
   @Override
   public void onInterstitialAdClicked(@NonNull InterstitialAd interstitialAd) {
+    AdEventPipeline.getInstance().recordClick("ironsource", FORMAT_INTERSTITIAL, attribution);
     if (interstitialAdCallback == null) {
       return;
     }
@@ -150,6 +153,7 @@ public class IronSourceRtbInterstitialAd
 
   @Override
   public void onInterstitialAdShown(@NonNull final InterstitialAd interstitialAd) {
+    AdEventPipeline.getInstance().recordImpression("ironsource", FORMAT_INTERSTITIAL, attribution);
     if (interstitialAdCallback == null) {
       return;
     }
@@ -173,10 +177,7 @@ public class IronSourceRtbInterstitialAd
     interstitialAdCallback = mediationAdLoadCallback.onSuccess(this);
 
 	  // astar
-	  AdNetworkTracker adTracker = DependencyInjector.getObjectWithClass(AdNetworkTracker.class);
-	  Map<String,Object> networkInfo = new HashMap<>();
-	  String creativeId = interstitialAd.getAdInfo().getAdId();
-	  networkInfo.put("creative_id", creativeId != null ? creativeId : "");
-	  adTracker.adDidLoadForNetwork("ironsource", "admob", "interstitial", networkInfo);
+	  attribution = IronSourceAdapterUtils.getAttribution(interstitialAd.getAdInfo());
+	  AdEventPipeline.getInstance().recordLoad("ironsource", FORMAT_INTERSTITIAL, attribution);
   }
 }
@@ -14,6 +14,7 @@
 
 package com.google.ads.mediation.ironsource;
 
+import static com.google.ads.mediation.common.AdEventPipeline.FORMAT_REWARDED;
 import static com.google.ads.mediation.ironsource.IronSourceConstants.KEY_INSTANCE_ID;
 import static com.google.ads.mediation.ironsource.IronSourceConstants.TAG;
 import static com.google.ads.mediation.ironsource.IronSourceConstants.WATERMARK;
@@ -28,6 +29,8 @@ import android.text.TextUtils;
 import android.util.Log;
 import androidx.annotation.NonNull;
 import androidx.annotation.VisibleForTesting;
+import com.google.ads.mediation.common.AdAttribution;
+import com.google.ads.mediation.common.AdEventPipeline;
 import com.google.android.gms.ads.AdError;
 import com.google.android.gms.ads.mediation.MediationAdLoadCallback;
 import com.google.android.gms.ads.mediation.MediationRewardedAd;
@@ -53,6 +56,9 @@ public class IronSourceRtbRewardedAd
 
   private RewardedAd ad = null;
 
+  // astar
+  private AdAttribution attribution;
+
   public IronSourceRtbRewardedAd(
       @NonNull
           MediationAdLoadCallback<MediationRewardedAd, MediationRewardedAdCallback>
@@ -119,6 +125,7 @@ public class IronSourceRtbRewardedAd
 
   @Override
   public void onRewardedAdClicked(@NonNull RewardedAd rewardedAd) {
+    AdEventPipeline.getInstance().recordClick("ironsource", FORMAT_REWARDED, attribution);
     if (mediationRewardedAdCallback == null) {
       return;
     }
@@ -137,6 +144,10 @@ public class IronSourceRtbRewardedAd
   public void onRewardedAdLoaded(@NonNull RewardedAd rewardedAd) {
     ad = rewardedAd;
     mediationRewardedAdCallback = mediationAdLoadCallback.onSuccess(this);
+
+	  // astar
+	  attribution = IronSourceAdapterUtils.getAttribution(rewardedAd.getAdInfo());
+	  AdEventPipeline.getInstance().recordLoad("ironsource", FORMAT_REWARDED, attribution);
   }
 
   @Override
@@ -158,6 +169,7 @@ public class IronSourceRtbRewardedAd
 
   @Override
   public void onRewardedAdShown(@NonNull RewardedAd rewardedAd) {
+    AdEventPipeline.getInstance().recordImpression("ironsource", FORMAT_REWARDED, attribution);
     if (mediationRewardedAdCallback == null) {
       return;
     }
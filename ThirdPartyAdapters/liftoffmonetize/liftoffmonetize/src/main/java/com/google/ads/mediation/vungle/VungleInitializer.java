@@ -16,6 +16,7 @@ package com.google.ads.mediation.vungle;
 
 import android.content.Context;
 import androidx.annotation.NonNull;
+import com.google.ads.mediation.common.SdkInitializer;
 import com.google.android.gms.ads.AdError;
 import com.google.android.gms.ads.MobileAds;
 import com.google.android.gms.ads.RequestConfiguration;
@@ -24,14 +25,25 @@ import com.vungle.ads.VungleAds;
 import com.vungle.ads.VungleError;
 import com.vungle.ads.VunglePrivacySettings;
 import com.vungle.ads.VungleWrapperFramework;
-import java.util.ArrayList;
-import java.util.concurrent.atomic.AtomicBoolean;
 
 public class VungleInitializer implements InitializationListener {
 
   private static final VungleInitializer instance = new VungleInitializer();
-  private final AtomicBoolean isInitializing = new AtomicBoolean(false);
-  private final ArrayList<VungleInitializationListener> initListeners;
+
+  private final SdkInitializer<VungleInitializationListener> sdkInitializer =
+      new SdkInitializer<>(
+          new SdkInitializer.ListenerDispatcher<VungleInitializationListener>() {
+            @Override
+            public void onInitializeSuccess(@NonNull VungleInitializationListener listener) {
+              listener.onInitializeSuccess();
+            }
+
+            @Override
+            public void onInitializeError(
+                @NonNull VungleInitializationListener listener, @NonNull AdError error) {
+              listener.onInitializeError(error);
+            }
+          });
 
   @NonNull
   public static VungleInitializer getInstance() {
@@ -39,7 +51,6 @@ public class VungleInitializer implements InitializationListener {
   }
 
   private VungleInitializer() {
-    initListeners = new ArrayList<>();
     VungleAds.setIntegrationName(
         VungleWrapperFramework.admob,
         com.vungle.mediation.BuildConfig.ADAPTER_VERSION.replace('.', '_'));
@@ -55,34 +66,28 @@ public class VungleInitializer implements InitializationListener {
       return;
     }
 
-    if (isInitializing.getAndSet(true)) {
-      initListeners.add(listener);
-      return;
-    }
-
-    updateCoppaAndUnderageConsentStatus(MobileAds.getRequestConfiguration());
-
-    VungleSdkWrapper.delegate.init(context, appId, VungleInitializer.this);
-    initListeners.add(listener);
+    // Vungle SDK reports its own initialization state, which takes precedence over the last
+    // initialization result.
+    sdkInitializer.invalidate();
+    sdkInitializer.initialize(
+        listener,
+        new Runnable() {
+          @Override
+          public void run() {
+            updateCoppaAndUnderageConsentStatus(MobileAds.getRequestConfiguration());
+            VungleSdkWrapper.delegate.init(context, appId, VungleInitializer.this);
+          }
+        });
   }
 
   @Override
   public void onSuccess() {
-    for (VungleInitializationListener listener : initListeners) {
-      listener.onInitializeSuccess();
-    }
-    initListeners.clear();
-    isInitializing.set(false);
+    sdkInitializer.onInitializationSucceeded();
   }
 
   @Override
   public void onError(@NonNull final VungleError vungleError) {
-    final AdError error = VungleMediationAdapter.getAdError(vungleError);
-    for (VungleInitializationListener listener : initListeners) {
-      listener.onInitializeError(error);
-    }
-    initListeners.clear();
-    isInitializing.set(false);
+    sdkInitializer.onInitializationFailed(VungleMediationAdapter.getAdError(vungleError));
   }
 
   public void updateCoppaAndUnderageConsentStatus(RequestConfiguration configuration) {
@@ -14,6 +14,7 @@
 
 package com.google.ads.mediation.vungle;
 
+import static com.google.ads.mediation.common.AdEventPipeline.FORMAT_REWARDED;
 import static com.google.ads.mediation.vungle.VungleConstants.KEY_APP_ID;
 import static com.google.ads.mediation.vungle.VungleConstants.KEY_ORIENTATION;
 import static com.google.ads.mediation.vungle.VungleConstants.KEY_PLACEMENT_ID;
@@ -22,10 +23,16 @@ import static com.google.ads.mediation.vungle.VungleConstants.KEY_USER_ID;
 import android.content.Context;
 import android.os.Bundle;
 import android.text.TextUtils;
-import android.util.Log;
 import androidx.annotation.IntDef;
 import androidx.annotation.NonNull;
 import androidx.annotation.VisibleForTesting;
+import com.google.ads.mediation.common.AdAttribution;
+import com.google.ads.mediation.common.AdEventPipeline;
+import com.google.ads.mediation.common.AdapterLogger;
+import com.google.ads.mediation.common.AttributionExtractor;
+import com.google.ads.mediation.common.BidTokenCache;
+import com.google.ads.mediation.common.PlacementCircuitBreaker;
+import com.google.ads.mediation.common.VersionInfoService;
 import com.google.ads.mediation.vungle.VungleInitializer.VungleInitializationListener;
 import com.google.ads.mediation.vungle.rtb.VungleRtbAppOpenAd;
 import com.google.ads.mediation.vungle.rtb.VungleRtbBannerAd;
@@ -70,8 +77,6 @@ import java.lang.annotation.RetentionPolicy;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
-import java.util.Map;
-import java.util.TreeMap;
 
 /** Mediation network adapter for Liftoff Monetize. */
 public class VungleMediationAdapter extends RtbAdapter
@@ -79,6 +84,8 @@ public class VungleMediationAdapter extends RtbAdapter
 
   public static final String TAG = VungleMediationAdapter.class.getSimpleName();
 
+  private static final AdapterLogger logger = AdapterLogger.getLogger(TAG);
+
   private VungleWaterfallAppOpenAd waterfallAppOpenAd;
 
   private VungleRtbBannerAd rtbBannerAd;
@@ -91,10 +98,14 @@ public class VungleMediationAdapter extends RtbAdapter
   private AdConfig adConfig;
   private String userId;
   private RewardedAd rewardedAd;
+  private String rewardedPlacement;
   private MediationAdLoadCallback<MediationRewardedAd, MediationRewardedAdCallback>
       mediationAdLoadCallback;
   private MediationRewardedAdCallback mediationRewardedAdCallback;
 
+  // astar
+  private AdAttribution attribution;
+
   private final VungleFactory vungleFactory;
 
   /** Liftoff Monetize adapter error domain. */
@@ -109,7 +120,8 @@ public class VungleMediationAdapter extends RtbAdapter
         ERROR_INVALID_SERVER_PARAMETERS,
         ERROR_INITIALIZATION_FAILURE,
         ERROR_CANNOT_PLAY_AD,
-        ERROR_CANNOT_GET_BID_TOKEN
+        ERROR_CANNOT_GET_BID_TOKEN,
+        ERROR_PLACEMENT_PAUSED
       })
   public @interface AdapterError {}
 
@@ -133,6 +145,52 @@ public class VungleMediationAdapter extends RtbAdapter
   /** Vungle SDK returned invalid bidding token. */
   public static final int ERROR_CANNOT_GET_BID_TOKEN = 108;
 
+  /** Requests for the placement are paused because Liftoff Monetize kept not finding it. */
+  public static final int ERROR_PLACEMENT_PAUSED = 109;
+
+  /**
+   * Key under which bid tokens are cached. Liftoff Monetize bid tokens don't depend on the ad
+   * format.
+   */
+  private static final String BID_TOKEN_KEY = "liftoff";
+
+  /** Network name under which the circuit breaker tracks waterfall placements. */
+  private static final String NETWORK_NAME = "liftoff";
+
+  /**
+   * Bid tokens cached across adapter instances, so that signals can be collected right away. Tokens
+   * are only cached once a time-to-live is set for "liftoff" with {@link
+   * BidTokenCache#setTtlMillis}.
+   */
+  private static final BidTokenCache bidTokenCache = new BidTokenCache(NETWORK_NAME);
+
+  private static final BidTokenCache.TokenFetcher bidTokenFetcher =
+      new BidTokenCache.TokenFetcher() {
+        @Override
+        public void fetchToken(
+            @NonNull Context context,
+            @NonNull String key,
+            @NonNull final BidTokenCache.TokenCallback callback) {
+          VungleSdkWrapper.delegate.getBiddingToken(
+              context,
+              new BidTokenCallback() {
+                @Override
+                public void onBidTokenCollected(@NonNull String token) {
+                  callback.onTokenReady(token);
+                }
+
+                @Override
+                public void onBidTokenError(@NonNull String s) {
+                  callback.onTokenError(
+                      new AdError(
+                          ERROR_CANNOT_GET_BID_TOKEN,
+                          "Liftoff Monetize returned an empty bid token.",
+                          ERROR_DOMAIN));
+                }
+              });
+        }
+      };
+
   public VungleMediationAdapter() {
     vungleFactory = new VungleFactory();
   }
@@ -149,67 +207,44 @@ public class VungleMediationAdapter extends RtbAdapter
         vungleError.getCode(), vungleError.getErrorMessage(), VUNGLE_SDK_ERROR_DOMAIN);
   }
 
+  /**
+   * Returns whether a load failed because the placement ID is unknown, which is certain to fail the
+   * next request for the same placement too. No fill isn't such a failure, since the next request
+   * may well be filled.
+   */
+  private static boolean isPlacementFailure(@NonNull VungleError vungleError) {
+    return vungleError.getCode() == VungleError.PLACEMENT_NOT_FOUND;
+  }
+
   @NonNull
   @Override
   public VersionInfo getVersionInfo() {
-    String versionString = getAdapterVersion();
-    String[] splits = versionString.split("\\.");
-
-    if (splits.length >= 4) {
-      int major = Integer.parseInt(splits[0]);
-      int minor = Integer.parseInt(splits[1]);
-      int micro = Integer.parseInt(splits[2]) * 100 + Integer.parseInt(splits[3]);
-      return new VersionInfo(major, minor, micro);
-    }
-
-    String logMessage =
-        String.format(
-            "Unexpected adapter version format: %s. Returning 0.0.0 for adapter version.",
-            versionString);
-    Log.w(TAG, logMessage);
-    return new VersionInfo(0, 0, 0);
+    return VersionInfoService.getAdapterVersionInfo(getAdapterVersion());
   }
 
   @NonNull
   @Override
   public VersionInfo getSDKVersionInfo() {
-    String versionString = VungleSdkWrapper.delegate.getSdkVersion();
-    String[] splits = versionString.split("\\.");
-
-    if (splits.length >= 3) {
-      int major = Integer.parseInt(splits[0]);
-      int minor = Integer.parseInt(splits[1]);
-      int micro = Integer.parseInt(splits[2]);
-      return new VersionInfo(major, minor, micro);
-    }
-
-    String logMessage =
-        String.format(
-            "Unexpected SDK version format: %s. Returning 0.0.0 for SDK version.", versionString);
-    Log.w(TAG, logMessage);
-    return new VersionInfo(0, 0, 0);
+    return VersionInfoService.getSdkVersionInfo(VungleSdkWrapper.delegate.getSdkVersion());
   }
 
   @Override
   public void collectSignals(
       @NonNull RtbSignalData rtbSignalData, @NonNull SignalCallbacks signalCallbacks) {
-    VungleSdkWrapper.delegate.getBiddingToken(
+    bidTokenCache.getToken(
         rtbSignalData.getContext(),
-        new BidTokenCallback() {
+        BID_TOKEN_KEY,
+        bidTokenFetcher,
+        new BidTokenCache.TokenCallback() {
           @Override
-          public void onBidTokenCollected(@NonNull String token) {
-            Log.d(TAG, "Liftoff Monetize bidding token=" + token);
+          public void onTokenReady(@NonNull String token) {
+            logger.d("Liftoff Monetize bidding token is ready.");
             signalCallbacks.onSuccess(token);
           }
 
           @Override
-          public void onBidTokenError(@NonNull String s) {
-            AdError error =
-                new AdError(
-                    ERROR_CANNOT_GET_BID_TOKEN,
-                    "Liftoff Monetize returned an empty bid token.",
-                    ERROR_DOMAIN);
-            Log.w(TAG, error.toString());
+          public void onTokenError(@NonNull AdError error) {
+            logger.w(error.toString());
             signalCallbacks.onFailure(error);
           }
         });
@@ -223,6 +258,7 @@ public class VungleMediationAdapter extends RtbAdapter
 
     if (VungleSdkWrapper.delegate.isInitialized()) {
       initializationCompleteCallback.onInitializationSucceeded();
+      bidTokenCache.prefetch(context, BID_TOKEN_KEY, bidTokenFetcher);
       return;
     }
 
@@ -242,7 +278,7 @@ public class VungleMediationAdapter extends RtbAdapter
         AdError error =
             new AdError(
                 ERROR_INVALID_SERVER_PARAMETERS, "Missing or Invalid App ID.", ERROR_DOMAIN);
-        Log.w(TAG, error.toString());
+        logger.w(error.toString());
         initializationCompleteCallback.onInitializationFailed(error.toString());
       }
       return;
@@ -254,7 +290,7 @@ public class VungleMediationAdapter extends RtbAdapter
           String.format(
               "Multiple '%s' entries found: %s. Using '%s' to initialize the Vungle SDK.",
               KEY_APP_ID, appIDs, appID);
-      Log.w(TAG, logMessage);
+      logger.w(logMessage);
     }
 
     VungleInitializer.getInstance()
@@ -265,11 +301,12 @@ public class VungleMediationAdapter extends RtbAdapter
               @Override
               public void onInitializeSuccess() {
                 initializationCompleteCallback.onInitializationSucceeded();
+                bidTokenCache.prefetch(context, BID_TOKEN_KEY, bidTokenFetcher);
               }
 
               @Override
               public void onInitializeError(AdError error) {
-                Log.w(TAG, error.toString());
+                logger.w(error.toString());
                 initializationCompleteCallback.onInitializationFailed(error.toString());
               }
             });
@@ -310,7 +347,7 @@ public class VungleMediationAdapter extends RtbAdapter
                   + "Missing or invalid App ID configured for this ad source instance "
                   + "in the AdMob or Ad Manager UI.",
               ERROR_DOMAIN);
-      Log.w(TAG, error.toString());
+      logger.w(error.toString());
       mediationAdLoadCallback.onFailure(error);
       return;
     }
@@ -324,11 +361,22 @@ public class VungleMediationAdapter extends RtbAdapter
                   + "Missing or Invalid Placement ID configured for this ad source instance "
                   + "in the AdMob or Ad Manager UI.",
               ERROR_DOMAIN);
-      Log.w(TAG, error.toString());
+      logger.w(error.toString());
       mediationAdLoadCallback.onFailure(error);
       return;
     }
 
+    // Don't send requests that a placement has kept failing recently.
+    AdError circuitOpenError =
+        PlacementCircuitBreaker.getInstance()
+            .checkLoad(NETWORK_NAME, placement, ERROR_PLACEMENT_PAUSED, ERROR_DOMAIN);
+    if (circuitOpenError != null) {
+      logger.w(circuitOpenError.toString());
+      mediationAdLoadCallback.onFailure(circuitOpenError);
+      return;
+    }
+    rewardedPlacement = placement;
+
     adConfig = vungleFactory.createAdConfig();
     if (mediationExtras != null && mediationExtras.containsKey(KEY_ORIENTATION)) {
       adConfig.setAdOrientation(mediationExtras.getInt(KEY_ORIENTATION, AdConfig.AUTO_ROTATE));
@@ -357,7 +405,7 @@ public class VungleMediationAdapter extends RtbAdapter
 
               @Override
               public void onInitializeError(AdError error) {
-                Log.w(TAG, error.toString());
+                logger.w(error.toString());
                 VungleMediationAdapter.this.mediationAdLoadCallback.onFailure(error);
               }
             });
@@ -373,7 +421,7 @@ public class VungleMediationAdapter extends RtbAdapter
               ERROR_CANNOT_PLAY_AD,
               "Failed to show waterfall rewarded" + " ad from Liftoff Monetize.",
               ERROR_DOMAIN);
-      Log.w(TAG, error.toString());
+      logger.w(error.toString());
       mediationRewardedAdCallback.onAdFailedToShow(error);
     }
   }
@@ -381,7 +429,13 @@ public class VungleMediationAdapter extends RtbAdapter
   /** {@link RewardedAdListener} implementation from Liftoff Monetize. */
   @Override
   public void onAdLoaded(@NonNull BaseAd baseAd) {
-    Log.d(TAG, "Loaded waterfall rewarded ad from Liftoff Monetize.");
+    // astar
+    attribution = getAttribution(baseAd);
+    AdEventPipeline.getInstance().recordLoad("liftoff", FORMAT_REWARDED, attribution);
+    logger.d("Loaded waterfall rewarded ad from Liftoff Monetize.");
+    if (rewardedPlacement != null) {
+      PlacementCircuitBreaker.getInstance().recordSuccess(NETWORK_NAME, rewardedPlacement);
+    }
     if (mediationAdLoadCallback != null) {
       mediationRewardedAdCallback = mediationAdLoadCallback.onSuccess(VungleMediationAdapter.this);
     }
@@ -389,7 +443,7 @@ public class VungleMediationAdapter extends RtbAdapter
 
   @Override
   public void onAdStart(@NonNull BaseAd baseAd) {
-    Log.d(TAG, "Liftoff Monetize waterfall rewarded ad has started.");
+    logger.d("Liftoff Monetize waterfall rewarded ad has started.");
     if (mediationRewardedAdCallback != null) {
       mediationRewardedAdCallback.onAdOpened();
     }
@@ -397,7 +451,7 @@ public class VungleMediationAdapter extends RtbAdapter
 
   @Override
   public void onAdEnd(@NonNull BaseAd baseAd) {
-    Log.d(TAG, "Liftoff Monetize waterfall rewarded ad has ended.");
+    logger.d("Liftoff Monetize waterfall rewarded ad has ended.");
     if (mediationRewardedAdCallback != null) {
       mediationRewardedAdCallback.onAdClosed();
     }
@@ -405,7 +459,8 @@ public class VungleMediationAdapter extends RtbAdapter
 
   @Override
   public void onAdClicked(@NonNull BaseAd baseAd) {
-    Log.d(TAG, "Liftoff Monetize waterfall rewarded ad was clicked.");
+    AdEventPipeline.getInstance().recordClick("liftoff", FORMAT_REWARDED, attribution);
+    logger.d("Liftoff Monetize waterfall rewarded ad was clicked.");
     if (mediationRewardedAdCallback != null) {
       mediationRewardedAdCallback.reportAdClicked();
     }
@@ -413,7 +468,7 @@ public class VungleMediationAdapter extends RtbAdapter
 
   @Override
   public void onAdRewarded(@NonNull BaseAd baseAd) {
-    Log.d(TAG, "Received reward from Liftoff Monetize waterfall rewarded ad.");
+    logger.d("Received reward from Liftoff Monetize waterfall rewarded ad.");
     if (mediationRewardedAdCallback != null) {
       mediationRewardedAdCallback.onVideoComplete();
       mediationRewardedAdCallback.onUserEarnedReward();
@@ -428,8 +483,7 @@ public class VungleMediationAdapter extends RtbAdapter
   @Override
   public void onAdFailedToPlay(@NonNull BaseAd baseAd, @NonNull VungleError vungleError) {
     AdError error = getAdError(vungleError);
-    Log.w(
-        TAG,
+    logger.w(
         "Failed to play waterfall rewarded ad from Liftoff Monetize with error: "
             + error.toString());
     if (mediationRewardedAdCallback != null) {
@@ -440,10 +494,12 @@ public class VungleMediationAdapter extends RtbAdapter
   @Override
   public void onAdFailedToLoad(@NonNull BaseAd baseAd, @NonNull VungleError vungleError) {
     AdError error = getAdError(vungleError);
-    Log.w(
-        TAG,
+    logger.w(
         "Failed to load waterfall rewarded ad from Liftoff Monetize with error: "
             + error.toString());
+    if (rewardedPlacement != null && isPlacementFailure(vungleError)) {
+      PlacementCircuitBreaker.getInstance().recordFailure(NETWORK_NAME, rewardedPlacement);
+    }
     if (mediationAdLoadCallback != null) {
       mediationAdLoadCallback.onFailure(error);
     }
@@ -451,6 +507,7 @@ public class VungleMediationAdapter extends RtbAdapter
 
   @Override
   public void onAdImpression(@NonNull BaseAd baseAd) {
+    AdEventPipeline.getInstance().recordImpression("liftoff", FORMAT_REWARDED, attribution);
     mediationRewardedAdCallback.onVideoStart();
     mediationRewardedAdCallback.reportAdImpression();
   }
@@ -459,7 +516,7 @@ public class VungleMediationAdapter extends RtbAdapter
   public void loadNativeAd(
       @NonNull MediationNativeAdConfiguration mediationNativeAdConfiguration,
       @NonNull MediationAdLoadCallback<UnifiedNativeAdMapper, MediationNativeAdCallback> callback) {
-    Log.d(TAG, "loadNativeAd()...");
+    logger.d("loadNativeAd()...");
     VungleInitializer.getInstance()
         .updateCoppaAndUnderageConsentStatus(MobileAds.getRequestConfiguration());
     // Vungle waterfall and bidding Native ads use the same API.
@@ -471,9 +528,8 @@ public class VungleMediationAdapter extends RtbAdapter
   public void loadRewardedInterstitialAd(
       @NonNull MediationRewardedAdConfiguration mediationRewardedAdConfiguration,
       @NonNull MediationAdLoadCallback<MediationRewardedAd, MediationRewardedAdCallback> callback) {
-    Log.d(TAG, "loadRewardedInterstitialAd()...");
-    Log.d(
-        TAG,
+    logger.d("loadRewardedInterstitialAd()...");
+    logger.d(
         "Liftoff Monetize adapter was asked to load a rewarded interstitial ad. "
             + "Using the rewarded ad request flow to load the ad to attempt to load a "
             + "rewarded interstitial ad from Liftoff Monetize.");
@@ -496,7 +552,7 @@ public class VungleMediationAdapter extends RtbAdapter
       @NonNull
           MediationAdLoadCallback<MediationRewardedAd, MediationRewardedAdCallback>
               mediationAdLoadCallback) {
-    Log.d(TAG, "loadRtbRewardedAd()...");
+    logger.d("loadRtbRewardedAd()...");
     VungleInitializer.getInstance()
         .updateCoppaAndUnderageConsentStatus(MobileAds.getRequestConfiguration());
     rtbRewardedAd = new VungleRtbRewardedAd(mediationAdLoadCallback, vungleFactory);
@@ -509,7 +565,7 @@ public class VungleMediationAdapter extends RtbAdapter
       @NonNull
           MediationAdLoadCallback<MediationBannerAd, MediationBannerAdCallback>
               mediationAdLoadCallback) {
-    Log.d(TAG, "loadRtbBannerAd()...");
+    logger.d("loadRtbBannerAd()...");
     VungleInitializer.getInstance()
         .updateCoppaAndUnderageConsentStatus(MobileAds.getRequestConfiguration());
     rtbBannerAd = new VungleRtbBannerAd(mediationAdLoadCallback, vungleFactory);
@@ -522,7 +578,7 @@ public class VungleMediationAdapter extends RtbAdapter
       @NonNull
           MediationAdLoadCallback<MediationInterstitialAd, MediationInterstitialAdCallback>
               mediationAdLoadCallback) {
-    Log.d(TAG, "loadRtbInterstitialAd()...");
+    logger.d("loadRtbInterstitialAd()...");
     VungleInitializer.getInstance()
         .updateCoppaAndUnderageConsentStatus(MobileAds.getRequestConfiguration());
     rtbInterstitialAd = new VungleRtbInterstitialAd(mediationAdLoadCallback, vungleFactory);
@@ -533,7 +589,7 @@ public class VungleMediationAdapter extends RtbAdapter
   public void loadRtbNativeAd(
       @NonNull MediationNativeAdConfiguration adConfiguration,
       @NonNull MediationAdLoadCallback<UnifiedNativeAdMapper, MediationNativeAdCallback> callback) {
-    Log.d(TAG, "loadRtbNativeAd()...");
+    logger.d("loadRtbNativeAd()...");
     VungleInitializer.getInstance()
         .updateCoppaAndUnderageConsentStatus(MobileAds.getRequestConfiguration());
     rtbNativeAd = new VungleRtbNativeAd(callback, vungleFactory);
@@ -544,9 +600,8 @@ public class VungleMediationAdapter extends RtbAdapter
   public void loadRtbRewardedInterstitialAd(
       @NonNull MediationRewardedAdConfiguration adConfiguration,
       @NonNull MediationAdLoadCallback<MediationRewardedAd, MediationRewardedAdCallback> callback) {
-    Log.d(TAG, "loadRtbRewardedInterstitialAd()...");
-    Log.d(
-        TAG,
+    logger.d("loadRtbRewardedInterstitialAd()...");
+    logger.d(
         "Liftoff Monetize adapter was asked to load a rewarded interstitial ad. "
             + "Using the rewarded ad request flow to load the ad to attempt to load a "
             + "rewarded interstitial ad from Liftoff Monetize.");
@@ -575,57 +630,25 @@ public class VungleMediationAdapter extends RtbAdapter
    * Checks whether the runtime GMA SDK is a version of GMA SDK that listens to adapter-reported
    * native ad impressions.
    *
-   * <p>GMA SDK versions >= 24.4.0 or < 6.5.0 listen to adapter-reported native ad impressions.
+   * <p>See {@link VersionInfoService#runtimeGmaSdkOrNextGenListensToAdapterReportedImpressions()}.
    */
   public static boolean runtimeGmaSdkListensToAdapterReportedImpressions() {
-    VersionInfo gmaSdkVersion = MobileAds.getVersion();
-    if (isVersionLowerThan(
-            gmaSdkVersion,
-            new VersionInfo(/* majorVersion= */ 6, /* minorVersion= */ 5, /* microVersion= */ 0))
-        && isVersionGreaterThanOrEqualTo(
-            gmaSdkVersion,
-            new VersionInfo(
-                /* majorVersion= */ 0, /* minorVersion= */ 18, /* microVersion= */ 0))) {
-      return true;
-    }
-    return isVersionGreaterThanOrEqualTo(
-        gmaSdkVersion,
-        new VersionInfo(/* majorVersion= */ 24, /* minorVersion= */ 4, /* microVersion= */ 0));
-  }
-
-  /** Returns true iff version1 is greater than or equal to version2. */
-  private static boolean isVersionGreaterThanOrEqualTo(VersionInfo version1, VersionInfo version2) {
-    if (version1.getMajorVersion() > version2.getMajorVersion()) {
-      return true;
-    } else if (version1.getMajorVersion() == version2.getMajorVersion()) {
-      if (version1.getMinorVersion() > version2.getMinorVersion()) {
-        return true;
-      } else if (version1.getMinorVersion() == version2.getMinorVersion()) {
-        return version1.getMicroVersion() >= version2.getMicroVersion();
-      }
-    }
-    return false;
-  }
-
-  /** Returns true iff version1 is less than version2. */
-  private static boolean isVersionLowerThan(VersionInfo version1, VersionInfo version2) {
-    if (version1.getMajorVersion() < version2.getMajorVersion()) {
-      return true;
-    } else if (version1.getMajorVersion() == version2.getMajorVersion()) {
-      if (version1.getMinorVersion() < version2.getMinorVersion()) {
-        return true;
-      } else if (version1.getMinorVersion() == version2.getMinorVersion()) {
-        return version1.getMicroVersion() < version2.getMicroVersion();
-      }
-    }
-    return false;
+    return VersionInfoService.runtimeGmaSdkOrNextGenListensToAdapterReportedImpressions();
   }
 
-  public static Map<String,Object> getNetworkInfo(BaseAd baseAd) {
-	  Map<String,Object> networkInfo = new TreeMap<>();
-	  networkInfo.put("creative_id", baseAd.getCreativeId() != null ? baseAd.getCreativeId() : "");
-	  networkInfo.put("placement_id", baseAd.getPlacementId() != null ? baseAd.getPlacementId() : "");
-	  networkInfo.put("event_id", baseAd.getEventId() != null ? baseAd.getEventId() : "");
-	  return networkInfo;
+  /** Fills an attribution from a loaded Liftoff Monetize ad. */
+  public static final AttributionExtractor<BaseAd> ATTRIBUTION_EXTRACTOR =
+      new AttributionExtractor<BaseAd>() {
+        @Override
+        public void extract(@NonNull BaseAd baseAd, @NonNull AdAttribution attribution) {
+          attribution.setCreativeId(baseAd.getCreativeId());
+          attribution.setPlacementId(baseAd.getPlacementId());
+          attribution.setImpressionId(baseAd.getEventId());
+        }
+      };
+
+  @NonNull
+  public static AdAttribution getAttribution(@NonNull BaseAd baseAd) {
+    return AdAttribution.of(baseAd, ATTRIBUTION_EXTRACTOR);
   }
 }
@@ -3,6 +3,9 @@ package com.google.ads.mediation.vungle.renderers
 import android.content.Context
 import android.os.Bundle
 import android.util.Log
+import com.google.ads.mediation.common.AdAttribution
+import com.google.ads.mediation.common.AdEventPipeline
+import com.google.ads.mediation.common.AdEventPipeline.Companion.FORMAT_APP_OPEN
 import com.google.ads.mediation.vungle.VungleConstants
 import com.google.ads.mediation.vungle.VungleConstants.KEY_BACK_BUTTON_IMMEDIATELY_ENABLED
 import com.google.ads.mediation.vungle.VungleFactory
@@ -39,6 +42,9 @@ abstract class VungleAppOpenAd(
 
   private var mediationAppOpenAdCallback: MediationAppOpenAdCallback? = null
 
+  // astar
+  private var attribution: AdAttribution? = null
+
   /** Loads an app open ad. */
   fun render(mediationAppOpenAdConfiguration: MediationAppOpenAdConfiguration) {
     val mediationExtras: Bundle = mediationAppOpenAdConfiguration.mediationExtras
@@ -136,6 +142,9 @@ abstract class VungleAppOpenAd(
   }
 
   override fun onAdLoaded(baseAd: BaseAd) {
+    // astar
+    attribution = VungleMediationAdapter.getAttribution(baseAd)
+    AdEventPipeline.getInstance().recordLoad("liftoff", FORMAT_APP_OPEN, attribution)
     mediationAppOpenAdCallback = mediationAdLoadCallback.onSuccess(this)
   }
 
@@ -152,6 +161,7 @@ abstract class VungleAppOpenAd(
   }
 
   override fun onAdClicked(baseAd: BaseAd) {
+    AdEventPipeline.getInstance().recordClick("liftoff", FORMAT_APP_OPEN, attribution)
     if (mediationAppOpenAdCallback != null) {
       mediationAppOpenAdCallback?.reportAdClicked()
     }
@@ -174,6 +184,7 @@ abstract class VungleAppOpenAd(
   }
 
   override fun onAdImpression(baseAd: BaseAd) {
+    AdEventPipeline.getInstance().recordImpression("liftoff", FORMAT_APP_OPEN, attribution)
     if (mediationAppOpenAdCallback != null) {
       mediationAppOpenAdCallback?.reportAdImpression()
     }
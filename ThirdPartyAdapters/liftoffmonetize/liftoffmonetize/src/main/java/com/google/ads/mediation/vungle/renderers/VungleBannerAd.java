@@ -14,6 +14,7 @@
 
 package com.google.ads.mediation.vungle.renderers;
 
+import static com.google.ads.mediation.common.AdEventPipeline.FORMAT_BANNER;
 import static com.google.ads.mediation.vungle.VungleConstants.KEY_APP_ID;
 import static com.google.ads.mediation.vungle.VungleConstants.KEY_PLACEMENT_ID;
 import static com.google.ads.mediation.vungle.VungleMediationAdapter.ERROR_DOMAIN;
@@ -28,8 +29,8 @@ import android.view.View;
 
 import androidx.annotation.NonNull;
 
-import com.astarsoftware.android.ads.AdNetworkTracker;
-import com.astarsoftware.dependencies.DependencyInjector;
+import com.google.ads.mediation.common.AdAttribution;
+import com.google.ads.mediation.common.AdEventPipeline;
 import com.google.ads.mediation.vungle.VungleFactory;
 import com.google.ads.mediation.vungle.VungleInitializer;
 import com.google.ads.mediation.vungle.VungleMediationAdapter;
@@ -46,7 +47,6 @@ import com.vungle.ads.VungleBannerView;
 import com.vungle.ads.VungleError;
 import com.vungle.mediation.VungleInterstitialAdapter;
 
-import java.util.Map;
 
 /**
  * Abstract class with banner adapter logic that is common for both waterfall and RTB integrations.
@@ -59,6 +59,9 @@ public abstract class VungleBannerAd implements MediationBannerAd, BannerAdListe
 
   private VungleBannerView bannerAdView;
 
+  // astar
+  private AdAttribution attribution;
+
   private final VungleFactory vungleFactory;
 
   public VungleBannerAd(
@@ -143,6 +146,7 @@ public abstract class VungleBannerAd implements MediationBannerAd, BannerAdListe
 
   @Override
   public void onAdClicked(@NonNull BaseAd baseAd) {
+    AdEventPipeline.getInstance().recordClick("liftoff", FORMAT_BANNER, attribution);
     if (mediationBannerAdCallback != null) {
       mediationBannerAdCallback.reportAdClicked();
       mediationBannerAdCallback.onAdOpened();
@@ -156,6 +160,7 @@ public abstract class VungleBannerAd implements MediationBannerAd, BannerAdListe
 
   @Override
   public void onAdImpression(@NonNull BaseAd baseAd) {
+    AdEventPipeline.getInstance().recordImpression("liftoff", FORMAT_BANNER, attribution);
     if (mediationBannerAdCallback != null) {
       mediationBannerAdCallback.reportAdImpression();
     }
@@ -163,12 +168,10 @@ public abstract class VungleBannerAd implements MediationBannerAd, BannerAdListe
 
   @Override
   public void onAdLoaded(@NonNull BaseAd baseAd) {
+    // astar
+    attribution = VungleMediationAdapter.getAttribution(baseAd);
+    AdEventPipeline.getInstance().recordLoad("liftoff", FORMAT_BANNER, attribution);
     mediationBannerAdCallback = mediationAdLoadCallback.onSuccess(this);
-
-	  // astar
-	  AdNetworkTracker adTracker = DependencyInjector.getObjectWithClass(AdNetworkTracker.class);
-	  Map<String,Object> networkInfo = VungleMediationAdapter.getNetworkInfo(baseAd);
-	  adTracker.adDidLoadForNetwork("liftoff", "admob", "banner", networkInfo);
   }
 
   @Override
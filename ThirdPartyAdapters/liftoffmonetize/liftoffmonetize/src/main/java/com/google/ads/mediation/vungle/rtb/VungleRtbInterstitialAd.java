@@ -14,6 +14,7 @@
 
 package com.google.ads.mediation.vungle.rtb;
 
+import static com.google.ads.mediation.common.AdEventPipeline.FORMAT_INTERSTITIAL;
 import static com.google.ads.mediation.vungle.VungleConstants.KEY_APP_ID;
 import static com.google.ads.mediation.vungle.VungleConstants.KEY_ORIENTATION;
 import static com.google.ads.mediation.vungle.VungleConstants.KEY_PLACEMENT_ID;
@@ -29,8 +30,8 @@ import android.util.Log;
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
 
-import com.astarsoftware.android.ads.AdNetworkTracker;
-import com.astarsoftware.dependencies.DependencyInjector;
+import com.google.ads.mediation.common.AdAttribution;
+import com.google.ads.mediation.common.AdEventPipeline;
 import com.google.ads.mediation.vungle.VungleFactory;
 import com.google.ads.mediation.vungle.VungleInitializer;
 import com.google.ads.mediation.vungle.VungleMediationAdapter;
@@ -45,7 +46,6 @@ import com.vungle.ads.InterstitialAd;
 import com.vungle.ads.InterstitialAdListener;
 import com.vungle.ads.VungleError;
 
-import java.util.Map;
 
 public class VungleRtbInterstitialAd implements MediationInterstitialAd, InterstitialAdListener {
 
@@ -59,6 +59,9 @@ public class VungleRtbInterstitialAd implements MediationInterstitialAd, Interst
 
   private InterstitialAd interstitialAd;
 
+  // astar
+  private AdAttribution attribution;
+
   private final VungleFactory vungleFactory;
 
   public VungleRtbInterstitialAd(
@@ -148,13 +151,11 @@ public class VungleRtbInterstitialAd implements MediationInterstitialAd, Interst
 
   @Override
   public void onAdLoaded(@NonNull BaseAd baseAd) {
+    // astar
+    attribution = VungleMediationAdapter.getAttribution(baseAd);
+    AdEventPipeline.getInstance().recordLoad("liftoff", FORMAT_INTERSTITIAL, attribution);
     mediationInterstitialAdCallback =
         mediationAdLoadCallback.onSuccess(VungleRtbInterstitialAd.this);
-
-	  // astar
-	  AdNetworkTracker adTracker = DependencyInjector.getObjectWithClass(AdNetworkTracker.class);
-	  Map<String,Object> networkInfo = VungleMediationAdapter.getNetworkInfo(baseAd);
-	  adTracker.adDidLoadForNetwork("liftoff", "admob", "interstitial", networkInfo);
   }
 
   @Override
@@ -173,6 +174,7 @@ public class VungleRtbInterstitialAd implements MediationInterstitialAd, Interst
 
   @Override
   public void onAdClicked(@NonNull BaseAd baseAd) {
+    AdEventPipeline.getInstance().recordClick("liftoff", FORMAT_INTERSTITIAL, attribution);
     if (mediationInterstitialAdCallback != null) {
       mediationInterstitialAdCallback.reportAdClicked();
     }
@@ -203,6 +205,7 @@ public class VungleRtbInterstitialAd implements MediationInterstitialAd, Interst
 
   @Override
   public void onAdImpression(@NonNull BaseAd baseAd) {
+    AdEventPipeline.getInstance().recordImpression("liftoff", FORMAT_INTERSTITIAL, attribution);
     if (mediationInterstitialAdCallback != null) {
       mediationInterstitialAdCallback.reportAdImpression();
     }
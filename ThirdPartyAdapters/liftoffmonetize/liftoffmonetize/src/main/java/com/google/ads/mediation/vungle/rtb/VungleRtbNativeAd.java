@@ -14,6 +14,7 @@
 
 package com.google.ads.mediation.vungle.rtb;
 
+import static com.google.ads.mediation.common.AdEventPipeline.FORMAT_NATIVE;
 import static com.google.ads.mediation.vungle.VungleConstants.KEY_APP_ID;
 import static com.google.ads.mediation.vungle.VungleConstants.KEY_PLACEMENT_ID;
 import static com.google.ads.mediation.vungle.VungleMediationAdapter.ERROR_DOMAIN;
@@ -32,6 +33,8 @@ import android.view.ViewGroup;
 import android.widget.FrameLayout;
 import android.widget.ImageView;
 import androidx.annotation.NonNull;
+import com.google.ads.mediation.common.AdAttribution;
+import com.google.ads.mediation.common.AdEventPipeline;
 import com.google.ads.mediation.vungle.VungleFactory;
 import com.google.ads.mediation.vungle.VungleInitializer;
 import com.google.ads.mediation.vungle.VungleMediationAdapter;
@@ -70,6 +73,9 @@ public class VungleRtbNativeAd extends UnifiedNativeAdMapper implements NativeAd
   private MediaView mediaView;
   private String adMarkup;
 
+  // astar
+  private AdAttribution attribution;
+
   private final VungleFactory vungleFactory;
 
   public VungleRtbNativeAd(
@@ -161,6 +167,9 @@ public class VungleRtbNativeAd extends UnifiedNativeAdMapper implements NativeAd
 
   @Override
   public void onAdLoaded(@NonNull BaseAd baseAd) {
+    // astar
+    attribution = VungleMediationAdapter.getAttribution(baseAd);
+    AdEventPipeline.getInstance().recordLoad("liftoff", FORMAT_NATIVE, attribution);
     mapNativeAd();
     nativeAdCallback = adLoadCallback.onSuccess(VungleRtbNativeAd.this);
   }
@@ -180,6 +189,7 @@ public class VungleRtbNativeAd extends UnifiedNativeAdMapper implements NativeAd
 
   @Override
   public void onAdClicked(@NonNull BaseAd baseAd) {
+    AdEventPipeline.getInstance().recordClick("liftoff", FORMAT_NATIVE, attribution);
     if (nativeAdCallback != null) {
       nativeAdCallback.reportAdClicked();
       nativeAdCallback.onAdOpened();
@@ -195,6 +205,7 @@ public class VungleRtbNativeAd extends UnifiedNativeAdMapper implements NativeAd
 
   @Override
   public void onAdImpression(@NonNull BaseAd baseAd) {
+    AdEventPipeline.getInstance().recordImpression("liftoff", FORMAT_NATIVE, attribution);
     if (nativeAdCallback != null) {
       nativeAdCallback.reportAdImpression();
     }
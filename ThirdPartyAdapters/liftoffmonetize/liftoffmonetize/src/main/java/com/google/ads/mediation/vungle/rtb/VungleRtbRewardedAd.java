@@ -14,6 +14,7 @@
 
 package com.google.ads.mediation.vungle.rtb;
 
+import static com.google.ads.mediation.common.AdEventPipeline.FORMAT_REWARDED;
 import static com.google.ads.mediation.vungle.VungleConstants.KEY_APP_ID;
 import static com.google.ads.mediation.vungle.VungleConstants.KEY_ORIENTATION;
 import static com.google.ads.mediation.vungle.VungleConstants.KEY_PLACEMENT_ID;
@@ -29,6 +30,8 @@ import android.text.TextUtils;
 import android.util.Log;
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
+import com.google.ads.mediation.common.AdAttribution;
+import com.google.ads.mediation.common.AdEventPipeline;
 import com.google.ads.mediation.vungle.VungleFactory;
 import com.google.ads.mediation.vungle.VungleInitializer;
 import com.google.ads.mediation.vungle.VungleInitializer.VungleInitializationListener;
@@ -56,6 +59,9 @@ public class VungleRtbRewardedAd implements MediationRewardedAd, RewardedAdListe
 
   private RewardedAd rewardedAd;
 
+  // astar
+  private AdAttribution attribution;
+
   private final VungleFactory vungleFactory;
 
   public VungleRtbRewardedAd(
@@ -150,6 +156,9 @@ public class VungleRtbRewardedAd implements MediationRewardedAd, RewardedAdListe
 
   @Override
   public void onAdLoaded(@NonNull BaseAd baseAd) {
+    // astar
+    attribution = VungleMediationAdapter.getAttribution(baseAd);
+    AdEventPipeline.getInstance().recordLoad("liftoff", FORMAT_REWARDED, attribution);
     mediationRewardedAdCallback = mediationAdLoadCallback.onSuccess(VungleRtbRewardedAd.this);
   }
 
@@ -169,6 +178,7 @@ public class VungleRtbRewardedAd implements MediationRewardedAd, RewardedAdListe
 
   @Override
   public void onAdClicked(@NonNull BaseAd baseAd) {
+    AdEventPipeline.getInstance().recordClick("liftoff", FORMAT_REWARDED, attribution);
     if (mediationRewardedAdCallback != null) {
       mediationRewardedAdCallback.reportAdClicked();
     }
@@ -205,6 +215,7 @@ public class VungleRtbRewardedAd implements MediationRewardedAd, RewardedAdListe
 
   @Override
   public void onAdImpression(@NonNull BaseAd baseAd) {
+    AdEventPipeline.getInstance().recordImpression("liftoff", FORMAT_REWARDED, attribution);
     if (mediationRewardedAdCallback != null) {
       mediationRewardedAdCallback.onVideoStart();
       mediationRewardedAdCallback.reportAdImpression();
@@ -8,6 +8,7 @@ import com.google.ads.mediation.adaptertestkit.AdErrorMatcher
 import com.google.ads.mediation.adaptertestkit.AdapterTestKitConstants.TEST_APP_ID
 import com.google.ads.mediation.adaptertestkit.AdapterTestKitConstants.TEST_PLACEMENT_ID
 import com.google.ads.mediation.adaptertestkit.createMediationRewardedAdConfiguration
+import com.google.ads.mediation.common.PlacementCircuitBreaker
 import com.google.ads.mediation.vungle.VungleConstants.KEY_APP_ID
 import com.google.ads.mediation.vungle.VungleConstants.KEY_ORIENTATION
 import com.google.ads.mediation.vungle.VungleConstants.KEY_PLACEMENT_ID
@@ -66,6 +67,7 @@ class VungleRewardedAdTest {
 
   @Before
   fun setUp() {
+    PlacementCircuitBreaker.getInstance().reset()
     adapter = VungleMediationAdapter(vungleFactory)
 
     doAnswer { invocation ->
@@ -21,6 +21,7 @@ import com.five_corp.ad.AdLoader
 import com.five_corp.ad.AdLoader.CollectSignalCallback
 import com.five_corp.ad.AdSlotConfig
 import com.five_corp.ad.FiveAdErrorCode
+import com.google.ads.mediation.common.VersionInfoService
 import com.google.android.gms.ads.AdError
 import com.google.android.gms.ads.VersionInfo
 import com.google.android.gms.ads.mediation.InitializationCompleteCallback
@@ -53,48 +54,13 @@ class LineMediationAdapter : RtbAdapter() {
   private lateinit var rewardedAd: LineRewardedAd
   private lateinit var nativeAd: LineNativeAd
 
-  override fun getSDKVersionInfo(): VersionInfo {
-    val versionString = LineSdkWrapper.delegate.getSdkVersion()
-    val splits = versionString.split("\\.".toRegex()).dropLastWhile { it.isEmpty() }.toTypedArray()
-
-    if (splits.size >= 3) {
-      val major = splits[0].toInt()
-      val minor = splits[1].toInt()
-      val micro = splits[2].toInt()
-      return VersionInfo(major, minor, micro)
-    }
-
-    val logMessage =
-      String.format(
-        "Unexpected SDK version format: %s. Returning 0.0.0 for SDK version.",
-        versionString,
-      )
-    Log.w(TAG, logMessage)
-    return VersionInfo(0, 0, 0)
-  }
+  override fun getSDKVersionInfo(): VersionInfo =
+    VersionInfoService.getSdkVersionInfo(LineSdkWrapper.delegate.getSdkVersion())
 
   override fun getVersionInfo(): VersionInfo =
-    adapterVersionDelegate?.let { getVersionInfo(it) }
-      ?: getVersionInfo(BuildConfig.ADAPTER_VERSION)
-
-  private fun getVersionInfo(versionString: String): VersionInfo {
-    val splits = versionString.split("\\.".toRegex()).dropLastWhile { it.isEmpty() }.toTypedArray()
-
-    if (splits.size >= 4) {
-      val major = splits[0].toInt()
-      val minor = splits[1].toInt()
-      val micro = splits[2].toInt() * 100 + splits[3].toInt()
-      return VersionInfo(major, minor, micro)
-    }
-
-    val logMessage =
-      String.format(
-        "Unexpected adapter version format: %s. Returning 0.0.0 for adapter version.",
-        versionString,
-      )
-    Log.w(TAG, logMessage)
-    return VersionInfo(0, 0, 0)
-  }
+    VersionInfoService.getAdapterVersionInfo(
+      adapterVersionDelegate ?: BuildConfig.ADAPTER_VERSION
+    )
 
   override fun initialize(
     context: Context,
@@ -15,11 +15,13 @@
 package com.google.ads.mediation.line
 
 import android.content.Context
+import android.graphics.Bitmap
 import android.graphics.drawable.Drawable
 import android.net.Uri
 import android.util.Log
 import android.view.View
 import android.widget.ImageView
+import androidx.annotation.VisibleForTesting
 import androidx.core.graphics.drawable.toDrawable
 import com.five_corp.ad.AdLoader
 import com.five_corp.ad.BidData
@@ -28,10 +30,10 @@ import com.five_corp.ad.FiveAdInterface
 import com.five_corp.ad.FiveAdLoadListener
 import com.five_corp.ad.FiveAdNative
 import com.five_corp.ad.FiveAdNativeEventListener
+import com.google.ads.mediation.common.Clock
+import com.google.ads.mediation.common.VersionInfoService
 import com.google.ads.mediation.line.LineMediationAdapter.Companion.SDK_ERROR_DOMAIN
 import com.google.android.gms.ads.AdError
-import com.google.android.gms.ads.MobileAds
-import com.google.android.gms.ads.VersionInfo
 import com.google.android.gms.ads.mediation.MediationAdLoadCallback
 import com.google.android.gms.ads.mediation.MediationNativeAdCallback
 import com.google.android.gms.ads.mediation.MediationNativeAdConfiguration
@@ -47,6 +49,7 @@ import kotlinx.coroutines.async
 import kotlinx.coroutines.cancel
 import kotlinx.coroutines.coroutineScope
 import kotlinx.coroutines.suspendCancellableCoroutine
+import kotlinx.coroutines.withTimeoutOrNull
 
 /**
  * Used to load Line native ads and mediate callbacks between Google Mobile Ads SDK and FiveAd SDK.
@@ -62,6 +65,7 @@ private constructor(
   private val mediationNativeAdLoadCallback:
     MediationAdLoadCallback<NativeAdMapper, MediationNativeAdCallback>,
   private val adapterScope: CoroutineScope,
+  private val clock: Clock,
 ) : NativeAdMapper(), FiveAdLoadListener, FiveAdNativeEventListener {
 
   private var mediationNativeAdCallback: MediationNativeAdCallback? = null
@@ -109,11 +113,7 @@ private constructor(
           if (videoOptions != null) {
             nativeAd.enableSound(!videoOptions.startMuted)
           }
-          adapterScope.async {
-            mapNativeAd()
-            mediationNativeAdCallback = mediationNativeAdLoadCallback.onSuccess(this@LineNativeAd)
-            nativeAd.setEventListener(this@LineNativeAd)
-          }
+          mapAndDeliverNativeAd()
         }
 
         override fun onError(adErrorCode: FiveAdErrorCode) {
@@ -124,7 +124,21 @@ private constructor(
     )
   }
 
-  private suspend fun mapNativeAd() = coroutineScope {
+  /** Maps the loaded ad and reports it to the Google Mobile Ads SDK once its images are ready. */
+  private fun mapAndDeliverNativeAd() {
+    adapterScope.async {
+      if (mapNativeAd()) {
+        mediationNativeAdCallback = mediationNativeAdLoadCallback.onSuccess(this@LineNativeAd)
+        nativeAd.setEventListener(this@LineNativeAd)
+      }
+    }
+  }
+
+  /**
+   * Maps the loaded ad. Returns false, after reporting a load failure, if required assets are
+   * missing.
+   */
+  private suspend fun mapNativeAd(): Boolean {
     headline = nativeAd.adTitle
     body = nativeAd.descriptionText
     callToAction = nativeAd.buttonText
@@ -132,18 +146,7 @@ private constructor(
     advertiser = nativeAd.advertiserName
 
     overrideClickHandling = true
-    val gmaSdkVersion = MobileAds.getVersion()
-    // Extensive version checking is required to include NextGen versions of GMA SDK.
-    if (
-      isVersionLowerThan(
-        gmaSdkVersion,
-        VersionInfo(/* majorVersion= */ 6, /* minorVersion= */ 5, /* microVersion= */ 0),
-      ) &&
-        isVersionGreaterThanOrEqualTo(
-          gmaSdkVersion,
-          VersionInfo(/* majorVersion= */ 0, /* minorVersion= */ 18, /* microVersion= */ 0),
-        ) || (isVersionGreaterThanOrEqualTo(MobileAds.getVersion(), VersionInfo(24, 4, 0)))
-    ) {
+    if (VersionInfoService.runtimeGmaSdkOrNextGenListensToAdapterReportedImpressions()) {
       overrideImpressionRecording = true
     }
 
@@ -158,27 +161,72 @@ private constructor(
       Log.w(TAG, adError.message)
       mediationNativeAdLoadCallback.onFailure(adError)
     }
+    return requiredImagesLoaded
   }
 
-  private suspend fun loadImages() = suspendCancellableCoroutine { continuation ->
-    nativeAd.loadIconImageAsync { image ->
-      val context = weakContext.get()
-      if (image != null && context != null) {
-        icon = LineNativeImage(image.toDrawable(context.resources))
+  /**
+   * Loads the icon and the information icon in parallel, waiting at most
+   * [IMAGE_LOAD_TIMEOUT_MILLIS] for both. Returns whether the information icon, which is required,
+   * was loaded.
+   */
+  private suspend fun loadImages(): Boolean = coroutineScope {
+    val startMillis = clock.elapsedRealtimeMillis()
+    val iconLoad =
+      async { loadImage("icon", startMillis) { callback -> nativeAd.loadIconImageAsync(callback) } }
+    val informationIconLoad =
+      async {
+        loadImage("information icon", startMillis) { callback ->
+          nativeAd.loadInformationIconImageAsync(callback)
+        }
       }
+    val iconImage = iconLoad.await()
+    val informationIconImage = informationIconLoad.await()
+
+    val context = weakContext.get() ?: return@coroutineScope false
+    if (iconImage != null) {
+      icon = LineNativeImage(iconImage.toDrawable(context.resources))
+    }
+    if (informationIconImage == null) {
+      // Native Ad loaded should not continue if Information Icon is not correctly received.
+      return@coroutineScope false
     }
-    nativeAd.loadInformationIconImageAsync { image ->
-      val context = weakContext.get()
-      if (image != null && context != null) {
-        val informationIcon = ImageView(context)
-        informationIcon.setImageBitmap(image)
-        adChoicesContent = informationIcon
-        continuation.resume(true)
-      } else {
-        // Native Ad loaded should not continue if Information Icon is not correctly received.
-        continuation.resume(false)
+    val informationIcon = ImageView(context)
+    informationIcon.setImageBitmap(informationIconImage)
+    adChoicesContent = informationIcon
+    true
+  }
+
+  /**
+   * Waits for an image started with [load], until [IMAGE_LOAD_TIMEOUT_MILLIS] after [startMillis],
+   * and logs how long it took. Returns null if the image couldn't be loaded in time.
+   */
+  private suspend fun loadImage(
+    imageName: String,
+    startMillis: Long,
+    load: (FiveAdNative.LoadImageCallback) -> Unit,
+  ): Bitmap? {
+    val remainingMillis = IMAGE_LOAD_TIMEOUT_MILLIS - (clock.elapsedRealtimeMillis() - startMillis)
+    var isComplete = false
+    val image =
+      withTimeoutOrNull(remainingMillis) {
+        suspendCancellableCoroutine<Bitmap?> { continuation ->
+            load(
+              FiveAdNative.LoadImageCallback { image ->
+                if (continuation.isActive) {
+                  continuation.resume(image)
+                }
+              }
+            )
+          }
+          .also { isComplete = true }
       }
+    val durationMillis = clock.elapsedRealtimeMillis() - startMillis
+    when {
+      image != null -> Log.d(TAG, "Line native ad $imageName loaded in $durationMillis ms.")
+      !isComplete -> Log.w(TAG, "Line native ad $imageName timed out after $durationMillis ms.")
+      else -> Log.w(TAG, "Line native ad $imageName failed to load in $durationMillis ms.")
     }
+    return image
   }
 
   override fun trackViews(
@@ -192,11 +240,7 @@ private constructor(
   override fun onFiveAdLoad(ad: FiveAdInterface) {
     // This callback is used only in the waterfall flow
     Log.d(TAG, "Finished loading Line Native Ad for slotId: ${ad.slotId}")
-    adapterScope.async {
-      mapNativeAd()
-      mediationNativeAdCallback = mediationNativeAdLoadCallback.onSuccess(this@LineNativeAd)
-      nativeAd.setEventListener(this@LineNativeAd)
-    }
+    mapAndDeliverNativeAd()
   }
 
   override fun onFiveAdLoadError(ad: FiveAdInterface, errorCode: FiveAdErrorCode) {
@@ -250,32 +294,6 @@ private constructor(
     mediationNativeAdCallback?.reportAdImpression()
   }
 
-  private fun isVersionGreaterThanOrEqualTo(version1: VersionInfo, version2: VersionInfo): Boolean {
-    if (version1.majorVersion > version2.majorVersion) {
-      return true
-    } else if (version1.majorVersion == version2.majorVersion) {
-      if (version1.minorVersion > version2.minorVersion) {
-        return true
-      } else if (version1.minorVersion == version2.minorVersion) {
-        return version1.microVersion >= version2.microVersion
-      }
-    }
-    return false
-  }
-
-  private fun isVersionLowerThan(version1: VersionInfo, version2: VersionInfo): Boolean {
-    if (version1.majorVersion < version2.majorVersion) {
-      return true
-    } else if (version1.majorVersion == version2.majorVersion) {
-      if (version1.minorVersion < version2.minorVersion) {
-        return true
-      } else if (version1.minorVersion == version2.minorVersion) {
-        return version1.microVersion < version2.microVersion
-      }
-    }
-    return false
-  }
-
   internal class LineNativeImage(private val drawable: Drawable) : NativeAd.Image() {
 
     override fun getScale(): Double = 1.0
@@ -288,12 +306,16 @@ private constructor(
   companion object {
     private val TAG = LineNativeAd::class.simpleName
 
+    /** How long to wait for the icon and the information icon, which load in parallel. */
+    @VisibleForTesting const val IMAGE_LOAD_TIMEOUT_MILLIS = 5_000L
+
     fun newInstance(
       mediationNativeAdConfiguration: MediationNativeAdConfiguration,
       mediationNativeAdLoadCallback:
         MediationAdLoadCallback<NativeAdMapper, MediationNativeAdCallback>,
       coroutineContext: CoroutineContext =
         LineSdkFactory.BACKGROUND_EXECUTOR.asCoroutineDispatcher(),
+      clock: Clock = Clock.SYSTEM,
     ): Result<LineNativeAd> {
       val weakContext = WeakReference(mediationNativeAdConfiguration.context)
       val serverParameters = mediationNativeAdConfiguration.serverParameters
@@ -326,6 +348,7 @@ private constructor(
           nativeAdOptions,
           mediationNativeAdLoadCallback,
           adapterScope,
+          clock,
         )
       return Result.success(instance)
     }
@@ -25,9 +25,13 @@ import com.google.android.gms.ads.mediation.NativeAdMapper
 import com.google.common.truth.Truth.assertThat
 import kotlinx.coroutines.Dispatchers
 import kotlinx.coroutines.ExperimentalCoroutinesApi
+import kotlinx.coroutines.test.StandardTestDispatcher
+import kotlinx.coroutines.test.TestCoroutineScheduler
 import kotlinx.coroutines.test.TestScope
 import kotlinx.coroutines.test.UnconfinedTestDispatcher
+import kotlinx.coroutines.test.advanceTimeBy
 import kotlinx.coroutines.test.advanceUntilIdle
+import kotlinx.coroutines.test.runCurrent
 import kotlinx.coroutines.test.runTest
 import org.junit.Before
 import org.junit.Test
@@ -43,6 +47,7 @@ import org.mockito.kotlin.never
 import org.mockito.kotlin.spy
 import org.mockito.kotlin.verify
 import org.mockito.kotlin.whenever
+import org.robolectric.shadows.ShadowLog
 
 @RunWith(AndroidJUnit4::class)
 @OptIn(ExperimentalCoroutinesApi::class)
@@ -161,6 +166,86 @@ class LineNativeAdTest {
     }
   }
 
+  @Test
+  fun onFiveAdLoad_iconLoadsAfterInformationIcon_waitsForIconBeforeInvokingOnSuccess() {
+    testCoroutineScope.runTest {
+      initiateImageLoadCallbacks()
+      var iconCallback: FiveAdNative.LoadImageCallback? = null
+      doAnswer { invocation -> iconCallback = invocation.getArgument(0) }
+        .whenever(mockFiveAdNative)
+        .loadIconImageAsync(any())
+      lineNativeAd.loadAd()
+
+      lineNativeAd.onFiveAdLoad(mockFiveAdNative)
+      advanceUntilIdle()
+      verify(mediationAdLoadCallback, never()).onSuccess(any())
+      iconCallback!!.onImageLoad(mockIconBitmap)
+      advanceUntilIdle()
+
+      assertThat(lineNativeAd.icon).isInstanceOf(LineNativeAd.LineNativeImage::class.java)
+      verify(mediationAdLoadCallback).onSuccess(lineNativeAd)
+    }
+  }
+
+  @Test
+  fun onFiveAdLoad_iconTimesOut_invokesOnSuccessWithoutIconAfterTimeout() = runTest {
+    initiateImageLoadCallbacks()
+    // The icon callback is never invoked.
+    doAnswer {}.whenever(mockFiveAdNative).loadIconImageAsync(any())
+    val lineNativeAd = createLineNativeAdOnTestScheduler(testScheduler)
+    lineNativeAd.loadAd()
+
+    lineNativeAd.onFiveAdLoad(mockFiveAdNative)
+    advanceTimeBy(LineNativeAd.IMAGE_LOAD_TIMEOUT_MILLIS - 1)
+    runCurrent()
+    verify(mediationAdLoadCallback, never()).onSuccess(any())
+    advanceUntilIdle()
+
+    assertThat(lineNativeAd.icon).isNull()
+    assertThat(lineNativeAd.adChoicesContent).isInstanceOf(ImageView::class.java)
+    verify(mediationAdLoadCallback).onSuccess(lineNativeAd)
+    assertThat(ShadowLog.getLogsForTag("LineNativeAd").map { it.msg })
+      .contains("Line native ad icon timed out after ${LineNativeAd.IMAGE_LOAD_TIMEOUT_MILLIS} ms.")
+  }
+
+  @Test
+  fun onFiveAdLoad_informationIconTimesOut_invokesOnFailureAfterTimeout() = runTest {
+    initiateImageLoadCallbacks()
+    // The information icon callback is never invoked.
+    doAnswer {}.whenever(mockFiveAdNative).loadInformationIconImageAsync(any())
+    val lineNativeAd = createLineNativeAdOnTestScheduler(testScheduler)
+    lineNativeAd.loadAd()
+
+    lineNativeAd.onFiveAdLoad(mockFiveAdNative)
+    advanceTimeBy(LineNativeAd.IMAGE_LOAD_TIMEOUT_MILLIS - 1)
+    runCurrent()
+    verify(mediationAdLoadCallback, never()).onFailure(any<AdError>())
+    advanceUntilIdle()
+
+    val adErrorCaptor = argumentCaptor<AdError>()
+    verify(mediationAdLoadCallback).onFailure(adErrorCaptor.capture())
+    assertThat(adErrorCaptor.firstValue.code)
+      .isEqualTo(LineMediationAdapter.ERROR_CODE_MINIMUM_NATIVE_INFO_NOT_RECEIVED)
+    verify(mediationAdLoadCallback, never()).onSuccess(any())
+  }
+
+  @Test
+  fun onFiveAdLoad_informationIconNotLoaded_invokesOnFailureInsteadOfOnSuccess() {
+    testCoroutineScope.runTest {
+      initiateImageLoadCallbacks(returnValidInformationImage = false)
+      lineNativeAd.loadAd()
+
+      lineNativeAd.onFiveAdLoad(mockFiveAdNative)
+      advanceUntilIdle()
+
+      val adErrorCaptor = argumentCaptor<AdError>()
+      verify(mediationAdLoadCallback).onFailure(adErrorCaptor.capture())
+      assertThat(adErrorCaptor.firstValue.code)
+        .isEqualTo(LineMediationAdapter.ERROR_CODE_MINIMUM_NATIVE_INFO_NOT_RECEIVED)
+      verify(mediationAdLoadCallback, never()).onSuccess(any())
+    }
+  }
+
   @Test
   fun onFiveAdLoadError_invokesOnFailure() {
     val adErrorCaptor = argumentCaptor<AdError>()
@@ -286,6 +371,25 @@ class LineNativeAdTest {
       .loadInformationIconImageAsync(any())
   }
 
+  /**
+   * Creates an ad whose image loads, and whose clock, run on [testScheduler]'s virtual time so that
+   * image load timeouts elapse without waiting.
+   */
+  private fun createLineNativeAdOnTestScheduler(
+    testScheduler: TestCoroutineScheduler
+  ): LineNativeAd {
+    val lineNativeAd =
+      LineNativeAd.newInstance(
+          mediationAdConfiguration,
+          mediationAdLoadCallback,
+          StandardTestDispatcher(testScheduler),
+          clock = { testScheduler.currentTime },
+        )
+        .getOrThrow()
+    whenever(mediationAdLoadCallback.onSuccess(lineNativeAd)) doReturn mockMediationAdCallback
+    return lineNativeAd
+  }
+
   private fun createMediationNativeAdConfiguration(): MediationNativeAdConfiguration {
     val serverParameters =
       bundleOf(
@@ -0,0 +1,112 @@
+// Copyright 2025 Google LLC
+//
+// Licensed under the Apache License, Version 2.0 (the "License");
+// you may not use this file except in compliance with the License.
+// You may obtain a copy of the License at
+//
+//     http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing, software
+// distributed under the License is distributed on an "AS IS" BASIS,
+// WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+// See the License for the specific language governing permissions and
+// limitations under the License.
+
+package com.google.ads.mediation.facebook;
+
+import android.os.Bundle;
+import androidx.annotation.IntDef;
+import androidx.annotation.NonNull;
+import com.facebook.ads.NativeAdBase;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+
+/**
+ * The {@link FacebookExtras} class creates a mediation extras {@link Bundle} for the Meta Audience
+ * Network adapter.
+ */
+public class FacebookExtras {
+
+  /** How much of a native ad's media is downloaded while the ad loads. */
+  @Retention(RetentionPolicy.SOURCE)
+  @IntDef(
+      value = {
+        NATIVE_MEDIA_CACHE_ALL,
+        NATIVE_MEDIA_CACHE_ICON_ONLY,
+        NATIVE_MEDIA_CACHE_DEFERRED,
+        NATIVE_MEDIA_CACHE_AUTO
+      })
+  public @interface NativeMediaCachePolicy {}
+
+  /** Downloads the icon, cover image and video while the ad loads. This is the default. */
+  public static final int NATIVE_MEDIA_CACHE_ALL = 0;
+
+  /**
+   * Downloads only the icon while the ad loads. The cover image and video are fetched by the media
+   * view when it's displayed.
+   */
+  public static final int NATIVE_MEDIA_CACHE_ICON_ONLY = 1;
+
+  /**
+   * Downloads only the icon while the ad loads, and starts downloading the cover image and video
+   * once the ad is bound to its view, shortly before it's displayed.
+   */
+  public static final int NATIVE_MEDIA_CACHE_DEFERRED = 2;
+
+  /**
+   * Uses {@link #NATIVE_MEDIA_CACHE_DEFERRED} on metered connections and low-RAM devices, and
+   * {@link #NATIVE_MEDIA_CACHE_ALL} otherwise.
+   */
+  public static final int NATIVE_MEDIA_CACHE_AUTO = 3;
+
+  /** Class containing keys for the Meta Audience Network extras {@link Bundle}. */
+  public static class Keys {
+
+    private Keys() {}
+
+    public static final String NATIVE_MEDIA_CACHE_POLICY = "native_media_cache_policy";
+
+    public static final String NATIVE_ICON_WIDTH = "native_icon_width";
+
+    public static final String NATIVE_ICON_HEIGHT = "native_icon_height";
+  }
+
+  /** Convenience class used to build the Meta Audience Network network extras {@link Bundle}. */
+  public static class Builder {
+
+    @NativeMediaCachePolicy private int nativeMediaCachePolicy = NATIVE_MEDIA_CACHE_ALL;
+
+    private int nativeIconWidth = NativeAdBase.NativeAdLoadConfigBuilder.UNKNOWN_IMAGE_SIZE;
+
+    private int nativeIconHeight = NativeAdBase.NativeAdLoadConfigBuilder.UNKNOWN_IMAGE_SIZE;
+
+    /** Sets how much of a native ad's media is downloaded while the ad loads. */
+    @NonNull
+    public Builder setNativeMediaCachePolicy(@NativeMediaCachePolicy int policy) {
+      this.nativeMediaCachePolicy = policy;
+      return this;
+    }
+
+    /**
+     * Sets the size, in pixels, at which the native ad icon is preloaded. Use the size of the icon
+     * view to avoid decoding a larger bitmap than is displayed.
+     */
+    @NonNull
+    public Builder setNativeIconSize(int widthPixels, int heightPixels) {
+      this.nativeIconWidth = widthPixels;
+      this.nativeIconHeight = heightPixels;
+      return this;
+    }
+
+    /** Builds a {@link Bundle} object with the given inputs. */
+    @NonNull
+    public Bundle build() {
+      final Bundle extras = new Bundle(3);
+      extras.putInt(Keys.NATIVE_MEDIA_CACHE_POLICY, nativeMediaCachePolicy);
+      extras.putInt(Keys.NATIVE_ICON_WIDTH, nativeIconWidth);
+      extras.putInt(Keys.NATIVE_ICON_HEIGHT, nativeIconHeight);
+
+      return extras;
+    }
+  }
+}
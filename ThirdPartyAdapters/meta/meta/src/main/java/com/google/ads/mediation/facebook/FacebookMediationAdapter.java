@@ -23,6 +23,7 @@ import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
 import com.facebook.ads.AdSettings;
 import com.facebook.ads.BidderTokenProvider;
+import com.google.ads.mediation.common.BidTokenCache;
 import com.google.ads.mediation.facebook.rtb.FacebookRtbBannerAd;
 import com.google.ads.mediation.facebook.rtb.FacebookRtbInterstitialAd;
 import com.google.ads.mediation.facebook.rtb.FacebookRtbNativeAd;
@@ -88,7 +89,8 @@ public class FacebookMediationAdapter extends RtbAdapter {
       ERROR_MAPPING_NATIVE_ASSETS,
       ERROR_CREATE_NATIVE_AD_FROM_BID_PAYLOAD,
       ERROR_FAILED_TO_PRESENT_AD,
-      ERROR_ADVIEW_CONSTRUCTOR_EXCEPTION
+      ERROR_ADVIEW_CONSTRUCTOR_EXCEPTION,
+      ERROR_AD_EXPIRED
   })
 
   public @interface AdapterError {
@@ -150,12 +152,39 @@ public class FacebookMediationAdapter extends RtbAdapter {
    */
   public static final int ERROR_ADVIEW_CONSTRUCTOR_EXCEPTION = 111;
 
+  /**
+   * The loaded interstitial/app open ad expired before it was shown.
+   */
+  public static final int ERROR_AD_EXPIRED = 112;
+
   // Meta Audience Network adapter error domain.
   public static final String ERROR_DOMAIN = "com.google.ads.mediation.facebook";
 
   // Meta Audience Network SDK error domain.
   public static final String FACEBOOK_SDK_ERROR_DOMAIN = "com.facebook.ads";
 
+  /** Key under which bid tokens are cached. Meta bid tokens don't depend on the ad format. */
+  private static final String BID_TOKEN_KEY = "meta";
+
+  /**
+   * Bid tokens cached across adapter instances, so that signals can be collected right away. Tokens
+   * are only cached once a time-to-live is set for "meta" with {@link
+   * BidTokenCache#setTtlMillis}.
+   */
+  private static final BidTokenCache bidTokenCache = new BidTokenCache("meta");
+
+  private static final BidTokenCache.TokenFetcher bidTokenFetcher =
+      new BidTokenCache.TokenFetcher() {
+        @Override
+        public void fetchToken(
+            @NonNull Context context,
+            @NonNull String key,
+            @NonNull BidTokenCache.TokenCallback callback) {
+          String token = BidderTokenProvider.getBidderToken(context);
+          callback.onTokenReady(token != null ? token : "");
+        }
+      };
+
   private final MetaFactory metaFactory;
 
   public FacebookMediationAdapter() {
@@ -230,6 +259,7 @@ public class FacebookMediationAdapter extends RtbAdapter {
           @Override
           public void onInitializeSuccess() {
             initializationCompleteCallback.onInitializationSucceeded();
+            bidTokenCache.prefetch(context, BID_TOKEN_KEY, bidTokenFetcher);
           }
 
           @Override
@@ -240,9 +270,22 @@ public class FacebookMediationAdapter extends RtbAdapter {
   }
 
   @Override
-  public void collectSignals(RtbSignalData rtbSignalData, SignalCallbacks signalCallbacks) {
-    String token = BidderTokenProvider.getBidderToken(rtbSignalData.getContext());
-    signalCallbacks.onSuccess(token);
+  public void collectSignals(RtbSignalData rtbSignalData, final SignalCallbacks signalCallbacks) {
+    bidTokenCache.getToken(
+        rtbSignalData.getContext(),
+        BID_TOKEN_KEY,
+        bidTokenFetcher,
+        new BidTokenCache.TokenCallback() {
+          @Override
+          public void onTokenReady(@NonNull String token) {
+            signalCallbacks.onSuccess(token);
+          }
+
+          @Override
+          public void onTokenError(@NonNull AdError error) {
+            signalCallbacks.onFailure(error);
+          }
+        });
   }
 
   @Override
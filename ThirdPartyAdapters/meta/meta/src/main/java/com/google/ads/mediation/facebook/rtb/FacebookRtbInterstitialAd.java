@@ -14,6 +14,7 @@
 
 package com.google.ads.mediation.facebook.rtb;
 
+import static com.google.ads.mediation.facebook.FacebookMediationAdapter.ERROR_AD_EXPIRED;
 import static com.google.ads.mediation.facebook.FacebookMediationAdapter.ERROR_DOMAIN;
 import static com.google.ads.mediation.facebook.FacebookMediationAdapter.ERROR_FAILED_TO_PRESENT_AD;
 import static com.google.ads.mediation.facebook.FacebookMediationAdapter.ERROR_INVALID_SERVER_PARAMETERS;
@@ -86,6 +87,16 @@ public class FacebookRtbInterstitialAd
   @Override
   public void showAd(@NonNull Context context) {
     showAdCalled.set(true);
+    if (interstitialAd.isAdInvalidated()) {
+      AdError expiredError =
+          new AdError(
+              ERROR_AD_EXPIRED, "The interstitial ad expired before it was shown.", ERROR_DOMAIN);
+      Log.w(TAG, expiredError.toString());
+      if (interstitalAdCallback != null) {
+        interstitalAdCallback.onAdFailedToShow(expiredError);
+      }
+      return;
+    }
     if (!interstitialAd.show()) {
       AdError showError = new AdError(ERROR_FAILED_TO_PRESENT_AD,
           "Failed to present interstitial ad.", ERROR_DOMAIN);
@@ -14,6 +14,9 @@
 
 package com.google.ads.mediation.facebook.rtb;
 
+import static com.google.ads.mediation.facebook.FacebookExtras.NATIVE_MEDIA_CACHE_ALL;
+import static com.google.ads.mediation.facebook.FacebookExtras.NATIVE_MEDIA_CACHE_AUTO;
+import static com.google.ads.mediation.facebook.FacebookExtras.NATIVE_MEDIA_CACHE_DEFERRED;
 import static com.google.ads.mediation.facebook.FacebookMediationAdapter.ERROR_CREATE_NATIVE_AD_FROM_BID_PAYLOAD;
 import static com.google.ads.mediation.facebook.FacebookMediationAdapter.ERROR_DOMAIN;
 import static com.google.ads.mediation.facebook.FacebookMediationAdapter.ERROR_INVALID_SERVER_PARAMETERS;
@@ -26,8 +29,10 @@ import static com.google.ads.mediation.facebook.FacebookMediationAdapter.TAG;
 import static com.google.ads.mediation.facebook.FacebookMediationAdapter.getAdError;
 import static com.google.ads.mediation.facebook.FacebookMediationAdapter.setMixedAudience;
 
+import android.app.ActivityManager;
 import android.content.Context;
 import android.graphics.drawable.Drawable;
+import android.net.ConnectivityManager;
 import android.net.Uri;
 import android.os.Bundle;
 import android.text.TextUtils;
@@ -36,6 +41,7 @@ import android.view.View;
 import android.widget.ImageView;
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
+import androidx.annotation.VisibleForTesting;
 import com.facebook.ads.Ad;
 import com.facebook.ads.AdListener;
 import com.facebook.ads.AdOptionsView;
@@ -46,6 +52,8 @@ import com.facebook.ads.NativeAd;
 import com.facebook.ads.NativeAdBase;
 import com.facebook.ads.NativeAdListener;
 import com.facebook.ads.NativeBannerAd;
+import com.google.ads.mediation.facebook.FacebookExtras;
+import com.google.ads.mediation.facebook.FacebookExtras.NativeMediaCachePolicy;
 import com.google.ads.mediation.facebook.FacebookMediationAdapter;
 import com.google.ads.mediation.facebook.MetaFactory;
 import com.google.android.gms.ads.AdError;
@@ -66,6 +74,9 @@ public class FacebookRtbNativeAd extends UnifiedNativeAdMapper {
   private MediationNativeAdCallback nativeAdCallback;
   private MediaView mediaView;
 
+  /** Whether the cover image and video are downloaded once the ad is bound to its view. */
+  private boolean deferMediaDownload;
+
   private final MetaFactory metaFactory;
 
   public FacebookRtbNativeAd(
@@ -107,18 +118,53 @@ public class FacebookRtbNativeAd extends UnifiedNativeAdMapper {
           new ExtraHints.Builder().mediationData(adConfiguration.getWatermark()).build());
     }
 
+    Bundle mediationExtras = adConfiguration.getMediationExtras();
+    int mediaCachePolicy =
+        getNativeMediaCachePolicy(adConfiguration.getContext(), mediationExtras);
+    deferMediaDownload = mediaCachePolicy == NATIVE_MEDIA_CACHE_DEFERRED;
+    NativeAdBase.MediaCacheFlag mediaCacheFlag =
+        mediaCachePolicy == NATIVE_MEDIA_CACHE_ALL
+            ? NativeAdBase.MediaCacheFlag.ALL
+            : NativeAdBase.MediaCacheFlag.NONE;
+
     nativeAdBase.loadAd(
         nativeAdBase
             .buildLoadAdConfig()
             .withAdListener(new NativeListener(adConfiguration.getContext(), nativeAdBase))
             .withBid(adConfiguration.getBidResponse())
-            .withMediaCacheFlag(NativeAdBase.MediaCacheFlag.ALL)
+            .withMediaCacheFlag(mediaCacheFlag)
             .withPreloadedIconView(
-                NativeAdBase.NativeAdLoadConfigBuilder.UNKNOWN_IMAGE_SIZE,
-                NativeAdBase.NativeAdLoadConfigBuilder.UNKNOWN_IMAGE_SIZE)
+                mediationExtras.getInt(
+                    FacebookExtras.Keys.NATIVE_ICON_WIDTH,
+                    NativeAdBase.NativeAdLoadConfigBuilder.UNKNOWN_IMAGE_SIZE),
+                mediationExtras.getInt(
+                    FacebookExtras.Keys.NATIVE_ICON_HEIGHT,
+                    NativeAdBase.NativeAdLoadConfigBuilder.UNKNOWN_IMAGE_SIZE))
             .build());
   }
 
+  /**
+   * Returns the {@link NativeMediaCachePolicy} requested in the mediation extras, resolving
+   * {@link FacebookExtras#NATIVE_MEDIA_CACHE_AUTO} for the current device and connection.
+   */
+  @VisibleForTesting
+  @NativeMediaCachePolicy
+  static int getNativeMediaCachePolicy(@NonNull Context context, @NonNull Bundle mediationExtras) {
+    int policy =
+        mediationExtras.getInt(
+            FacebookExtras.Keys.NATIVE_MEDIA_CACHE_POLICY, NATIVE_MEDIA_CACHE_ALL);
+    if (policy != NATIVE_MEDIA_CACHE_AUTO) {
+      return policy;
+    }
+    ActivityManager activityManager =
+        (ActivityManager) context.getSystemService(Context.ACTIVITY_SERVICE);
+    ConnectivityManager connectivityManager =
+        (ConnectivityManager) context.getSystemService(Context.CONNECTIVITY_SERVICE);
+    boolean isLowRamDevice = activityManager != null && activityManager.isLowRamDevice();
+    boolean isMetered = connectivityManager != null && connectivityManager.isActiveNetworkMetered();
+    return isLowRamDevice || isMetered ? NATIVE_MEDIA_CACHE_DEFERRED : NATIVE_MEDIA_CACHE_ALL;
+  }
+
   private class NativeListener implements AdListener, NativeAdListener {
 
     /** Context required to create AdOptions View. */
@@ -320,6 +366,12 @@ public class FacebookRtbNativeAd extends UnifiedNativeAdMapper {
     // Meta Audience Network does its own click handling.
     setOverrideClickHandling(true);
 
+    if (deferMediaDownload && nativeAdBase != null) {
+      // The ad is about to be displayed, so start downloading the media that was skipped at load.
+      deferMediaDownload = false;
+      nativeAdBase.downloadMedia();
+    }
+
     ArrayList<View> assetViews = new ArrayList<>(clickableAssetViews.values());
     View iconView = clickableAssetViews.get(UnifiedNativeAdAssetNames.ASSET_ICON);
 
@@ -23,6 +23,7 @@ import com.facebook.ads.AdError
 import com.facebook.ads.ExtraHints
 import com.facebook.ads.InterstitialAd
 import com.facebook.ads.InterstitialAdExtendedListener
+import com.google.ads.mediation.facebook.FacebookMediationAdapter.ERROR_AD_EXPIRED
 import com.google.ads.mediation.facebook.FacebookMediationAdapter.ERROR_DOMAIN
 import com.google.ads.mediation.facebook.FacebookMediationAdapter.ERROR_FAILED_TO_PRESENT_AD
 import com.google.ads.mediation.facebook.FacebookMediationAdapter.ERROR_INVALID_SERVER_PARAMETERS
@@ -82,6 +83,17 @@ class MetaRtbAppOpenAd(
 
   override fun showAd(context: Context) {
     showAdCalled.set(true)
+    if (appOpenAd?.isAdInvalidated == true) {
+      val expiredError =
+        com.google.android.gms.ads.AdError(
+          ERROR_AD_EXPIRED,
+          "The app open ad expired before it was shown.",
+          ERROR_DOMAIN,
+        )
+      Log.w(TAG, expiredError.toString())
+      appOpenAdCallback?.onAdFailedToShow(expiredError)
+      return
+    }
     if (appOpenAd?.show() == false) {
       val showError =
         com.google.android.gms.ads.AdError(
@@ -36,6 +36,8 @@ import com.google.ads.mediation.adaptertestkit.loadRtbRewardedInterstitialAdWith
 import com.google.ads.mediation.adaptertestkit.mediationAdapterInitializeVerifyFailure
 import com.google.ads.mediation.adaptertestkit.mediationAdapterInitializeVerifyNoFailure
 import com.google.ads.mediation.adaptertestkit.mediationAdapterInitializeVerifySuccess
+import com.google.ads.mediation.common.BidTokenCache
+import com.google.ads.mediation.common.PrivacySnapshotService
 import com.google.ads.mediation.facebook.FacebookAdapterUtils.adapterVersion
 import com.google.ads.mediation.facebook.FacebookMediationAdapter.ERROR_DOMAIN
 import com.google.ads.mediation.facebook.FacebookMediationAdapter.ERROR_FACEBOOK_INITIALIZATION
@@ -61,6 +63,7 @@ import com.google.android.gms.ads.mediation.UnifiedNativeAdMapper
 import com.google.android.gms.ads.mediation.rtb.RtbSignalData
 import com.google.android.gms.ads.mediation.rtb.SignalCallbacks
 import com.google.common.truth.Truth.assertThat
+import org.junit.After
 import org.junit.Before
 import org.junit.Test
 import org.junit.runner.RunWith
@@ -71,6 +74,7 @@ import org.mockito.kotlin.doAnswer
 import org.mockito.kotlin.doReturn
 import org.mockito.kotlin.doThrow
 import org.mockito.kotlin.mock
+import org.mockito.kotlin.never
 import org.mockito.kotlin.times
 import org.mockito.kotlin.verify
 import org.mockito.kotlin.whenever
@@ -81,6 +85,7 @@ class FacebookMediationAdapterTest {
 
   private val context = ApplicationProvider.getApplicationContext<Context>()
   private val rtbSignalData = mock<RtbSignalData>() { on { context } doReturn context }
+  private val pendingTokenRefreshes = ArrayDeque<Runnable>()
   private val signalCallbacks = mock<SignalCallbacks>()
   private val metaFactory = mock<MetaFactory>()
   private val mockInitializationCompleteCallback: InitializationCompleteCallback = mock()
@@ -160,9 +165,23 @@ class FacebookMediationAdapterTest {
 
   @Before
   fun setUp() {
+    BidTokenCache.setDefaultRefreshExecutor { pendingTokenRefreshes.addLast(it) }
     facebookMediationAdapter = FacebookMediationAdapter(metaFactory)
   }
 
+  @After
+  fun tearDown() {
+    // Finish the refreshes without caching their tokens, so that no token leaks into other tests.
+    BidTokenCache.removeTtlMillis(NETWORK_NAME)
+    runPendingTokenRefreshes()
+    BidTokenCache.setDefaultRefreshExecutor(null)
+    context
+      .getSharedPreferences(context.packageName + "_preferences", Context.MODE_PRIVATE)
+      .edit()
+      .clear()
+      .commit()
+  }
+
   // region Version Tests
   @Test
   fun getVersionInfo_returnCorrectVersionInfo() {
@@ -214,6 +233,44 @@ class FacebookMediationAdapterTest {
     }
   }
 
+  @Test
+  fun collectSignals_tokenCached_invokesOnSuccessWithCachedToken() {
+    BidTokenCache.setTtlMillis(NETWORK_NAME, TEST_TOKEN_TTL_MILLIS)
+    mockStatic(BidderTokenProvider::class.java).use {
+      whenever(getBidderToken(any())).doReturn("first", "second")
+      facebookMediationAdapter.collectSignals(rtbSignalData, signalCallbacks)
+      runPendingTokenRefreshes()
+
+      facebookMediationAdapter.collectSignals(rtbSignalData, signalCallbacks)
+
+      verify(signalCallbacks).onSuccess("first")
+      verify(signalCallbacks).onSuccess("second")
+      // The second token was served from the cache, without another fetch.
+      it.verify({ getBidderToken(any()) }, times(2))
+    }
+  }
+
+  @Test
+  fun collectSignals_consentChangedAfterTokenCached_invokesOnSuccessWithNewToken() {
+    BidTokenCache.setTtlMillis(NETWORK_NAME, TEST_TOKEN_TTL_MILLIS)
+    mockStatic(BidderTokenProvider::class.java).use {
+      whenever(getBidderToken(any())).doReturn("first", "second", "third")
+      facebookMediationAdapter.collectSignals(rtbSignalData, signalCallbacks)
+      runPendingTokenRefreshes()
+
+      context
+        .getSharedPreferences(context.packageName + "_preferences", Context.MODE_PRIVATE)
+        .edit()
+        .putString(PrivacySnapshotService.KEY_TCF_STRING, "tcf")
+        .commit()
+      facebookMediationAdapter.collectSignals(rtbSignalData, signalCallbacks)
+
+      verify(signalCallbacks).onSuccess("first")
+      verify(signalCallbacks).onSuccess("third")
+      verify(signalCallbacks, never()).onSuccess("second")
+    }
+  }
+
   // endregion
 
   @Test
@@ -853,7 +910,15 @@ class FacebookMediationAdapterTest {
 
   // endregion
 
+  private fun runPendingTokenRefreshes() {
+    while (pendingTokenRefreshes.isNotEmpty()) {
+      pendingTokenRefreshes.removeFirst().run()
+    }
+  }
+
   companion object {
     private const val WATERMARK = "meta"
+    private const val NETWORK_NAME = "meta"
+    private const val TEST_TOKEN_TTL_MILLIS = 60_000L
   }
 }
@@ -11,6 +11,7 @@ import com.facebook.ads.InterstitialAd
 import com.google.ads.mediation.adaptertestkit.AdErrorMatcher
 import com.google.ads.mediation.adaptertestkit.AdapterTestKitConstants.TEST_AD_UNIT
 import com.google.ads.mediation.adaptertestkit.createMediationInterstitialAdConfiguration
+import com.google.ads.mediation.facebook.FacebookMediationAdapter.ERROR_AD_EXPIRED
 import com.google.ads.mediation.facebook.FacebookMediationAdapter.ERROR_DOMAIN
 import com.google.ads.mediation.facebook.FacebookMediationAdapter.ERROR_FAILED_TO_PRESENT_AD
 import com.google.ads.mediation.facebook.FacebookMediationAdapter.FACEBOOK_SDK_ERROR_DOMAIN
@@ -28,6 +29,7 @@ import org.mockito.kotlin.any
 import org.mockito.kotlin.argThat
 import org.mockito.kotlin.doReturn
 import org.mockito.kotlin.mock
+import org.mockito.kotlin.never
 import org.mockito.kotlin.times
 import org.mockito.kotlin.verify
 import org.mockito.kotlin.whenever
@@ -117,6 +119,20 @@ class FacebookRtbInterstitialAdTest {
       .onAdFailedToShow(argThat(AdErrorMatcher(expectedAdError)))
   }
 
+  @Test
+  fun onShowAd_ifInterstitialAdInvalidated_callsOnAdFailedToShowWithoutShowing() {
+    renderAndLoadSuccessfully()
+    whenever(metaInterstitialAd.isAdInvalidated) doReturn true
+    val expectedAdError =
+      AdError(ERROR_AD_EXPIRED, "The interstitial ad expired before it was shown.", ERROR_DOMAIN)
+
+    adapterInterstitialAd.showAd(context)
+
+    verify(mediationInterstitialAdCallback)
+      .onAdFailedToShow(argThat(AdErrorMatcher(expectedAdError)))
+    verify(metaInterstitialAd, never()).show()
+  }
+
   @Test
   fun onInterstitialDisplayed_invokesOnAdOpenedCallback() {
     renderAndLoadSuccessfully()
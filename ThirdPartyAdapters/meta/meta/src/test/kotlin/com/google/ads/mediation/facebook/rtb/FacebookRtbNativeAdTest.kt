@@ -1,6 +1,7 @@
 package com.google.ads.mediation.facebook.rtb
 
 import android.content.Context
+import android.os.Bundle
 import android.graphics.drawable.Drawable
 import android.view.View
 import android.widget.ImageView
@@ -18,6 +19,7 @@ import com.google.ads.mediation.adaptertestkit.AdErrorMatcher
 import com.google.ads.mediation.adaptertestkit.AdapterTestKitConstants
 import com.google.ads.mediation.adaptertestkit.AdapterTestKitConstants.TEST_WATERMARK
 import com.google.ads.mediation.adaptertestkit.createMediationNativeAdConfiguration
+import com.google.ads.mediation.facebook.FacebookExtras
 import com.google.ads.mediation.facebook.FacebookMediationAdapter
 import com.google.ads.mediation.facebook.FacebookMediationAdapter.KEY_ID
 import com.google.ads.mediation.facebook.FacebookMediationAdapter.KEY_SOCIAL_CONTEXT_ASSET
@@ -38,6 +40,7 @@ import org.mockito.kotlin.argumentCaptor
 import org.mockito.kotlin.doReturn
 import org.mockito.kotlin.eq
 import org.mockito.kotlin.mock
+import org.mockito.kotlin.never
 import org.mockito.kotlin.times
 import org.mockito.kotlin.verify
 import org.mockito.kotlin.verifyNoMoreInteractions
@@ -547,6 +550,60 @@ class FacebookRtbNativeAdTest {
     verifyNoMoreInteractions(nativeAdBase)
   }
 
+  @Test
+  fun render_withIconOnlyMediaCachePolicy_preloadsOnlyIconAtRequestedSize() {
+    whenever(metaNativeAdLoadConfigBuilder.withPreloadedIconView(any(), any())) doReturn
+      metaNativeAdLoadConfigBuilder
+    val mediationExtras =
+      FacebookExtras.Builder()
+        .setNativeMediaCachePolicy(FacebookExtras.NATIVE_MEDIA_CACHE_ICON_ONLY)
+        .setNativeIconSize(ICON_SIZE_PIXELS, ICON_SIZE_PIXELS)
+        .build()
+
+    render(mediationExtras)
+
+    verify(metaNativeAdLoadConfigBuilder).withMediaCacheFlag(NativeAdBase.MediaCacheFlag.NONE)
+    verify(metaNativeAdLoadConfigBuilder).withPreloadedIconView(ICON_SIZE_PIXELS, ICON_SIZE_PIXELS)
+  }
+
+  @Test
+  fun render_withoutMediaCachePolicy_cachesAllMedia() {
+    render(bundleOf())
+
+    verify(metaNativeAdLoadConfigBuilder).withMediaCacheFlag(NativeAdBase.MediaCacheFlag.ALL)
+  }
+
+  @Test
+  fun trackViews_withDeferredMediaCachePolicy_downloadsMediaOnce() {
+    val mediationExtras =
+      FacebookExtras.Builder()
+        .setNativeMediaCachePolicy(FacebookExtras.NATIVE_MEDIA_CACHE_DEFERRED)
+        .build()
+    render(mediationExtras)
+    verify(metaNativeAdLoadConfigBuilder).withMediaCacheFlag(NativeAdBase.MediaCacheFlag.NONE)
+    verify(metaNativeAd, never()).downloadMedia()
+    val clickableAssets = mapOf(ASSET_ICON to mock<ImageView>())
+
+    facebookRtbNativeAd.trackViews(gmaContainerView, clickableAssets, emptyMap())
+    facebookRtbNativeAd.trackViews(gmaContainerView, clickableAssets, emptyMap())
+
+    verify(metaNativeAd).downloadMedia()
+  }
+
+  private fun render(mediationExtras: Bundle) {
+    val adConfiguration =
+      createMediationNativeAdConfiguration(
+        context = context,
+        serverParameters = serverParameters,
+        mediationExtras = mediationExtras,
+        bidResponse = AdapterTestKitConstants.TEST_BID_RESPONSE,
+      )
+    Mockito.mockStatic(NativeAdBase::class.java).use {
+      whenever(NativeAdBase.fromBidPayload(any(), any(), any())) doReturn metaNativeAd
+      facebookRtbNativeAd.render(adConfiguration)
+    }
+  }
+
   @Test
   fun unTrackView_unRegistersView() {
     Mockito.mockStatic(NativeAdBase::class.java).use {
@@ -568,5 +625,6 @@ class FacebookRtbNativeAdTest {
     const val META_ADVERTISER_NAME = "meta_advertiser_name"
     const val META_AD_ID = "skq2321d0Ad"
     const val META_AD_SOCIAL_CONTEXT = "Meta ad social context"
+    const val ICON_SIZE_PIXELS = 96
   }
 }
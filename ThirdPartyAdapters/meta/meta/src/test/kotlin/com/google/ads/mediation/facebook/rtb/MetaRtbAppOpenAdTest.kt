@@ -25,6 +25,7 @@ import com.facebook.ads.InterstitialAd
 import com.google.ads.mediation.adaptertestkit.AdErrorMatcher
 import com.google.ads.mediation.adaptertestkit.AdapterTestKitConstants.TEST_AD_UNIT
 import com.google.ads.mediation.adaptertestkit.createMediationAppOpenAdConfiguration
+import com.google.ads.mediation.facebook.FacebookMediationAdapter.ERROR_AD_EXPIRED
 import com.google.ads.mediation.facebook.FacebookMediationAdapter.ERROR_DOMAIN
 import com.google.ads.mediation.facebook.FacebookMediationAdapter.ERROR_FAILED_TO_PRESENT_AD
 import com.google.ads.mediation.facebook.FacebookMediationAdapter.FACEBOOK_SDK_ERROR_DOMAIN
@@ -42,6 +43,7 @@ import org.mockito.kotlin.any
 import org.mockito.kotlin.argThat
 import org.mockito.kotlin.doReturn
 import org.mockito.kotlin.mock
+import org.mockito.kotlin.never
 import org.mockito.kotlin.times
 import org.mockito.kotlin.verify
 import org.mockito.kotlin.whenever
@@ -132,6 +134,19 @@ class MetaRtbAppOpenAdTest {
     verify(mediationAppOpenAdCallback).onAdFailedToShow(argThat(AdErrorMatcher(expectedAdError)))
   }
 
+  @Test
+  fun onShowAd_ifAppOpenAdInvalidated_callsOnAdFailedToShowWithoutShowing() {
+    renderAndLoadSuccessfully()
+    whenever(metaAppOpenAd.isAdInvalidated) doReturn true
+    val expectedAdError =
+      AdError(ERROR_AD_EXPIRED, "The app open ad expired before it was shown.", ERROR_DOMAIN)
+
+    adapterAppOpenAd.showAd(context)
+
+    verify(mediationAppOpenAdCallback).onAdFailedToShow(argThat(AdErrorMatcher(expectedAdError)))
+    verify(metaAppOpenAd, never()).show()
+  }
+
   @Test
   fun onAppOpenDisplayed_invokesOnAdOpenedCallback() {
     renderAndLoadSuccessfully()
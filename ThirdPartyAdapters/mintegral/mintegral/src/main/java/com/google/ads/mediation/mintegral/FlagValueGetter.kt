@@ -16,10 +16,12 @@ package com.google.ads.mediation.mintegral
 
 import android.os.Bundle
 import androidx.annotation.VisibleForTesting
-import java.lang.reflect.InvocationTargetException
+import com.google.ads.mediation.common.AdapterFlagResolver
 
 /** Gets the values of flags that modify the adapter's behavior. */
-class FlagValueGetter {
+class FlagValueGetter
+@JvmOverloads
+constructor(private val flagResolver: AdapterFlagResolver = AdapterFlagResolver.getInstance()) {
 
   /**
    * Returns whether to restrict loading multiple full-screen ads for a single Mintegral slot ID at
@@ -34,40 +36,14 @@ class FlagValueGetter {
     return getClientSideRestrictMultipleAdLoadsFlagValue() || flipMultipleAdLoadsBehavior
   }
 
-  /** Gets the value of the client-side flag for whether to restrict multiple ad loading or not. */
-  fun getClientSideRestrictMultipleAdLoadsFlagValue(): Boolean {
-    try {
-      val adapterSettingsClass =
-        Class.forName("com.google.android.gms.ads.internal.adaptersettings.AdapterSettings")
-      val getInstanceMethod = adapterSettingsClass.getDeclaredMethod("getInstance")
-      getInstanceMethod.setAccessible(true)
-      val settings = getInstanceMethod.invoke(null)
-      val getBooleanMethod =
-        settings.javaClass.getDeclaredMethod(
-          "getBoolean",
-          String::class.java,
-          Boolean::class.javaPrimitiveType,
-        )
-      getBooleanMethod.setAccessible(true)
-      return getBooleanMethod.invoke(
-        settings,
-        /* key= */ "adapter:mintegral_android_restrict_multiple_ads",
-        /* defaultValue= */ false,
-      ) as Boolean
-    }
-    // Default to false if there is an exception.
-    catch (e: ClassNotFoundException) {
-      return false
-    } catch (e: NoSuchMethodException) {
-      return false
-    } catch (e: IllegalAccessException) {
-      return false
-    } catch (e: InvocationTargetException) {
-      return false
-    } catch (e: NullPointerException) {
-      return false
-    }
-  }
+  /**
+   * Gets the value of the client-side flag for whether to restrict multiple ad loading or not.
+   *
+   * The value is resolved through the shared [AdapterFlagResolver], so it is only read from the
+   * Google Mobile Ads SDK once per refresh interval rather than on every call.
+   */
+  fun getClientSideRestrictMultipleAdLoadsFlagValue(): Boolean =
+    flagResolver.getBoolean(KEY_RESTRICT_MULTIPLE_ADS, /* defaultValue= */ false)
 
   fun processMultipleAdLoadsServerParam(serverParams: Bundle) {
     if (
@@ -80,6 +56,9 @@ class FlagValueGetter {
 
   companion object {
 
+    /** Key of the client-side flag for whether to restrict multiple ad loading or not. */
+    private const val KEY_RESTRICT_MULTIPLE_ADS = "adapter:mintegral_android_restrict_multiple_ads"
+
     // The Serving flag was originally named "enable_multiple_ads_per_unit". But, we are repurposing
     // it to actually mean flip the adapter's default behavior of how it handles loading multiple
     // ads per ad unit.
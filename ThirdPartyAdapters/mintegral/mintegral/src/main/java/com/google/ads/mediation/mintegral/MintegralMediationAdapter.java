@@ -27,6 +27,10 @@ import android.text.TextUtils;
 import android.util.Log;
 import androidx.annotation.NonNull;
 import androidx.annotation.VisibleForTesting;
+import com.google.ads.mediation.common.AdapterStartupCoordinator;
+import com.google.ads.mediation.common.SlotReservations;
+import com.google.ads.mediation.common.VersionInfoService;
+import com.google.ads.mediation.common.VersionInfoService.VersionParser;
 import com.google.ads.mediation.mintegral.rtb.MintegralRtbAppOpenAd;
 import com.google.ads.mediation.mintegral.rtb.MintegralRtbBannerAd;
 import com.google.ads.mediation.mintegral.rtb.MintegralRtbInterstitialAd;
@@ -71,6 +75,7 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 
@@ -86,11 +91,23 @@ public class MintegralMediationAdapter extends RtbAdapter {
    *
    * <p>This is used only MintegralUtils.shouldRestrictMultipleAdsLoad() is true.
    */
-  public static final Map<MintegralSlotIdentifier, WeakReference<Object>> loadedSlotIdentifiers =
-      new ConcurrentHashMap<>();
+  public static final ConcurrentMap<MintegralSlotIdentifier, WeakReference<Object>>
+      loadedSlotIdentifiers = new ConcurrentHashMap<>();
 
   private static MBridgeSDK mBridgeSDK;
 
+  /** Parses Mintegral SDK versions, which have the form "MAL_x.y.z". */
+  private static final VersionParser SDK_VERSION_PARSER =
+      new VersionParser(
+          "SDK version",
+          versionString -> {
+            String[] versionSplits = versionString.split("_");
+            if (versionSplits.length > 1) {
+              return VersionInfoService.parseMajorMinorMicro(versionSplits[1]);
+            }
+            return null;
+          });
+
   private MintegralWaterfallBannerAd mintegralWaterfallBannerAd;
   private MintegralWaterfallInterstitialAd mintegralInterstitialAd;
   private MintegralWaterfallRewardedAd mintegralRewardedAd;
@@ -124,9 +141,7 @@ public class MintegralMediationAdapter extends RtbAdapter {
       List<MintegralSlotIdentifier> mintegralSlotIdentifiers =
           getMintegralSlotIdentifiers(rtbSignalData);
       for (MintegralSlotIdentifier mintegralSlotIdentifier : mintegralSlotIdentifiers) {
-        WeakReference<Object> adObjectReference =
-            loadedSlotIdentifiers.get(mintegralSlotIdentifier);
-        if (adObjectReference != null && adObjectReference.get() != null) {
+        if (SlotReservations.isReserved(loadedSlotIdentifiers, mintegralSlotIdentifier)) {
           signalCallbacks.onFailure(
               new AdError(ERROR_CODE_AD_ALREADY_LOADED, ERROR_MSG_AD_ALREADY_LOADED, ERROR_DOMAIN));
           return;
@@ -140,48 +155,34 @@ public class MintegralMediationAdapter extends RtbAdapter {
   @NonNull
   @Override
   public VersionInfo getSDKVersionInfo() {
-    // Mintegral SDK returns the SDK version in "MAL_x.y.z" format.
-    String versionString = MintegralUtils.getSdkVersion();
-    String[] versionSplits = versionString.split("_");
-    if (versionSplits.length > 1) {
-      String[] splits = versionSplits[1].split("\\.");
-
-      if (splits.length >= 3) {
-        int major = Integer.parseInt(splits[0]);
-        int minor = Integer.parseInt(splits[1]);
-        int micro = Integer.parseInt(splits[2]);
-        return new VersionInfo(major, minor, micro);
-      }
-    }
-
-    String logMessage = String.format(
-        "Unexpected SDK version format: %s. Returning 0.0.0 for SDK version.", versionString);
-    Log.w(TAG, logMessage);
-    return new VersionInfo(0, 0, 0);
+    return SDK_VERSION_PARSER.parse(MintegralUtils.getSdkVersion());
   }
 
   @NonNull
   @Override
   public VersionInfo getVersionInfo() {
-    String versionString = MintegralUtils.getAdapterVersion();
-    String[] splits = versionString.split("\\.");
-
-    if (splits.length >= 4) {
-      int major = Integer.parseInt(splits[0]);
-      int minor = Integer.parseInt(splits[1]);
-      int micro = Integer.parseInt(splits[2]) * 100 + Integer.parseInt(splits[3]);
-      return new VersionInfo(major, minor, micro);
-    }
-
-    String logMessage = String.format(
-        "Unexpected adapter version format: %s. Returning 0.0.0 for adapter version.",
-        versionString);
-    Log.w(TAG, logMessage);
-    return new VersionInfo(0, 0, 0);
+    return VersionInfoService.getAdapterVersionInfo(MintegralUtils.getAdapterVersion());
   }
 
   @Override
-  public void initialize(@NonNull Context context,
+  public void initialize(
+      @NonNull Context context,
+      @NonNull InitializationCompleteCallback initializationCompleteCallback,
+      @NonNull List<MediationConfiguration> list) {
+    AdapterStartupCoordinator.getInstance()
+        .initialize(
+            MintegralMediationAdapter.class.getName(),
+            initializationCompleteCallback,
+            new AdapterStartupCoordinator.StartupTask() {
+              @Override
+              public void start(@NonNull InitializationCompleteCallback callback) {
+                initializeSdk(context, callback, list);
+              }
+            });
+  }
+
+  private void initializeSdk(
+      @NonNull Context context,
       @NonNull InitializationCompleteCallback initializationCompleteCallback,
       @NonNull List<MediationConfiguration> list) {
     HashSet<String> appIds = new HashSet<>();
@@ -15,7 +15,6 @@
 package com.google.ads.mediation.mintegral;
 
 import static android.util.TypedValue.COMPLEX_UNIT_DIP;
-import static com.google.android.gms.ads.MobileAds.getRequestConfiguration;
 
 import android.content.Context;
 import android.content.res.Resources;
@@ -25,8 +24,8 @@ import android.util.Log;
 import android.util.TypedValue;
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
+import com.google.ads.mediation.common.PrivacySnapshotService;
 import com.google.android.gms.ads.AdError;
-import com.google.android.gms.ads.RequestConfiguration;
 import com.google.android.gms.ads.mediation.MediationConfiguration;
 import com.google.android.gms.ads.mediation.rtb.RtbSignalData;
 import com.mbridge.msdk.MBridgeSDK;
@@ -38,6 +37,9 @@ public class MintegralUtils {
 
   public static final String TAG = MintegralUtils.class.getSimpleName();
 
+  /** The network name that privacy state is tracked under. */
+  private static final String NETWORK_NAME = "mintegral";
+
   public static String getAdapterVersion() {
     return BuildConfig.ADAPTER_VERSION;
   }
@@ -104,16 +106,21 @@ public class MintegralUtils {
         TypedValue.applyDimension(COMPLEX_UNIT_DIP, dipValue + 0.5f, resources.getDisplayMetrics());
   }
 
+  /**
+   * Forwards the user's COPPA status to the Mintegral SDK, if it changed since it was last
+   * forwarded.
+   */
   protected static void configureMintegralPrivacy(Context context, MBridgeSDK mBridgeSDK) {
-    int tagForChildDirected = getRequestConfiguration().getTagForChildDirectedTreatment();
-    int tagForUnderAgeConsent = getRequestConfiguration().getTagForUnderAgeOfConsent();
-    if (tagForChildDirected == RequestConfiguration.TAG_FOR_CHILD_DIRECTED_TREATMENT_TRUE
-        || tagForUnderAgeConsent == RequestConfiguration.TAG_FOR_UNDER_AGE_OF_CONSENT_TRUE) {
-      mBridgeSDK.setCoppaStatus(context, true);
-    } else if (tagForChildDirected == RequestConfiguration.TAG_FOR_CHILD_DIRECTED_TREATMENT_FALSE
-        || tagForUnderAgeConsent == RequestConfiguration.TAG_FOR_UNDER_AGE_OF_CONSENT_FALSE) {
-      mBridgeSDK.setCoppaStatus(context, false);
-    }
+    PrivacySnapshotService.getInstance()
+        .applyIfChanged(
+            context,
+            NETWORK_NAME,
+            snapshot -> {
+              Boolean isAgeRestricted = snapshot.isAgeRestricted();
+              if (isAgeRestricted != null) {
+                mBridgeSDK.setCoppaStatus(context, isAgeRestricted);
+              }
+            });
   }
 
   /** Get the Mintegral slot identifiers in RtbSignalData. */
@@ -19,6 +19,7 @@ import static com.google.ads.mediation.mintegral.MintegralMediationAdapter.loade
 
 import android.util.Log;
 import androidx.annotation.NonNull;
+import com.google.ads.mediation.common.SlotReservations;
 import com.google.ads.mediation.mintegral.FlagValueGetter;
 import com.google.ads.mediation.mintegral.MintegralConstants;
 import com.google.ads.mediation.mintegral.MintegralSlotIdentifier;
@@ -69,7 +70,7 @@ public abstract class MintegralAppOpenAd extends MBSplashLoadWithCodeListener
   @Override
   public void onLoadFailedWithCode(MBridgeIds mBridgeIds, int code, String msg, int reqType) {
     if (flagValueGetter.shouldRestrictMultipleAdLoads() && mintegralSlotIdentifier != null) {
-      loadedSlotIdentifiers.remove(mintegralSlotIdentifier);
+      SlotReservations.release(loadedSlotIdentifiers, mintegralSlotIdentifier, this);
     }
     AdError adError = MintegralConstants.createSdkError(code, msg);
     Log.d(TAG, adError.toString());
@@ -79,7 +80,7 @@ public abstract class MintegralAppOpenAd extends MBSplashLoadWithCodeListener
   @Override
   public void onShowSuccessed(MBridgeIds mBridgeIds) {
     if (flagValueGetter.shouldRestrictMultipleAdLoads() && mintegralSlotIdentifier != null) {
-      loadedSlotIdentifiers.remove(mintegralSlotIdentifier);
+      SlotReservations.release(loadedSlotIdentifiers, mintegralSlotIdentifier, this);
     }
     if (appOpenAdCallback != null) {
       appOpenAdCallback.onAdOpened();
@@ -90,7 +91,7 @@ public abstract class MintegralAppOpenAd extends MBSplashLoadWithCodeListener
   @Override
   public void onShowFailed(MBridgeIds mBridgeIds, String msg) {
     if (flagValueGetter.shouldRestrictMultipleAdLoads() && mintegralSlotIdentifier != null) {
-      loadedSlotIdentifiers.remove(mintegralSlotIdentifier);
+      SlotReservations.release(loadedSlotIdentifiers, mintegralSlotIdentifier, this);
     }
     if (appOpenAdCallback != null) {
       AdError error =
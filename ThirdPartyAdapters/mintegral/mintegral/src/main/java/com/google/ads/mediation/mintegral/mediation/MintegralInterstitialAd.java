@@ -19,6 +19,7 @@ import static com.google.ads.mediation.mintegral.MintegralMediationAdapter.loade
 
 import android.util.Log;
 import androidx.annotation.NonNull;
+import com.google.ads.mediation.common.SlotReservations;
 import com.google.ads.mediation.mintegral.FlagValueGetter;
 import com.google.ads.mediation.mintegral.MintegralConstants;
 import com.google.ads.mediation.mintegral.MintegralSlotIdentifier;
@@ -74,7 +75,7 @@ public abstract class MintegralInterstitialAd extends NewInterstitialWithCodeLis
   public void onResourceLoadFailWithCode(MBridgeIds mBridgeIds, int errorCode,
       String errorMessage) {
     if (flagValueGetter.shouldRestrictMultipleAdLoads() && mintegralSlotIdentifier != null) {
-      loadedSlotIdentifiers.remove(mintegralSlotIdentifier);
+      SlotReservations.release(loadedSlotIdentifiers, mintegralSlotIdentifier, this);
     }
     AdError error = MintegralConstants.createSdkError(errorCode, errorMessage);
     Log.w(TAG, error.toString());
@@ -84,7 +85,7 @@ public abstract class MintegralInterstitialAd extends NewInterstitialWithCodeLis
   @Override
   public void onAdShow(MBridgeIds mBridgeIds) {
     if (flagValueGetter.shouldRestrictMultipleAdLoads() && mintegralSlotIdentifier != null) {
-      loadedSlotIdentifiers.remove(mintegralSlotIdentifier);
+      SlotReservations.release(loadedSlotIdentifiers, mintegralSlotIdentifier, this);
     }
     if (interstitialAdCallback != null) {
       interstitialAdCallback.onAdOpened();
@@ -102,7 +103,7 @@ public abstract class MintegralInterstitialAd extends NewInterstitialWithCodeLis
   @Override
   public void onShowFailWithCode(MBridgeIds mBridgeIds, int errorCode, String errorMessage) {
     if (flagValueGetter.shouldRestrictMultipleAdLoads() && mintegralSlotIdentifier != null) {
-      loadedSlotIdentifiers.remove(mintegralSlotIdentifier);
+      SlotReservations.release(loadedSlotIdentifiers, mintegralSlotIdentifier, this);
     }
     AdError error = MintegralConstants.createSdkError(errorCode, errorMessage);
     Log.w(TAG, error.toString());
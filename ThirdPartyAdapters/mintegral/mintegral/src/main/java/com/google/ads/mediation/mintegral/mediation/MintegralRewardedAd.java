@@ -19,6 +19,7 @@ import static com.google.ads.mediation.mintegral.MintegralMediationAdapter.loade
 
 import android.util.Log;
 import androidx.annotation.NonNull;
+import com.google.ads.mediation.common.SlotReservations;
 import com.google.ads.mediation.mintegral.FlagValueGetter;
 import com.google.ads.mediation.mintegral.MintegralConstants;
 import com.google.ads.mediation.mintegral.MintegralSlotIdentifier;
@@ -72,7 +73,7 @@ public abstract class MintegralRewardedAd extends RewardVideoWithCodeListener im
   @Override
   public void onVideoLoadFailWithCode(MBridgeIds mBridgeIds, int errorCode, String errorMessage) {
     if (flagValueGetter.shouldRestrictMultipleAdLoads() && mintegralSlotIdentifier != null) {
-      loadedSlotIdentifiers.remove(mintegralSlotIdentifier);
+      SlotReservations.release(loadedSlotIdentifiers, mintegralSlotIdentifier, this);
     }
     AdError error = MintegralConstants.createSdkError(errorCode, errorMessage);
     Log.w(TAG, error.toString());
@@ -82,7 +83,7 @@ public abstract class MintegralRewardedAd extends RewardVideoWithCodeListener im
   @Override
   public void onAdShow(MBridgeIds mBridgeIds) {
     if (flagValueGetter.shouldRestrictMultipleAdLoads() && mintegralSlotIdentifier != null) {
-      loadedSlotIdentifiers.remove(mintegralSlotIdentifier);
+      SlotReservations.release(loadedSlotIdentifiers, mintegralSlotIdentifier, this);
     }
     if (rewardedAdCallback != null) {
       rewardedAdCallback.onAdOpened();
@@ -107,7 +108,7 @@ public abstract class MintegralRewardedAd extends RewardVideoWithCodeListener im
   @Override
   public void onShowFailWithCode(MBridgeIds mBridgeIds, int errorCode, String errorMessage) {
     if (flagValueGetter.shouldRestrictMultipleAdLoads() && mintegralSlotIdentifier != null) {
-      loadedSlotIdentifiers.remove(mintegralSlotIdentifier);
+      SlotReservations.release(loadedSlotIdentifiers, mintegralSlotIdentifier, this);
     }
     AdError error = MintegralConstants.createSdkError(errorCode, errorMessage);
     Log.w(TAG, error.toString());
@@ -14,6 +14,9 @@
 
 package com.google.ads.mediation.mintegral.rtb;
 
+import static com.google.ads.mediation.mintegral.MintegralConstants.ERROR_CODE_AD_ALREADY_LOADED;
+import static com.google.ads.mediation.mintegral.MintegralConstants.ERROR_DOMAIN;
+import static com.google.ads.mediation.mintegral.MintegralConstants.ERROR_MSG_AD_ALREADY_LOADED;
 import static com.google.ads.mediation.mintegral.MintegralMediationAdapter.TAG;
 import static com.google.ads.mediation.mintegral.MintegralMediationAdapter.loadedSlotIdentifiers;
 
@@ -25,6 +28,7 @@ import android.util.Log;
 import android.view.ViewGroup;
 import android.widget.RelativeLayout;
 import androidx.annotation.NonNull;
+import com.google.ads.mediation.common.SlotReservations;
 import com.google.ads.mediation.mintegral.FlagValueGetter;
 import com.google.ads.mediation.mintegral.MintegralConstants;
 import com.google.ads.mediation.mintegral.MintegralFactory;
@@ -37,7 +41,6 @@ import com.google.android.gms.ads.mediation.MediationAppOpenAd;
 import com.google.android.gms.ads.mediation.MediationAppOpenAdCallback;
 import com.google.android.gms.ads.mediation.MediationAppOpenAdConfiguration;
 import com.mbridge.msdk.MBridgeConstans;
-import java.lang.ref.WeakReference;
 import org.json.JSONException;
 import org.json.JSONObject;
 
@@ -69,7 +72,12 @@ public class MintegralRtbAppOpenAd extends MintegralAppOpenAd {
 
     if (flagValueGetter.shouldRestrictMultipleAdLoads()) {
       mintegralSlotIdentifier = new MintegralSlotIdentifier(adUnitId, placementId);
-      loadedSlotIdentifiers.put(mintegralSlotIdentifier, new WeakReference<>(this));
+      // Signals were only collected if the slot was free, but another ad may have taken it since.
+      if (!SlotReservations.tryReserve(loadedSlotIdentifiers, mintegralSlotIdentifier, this)) {
+        adLoadCallback.onFailure(
+            new AdError(ERROR_CODE_AD_ALREADY_LOADED, ERROR_MSG_AD_ALREADY_LOADED, ERROR_DOMAIN));
+        return;
+      }
     }
 
     splashAdWrapper = MintegralFactory.createSplashAdWrapper();
@@ -14,12 +14,16 @@
 
 package com.google.ads.mediation.mintegral.rtb;
 
+import static com.google.ads.mediation.mintegral.MintegralConstants.ERROR_CODE_AD_ALREADY_LOADED;
+import static com.google.ads.mediation.mintegral.MintegralConstants.ERROR_DOMAIN;
+import static com.google.ads.mediation.mintegral.MintegralConstants.ERROR_MSG_AD_ALREADY_LOADED;
 import static com.google.ads.mediation.mintegral.MintegralMediationAdapter.TAG;
 import static com.google.ads.mediation.mintegral.MintegralMediationAdapter.loadedSlotIdentifiers;
 
 import android.content.Context;
 import android.util.Log;
 import androidx.annotation.NonNull;
+import com.google.ads.mediation.common.SlotReservations;
 import com.google.ads.mediation.mintegral.FlagValueGetter;
 import com.google.ads.mediation.mintegral.MintegralBidRewardedAdWrapper;
 import com.google.ads.mediation.mintegral.MintegralConstants;
@@ -33,7 +37,6 @@ import com.google.android.gms.ads.mediation.MediationRewardedAd;
 import com.google.android.gms.ads.mediation.MediationRewardedAdCallback;
 import com.google.android.gms.ads.mediation.MediationRewardedAdConfiguration;
 import com.mbridge.msdk.MBridgeConstans;
-import java.lang.ref.WeakReference;
 import org.json.JSONException;
 import org.json.JSONObject;
 
@@ -64,7 +67,12 @@ public class MintegralRtbRewardedAd extends MintegralRewardedAd {
 
     if (flagValueGetter.shouldRestrictMultipleAdLoads()) {
       mintegralSlotIdentifier = new MintegralSlotIdentifier(adUnitId, placementId);
-      loadedSlotIdentifiers.put(mintegralSlotIdentifier, new WeakReference<>(this));
+      // Signals were only collected if the slot was free, but another ad may have taken it since.
+      if (!SlotReservations.tryReserve(loadedSlotIdentifiers, mintegralSlotIdentifier, this)) {
+        adLoadCallback.onFailure(
+            new AdError(ERROR_CODE_AD_ALREADY_LOADED, ERROR_MSG_AD_ALREADY_LOADED, ERROR_DOMAIN));
+        return;
+      }
     }
 
     mintegralBidRewardedAdWrapper = MintegralFactory.createMintegralBidRewardedAdWrapper();
@@ -25,6 +25,7 @@ import android.os.Bundle;
 import android.view.ViewGroup;
 import android.widget.RelativeLayout;
 import androidx.annotation.NonNull;
+import com.google.ads.mediation.common.SlotReservations;
 import com.google.ads.mediation.mintegral.FlagValueGetter;
 import com.google.ads.mediation.mintegral.MintegralConstants;
 import com.google.ads.mediation.mintegral.MintegralFactory;
@@ -36,7 +37,6 @@ import com.google.android.gms.ads.mediation.MediationAdLoadCallback;
 import com.google.android.gms.ads.mediation.MediationAppOpenAd;
 import com.google.android.gms.ads.mediation.MediationAppOpenAdCallback;
 import com.google.android.gms.ads.mediation.MediationAppOpenAdConfiguration;
-import java.lang.ref.WeakReference;
 
 /**
  * Used to show Mintegral splash ads and mediate callbacks between Google Mobile Ads SDK and
@@ -64,14 +64,11 @@ public class MintegralWaterfallAppOpenAd extends MintegralAppOpenAd {
 
     if (flagValueGetter.shouldRestrictMultipleAdLoads()) {
       mintegralSlotIdentifier = new MintegralSlotIdentifier(adUnitId, placementId);
-      WeakReference<Object> adObjectReference = loadedSlotIdentifiers.get(mintegralSlotIdentifier);
-      if (adObjectReference != null && adObjectReference.get() != null) {
+      if (!SlotReservations.tryReserve(loadedSlotIdentifiers, mintegralSlotIdentifier, this)) {
         adLoadCallback.onFailure(
             new AdError(ERROR_CODE_AD_ALREADY_LOADED, ERROR_MSG_AD_ALREADY_LOADED, ERROR_DOMAIN));
         return;
       }
-
-      loadedSlotIdentifiers.put(mintegralSlotIdentifier, new WeakReference<>(this));
     }
 
     splashAdWrapper = MintegralFactory.createSplashAdWrapper();
@@ -21,6 +21,7 @@ import static com.google.ads.mediation.mintegral.MintegralMediationAdapter.loade
 
 import android.content.Context;
 import androidx.annotation.NonNull;
+import com.google.ads.mediation.common.SlotReservations;
 import com.google.ads.mediation.mintegral.FlagValueGetter;
 import com.google.ads.mediation.mintegral.MintegralConstants;
 import com.google.ads.mediation.mintegral.MintegralFactory;
@@ -34,7 +35,6 @@ import com.google.android.gms.ads.mediation.MediationRewardedAd;
 import com.google.android.gms.ads.mediation.MediationRewardedAdCallback;
 import com.google.android.gms.ads.mediation.MediationRewardedAdConfiguration;
 import com.mbridge.msdk.MBridgeConstans;
-import java.lang.ref.WeakReference;
 
 public class MintegralWaterfallRewardedAd extends MintegralRewardedAd {
 
@@ -62,14 +62,11 @@ public class MintegralWaterfallRewardedAd extends MintegralRewardedAd {
 
     if (flagValueGetter.shouldRestrictMultipleAdLoads()) {
       mintegralSlotIdentifier = new MintegralSlotIdentifier(adUnitId, placementId);
-      WeakReference<Object> adObjectReference = loadedSlotIdentifiers.get(mintegralSlotIdentifier);
-      if (adObjectReference != null && adObjectReference.get() != null) {
+      if (!SlotReservations.tryReserve(loadedSlotIdentifiers, mintegralSlotIdentifier, this)) {
         adLoadCallback.onFailure(
             new AdError(ERROR_CODE_AD_ALREADY_LOADED, ERROR_MSG_AD_ALREADY_LOADED, ERROR_DOMAIN));
         return;
       }
-
-      loadedSlotIdentifiers.put(mintegralSlotIdentifier, new WeakReference<>(this));
     }
 
     mintegralRewardedAdWrapper = MintegralFactory.createMintegralRewardedAdWrapper();
@@ -15,18 +15,25 @@
 package com.google.ads.mediation.mintegral
 
 import androidx.core.os.bundleOf
+import com.google.ads.mediation.common.AdapterFlagResolver
 import com.google.ads.mediation.mintegral.FlagValueGetter.Companion.KEY_FLIP_MULTIPLE_AD_LOADS_BEHAVIOR
 import com.google.common.truth.Truth.assertThat
 import org.junit.Before
 import org.junit.Test
 import org.junit.runner.RunWith
+import org.mockito.kotlin.any
+import org.mockito.kotlin.doReturn
+import org.mockito.kotlin.mock
+import org.mockito.kotlin.never
+import org.mockito.kotlin.verify
 import org.robolectric.RobolectricTestRunner
 
 /** Tests for [FlagValueGetter]. */
 @RunWith(RobolectricTestRunner::class)
 class FlagValueGetterTest {
 
-  private val flagValueGetter = FlagValueGetter()
+  private val flagResolver: AdapterFlagResolver = mock()
+  private val flagValueGetter = FlagValueGetter(flagResolver)
 
   @Before
   fun setUp() {
@@ -59,4 +66,24 @@ class FlagValueGetterTest {
 
     assertThat(FlagValueGetter.flipMultipleAdLoadsBehavior).isFalse()
   }
+
+  @Test
+  fun processMultipleAdLoadsServerParam_ifParamIsTrue_doesNotInvalidateSharedFlags() {
+    val serverParams = bundleOf(KEY_FLIP_MULTIPLE_AD_LOADS_BEHAVIOR to "true")
+
+    flagValueGetter.processMultipleAdLoadsServerParam(serverParams)
+
+    verify(flagResolver, never()).invalidate()
+  }
+
+  @Test
+  fun getClientSideRestrictMultipleAdLoadsFlagValue_returnsResolvedFlagValue() {
+    val flagResolver: AdapterFlagResolver = mock {
+      on { getBoolean(any(), any()) } doReturn true
+    }
+
+    assertThat(FlagValueGetter(flagResolver).getClientSideRestrictMultipleAdLoadsFlagValue())
+      .isTrue()
+    verify(flagResolver).getBoolean("adapter:mintegral_android_restrict_multiple_ads", false)
+  }
 }
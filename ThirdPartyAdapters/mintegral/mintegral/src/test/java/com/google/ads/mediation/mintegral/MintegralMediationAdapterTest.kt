@@ -30,6 +30,7 @@ import com.google.ads.mediation.adaptertestkit.loadAppOpenAdWithFailure
 import com.google.ads.mediation.adaptertestkit.loadInterstitialAdWithFailure
 import com.google.ads.mediation.adaptertestkit.loadRtbAppOpenAdWithFailure
 import com.google.ads.mediation.adaptertestkit.loadRtbInterstitialAdWithFailure
+import com.google.ads.mediation.common.PrivacySnapshotService
 import com.google.ads.mediation.mintegral.MintegralConstants.AD_UNIT_ID
 import com.google.ads.mediation.mintegral.MintegralConstants.ERROR_BANNER_SIZE_UNSUPPORTED
 import com.google.ads.mediation.mintegral.MintegralConstants.ERROR_DOMAIN
@@ -101,6 +102,7 @@ class MintegralMediationAdapterTest {
         .setTagForUnderAgeOfConsent(RequestConfiguration.TAG_FOR_UNDER_AGE_OF_CONSENT_UNSPECIFIED)
         .build()
     MobileAds.setRequestConfiguration(requestConfig)
+    PrivacySnapshotService.getInstance().reset()
     mintegralMediationAdapter =
       MintegralMediationAdapter(
         SynchronousExecutorService(),
@@ -450,6 +450,22 @@ class RestrictMultipleAdLoadsTest {
     }
   }
 
+  @Test
+  fun loadSecondInterstitialRtbAd_ifPreviousAdIsLoadedAndNotYetShown_failsToLoad() {
+    mockStatic(MintegralFactory::class.java).use {
+      whenever(MintegralFactory.createBidInterstitialHandler()) doReturn bidInterstitialAdWrapper
+      adapter.loadRtbInterstitialAd(interstitialAdRtbConfig, interstitialAdLoadCallback)
+
+      adapter.loadRtbInterstitialAd(interstitialAdRtbConfig, interstitialAdLoadCallback)
+
+      val adErrorCaptor = argumentCaptor<AdError>()
+      verify(interstitialAdLoadCallback).onFailure(adErrorCaptor.capture())
+      assertThat(adErrorCaptor.firstValue.code).isEqualTo(ERROR_CODE_AD_ALREADY_LOADED)
+      assertThat(adErrorCaptor.firstValue.domain).isEqualTo(ERROR_DOMAIN)
+      verify(bidInterstitialAdWrapper, times(1)).loadFromBid(TEST_BID_RESPONSE)
+    }
+  }
+
   @Test
   fun loadSecondRewardedWaterfallAd_ifPreviousAdIsLoadedAndNotYetShown_failsToLoad() {
     mockStatic(MintegralFactory::class.java).use {
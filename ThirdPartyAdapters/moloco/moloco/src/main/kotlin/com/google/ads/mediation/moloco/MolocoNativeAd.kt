@@ -14,10 +14,15 @@
 
 package com.google.ads.mediation.moloco
 
+import android.content.res.Resources
+import android.graphics.drawable.BitmapDrawable
 import android.graphics.drawable.Drawable
 import android.net.Uri
+import android.os.Handler
+import android.os.Looper
 import android.view.View
 import androidx.annotation.VisibleForTesting
+import com.google.ads.mediation.common.NativeImageDecoder
 import com.google.ads.mediation.moloco.MolocoMediationAdapter.Companion.MEDIATION_PLATFORM_NAME
 import com.google.android.gms.ads.AdError
 import com.google.android.gms.ads.mediation.MediationAdLoadCallback
@@ -30,6 +35,9 @@ import com.moloco.sdk.publisher.Moloco
 import com.moloco.sdk.publisher.MolocoAd
 import com.moloco.sdk.publisher.MolocoAdError
 import com.moloco.sdk.publisher.NativeAd
+import java.util.concurrent.Executor
+import java.util.concurrent.Executors
+import java.util.concurrent.atomic.AtomicBoolean
 
 /**
  * Used to load Moloco native ads and mediate callbacks between Google Mobile Ads SDK and Moloco
@@ -37,6 +45,7 @@ import com.moloco.sdk.publisher.NativeAd
  */
 class MolocoNativeAd
 private constructor(
+  private val resources: Resources,
   private val adUnitId: String,
   private val bidResponse: String,
   private val watermark: String,
@@ -45,6 +54,12 @@ private constructor(
 ) : AdLoad.Listener, NativeAdMapper() {
   @VisibleForTesting(otherwise = VisibleForTesting.PRIVATE) internal var nativeAd: NativeAd? = null
 
+  /** The executor on which the ad icon is read and decoded. */
+  @VisibleForTesting(otherwise = VisibleForTesting.PRIVATE)
+  internal var iconDecodeExecutor: Executor = IconDecodeExecutorHolder.EXECUTOR
+
+  private val mainHandler = Handler(Looper.getMainLooper())
+
   fun loadAd() {
     val mediationInfo = MediationInfo(MEDIATION_PLATFORM_NAME)
     Moloco.createNativeAd(
@@ -88,9 +103,6 @@ private constructor(
         title?.let { headline = it }
         description?.let { body = it }
         callToActionText?.let { callToAction = it }
-        iconUri?.let {
-          Drawable.createFromPath(it.toString())?.apply { icon = MolocoNativeMappedImage(this) }
-        }
 
         val mediaView = this.mediaView
 
@@ -101,6 +113,46 @@ private constructor(
       }
     }
 
+    val iconUri = nativeAd?.assets?.iconUri
+    if (iconUri == null) {
+      onNativeAdMapped()
+    } else {
+      loadIcon(iconUri)
+    }
+  }
+
+  /**
+   * Reads and decodes the icon at [iconUri] off the main thread, then reports the ad as loaded. If
+   * the icon isn't ready within [ICON_DECODE_TIMEOUT_MILLIS], the ad is reported with an icon that
+   * only carries the URI.
+   */
+  private fun loadIcon(iconUri: Uri) {
+    val isLoadReported = AtomicBoolean(false)
+    val timeoutRunnable = Runnable {
+      if (isLoadReported.compareAndSet(false, true)) {
+        icon = MolocoNativeMappedImage(drawable = null, uri = iconUri)
+        onNativeAdMapped()
+      }
+    }
+    mainHandler.postDelayed(timeoutRunnable, ICON_DECODE_TIMEOUT_MILLIS)
+
+    val decodeOptions = NativeImageDecoder.iconDecodeOptions(resources)
+    iconDecodeExecutor.execute {
+      val path = iconUri.path
+      val bitmap =
+        if (path.isNullOrEmpty()) null else NativeImageDecoder.decodeFile(path, decodeOptions)
+      mainHandler.post {
+        if (isLoadReported.compareAndSet(false, true)) {
+          mainHandler.removeCallbacks(timeoutRunnable)
+          val drawable = bitmap?.let { BitmapDrawable(resources, it) }
+          icon = MolocoNativeMappedImage(drawable, iconUri)
+          onNativeAdMapped()
+        }
+      }
+    }
+  }
+
+  private fun onNativeAdMapped() {
     val showCallback = mediationNativeAdLoadCallback.onSuccess(this)
     nativeAd?.interactionListener =
       object : NativeAd.InteractionListener {
@@ -168,16 +220,32 @@ private constructor(
       val watermark = mediationNativeAdConfiguration.watermark
 
       return Result.success(
-        MolocoNativeAd(adUnitId, bidResponse, watermark, mediationNativeAdLoadCallback)
+        MolocoNativeAd(
+          mediationNativeAdConfiguration.context.resources,
+          adUnitId,
+          bidResponse,
+          watermark,
+          mediationNativeAdLoadCallback,
+        )
       )
     }
 
     @VisibleForTesting(otherwise = VisibleForTesting.PRIVATE)
     const val MEDIA_VIEW_TAG = "native_ad_media_view"
+
+    /** How long the ad load waits for the icon to be decoded. */
+    @VisibleForTesting(otherwise = VisibleForTesting.PRIVATE)
+    const val ICON_DECODE_TIMEOUT_MILLIS = 1000L
+  }
+
+  private object IconDecodeExecutorHolder {
+    val EXECUTOR: Executor = Executors.newSingleThreadExecutor { runnable ->
+      Thread(runnable, "MolocoIconDecoder").apply { isDaemon = true }
+    }
   }
 
   internal class MolocoNativeMappedImage(
-    private val drawable: Drawable,
+    private val drawable: Drawable?,
     private val uri: Uri = Uri.EMPTY,
     private val scale: Double = 1.0,
   ) : com.google.android.gms.ads.nativead.NativeAd.Image() {
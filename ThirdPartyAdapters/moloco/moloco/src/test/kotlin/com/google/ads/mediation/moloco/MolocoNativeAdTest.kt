@@ -2,6 +2,7 @@ package com.google.ads.mediation.moloco
 
 import android.content.Context
 import android.net.Uri
+import android.os.Looper
 import android.view.View
 import androidx.core.os.bundleOf
 import androidx.test.core.app.ApplicationProvider
@@ -18,15 +19,20 @@ import com.google.android.gms.ads.mediation.NativeAdMapper
 import com.google.common.truth.Truth.assertThat
 import com.moloco.sdk.publisher.MolocoAdError
 import com.moloco.sdk.publisher.NativeAd
+import java.util.concurrent.Executor
+import java.util.concurrent.TimeUnit
 import org.junit.Before
 import org.junit.Test
 import org.junit.runner.RunWith
+import org.mockito.kotlin.any
 import org.mockito.kotlin.argThat
 import org.mockito.kotlin.doReturn
 import org.mockito.kotlin.mock
+import org.mockito.kotlin.never
 import org.mockito.kotlin.times
 import org.mockito.kotlin.verify
 import org.mockito.kotlin.whenever
+import org.robolectric.Shadows.shadowOf
 
 @RunWith(AndroidJUnit4::class)
 class MolocoNativeAdTest {
@@ -49,6 +55,7 @@ class MolocoNativeAdTest {
       molocoNativeAd = it
     }
     whenever(mockMediationAdLoadCallback.onSuccess(molocoNativeAd)) doReturn mockMediationAdCallback
+    molocoNativeAd.iconDecodeExecutor = Executor { it.run() }
   }
 
   @Test
@@ -108,6 +115,7 @@ class MolocoNativeAdTest {
     molocoNativeAd.nativeAd = mockMolocoNativeAd
 
     molocoNativeAd.onAdLoadSuccess(mock())
+    shadowOf(Looper.getMainLooper()).idle()
 
     assertThat(molocoNativeAd.overrideClickHandling).isTrue()
     assertThat(molocoNativeAd.starRating).isEqualTo(1.0)
@@ -120,6 +128,33 @@ class MolocoNativeAdTest {
     verify(mockMediationAdLoadCallback).onSuccess(molocoNativeAd)
   }
 
+  @Test
+  fun onAdLoadSuccess_iconNotDecodedYet_waitsForIcon() {
+    val mockNativeAdAssets = mock<NativeAd.Assets> { on { iconUri } doReturn TEST_ICON_URI }
+    molocoNativeAd.nativeAd = mock { on { assets } doReturn mockNativeAdAssets }
+    molocoNativeAd.iconDecodeExecutor = Executor {}
+
+    molocoNativeAd.onAdLoadSuccess(mock())
+    shadowOf(Looper.getMainLooper()).idle()
+
+    verify(mockMediationAdLoadCallback, never()).onSuccess(any())
+  }
+
+  @Test
+  fun onAdLoadSuccess_iconDecodeTimesOut_invokesOnSuccessWithIconUri() {
+    val mockNativeAdAssets = mock<NativeAd.Assets> { on { iconUri } doReturn TEST_ICON_URI }
+    molocoNativeAd.nativeAd = mock { on { assets } doReturn mockNativeAdAssets }
+    molocoNativeAd.iconDecodeExecutor = Executor {}
+
+    molocoNativeAd.onAdLoadSuccess(mock())
+    shadowOf(Looper.getMainLooper())
+      .idleFor(MolocoNativeAd.ICON_DECODE_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS)
+
+    verify(mockMediationAdLoadCallback).onSuccess(molocoNativeAd)
+    assertThat(molocoNativeAd.icon.uri).isEqualTo(TEST_ICON_URI)
+    assertThat(molocoNativeAd.icon.drawable).isNull()
+  }
+
   @Test
   fun handleClick_invokesReportAdClicked() {
     molocoNativeAd.nativeAd = mockNativeAd
@@ -172,5 +207,6 @@ class MolocoNativeAdTest {
 
   private companion object {
     const val TEST_AD_UNIT = "testAdUnit"
+    val TEST_ICON_URI: Uri = Uri.parse("file:///data/moloco/icon.png")
   }
 }
@@ -22,6 +22,7 @@ import android.util.Log;
 import android.view.View;
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
+import com.google.ads.mediation.common.ServerParameterCache;
 import com.google.android.gms.ads.AdError;
 import com.google.android.gms.ads.AdSize;
 import com.google.android.gms.ads.mediation.MediationAdRequest;
@@ -56,16 +57,16 @@ public class MyTargetAdapter extends MyTargetMediationAdapter
       @NonNull AdSize adSize, @NonNull MediationAdRequest mediationAdRequest,
       @Nullable Bundle mediationExtras) {
 
-    int slotId = MyTargetTools.checkAndGetSlotId(context, serverParameters);
-    Log.d(TAG, "Requesting myTarget banner mediation with Slot ID: " + slotId);
-
-    if (slotId < 0) {
-      AdError error = new AdError(ERROR_INVALID_SERVER_PARAMETERS, "Missing or invalid Slot ID.",
-          ERROR_DOMAIN);
+    ServerParameterCache.Result<Integer> slotIdResult =
+        MyTargetTools.checkAndGetSlotId(context, serverParameters);
+    if (!slotIdResult.isValid()) {
+      AdError error = slotIdResult.getError();
       Log.e(TAG, error.getMessage());
       mediationBannerListener.onAdFailedToLoad(MyTargetAdapter.this, error);
       return;
     }
+    int slotId = slotIdResult.getValue();
+    Log.d(TAG, "Requesting myTarget banner mediation with Slot ID: " + slotId);
 
     MyTargetView.AdSize myTargetSize = MyTargetTools.getSupportedAdSize(adSize, context);
     if (myTargetSize == null) {
@@ -95,16 +96,16 @@ public class MyTargetAdapter extends MyTargetMediationAdapter
       @NonNull MediationInterstitialListener mediationInterstitialListener,
       @NonNull Bundle serverParameters, @NonNull MediationAdRequest mediationAdRequest,
       @Nullable Bundle mediationExtras) {
-    int slotId = MyTargetTools.checkAndGetSlotId(context, serverParameters);
-    Log.d(TAG, "Requesting myTarget interstitial mediation with Slot ID: " + slotId);
-
-    if (slotId < 0) {
-      AdError error = new AdError(ERROR_INVALID_SERVER_PARAMETERS, "Missing or invalid Slot ID.",
-          ERROR_DOMAIN);
+    ServerParameterCache.Result<Integer> slotIdResult =
+        MyTargetTools.checkAndGetSlotId(context, serverParameters);
+    if (!slotIdResult.isValid()) {
+      AdError error = slotIdResult.getError();
       Log.e(TAG, error.getMessage());
       mediationInterstitialListener.onAdFailedToLoad(MyTargetAdapter.this, error);
       return;
     }
+    int slotId = slotIdResult.getValue();
+    Log.d(TAG, "Requesting myTarget interstitial mediation with Slot ID: " + slotId);
 
     MyTargetInterstitialListener interstitialListener = new MyTargetInterstitialListener(
         mediationInterstitialListener);
@@ -21,6 +21,7 @@ import android.content.Context;
 import android.os.Bundle;
 import android.util.Log;
 import androidx.annotation.NonNull;
+import com.google.ads.mediation.common.ServerParameterCache;
 import com.google.android.gms.ads.AdError;
 import com.google.android.gms.ads.MobileAds;
 import com.google.android.gms.ads.VersionInfo;
@@ -156,16 +157,16 @@ public class MyTargetMediationAdapter extends Adapter
     Context context = mediationRewardedAdConfiguration.getContext();
     Bundle serverParameters = mediationRewardedAdConfiguration.getServerParameters();
 
-    int slotId = MyTargetTools.checkAndGetSlotId(context, serverParameters);
-    Log.d(TAG, "Requesting myTarget rewarded mediation with slot ID: " + slotId);
-
-    if (slotId < 0) {
-      AdError error = new AdError(ERROR_INVALID_SERVER_PARAMETERS, "Missing or invalid Slot ID.",
-          ERROR_DOMAIN);
+    ServerParameterCache.Result<Integer> slotIdResult =
+        MyTargetTools.checkAndGetSlotId(context, serverParameters);
+    if (!slotIdResult.isValid()) {
+      AdError error = slotIdResult.getError();
       Log.e(TAG, error.getMessage());
       mediationAdLoadCallback.onFailure(error);
       return;
     }
+    int slotId = slotIdResult.getValue();
+    Log.d(TAG, "Requesting myTarget rewarded mediation with slot ID: " + slotId);
 
     mAdLoadCallback = mediationAdLoadCallback;
 
@@ -16,7 +16,6 @@ package com.google.ads.mediation.mytarget;
 
 import static com.google.ads.mediation.mytarget.MyTargetMediationAdapter.ERROR_DOMAIN;
 import static com.google.ads.mediation.mytarget.MyTargetMediationAdapter.ERROR_INVALID_NATIVE_AD_LOADED;
-import static com.google.ads.mediation.mytarget.MyTargetMediationAdapter.ERROR_INVALID_SERVER_PARAMETERS;
 import static com.google.ads.mediation.mytarget.MyTargetMediationAdapter.ERROR_MISSING_REQUIRED_NATIVE_ASSET;
 import static com.google.ads.mediation.mytarget.MyTargetMediationAdapter.ERROR_MY_TARGET_SDK;
 import static com.google.ads.mediation.mytarget.MyTargetMediationAdapter.ERROR_NON_UNIFIED_NATIVE_REQUEST;
@@ -36,6 +35,8 @@ import android.view.View;
 import android.widget.FrameLayout;
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
+import com.google.ads.mediation.common.NativeImageDecoder;
+import com.google.ads.mediation.common.ServerParameterCache;
 import com.google.android.gms.ads.AdError;
 import com.google.android.gms.ads.formats.NativeAd.Image;
 import com.google.android.gms.ads.formats.NativeAdOptions;
@@ -106,14 +107,15 @@ public class MyTargetNativeAdapter implements MediationNativeAdapter {
       return;
     }
 
-    int slotId = MyTargetTools.checkAndGetSlotId(context, serverParameter);
-    if (slotId < 0) {
-      AdError error = new AdError(ERROR_INVALID_SERVER_PARAMETERS, "Missing or invalid Slot ID.",
-          ERROR_DOMAIN);
+    ServerParameterCache.Result<Integer> slotIdResult =
+        MyTargetTools.checkAndGetSlotId(context, serverParameter);
+    if (!slotIdResult.isValid()) {
+      AdError error = slotIdResult.getError();
       Log.e(TAG, error.getMessage());
       nativeListener.onAdFailedToLoad(MyTargetNativeAdapter.this, error);
       return;
     }
+    int slotId = slotIdResult.getValue();
 
     NativeAdOptions options = nativeMediationAdRequest.getNativeAdOptions();
     NativeAd nativeAd = new NativeAd(slotId, context);
@@ -155,10 +157,15 @@ public class MyTargetNativeAdapter implements MediationNativeAdapter {
     private final Uri uri;
     private Drawable drawable;
 
-    MyTargetAdmobNativeImage(@NonNull ImageData imageData, @NonNull Resources resources) {
+    MyTargetAdmobNativeImage(
+        @NonNull ImageData imageData,
+        @NonNull Resources resources,
+        @NonNull NativeImageDecoder.DecodeOptions decodeOptions) {
       Bitmap bitmap = imageData.getBitmap();
       if (bitmap != null) {
-        drawable = new BitmapDrawable(resources, bitmap);
+        // Keep the image no larger than the view it is rendered in.
+        drawable =
+            new BitmapDrawable(resources, NativeImageDecoder.scaleDown(bitmap, decodeOptions));
       }
       uri = Uri.parse(imageData.getUrl());
     }
@@ -207,7 +214,10 @@ public class MyTargetNativeAdapter implements MediationNativeAdapter {
       setHeadline(banner.getTitle());
       ImageData icon = banner.getIcon();
       if (icon != null && !TextUtils.isEmpty(icon.getUrl())) {
-        setIcon(new MyTargetAdmobNativeImage(icon, context.getResources()));
+        Resources resources = context.getResources();
+        setIcon(
+            new MyTargetAdmobNativeImage(
+                icon, resources, NativeImageDecoder.iconDecodeOptions(resources)));
       }
       ImageData image = banner.getImage();
       setHasVideoContent(true);
@@ -217,7 +227,10 @@ public class MyTargetNativeAdapter implements MediationNativeAdapter {
       setMediaView(mediaAdView);
       if (image != null && !TextUtils.isEmpty(image.getUrl())) {
         ArrayList<Image> imageArrayList = new ArrayList<>();
-        imageArrayList.add(new MyTargetAdmobNativeImage(image, context.getResources()));
+        Resources resources = context.getResources();
+        imageArrayList.add(
+            new MyTargetAdmobNativeImage(
+                image, resources, NativeImageDecoder.mediaDecodeOptions(resources)));
         setImages(imageArrayList);
       }
       setAdvertiser(banner.getDomain());
@@ -22,6 +22,9 @@ import android.util.Log;
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
 import androidx.annotation.VisibleForTesting;
+import com.google.ads.mediation.common.BannerSizeCache;
+import com.google.ads.mediation.common.ServerParameterCache;
+import com.google.android.gms.ads.AdError;
 import com.google.android.gms.ads.AdSize;
 import com.my.target.ads.MyTargetView;
 import com.my.target.common.CustomParams;
@@ -40,47 +43,80 @@ class MyTargetTools {
   public static final int MIN_BANNER_HEIGHT_DP = 50;
   public static final float MIN_BANNER_PROPORTION = 0.75f;
 
+  private static final BannerSizeCache<MyTargetView.AdSize> SUPPORTED_AD_SIZES =
+      new BannerSizeCache<>(
+          new BannerSizeCache.SizeResolver<MyTargetView.AdSize>() {
+            @Nullable
+            @Override
+            public MyTargetView.AdSize resolve(@NonNull Context context, @NonNull AdSize adSize) {
+              return resolveSupportedAdSize(adSize, context);
+            }
+          });
+
+  private static final ServerParameterCache<Integer> SLOT_IDS =
+      new ServerParameterCache<>(KEY_SLOT_ID, new ServerParameterCache.Parser<Integer>() {
+        @NonNull
+        @Override
+        public ServerParameterCache.Result<Integer> parse(@Nullable String value) {
+          return parseSlotId(value);
+        }
+      });
+
   /**
-   * Checks params taken from Google. MyTarget slotId must be only positive, so if we return
-   * negative number, it was invalid request.
+   * Checks params taken from Google. MyTarget slotId must be only positive.
    *
    * @param context          app context.
    * @param serverParameters bundle with server params, must contain myTarget slot ID.
-   * @return myTarget slot ID, or negative number, if something gone wrong and we should return
-   * invalid request callback to Google SDK.
+   * @return myTarget slot ID, or the error to fail the ad request with if something went wrong.
    */
-  static int checkAndGetSlotId(final @Nullable Context context,
+  @NonNull
+  static ServerParameterCache.Result<Integer> checkAndGetSlotId(final @Nullable Context context,
       final @Nullable Bundle serverParameters) {
-    int slotId = -1;
-
     if (context == null) {
       Log.w(MyTargetMediationAdapter.TAG,
           "Failed to request ad from MyTarget: Context is null.");
-      return slotId;
+      return ServerParameterCache.Result.invalid(createInvalidSlotIdError());
     }
 
     if (serverParameters == null) {
       Log.w(MyTargetMediationAdapter.TAG,
           "Failed to request ad from MyTarget: serverParameters is null.");
-    } else {
-      String slotIdParam = serverParameters.getString(KEY_SLOT_ID);
-      if (TextUtils.isEmpty(slotIdParam)) {
-        Log.w(MyTargetMediationAdapter.TAG,
-            "Failed to request ad from MyTarget: Missing or Invalid Slot ID.");
-      } else {
-        try {
-          slotId = Integer.parseInt(slotIdParam);
-        } catch (NumberFormatException ex) {
-          Log.w(MyTargetMediationAdapter.TAG, "Failed to request ad from MyTarget.", ex);
-        }
+      return ServerParameterCache.Result.invalid(createInvalidSlotIdError());
+    }
+    return SLOT_IDS.get(serverParameters);
+  }
+
+  @NonNull
+  private static ServerParameterCache.Result<Integer> parseSlotId(@Nullable String slotIdParam) {
+    if (TextUtils.isEmpty(slotIdParam)) {
+      return ServerParameterCache.Result.invalid(createInvalidSlotIdError());
+    }
+    try {
+      int slotId = Integer.parseInt(slotIdParam);
+      if (slotId < 0) {
+        return ServerParameterCache.Result.invalid(createInvalidSlotIdError());
       }
+      return ServerParameterCache.Result.valid(slotId);
+    } catch (NumberFormatException ex) {
+      return ServerParameterCache.Result.invalid(createInvalidSlotIdError());
     }
-    return slotId;
+  }
+
+  @NonNull
+  private static AdError createInvalidSlotIdError() {
+    return new AdError(MyTargetMediationAdapter.ERROR_INVALID_SERVER_PARAMETERS,
+        "Missing or invalid Slot ID.", MyTargetMediationAdapter.ERROR_DOMAIN);
   }
 
   @Nullable
   static MyTargetView.AdSize getSupportedAdSize(@NonNull AdSize requestedSize,
       @NonNull Context context) {
+    return SUPPORTED_AD_SIZES.get(context, requestedSize);
+  }
+
+  @Nullable
+  private static MyTargetView.AdSize resolveSupportedAdSize(@NonNull AdSize requestedSize,
+      @NonNull Context context) {
     int width = requestedSize.getWidth();
     if (width < 0) {
       int widthInPixels = requestedSize.getWidthInPixels(context);
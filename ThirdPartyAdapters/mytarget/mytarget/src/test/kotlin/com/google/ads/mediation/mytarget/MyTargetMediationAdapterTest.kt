@@ -300,6 +300,21 @@ class MyTargetMediationAdapterTest {
     verify(mockMediationRewardedAdLoadCallback).onFailure(argThat(AdErrorMatcher(expectedAdError)))
   }
 
+  @Test
+  fun loadRewardedAd_negativeSlotId_invokesOnFailure() {
+    val serverParameters = bundleOf(KEY_SLOT_ID to "-1")
+    val rewardedAdConfiguration = createRewardedAdConfiguration(serverParameters = serverParameters)
+
+    myTargetMediationAdapter.loadRewardedAd(
+      rewardedAdConfiguration,
+      mockMediationRewardedAdLoadCallback,
+    )
+
+    val expectedAdError =
+      AdError(ERROR_INVALID_SERVER_PARAMETERS, "Missing or invalid Slot ID.", ERROR_DOMAIN)
+    verify(mockMediationRewardedAdLoadCallback).onFailure(argThat(AdErrorMatcher(expectedAdError)))
+  }
+
   @Test
   fun loadRewardedAd_withValidValues_invokesLoadAdAfterInitialization() {
     mockStatic(MyTargetSdkWrapper::class.java).use {
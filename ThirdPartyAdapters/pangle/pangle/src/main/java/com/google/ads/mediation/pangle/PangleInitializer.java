@@ -23,8 +23,8 @@ import androidx.annotation.NonNull;
 import androidx.annotation.VisibleForTesting;
 import com.bytedance.sdk.openadsdk.api.init.PAGConfig;
 import com.bytedance.sdk.openadsdk.api.init.PAGSdk.PAGInitCallback;
+import com.google.ads.mediation.common.SdkInitializer;
 import com.google.android.gms.ads.AdError;
-import java.util.ArrayList;
 
 /**
  * Manages initializing Pangle SDK.
@@ -35,38 +35,46 @@ import java.util.ArrayList;
  */
 public class PangleInitializer implements PAGInitCallback {
 
-  private static PangleInitializer instance;
+  private static class Holder {
 
-  private boolean isInitializing = false;
-  private boolean isInitialized = false;
-  private final ArrayList<Listener> initListeners;
+    private static final PangleInitializer INSTANCE = new PangleInitializer();
+  }
+
+  private final SdkInitializer<Listener> sdkInitializer =
+      new SdkInitializer<>(
+          new SdkInitializer.ListenerDispatcher<Listener>() {
+            @Override
+            public void onInitializeSuccess(@NonNull Listener listener) {
+              listener.onInitializeSuccess();
+            }
+
+            @Override
+            public void onInitializeError(@NonNull Listener listener, @NonNull AdError error) {
+              listener.onInitializeError(error);
+            }
+          });
 
   private final PangleSdkWrapper pangleSdkWrapper;
   private final PangleFactory pangleFactory;
 
   @NonNull
   public static PangleInitializer getInstance() {
-    if (instance == null) {
-      instance = new PangleInitializer();
-    }
-    return instance;
+    return Holder.INSTANCE;
   }
 
   private PangleInitializer() {
-    initListeners = new ArrayList<>();
     pangleSdkWrapper = new PangleSdkWrapper();
     pangleFactory = new PangleFactory();
   }
 
   @VisibleForTesting
   public PangleInitializer(PangleSdkWrapper pangleSdkWrapper, PangleFactory pangleFactory) {
-    initListeners = new ArrayList<>();
     this.pangleSdkWrapper = pangleSdkWrapper;
     this.pangleFactory = pangleFactory;
   }
 
   public void initialize(
-      @NonNull Context context, @NonNull String appId, @NonNull Listener listener) {
+      @NonNull final Context context, @NonNull final String appId, @NonNull Listener listener) {
 
     if (TextUtils.isEmpty(appId)) {
       AdError error = PangleConstants.createAdapterError(ERROR_INVALID_SERVER_PARAMETERS,
@@ -76,54 +84,36 @@ public class PangleInitializer implements PAGInitCallback {
       return;
     }
 
-    if (isInitializing) {
-      initListeners.add(listener);
-      return;
-    }
-
-    if (isInitialized) {
-      listener.onInitializeSuccess();
-      return;
-    }
-
-    isInitializing = true;
-    initListeners.add(listener);
-
-    // Pangle SDK is only initialized using a single App ID.
-    PAGConfig adConfig =
-        pangleFactory
-            .createPAGConfigBuilder()
-            .appId(appId)
-            .setAdxId(PangleConstants.ADX_ID)
-            .setUserData(
-                String.format(
-                    "[{\"name\":\"mediation\",\"value\":\"google\"},{\"name\":\"adapter_version\",\"value\":\"%s\"}]",
-                    BuildConfig.ADAPTER_VERSION))
-            .build();
-    pangleSdkWrapper.init(context, adConfig, PangleInitializer.this);
+    sdkInitializer.initialize(
+        listener,
+        new Runnable() {
+          @Override
+          public void run() {
+            // Pangle SDK is only initialized using a single App ID.
+            PAGConfig adConfig =
+                pangleFactory
+                    .createPAGConfigBuilder()
+                    .appId(appId)
+                    .setAdxId(PangleConstants.ADX_ID)
+                    .setUserData(
+                        String.format(
+                            "[{\"name\":\"mediation\",\"value\":\"google\"},{\"name\":\"adapter_version\",\"value\":\"%s\"}]",
+                            BuildConfig.ADAPTER_VERSION))
+                    .build();
+            pangleSdkWrapper.init(context, adConfig, PangleInitializer.this);
+          }
+        });
   }
 
   @Override
   public void success() {
-    isInitializing = false;
-    isInitialized = true;
-
-    for (Listener listener : initListeners) {
-      listener.onInitializeSuccess();
-    }
-    initListeners.clear();
+    sdkInitializer.onInitializationSucceeded();
   }
 
   @Override
   public void fail(int errorCode, @NonNull String errorMessage) {
-    isInitializing = false;
-    isInitialized = false;
-
     AdError error = PangleConstants.createSdkError(errorCode, errorMessage);
-    for (Listener listener : initListeners) {
-      listener.onInitializeError(error);
-    }
-    initListeners.clear();
+    sdkInitializer.onInitializationFailed(error);
   }
 
   public interface Listener {
@@ -29,6 +29,7 @@ import com.bytedance.sdk.openadsdk.api.bidding.PAGBiddingRequest;
 import com.bytedance.sdk.openadsdk.api.init.PAGBidCallback;
 import com.bytedance.sdk.openadsdk.api.init.PAGBidError;
 import com.bytedance.sdk.openadsdk.api.init.PAGConfig;
+import com.google.ads.mediation.common.BidTokenCache;
 import com.google.ads.mediation.pangle.PangleInitializer.Listener;
 import com.google.ads.mediation.pangle.renderer.PangleAppOpenAd;
 import com.google.ads.mediation.pangle.renderer.PangleBannerAd;
@@ -60,6 +61,7 @@ import com.google.android.gms.ads.mediation.rtb.RtbSignalData;
 import com.google.android.gms.ads.mediation.rtb.SignalCallbacks;
 import java.util.HashSet;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
 
 public class PangleMediationAdapter extends RtbAdapter {
 
@@ -68,6 +70,52 @@ public class PangleMediationAdapter extends RtbAdapter {
   @VisibleForTesting
   static final String ERROR_MESSAGE_MISSING_OR_INVALID_APP_ID = "Missing or invalid App ID.";
 
+  /** Key under which bid tokens are cached. Pangle bid tokens don't depend on the ad format. */
+  private static final String BID_TOKEN_KEY = "pangle";
+
+  /**
+   * Bid tokens cached across adapter instances, so that signals can be collected right away. Tokens
+   * are only cached once a time-to-live is set for "pangle" with {@link
+   * BidTokenCache#setTtlMillis}.
+   */
+  private static final BidTokenCache bidTokenCache = new BidTokenCache("pangle");
+
+  /**
+   * The user data last set on the Pangle SDK. Bid tokens include the user data, so cached tokens
+   * are dropped when it changes.
+   */
+  private static final AtomicReference<String> lastUserData = new AtomicReference<>();
+
+  private final BidTokenCache.TokenFetcher bidTokenFetcher =
+      new BidTokenCache.TokenFetcher() {
+        @Override
+        public void fetchToken(
+            @NonNull Context context,
+            @NonNull String key,
+            @NonNull final BidTokenCache.TokenCallback callback) {
+          PAGBiddingRequest biddingRequest = new PAGBiddingRequest();
+          biddingRequest.setAdxId(PangleConstants.ADX_ID);
+          pangleSdkWrapper.getBiddingToken(
+              context,
+              biddingRequest,
+              new PAGBidCallback() {
+                @Override
+                public void onBiddingTokenCollected(String biddingToken) {
+                  callback.onTokenReady(biddingToken != null ? biddingToken : "");
+                }
+
+                @Override
+                public void onBiddingTokenFailed(PAGBidError pagBidError) {
+                  callback.onTokenError(
+                      new AdError(
+                          pagBidError.getCode(),
+                          pagBidError.getMessage(),
+                          PANGLE_SDK_ERROR_DOMAIN));
+                }
+              });
+        }
+      };
+
   private final PangleInitializer pangleInitializer;
   private final PangleSdkWrapper pangleSdkWrapper;
   private final PangleFactory pangleFactory;
@@ -104,24 +152,25 @@ public class PangleMediationAdapter extends RtbAdapter {
     // The user data needs to be set for it to be included in the signals.
     Bundle networkExtras = rtbSignalData.getNetworkExtras();
     if (networkExtras != null && networkExtras.containsKey(PangleExtras.Keys.USER_DATA)) {
-      pangleSdkWrapper.setUserData(networkExtras.getString(PangleExtras.Keys.USER_DATA, ""));
+      String userData = networkExtras.getString(PangleExtras.Keys.USER_DATA, "");
+      pangleSdkWrapper.setUserData(userData);
+      if (!userData.equals(lastUserData.getAndSet(userData))) {
+        bidTokenCache.clear();
+      }
     }
-    PAGBiddingRequest biddingRequest = new PAGBiddingRequest();
-    biddingRequest.setAdxId(PangleConstants.ADX_ID);
-    pangleSdkWrapper.getBiddingToken(
+    bidTokenCache.getToken(
         rtbSignalData.getContext(),
-        biddingRequest,
-        new PAGBidCallback() {
+        BID_TOKEN_KEY,
+        bidTokenFetcher,
+        new BidTokenCache.TokenCallback() {
           @Override
-          public void onBiddingTokenCollected(String biddingToken) {
-            signalCallbacks.onSuccess(biddingToken);
+          public void onTokenReady(@NonNull String token) {
+            signalCallbacks.onSuccess(token);
           }
 
           @Override
-          public void onBiddingTokenFailed(PAGBidError pagBidError) {
-            signalCallbacks.onFailure(
-                new AdError(
-                    pagBidError.getCode(), pagBidError.getMessage(), PANGLE_SDK_ERROR_DOMAIN));
+          public void onTokenError(@NonNull AdError error) {
+            signalCallbacks.onFailure(error);
           }
         });
   }
@@ -169,6 +218,7 @@ public class PangleMediationAdapter extends RtbAdapter {
           @Override
           public void onInitializeSuccess() {
             initializationCompleteCallback.onInitializationSucceeded();
+            bidTokenCache.prefetch(context, BID_TOKEN_KEY, bidTokenFetcher);
           }
 
           @Override
@@ -14,6 +14,7 @@
 
 package com.google.ads.mediation.pangle.renderer;
 
+import static com.google.ads.mediation.common.AdEventPipeline.FORMAT_APP_OPEN;
 import static com.google.ads.mediation.pangle.PangleConstants.ERROR_INVALID_SERVER_PARAMETERS;
 import static com.google.ads.mediation.pangle.PangleMediationAdapter.TAG;
 
@@ -28,6 +29,7 @@ import com.bytedance.sdk.openadsdk.api.open.PAGAppOpenAd;
 import com.bytedance.sdk.openadsdk.api.open.PAGAppOpenAdInteractionListener;
 import com.bytedance.sdk.openadsdk.api.open.PAGAppOpenAdLoadListener;
 import com.bytedance.sdk.openadsdk.api.open.PAGAppOpenRequest;
+import com.google.ads.mediation.common.LoadLatencyTracker;
 import com.google.ads.mediation.pangle.PangleConstants;
 import com.google.ads.mediation.pangle.PangleFactory;
 import com.google.ads.mediation.pangle.PangleInitializer;
@@ -48,6 +50,7 @@ public class PangleAppOpenAd implements MediationAppOpenAd {
 
   private final MediationAdLoadCallback<MediationAppOpenAd, MediationAppOpenAdCallback>
       adLoadCallback;
+  private final LoadLatencyTracker.LoadSpan loadSpan;
   private final PangleInitializer pangleInitializer;
   private final PangleSdkWrapper pangleSdkWrapper;
   private final PangleFactory pangleFactory;
@@ -62,7 +65,8 @@ public class PangleAppOpenAd implements MediationAppOpenAd {
       @NonNull PangleInitializer pangleInitializer,
       @NonNull PangleSdkWrapper pangleSdkWrapper,
       @NonNull PangleFactory pangleFactory) {
-    adLoadCallback = mediationAdLoadCallback;
+    loadSpan = LoadLatencyTracker.getInstance().startLoad("pangle", FORMAT_APP_OPEN);
+    adLoadCallback = loadSpan.wrap(mediationAdLoadCallback);
     this.pangleInitializer = pangleInitializer;
     this.pangleSdkWrapper = pangleSdkWrapper;
     this.pangleFactory = pangleFactory;
@@ -90,15 +94,18 @@ public class PangleAppOpenAd implements MediationAppOpenAd {
         new Listener() {
           @Override
           public void onInitializeSuccess() {
+            loadSpan.markInitComplete();
             PAGAppOpenRequest request = pangleFactory.createPagAppOpenRequest();
             request.setAdString(bidResponse);
             PangleRequestHelper.setWatermarkString(request, bidResponse, adConfiguration);
+            loadSpan.markSdkRequestSent();
             pangleSdkWrapper.loadAppOpenAd(
                 placementId,
                 request,
                 new PAGAppOpenAdLoadListener() {
                   @Override
                   public void onError(int errorCode, String errorMessage) {
+                    loadSpan.markSdkCallback();
                     AdError error = PangleConstants.createSdkError(errorCode, errorMessage);
                     Log.w(TAG, error.toString());
                     adLoadCallback.onFailure(error);
@@ -106,6 +113,7 @@ public class PangleAppOpenAd implements MediationAppOpenAd {
 
                   @Override
                   public void onAdLoaded(PAGAppOpenAd appOpenAd) {
+                    loadSpan.markSdkCallback();
                     appOpenAdCallback = adLoadCallback.onSuccess(PangleAppOpenAd.this);
                     pagAppOpenAd = appOpenAd;
                   }
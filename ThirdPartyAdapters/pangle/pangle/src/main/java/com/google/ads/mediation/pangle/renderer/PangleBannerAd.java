@@ -14,6 +14,7 @@
 
 package com.google.ads.mediation.pangle.renderer;
 
+import static com.google.ads.mediation.common.AdEventPipeline.FORMAT_BANNER;
 import static com.google.ads.mediation.pangle.PangleConstants.ERROR_BANNER_SIZE_MISMATCH;
 import static com.google.ads.mediation.pangle.PangleConstants.ERROR_INVALID_SERVER_PARAMETERS;
 import static com.google.ads.mediation.pangle.PangleMediationAdapter.TAG;
@@ -31,6 +32,7 @@ import com.bytedance.sdk.openadsdk.api.banner.PAGBannerAdInteractionListener;
 import com.bytedance.sdk.openadsdk.api.banner.PAGBannerAdLoadListener;
 import com.bytedance.sdk.openadsdk.api.banner.PAGBannerRequest;
 import com.bytedance.sdk.openadsdk.api.banner.PAGBannerSize;
+import com.google.ads.mediation.common.LoadLatencyTracker;
 import com.google.ads.mediation.pangle.PangleConstants;
 import com.google.ads.mediation.pangle.PangleFactory;
 import com.google.ads.mediation.pangle.PangleInitializer;
@@ -52,6 +54,7 @@ public class PangleBannerAd implements MediationBannerAd, PAGBannerAdInteraction
 
   private final MediationAdLoadCallback<MediationBannerAd, MediationBannerAdCallback>
       adLoadCallback;
+  private final LoadLatencyTracker.LoadSpan loadSpan;
   private final PangleInitializer pangleInitializer;
   private final PangleSdkWrapper pangleSdkWrapper;
   private final PangleFactory pangleFactory;
@@ -65,7 +68,8 @@ public class PangleBannerAd implements MediationBannerAd, PAGBannerAdInteraction
       @NonNull PangleInitializer pangleInitializer,
       @NonNull PangleSdkWrapper pangleSdkWrapper,
       @NonNull PangleFactory pangleFactory) {
-    this.adLoadCallback = mediationAdLoadCallback;
+    loadSpan = LoadLatencyTracker.getInstance().startLoad("pangle", FORMAT_BANNER);
+    this.adLoadCallback = loadSpan.wrap(mediationAdLoadCallback);
     this.pangleInitializer = pangleInitializer;
     this.pangleSdkWrapper = pangleSdkWrapper;
     this.pangleFactory = pangleFactory;
@@ -94,6 +98,7 @@ public class PangleBannerAd implements MediationBannerAd, PAGBannerAdInteraction
         new Listener() {
           @Override
           public void onInitializeSuccess() {
+            loadSpan.markInitComplete();
             AdSize googleAdSize = adConfiguration.getAdSize();
             PAGBannerSize bannerSize = getBannerSizeFromGoogleAdSize(context, googleAdSize);
             if (bannerSize == null) {
@@ -110,12 +115,14 @@ public class PangleBannerAd implements MediationBannerAd, PAGBannerAdInteraction
             PAGBannerRequest request = pangleFactory.createPagBannerRequest(bannerSize);
             request.setAdString(bidResponse);
             PangleRequestHelper.setWatermarkString(request, bidResponse, adConfiguration);
+            loadSpan.markSdkRequestSent();
             pangleSdkWrapper.loadBannerAd(
                 placementId,
                 request,
                 new PAGBannerAdLoadListener() {
                   @Override
                   public void onError(int errorCode, String errorMessage) {
+                    loadSpan.markSdkCallback();
                     AdError error = PangleConstants.createSdkError(errorCode, errorMessage);
                     Log.w(TAG, error.toString());
                     adLoadCallback.onFailure(error);
@@ -123,6 +130,7 @@ public class PangleBannerAd implements MediationBannerAd, PAGBannerAdInteraction
 
                   @Override
                   public void onAdLoaded(PAGBannerAd pagBannerAd) {
+                    loadSpan.markSdkCallback();
                     pagBannerAd.setAdInteractionListener(PangleBannerAd.this);
                     wrappedAdView.addView(pagBannerAd.getBannerView());
                     bannerAdCallback = adLoadCallback.onSuccess(PangleBannerAd.this);
@@ -14,6 +14,7 @@
 
 package com.google.ads.mediation.pangle.renderer;
 
+import static com.google.ads.mediation.common.AdEventPipeline.FORMAT_INTERSTITIAL;
 import static com.google.ads.mediation.pangle.PangleConstants.ERROR_INVALID_SERVER_PARAMETERS;
 import static com.google.ads.mediation.pangle.PangleMediationAdapter.TAG;
 
@@ -27,6 +28,7 @@ import com.bytedance.sdk.openadsdk.api.interstitial.PAGInterstitialAd;
 import com.bytedance.sdk.openadsdk.api.interstitial.PAGInterstitialAdInteractionListener;
 import com.bytedance.sdk.openadsdk.api.interstitial.PAGInterstitialAdLoadListener;
 import com.bytedance.sdk.openadsdk.api.interstitial.PAGInterstitialRequest;
+import com.google.ads.mediation.common.LoadLatencyTracker;
 import com.google.ads.mediation.pangle.PangleConstants;
 import com.google.ads.mediation.pangle.PangleFactory;
 import com.google.ads.mediation.pangle.PangleInitializer;
@@ -43,6 +45,7 @@ public class PangleInterstitialAd implements MediationInterstitialAd {
 
   private final MediationAdLoadCallback<MediationInterstitialAd, MediationInterstitialAdCallback>
       adLoadCallback;
+  private final LoadLatencyTracker.LoadSpan loadSpan;
   private final PangleInitializer pangleInitializer;
   private final PangleSdkWrapper pangleSdkWrapper;
   private final PangleFactory pangleFactory;
@@ -56,7 +59,8 @@ public class PangleInterstitialAd implements MediationInterstitialAd {
       @NonNull PangleInitializer pangleInitializer,
       PangleSdkWrapper pangleSdkWrapper,
       PangleFactory pangleFactory) {
-    adLoadCallback = mediationAdLoadCallback;
+    loadSpan = LoadLatencyTracker.getInstance().startLoad("pangle", FORMAT_INTERSTITIAL);
+    adLoadCallback = loadSpan.wrap(mediationAdLoadCallback);
     this.pangleInitializer = pangleInitializer;
     this.pangleSdkWrapper = pangleSdkWrapper;
     this.pangleFactory = pangleFactory;
@@ -85,15 +89,18 @@ public class PangleInterstitialAd implements MediationInterstitialAd {
         new Listener() {
           @Override
           public void onInitializeSuccess() {
+            loadSpan.markInitComplete();
             PAGInterstitialRequest request = pangleFactory.createPagInterstitialRequest();
             request.setAdString(bidResponse);
             PangleRequestHelper.setWatermarkString(request, bidResponse, adConfiguration);
+            loadSpan.markSdkRequestSent();
             pangleSdkWrapper.loadInterstitialAd(
                 placementId,
                 request,
                 new PAGInterstitialAdLoadListener() {
                   @Override
                   public void onError(int errorCode, String errorMessage) {
+                    loadSpan.markSdkCallback();
                     AdError error = PangleConstants.createSdkError(errorCode, errorMessage);
                     Log.w(TAG, error.toString());
                     adLoadCallback.onFailure(error);
@@ -101,6 +108,7 @@ public class PangleInterstitialAd implements MediationInterstitialAd {
 
                   @Override
                   public void onAdLoaded(PAGInterstitialAd interstitialAd) {
+                    loadSpan.markSdkCallback();
                     interstitialAdCallback = adLoadCallback.onSuccess(PangleInterstitialAd.this);
                     pagInterstitialAd = interstitialAd;
                   }
@@ -14,6 +14,7 @@
 
 package com.google.ads.mediation.pangle.renderer;
 
+import static com.google.ads.mediation.common.AdEventPipeline.FORMAT_NATIVE;
 import static com.google.ads.mediation.pangle.PangleConstants.ERROR_INVALID_SERVER_PARAMETERS;
 import static com.google.ads.mediation.pangle.PangleMediationAdapter.TAG;
 
@@ -33,6 +34,7 @@ import com.bytedance.sdk.openadsdk.api.nativeAd.PAGNativeAdData;
 import com.bytedance.sdk.openadsdk.api.nativeAd.PAGNativeAdInteractionListener;
 import com.bytedance.sdk.openadsdk.api.nativeAd.PAGNativeAdLoadListener;
 import com.bytedance.sdk.openadsdk.api.nativeAd.PAGNativeRequest;
+import com.google.ads.mediation.common.LoadLatencyTracker;
 import com.google.ads.mediation.pangle.PangleConstants;
 import com.google.ads.mediation.pangle.PangleFactory;
 import com.google.ads.mediation.pangle.PangleInitializer;
@@ -59,6 +61,7 @@ public class PangleNativeAd extends UnifiedNativeAdMapper {
 
   private final MediationAdLoadCallback<UnifiedNativeAdMapper, MediationNativeAdCallback>
       adLoadCallback;
+  private final LoadLatencyTracker.LoadSpan loadSpan;
   private final PangleInitializer pangleInitializer;
   private final PangleSdkWrapper pangleSdkWrapper;
   private final PangleFactory pangleFactory;
@@ -72,7 +75,8 @@ public class PangleNativeAd extends UnifiedNativeAdMapper {
       @NonNull PangleInitializer pangleInitializer,
       @NonNull PangleSdkWrapper pangleSdkWrapper,
       @NonNull PangleFactory pangleFactory) {
-    adLoadCallback = mediationAdLoadCallback;
+    loadSpan = LoadLatencyTracker.getInstance().startLoad("pangle", FORMAT_NATIVE);
+    adLoadCallback = loadSpan.wrap(mediationAdLoadCallback);
     this.pangleInitializer = pangleInitializer;
     this.pangleSdkWrapper = pangleSdkWrapper;
     this.pangleFactory = pangleFactory;
@@ -101,15 +105,18 @@ public class PangleNativeAd extends UnifiedNativeAdMapper {
         new Listener() {
           @Override
           public void onInitializeSuccess() {
+            loadSpan.markInitComplete();
             PAGNativeRequest request = pangleFactory.createPagNativeRequest();
             request.setAdString(bidResponse);
             PangleRequestHelper.setWatermarkString(request, bidResponse, adConfiguration);
+            loadSpan.markSdkRequestSent();
             pangleSdkWrapper.loadNativeAd(
                 placementId,
                 request,
                 new PAGNativeAdLoadListener() {
                   @Override
                   public void onError(int errorCode, String message) {
+                    loadSpan.markSdkCallback();
                     AdError error = PangleConstants.createSdkError(errorCode, message);
                     Log.w(TAG, error.toString());
                     adLoadCallback.onFailure(error);
@@ -117,6 +124,7 @@ public class PangleNativeAd extends UnifiedNativeAdMapper {
 
                   @Override
                   public void onAdLoaded(PAGNativeAd pagNativeAd) {
+                    loadSpan.markSdkCallback();
                     mapNativeAd(pagNativeAd);
                     callback = adLoadCallback.onSuccess(PangleNativeAd.this);
                   }
@@ -14,6 +14,7 @@
 
 package com.google.ads.mediation.pangle.renderer;
 
+import static com.google.ads.mediation.common.AdEventPipeline.FORMAT_REWARDED;
 import static com.google.ads.mediation.pangle.PangleConstants.ERROR_INVALID_SERVER_PARAMETERS;
 import static com.google.ads.mediation.pangle.PangleMediationAdapter.TAG;
 
@@ -28,6 +29,7 @@ import com.bytedance.sdk.openadsdk.api.reward.PAGRewardedAd;
 import com.bytedance.sdk.openadsdk.api.reward.PAGRewardedAdInteractionListener;
 import com.bytedance.sdk.openadsdk.api.reward.PAGRewardedAdLoadListener;
 import com.bytedance.sdk.openadsdk.api.reward.PAGRewardedRequest;
+import com.google.ads.mediation.common.LoadLatencyTracker;
 import com.google.ads.mediation.pangle.PangleConstants;
 import com.google.ads.mediation.pangle.PangleFactory;
 import com.google.ads.mediation.pangle.PangleInitializer;
@@ -44,6 +46,7 @@ public class PangleRewardedAd implements MediationRewardedAd {
 
   private final MediationAdLoadCallback<MediationRewardedAd, MediationRewardedAdCallback>
       adLoadCallback;
+  private final LoadLatencyTracker.LoadSpan loadSpan;
   private final PangleInitializer pangleInitializer;
   private final PangleSdkWrapper pangleSdkWrapper;
   private final PangleFactory pangleFactory;
@@ -57,7 +60,8 @@ public class PangleRewardedAd implements MediationRewardedAd {
       @NonNull PangleInitializer pangleInitializer,
       PangleSdkWrapper pangleSdkWrapper,
       PangleFactory pangleFactory) {
-    adLoadCallback = mediationAdLoadCallback;
+    loadSpan = LoadLatencyTracker.getInstance().startLoad("pangle", FORMAT_REWARDED);
+    adLoadCallback = loadSpan.wrap(mediationAdLoadCallback);
     this.pangleInitializer = pangleInitializer;
     this.pangleSdkWrapper = pangleSdkWrapper;
     this.pangleFactory = pangleFactory;
@@ -86,15 +90,18 @@ public class PangleRewardedAd implements MediationRewardedAd {
         new Listener() {
           @Override
           public void onInitializeSuccess() {
+            loadSpan.markInitComplete();
             PAGRewardedRequest request = pangleFactory.createPagRewardedRequest();
             request.setAdString(bidResponse);
             PangleRequestHelper.setWatermarkString(request, bidResponse, adConfiguration);
+            loadSpan.markSdkRequestSent();
             pangleSdkWrapper.loadRewardedAd(
                 placementId,
                 request,
                 new PAGRewardedAdLoadListener() {
                   @Override
                   public void onError(int errorCode, String errorMessage) {
+                    loadSpan.markSdkCallback();
                     AdError error = PangleConstants.createSdkError(errorCode, errorMessage);
                     Log.w(TAG, error.toString());
                     adLoadCallback.onFailure(error);
@@ -102,6 +109,7 @@ public class PangleRewardedAd implements MediationRewardedAd {
 
                   @Override
                   public void onAdLoaded(PAGRewardedAd rewardedAd) {
+                    loadSpan.markSdkCallback();
                     rewardedAdCallback = adLoadCallback.onSuccess(PangleRewardedAd.this);
                     pagRewardedAd = rewardedAd;
                   }
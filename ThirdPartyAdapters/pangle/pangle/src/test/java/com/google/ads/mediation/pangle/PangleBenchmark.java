@@ -0,0 +1,62 @@
+package com.google.ads.mediation.pangle;
+
+import android.content.Context;
+import android.os.Bundle;
+import com.bytedance.sdk.openadsdk.api.bidding.PAGBiddingRequest;
+import com.bytedance.sdk.openadsdk.api.init.PAGBidCallback;
+import com.google.ads.mediation.adapterbenchmark.FakeContext;
+import com.google.ads.mediation.adapterbenchmark.FakeSignalCallbacks;
+import com.google.android.gms.ads.AdError;
+import com.google.android.gms.ads.AdSize;
+import com.google.android.gms.ads.mediation.rtb.RtbSignalData;
+import java.util.Collections;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/** Benchmarks of the Pangle adapter's hot paths, run by {@code PangleBenchmarkTest}. */
+@State(Scope.Thread)
+public class PangleBenchmark {
+
+  private PangleMediationAdapter adapter;
+  private RtbSignalData signalData;
+  private FakeSignalCallbacks signalCallbacks;
+
+  @Setup
+  public void setUp() {
+    Context context = new FakeContext();
+    PangleSdkWrapper pangleSdkWrapper = new FakePangleSdkWrapper();
+    PangleFactory pangleFactory = new PangleFactory();
+    adapter =
+        new PangleMediationAdapter(
+            new PangleInitializer(pangleSdkWrapper, pangleFactory),
+            pangleSdkWrapper,
+            pangleFactory);
+
+    signalData =
+        new RtbSignalData(context, Collections.emptyList(), new Bundle(), AdSize.BANNER);
+    signalCallbacks = new FakeSignalCallbacks();
+  }
+
+  /** Collects signals, mostly from the bid token cache. */
+  @Benchmark
+  public void collectSignals() {
+    adapter.collectSignals(signalData, signalCallbacks);
+  }
+
+  @Benchmark
+  public AdError translateSdkError() {
+    return PangleConstants.createSdkError(40000, "No fill.");
+  }
+
+  /** Returns a bid token right away instead of asking the Pangle SDK. */
+  private static class FakePangleSdkWrapper extends PangleSdkWrapper {
+
+    @Override
+    void getBiddingToken(
+        Context context, PAGBiddingRequest biddingRequest, PAGBidCallback pagBidCallback) {
+      pagBidCallback.onBiddingTokenCollected("token");
+    }
+  }
+}
@@ -0,0 +1,13 @@
+package com.google.ads.mediation.pangle
+
+import com.google.ads.mediation.adapterbenchmark.AdapterBenchmarkRunner
+import org.junit.Test
+
+/** Runs [PangleBenchmark] when benchmarks are enabled. See [AdapterBenchmarkRunner]. */
+class PangleBenchmarkTest {
+
+  @Test
+  fun runBenchmarks() {
+    AdapterBenchmarkRunner.run(PangleBenchmark::class.java)
+  }
+}
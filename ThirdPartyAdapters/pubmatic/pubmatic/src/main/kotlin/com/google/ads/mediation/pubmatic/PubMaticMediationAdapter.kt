@@ -17,6 +17,7 @@ package com.google.ads.mediation.pubmatic
 import android.content.Context
 import android.util.Log
 import androidx.annotation.VisibleForTesting
+import com.google.ads.mediation.common.VersionInfoService
 import com.google.android.gms.ads.AdError
 import com.google.android.gms.ads.AdFormat
 import com.google.android.gms.ads.AdSize
@@ -70,42 +71,12 @@ class PubMaticMediationAdapter(
   private lateinit var nativeAd: PubMaticNativeAd
 
   override fun getSDKVersionInfo(): VersionInfo =
-    pubMaticSdkVersionDelegate?.let { getSDKVersionInfo(it) }
-      ?: getSDKVersionInfo(OpenWrapSDK.getVersion())
-
-  private fun getSDKVersionInfo(sdkVersion: String): VersionInfo {
-    val splits = sdkVersion.split("\\.".toRegex()).dropLastWhile { it.isEmpty() }.toTypedArray()
-
-    if (splits.size >= 3) {
-      val major = splits[0].toInt()
-      val minor = splits[1].toInt()
-      val micro = splits[2].toInt()
-      return VersionInfo(major, minor, micro)
-    }
-
-    val logMessage = "Unexpected SDK version format: $sdkVersion. Returning 0.0.0 for SDK version."
-    Log.w(TAG, logMessage)
-    return VersionInfo(0, 0, 0)
-  }
+    VersionInfoService.getSdkVersionInfo(pubMaticSdkVersionDelegate ?: OpenWrapSDK.getVersion())
 
   override fun getVersionInfo(): VersionInfo =
-    adapterVersionDelegate?.let { getVersionInfo(it) }
-      ?: getVersionInfo(BuildConfig.ADAPTER_VERSION)
-
-  private fun getVersionInfo(adapterVersion: String): VersionInfo {
-    val splits = adapterVersion.split("\\.".toRegex()).dropLastWhile { it.isEmpty() }.toTypedArray()
-    if (splits.size >= 4) {
-      val major = splits[0].toInt()
-      val minor = splits[1].toInt()
-      val micro = splits[2].toInt() * 100 + splits[3].toInt()
-      return VersionInfo(major, minor, micro)
-    }
-
-    val logMessage =
-      "Unexpected adapter version format: $adapterVersion. Returning 0.0.0 for adapter version."
-    Log.w(TAG, logMessage)
-    return VersionInfo(0, 0, 0)
-  }
+    VersionInfoService.getAdapterVersionInfo(
+      adapterVersionDelegate ?: BuildConfig.ADAPTER_VERSION
+    )
 
   override fun initialize(
     context: Context,
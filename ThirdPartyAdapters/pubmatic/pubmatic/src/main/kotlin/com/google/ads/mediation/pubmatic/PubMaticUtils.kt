@@ -14,24 +14,9 @@
 
 package com.google.ads.mediation.pubmatic
 
-import com.google.android.gms.ads.MobileAds
-import com.google.android.gms.ads.VersionInfo
+import com.google.ads.mediation.common.VersionInfoService
 
 object PubMaticUtils {
   fun runtimeGmaSdkListensToAdapterReportedImpressions() =
-    isVersionGreaterThanOrEqualTo(MobileAds.getVersion(), VersionInfo(24, 4, 0))
-
-  /** Returns true iff version1 is greater than or equal to version2. */
-  private fun isVersionGreaterThanOrEqualTo(version1: VersionInfo, version2: VersionInfo): Boolean {
-    if (version1.majorVersion > version2.majorVersion) {
-      return true
-    } else if (version1.majorVersion == version2.majorVersion) {
-      if (version1.minorVersion > version2.minorVersion) {
-        return true
-      } else if (version1.minorVersion == version2.minorVersion) {
-        return version1.microVersion >= version2.microVersion
-      }
-    }
-    return false
-  }
+    VersionInfoService.runtimeGmaSdkListensToAdapterReportedImpressions()
 }
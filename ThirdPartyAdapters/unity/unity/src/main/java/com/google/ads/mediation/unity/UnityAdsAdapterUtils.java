@@ -24,10 +24,10 @@ import android.content.Context;
 import android.text.TextUtils;
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
+import com.google.ads.mediation.common.BannerSizeCache;
 import com.google.android.gms.ads.AdError;
 import com.google.android.gms.ads.AdFormat;
 import com.google.android.gms.ads.AdSize;
-import com.google.android.gms.ads.MediationUtils;
 import com.google.android.gms.ads.RequestConfiguration;
 import com.google.android.gms.ads.mediation.MediationConfiguration;
 import com.google.android.gms.ads.mediation.rtb.RtbSignalData;
@@ -36,11 +36,14 @@ import com.unity3d.ads.UnityAds.UnityAdsInitializationError;
 import com.unity3d.ads.metadata.MetaData;
 import com.unity3d.services.banners.BannerErrorInfo;
 import com.unity3d.services.banners.UnityBannerSize;
-import java.util.ArrayList;
 
 /** Utility class for the Unity adapter. */
 public class UnityAdsAdapterUtils {
 
+  /** Banner sizes supported by Unity Ads. */
+  private static final BannerSizeCache<AdSize> BANNER_SIZES =
+      BannerSizeCache.forCandidates(AdSize.BANNER, AdSize.LEADERBOARD);
+
   /** Enumeration of ad events that get forwarded to AdMob */
   public enum AdEvent {
     LOADED,
@@ -212,11 +215,7 @@ public class UnityAdsAdapterUtils {
   @Nullable
   public static UnityBannerSize getUnityBannerSize(
       @NonNull Context context, @NonNull AdSize adSize, boolean isRtb) {
-    ArrayList<AdSize> potentials = new ArrayList<>();
-    potentials.add(AdSize.BANNER);
-    potentials.add(AdSize.LEADERBOARD);
-
-    AdSize closestSize = MediationUtils.findClosestSize(context, adSize, potentials);
+    AdSize closestSize = BANNER_SIZES.get(context, adSize);
     if (closestSize != null) {
       return new UnityBannerSize(closestSize.getWidth(), closestSize.getHeight());
     }
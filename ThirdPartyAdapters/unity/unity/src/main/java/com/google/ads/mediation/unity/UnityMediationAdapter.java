@@ -25,6 +25,7 @@ import android.util.Log;
 import androidx.annotation.IntDef;
 import androidx.annotation.NonNull;
 import androidx.annotation.VisibleForTesting;
+import com.google.ads.mediation.common.BidTokenCache;
 import com.google.android.gms.ads.AdError;
 import com.google.android.gms.ads.AdFormat;
 import com.google.android.gms.ads.VersionInfo;
@@ -44,6 +45,7 @@ import com.google.android.gms.ads.mediation.rtb.RtbAdapter;
 import com.google.android.gms.ads.mediation.rtb.RtbSignalData;
 import com.google.android.gms.ads.mediation.rtb.SignalCallbacks;
 import com.unity3d.ads.IUnityAdsInitializationListener;
+import com.unity3d.ads.IUnityAdsTokenListener;
 import com.unity3d.ads.TokenConfiguration;
 import com.unity3d.ads.UnityAds;
 import java.lang.annotation.Retention;
@@ -81,7 +83,8 @@ public class UnityMediationAdapter extends RtbAdapter {
           ERROR_UNITY_ADS_NOT_SUPPORTED,
           ERROR_FINISH,
           ERROR_BANNER_SIZE_MISMATCH,
-          ERROR_INITIALIZATION_FAILURE
+          ERROR_INITIALIZATION_FAILURE,
+          ERROR_AD_EXPIRED
       })
   @interface AdapterError {
 
@@ -135,6 +138,9 @@ public class UnityMediationAdapter extends RtbAdapter {
    */
   static final int ERROR_INITIALIZATION_FAILURE = 111;
 
+  /** Tried to show an ad that expired after it was loaded. */
+  static final int ERROR_AD_EXPIRED = 112;
+
   static final String ERROR_MSG_MISSING_PARAMETERS = "Missing or invalid server parameters.";
 
   static final String ERROR_MSG_NON_ACTIVITY =
@@ -158,6 +164,34 @@ public class UnityMediationAdapter extends RtbAdapter {
 
   static final String KEY_WATERMARK = "watermark";
 
+  /** Key under which bid tokens for ad formats that Unity Ads doesn't distinguish are cached. */
+  private static final String DEFAULT_BID_TOKEN_KEY = "default";
+
+  /**
+   * Bid tokens cached across adapter instances, so that signals can be collected right away. Tokens
+   * are cached per Unity Ads ad format, once a time-to-live is set for "unity" with {@link
+   * BidTokenCache#setTtlMillis}.
+   */
+  private static final BidTokenCache bidTokenCache = new BidTokenCache("unity");
+
+  private final BidTokenCache.TokenFetcher bidTokenFetcher =
+      new BidTokenCache.TokenFetcher() {
+        @Override
+        public void fetchToken(
+            @NonNull Context context,
+            @NonNull String key,
+            @NonNull final BidTokenCache.TokenCallback callback) {
+          IUnityAdsTokenListener tokenListener =
+              token -> callback.onTokenReady(token != null ? token : "");
+          if (DEFAULT_BID_TOKEN_KEY.equals(key)) {
+            unityAdsWrapper.getToken(tokenListener);
+          } else {
+            unityAdsWrapper.getToken(
+                new TokenConfiguration(com.unity3d.ads.AdFormat.valueOf(key)), tokenListener);
+          }
+        }
+      };
+
   private final UnityAdsWrapper unityAdsWrapper;
 
   private final UnityInitializer unityInitializer;
@@ -221,25 +255,22 @@ public class UnityMediationAdapter extends RtbAdapter {
       Log.w(TAG, "Unsupported ad format for Unity Ads: " + adFormat);
     }
 
-    if (unityAdFormat != null) {
-      TokenConfiguration tokenConfiguration = new TokenConfiguration(unityAdFormat);
-      unityAdsWrapper.getToken(
-          tokenConfiguration,
-          token -> {
-            if (token == null) {
-              token = "";
-            }
-            signalCallbacks.onSuccess(token);
-          });
-    } else {
-      unityAdsWrapper.getToken(
-          token -> {
-            if (token == null) {
-              token = "";
-            }
+    String bidTokenKey = unityAdFormat != null ? unityAdFormat.name() : DEFAULT_BID_TOKEN_KEY;
+    bidTokenCache.getToken(
+        rtbSignalData.getContext(),
+        bidTokenKey,
+        bidTokenFetcher,
+        new BidTokenCache.TokenCallback() {
+          @Override
+          public void onTokenReady(@NonNull String token) {
             signalCallbacks.onSuccess(token);
-          });
-    }
+          }
+
+          @Override
+          public void onTokenError(@NonNull AdError error) {
+            signalCallbacks.onFailure(error);
+          }
+        });
   }
 
   @VisibleForTesting
@@ -337,6 +368,7 @@ public class UnityMediationAdapter extends RtbAdapter {
           public void onInitializationComplete() {
             Log.d(TAG, "Unity Ads initialized successfully.");
             initializationCompleteCallback.onInitializationSucceeded();
+            prefetchBidTokens(context);
           }
 
           @Override
@@ -356,6 +388,18 @@ public class UnityMediationAdapter extends RtbAdapter {
         });
   }
 
+  /** Prefetches bid tokens for the ad formats that Unity Ads can bid on. */
+  private void prefetchBidTokens(@NonNull Context context) {
+    com.unity3d.ads.AdFormat[] adFormats = {
+      com.unity3d.ads.AdFormat.BANNER,
+      com.unity3d.ads.AdFormat.INTERSTITIAL,
+      com.unity3d.ads.AdFormat.REWARDED
+    };
+    for (com.unity3d.ads.AdFormat adFormat : adFormats) {
+      bidTokenCache.prefetch(context, adFormat.name(), bidTokenFetcher);
+    }
+  }
+
   @Override
   public void loadRewardedAd(
       @NonNull MediationRewardedAdConfiguration mediationRewardedAdConfiguration,
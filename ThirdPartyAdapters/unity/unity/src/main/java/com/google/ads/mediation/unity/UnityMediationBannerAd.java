@@ -26,11 +26,11 @@ import android.app.Activity;
 import android.content.Context;
 import android.os.Bundle;
 import android.text.TextUtils;
-import android.util.Log;
 import android.view.View;
 import androidx.annotation.Keep;
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
+import com.google.ads.mediation.common.AdapterLogger;
 import com.google.android.gms.ads.AdError;
 import com.google.android.gms.ads.AdSize;
 import com.google.android.gms.ads.MobileAds;
@@ -74,6 +74,8 @@ public class UnityMediationBannerAd implements MediationBannerAd, BannerView.ILi
   @Nullable private UnityBannerViewWrapper unityBannerViewWrapper;
   private final UnityAdsLoader unityAdsLoader;
 
+  private static final AdapterLogger logger = AdapterLogger.getLogger(UnityMediationAdapter.TAG);
+
   static final String ERROR_MSG_NO_MATCHING_AD_SIZE =
       "There is no matching Unity Ads ad size for Google ad size: ";
 
@@ -95,11 +97,8 @@ public class UnityMediationBannerAd implements MediationBannerAd, BannerView.ILi
 
   @Override
   public void onBannerLoaded(BannerView bannerView) {
-    String logMessage =
-        String.format(
-            "Unity Ads finished loading banner ad for placement ID: %s",
-            bannerView.getPlacementId());
-    Log.d(UnityMediationAdapter.TAG, logMessage);
+    logger.d(
+        "Unity Ads finished loading banner ad for placement ID: %s", bannerView.getPlacementId());
     mediationBannerAdCallback = mediationBannerAdLoadCallback.onSuccess(this);
     // TODO(b/276467762): Find a place to call mediatinoBannerAdCallback.reportAdImpression(), if
     // any.
@@ -107,10 +106,7 @@ public class UnityMediationBannerAd implements MediationBannerAd, BannerView.ILi
 
   @Override
   public void onBannerClick(BannerView bannerView) {
-    String logMessage =
-        String.format(
-            "Unity Ads banner ad was clicked for placement ID: %s", bannerView.getPlacementId());
-    Log.d(UnityMediationAdapter.TAG, logMessage);
+    logger.d("Unity Ads banner ad was clicked for placement ID: %s", bannerView.getPlacementId());
 
     if (mediationBannerAdCallback == null) {
       return;
@@ -124,17 +120,14 @@ public class UnityMediationBannerAd implements MediationBannerAd, BannerView.ILi
   public void onBannerFailedToLoad(BannerView bannerView, BannerErrorInfo bannerErrorInfo) {
     int errorCode = getMediationErrorCode(bannerErrorInfo);
     AdError loadError = createAdError(errorCode, bannerErrorInfo.errorMessage);
-    Log.w(UnityMediationAdapter.TAG, loadError.toString());
+    logger.w(loadError.toString());
     mediationBannerAdLoadCallback.onFailure(loadError);
   }
 
   @Override
   public void onBannerLeftApplication(BannerView bannerView) {
-    String logMessage =
-        String.format(
-            "Unity Ads banner ad left application for placement ID: %s",
-            bannerView.getPlacementId());
-    Log.d(UnityMediationAdapter.TAG, logMessage);
+    logger.d(
+        "Unity Ads banner ad left application for placement ID: %s", bannerView.getPlacementId());
 
     if (mediationBannerAdCallback == null) {
       return;
@@ -145,10 +138,7 @@ public class UnityMediationBannerAd implements MediationBannerAd, BannerView.ILi
 
   @Override
   public void onBannerShown(BannerView bannerView) {
-    String logMessage =
-        String.format(
-            "Unity Ads banner ad was shown for placement ID: %s", bannerView.getPlacementId());
-    Log.d(UnityMediationAdapter.TAG, logMessage);
+    logger.d("Unity Ads banner ad was shown for placement ID: %s", bannerView.getPlacementId());
 
     if (mediationBannerAdCallback != null) {
       mediationBannerAdCallback.reportAdImpression();
@@ -169,7 +159,7 @@ public class UnityMediationBannerAd implements MediationBannerAd, BannerView.ILi
               UnityMediationAdapter.ERROR_INVALID_SERVER_PARAMETERS,
               ERROR_MSG_MISSING_PARAMETERS,
               ADAPTER_ERROR_DOMAIN);
-      Log.w(UnityMediationAdapter.TAG, adError.toString());
+      logger.w(adError.toString());
       mediationBannerAdLoadCallback.onFailure(adError);
       return;
     }
@@ -180,7 +170,7 @@ public class UnityMediationBannerAd implements MediationBannerAd, BannerView.ILi
               UnityMediationAdapter.ERROR_CONTEXT_NOT_ACTIVITY,
               ERROR_MSG_NON_ACTIVITY,
               ADAPTER_ERROR_DOMAIN);
-      Log.w(UnityMediationAdapter.TAG, adError.toString());
+      logger.w(adError.toString());
       mediationBannerAdLoadCallback.onFailure(adError);
       return;
     }
@@ -198,7 +188,7 @@ public class UnityMediationBannerAd implements MediationBannerAd, BannerView.ILi
       AdError adError =
           new AdError(
               UnityMediationAdapter.ERROR_BANNER_SIZE_MISMATCH, errorMessage, ADAPTER_ERROR_DOMAIN);
-      Log.w(UnityMediationAdapter.TAG, adError.toString());
+      logger.w(adError.toString());
       mediationBannerAdLoadCallback.onFailure(adError);
       return;
     }
@@ -209,12 +199,11 @@ public class UnityMediationBannerAd implements MediationBannerAd, BannerView.ILi
         new IUnityAdsInitializationListener() {
           @Override
           public void onInitializationComplete() {
-            String logMessage =
-                String.format(
-                    "Unity Ads is initialized for game ID '%s' "
-                        + "and can now load banner ad with placement ID: %s",
-                    gameId, bannerPlacementId);
-            Log.d(UnityMediationAdapter.TAG, logMessage);
+            logger.d(
+                "Unity Ads is initialized for game ID '%s' "
+                    + "and can now load banner ad with placement ID: %s",
+                gameId,
+                bannerPlacementId);
 
             UnityAdsAdapterUtils.setUnityAdsPrivacy(
                 MobileAds.getRequestConfiguration(), new MetaData(context));
@@ -243,7 +232,7 @@ public class UnityMediationBannerAd implements MediationBannerAd, BannerView.ILi
             String adErrorMessage =
                 String.format(ERROR_MSG_INITIALIZATION_FAILED_FOR_GAME_ID, gameId, errorMessage);
             AdError adError = createSDKError(unityAdsInitializationError, adErrorMessage);
-            Log.w(UnityMediationAdapter.TAG, adError.toString());
+            logger.w(adError.toString());
 
             mediationBannerAdLoadCallback.onFailure(adError);
           }
@@ -14,8 +14,10 @@
 
 package com.google.ads.mediation.unity;
 
+import static com.google.ads.mediation.common.AdEventPipeline.FORMAT_REWARDED;
 import static com.google.ads.mediation.unity.UnityAdsAdapterUtils.createSDKError;
 import static com.google.ads.mediation.unity.UnityMediationAdapter.ADAPTER_ERROR_DOMAIN;
+import static com.google.ads.mediation.unity.UnityMediationAdapter.ERROR_AD_EXPIRED;
 import static com.google.ads.mediation.unity.UnityMediationAdapter.ERROR_CONTEXT_NOT_ACTIVITY;
 import static com.google.ads.mediation.unity.UnityMediationAdapter.ERROR_INVALID_SERVER_PARAMETERS;
 import static com.google.ads.mediation.unity.UnityMediationAdapter.ERROR_MSG_MISSING_PARAMETERS;
@@ -30,6 +32,7 @@ import android.util.Log;
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
 import androidx.annotation.VisibleForTesting;
+import com.google.ads.mediation.common.FullscreenAdInventory;
 import com.google.android.gms.ads.AdError;
 import com.google.android.gms.ads.MobileAds;
 import com.google.android.gms.ads.mediation.MediationAdLoadCallback;
@@ -80,6 +83,14 @@ public class UnityRewardedAd implements MediationRewardedAd {
 
   private final String watermark;
 
+  static final String ERROR_MSG_AD_EXPIRED = "The rewarded ad expired before it was shown.";
+
+  /**
+   * Tracks how long the loaded ad stays valid, until it's shown. Unity ads are only tracked, and
+   * only expire, if a time-to-live is set for "unity" on the {@link FullscreenAdInventory}.
+   */
+  @Nullable private FullscreenAdInventory.TrackedAd trackedAd;
+
   /** IUnityAdsLoadListener instance. */
   @VisibleForTesting
   final IUnityAdsLoadListener unityLoadListener =
@@ -91,6 +102,8 @@ public class UnityRewardedAd implements MediationRewardedAd {
                   "Unity Ads rewarded ad successfully loaded placement ID: %s", placementId);
           Log.d(TAG, logMessage);
           UnityRewardedAd.this.placementId = placementId;
+          stopTrackingAd();
+          trackedAd = FullscreenAdInventory.getInstance().track("unity", FORMAT_REWARDED);
           mediationRewardedAdCallback = mediationAdLoadCallback.onSuccess(UnityRewardedAd.this);
         }
 
@@ -139,6 +152,10 @@ public class UnityRewardedAd implements MediationRewardedAd {
 
   @Override
   public void showAd(@NonNull Context context) {
+    // The ad is only shown once, so it stops being tracked whether or not the show succeeds.
+    boolean adExpired = trackedAd != null && trackedAd.isExpired();
+    stopTrackingAd();
+
     if (!(context instanceof Activity)) {
       AdError showError =
           new AdError(ERROR_CONTEXT_NOT_ACTIVITY, ERROR_MSG_NON_ACTIVITY, ADAPTER_ERROR_DOMAIN);
@@ -150,6 +167,11 @@ public class UnityRewardedAd implements MediationRewardedAd {
     }
     Activity activity = (Activity) context;
 
+    if (adExpired) {
+      reportAdExpired();
+      return;
+    }
+
     // Check if the placement is ready before showing
     if (placementId == null) {
       Log.w(TAG, "Unity Ads received call to show before successfully loading an ad.");
@@ -163,6 +185,24 @@ public class UnityRewardedAd implements MediationRewardedAd {
     unityAdsLoader.show(activity, placementId, unityAdsShowOptions, unityShowListener);
   }
 
+  /** Stops tracking the loaded ad, if it's tracked. */
+  private void stopTrackingAd() {
+    if (trackedAd != null) {
+      trackedAd.remove();
+      trackedAd = null;
+    }
+  }
+
+  /** Reports to the Google Mobile Ads SDK that the app tried to show an ad that expired. */
+  private void reportAdExpired() {
+    AdError expiredError =
+        new AdError(ERROR_AD_EXPIRED, ERROR_MSG_AD_EXPIRED, ADAPTER_ERROR_DOMAIN);
+    Log.w(TAG, expiredError.toString());
+    if (mediationRewardedAdCallback != null) {
+      mediationRewardedAdCallback.onAdFailedToShow(expiredError);
+    }
+  }
+
   /** IUnityAdsShowListener instance. Contains logic for callbacks when showing ads. */
   @VisibleForTesting
   final IUnityAdsShowListener unityShowListener =
@@ -1,11 +1,14 @@
 package com.google.ads.mediation.unity
 
 import android.app.Activity
+import android.os.Looper
 import androidx.core.os.bundleOf
 import androidx.test.core.app.ApplicationProvider
 import androidx.test.ext.junit.runners.AndroidJUnit4
+import com.google.ads.mediation.common.FullscreenAdInventory
 import com.google.ads.mediation.unity.UnityAdsAdapterUtils.getMediationErrorCode
 import com.google.ads.mediation.unity.UnityMediationAdapter.ADAPTER_ERROR_DOMAIN
+import com.google.ads.mediation.unity.UnityMediationAdapter.ERROR_AD_EXPIRED
 import com.google.ads.mediation.unity.UnityMediationAdapter.ERROR_CONTEXT_NOT_ACTIVITY
 import com.google.ads.mediation.unity.UnityMediationAdapter.ERROR_MSG_NON_ACTIVITY
 import com.google.ads.mediation.unity.UnityMediationAdapter.SDK_ERROR_DOMAIN
@@ -21,10 +24,13 @@ import com.unity3d.ads.UnityAds.UnityAdsLoadError
 import com.unity3d.ads.UnityAds.UnityAdsShowError
 import com.unity3d.ads.UnityAdsLoadOptions
 import com.unity3d.ads.UnityAdsShowOptions
+import java.time.Duration
+import org.junit.After
 import org.junit.Before
 import org.junit.Test
 import org.junit.runner.RunWith
 import org.mockito.kotlin.any
+import org.mockito.kotlin.anyOrNull
 import org.mockito.kotlin.argumentCaptor
 import org.mockito.kotlin.doAnswer
 import org.mockito.kotlin.doReturn
@@ -37,6 +43,7 @@ import org.mockito.kotlin.spy
 import org.mockito.kotlin.verify
 import org.mockito.kotlin.whenever
 import org.robolectric.Robolectric
+import org.robolectric.Shadows.shadowOf
 
 @RunWith(AndroidJUnit4::class)
 class UnityRewardedAdTest {
@@ -68,6 +75,12 @@ class UnityRewardedAdTest {
     doReturn(rewardedAdCallback).whenever(rewardedAdLoadCallback).onSuccess(unityRewardedAd)
   }
 
+  @After
+  fun tearDown() {
+    FullscreenAdInventory.getInstance().removeTtlMillis(NETWORK_NAME)
+    FullscreenAdInventory.getInstance().clear()
+  }
+
   @Test
   fun onUnityAdsAdLoaded_invokesOnSuccess() {
     unityRewardedAd.unityLoadListener.onUnityAdsAdLoaded(TEST_PLACEMENT_ID)
@@ -201,6 +214,60 @@ class UnityRewardedAdTest {
     verify(rewardedAdCallback, never()).onAdFailedToShow(any<AdError>())
   }
 
+  @Test
+  fun adExpires_notifiesExpiryListenersWithoutInvokingOnAdFailedToShow() {
+    FullscreenAdInventory.getInstance().setTtlMillis(NETWORK_NAME, TEST_TTL_MILLIS)
+    val expiryListener: FullscreenAdInventory.ExpiryListener = mock()
+    FullscreenAdInventory.getInstance().addExpiryListener(expiryListener)
+    unityRewardedAd.unityLoadListener.onUnityAdsAdLoaded(TEST_PLACEMENT_ID)
+
+    shadowOf(Looper.getMainLooper()).idleFor(Duration.ofMillis(TEST_TTL_MILLIS))
+
+    verify(expiryListener).onExpired(any())
+    verify(rewardedAdCallback, never()).onAdFailedToShow(any<AdError>())
+    FullscreenAdInventory.getInstance().removeExpiryListener(expiryListener)
+  }
+
+  @Test
+  fun showAd_afterAdExpired_invokesOnAdFailedToShowWithoutShowing() {
+    FullscreenAdInventory.getInstance().setTtlMillis(NETWORK_NAME, TEST_TTL_MILLIS)
+    unityRewardedAd.unityLoadListener.onUnityAdsAdLoaded(TEST_PLACEMENT_ID)
+    shadowOf(Looper.getMainLooper()).idleFor(Duration.ofMillis(TEST_TTL_MILLIS))
+    val errorCaptor = argumentCaptor<AdError>()
+
+    unityRewardedAd.showAd(activity)
+
+    verify(rewardedAdCallback).onAdFailedToShow(errorCaptor.capture())
+    val capturedError = errorCaptor.firstValue
+    assertThat(capturedError.code).isEqualTo(ERROR_AD_EXPIRED)
+    assertThat(capturedError.message).isEqualTo(UnityRewardedAd.ERROR_MSG_AD_EXPIRED)
+    assertThat(capturedError.domain).isEqualTo(ADAPTER_ERROR_DOMAIN)
+    verify(unityAdsLoader, never()).show(any(), any(), any(), any())
+  }
+
+  @Test
+  fun showAd_withNonActivityContext_stopsTrackingAd() {
+    FullscreenAdInventory.getInstance().setTtlMillis(NETWORK_NAME, TEST_TTL_MILLIS)
+    unityRewardedAd.unityLoadListener.onUnityAdsAdLoaded(TEST_PLACEMENT_ID)
+
+    unityRewardedAd.showAd(ApplicationProvider.getApplicationContext())
+
+    assertThat(FullscreenAdInventory.getInstance().getTrackedAds()).isEmpty()
+  }
+
+  @Test
+  fun showAd_networkWithoutTtl_neverExpires() {
+    whenever(unityAdsLoader.createUnityAdsShowOptionsWithId(anyOrNull())) doReturn mock()
+    unityRewardedAd.unityLoadListener.onUnityAdsAdLoaded(TEST_PLACEMENT_ID)
+    assertThat(FullscreenAdInventory.getInstance().getTrackedAds()).isEmpty()
+    shadowOf(Looper.getMainLooper()).idleFor(Duration.ofDays(1))
+
+    unityRewardedAd.showAd(activity)
+
+    verify(rewardedAdCallback, never()).onAdFailedToShow(any<AdError>())
+    verify(unityAdsLoader).show(any(), eq(TEST_PLACEMENT_ID), any(), any())
+  }
+
   @Test
   fun showAd_withNonActivityContext_invokesOnAdFailedToShow() {
     unityRewardedAd.unityLoadListener.onUnityAdsAdLoaded(TEST_PLACEMENT_ID)
@@ -281,5 +348,7 @@ class UnityRewardedAdTest {
     private const val TEST_LOADED_PLACEMENT_ID = "test_loaded_placement_id"
     private const val TEST_ERROR_MESSAGE = "test_error_message"
     private const val TEST_WATERMARK = "test_watermark"
+    private const val NETWORK_NAME = "unity"
+    private const val TEST_TTL_MILLIS = 60_000L
   }
 }